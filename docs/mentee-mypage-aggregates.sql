@@ -0,0 +1,21 @@
+-- ============================================================
+-- 마이페이지 집계(mentee_mypage_aggregates) 도입
+-- 멘티별 최근 30일 Todo 수/완료 수/학습 시간/과목별 수를 한 행으로 유지 (mentee_id 기준)
+--   Todo 단건 변경: 학습 집계(study_time_rollups)와 함께 증분 반영
+--   반복 할일 생성/일괄 수정/삭제: 행 삭제 후 다음 조회 때 다시 계산
+--   기간 이동: 매일 00:05(Asia/Seoul) 작업 또는 조회 시점에 다시 계산
+--
+-- prod(ddl-auto=validate) 배포 전에 1회 실행 (study-time-rollups.sql 적용 후)
+-- 데이터 백필은 필요 없음 (첫 마이페이지 조회 때 생성)
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS mentee_mypage_aggregates (
+    mentee_id       BIGINT        NOT NULL,
+    window_start    DATE          NOT NULL,
+    window_end      DATE          NOT NULL,
+    total_todos     INT           NOT NULL,
+    completed_todos INT           NOT NULL,
+    study_seconds   BIGINT        NOT NULL,
+    subject_counts  VARCHAR(1000) NOT NULL,
+    PRIMARY KEY (mentee_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,10 @@
+-- ============================================================
+-- 멘티 수강 과목 비트마스크 컬럼 제거 (mentees.subject_mask)
+--   수강 과목은 mentee_subjects가 유일한 기준이다. 과목은 애플리케이션 밖(시드 SQL 등)에서도 바뀌므로
+--   별도 마스크 컬럼은 갱신 경로가 없어 어긋날 수 있어 두지 않는다.
+--   조회는 엔티티(카드/과목 EAGER 컬렉션) 대신 멘티 ID와 mentee_subjects만 읽는다.
+--
+-- prod(ddl-auto=validate) 배포 전에 1회 실행 (MariaDB). 여러 번 실행해도 안전하다.
+-- ============================================================
+
+ALTER TABLE mentees DROP COLUMN IF EXISTS subject_mask;
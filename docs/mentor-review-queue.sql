@@ -0,0 +1,32 @@
+-- ============================================================
+-- 멘토 검토 대기함 (GET /api/v1/feedback/inbox)
+--   mentor_review_queue : 피드백이 없거나 멘티 질문에 답변하지 않은 제출물 (Todo당 1행)
+-- 제출/피드백/질문 변경 시 같은 트랜잭션에서 갱신되고, 검토가 끝나면 삭제된다.
+--
+-- prod(ddl-auto=validate) 배포 전에 1회 실행 (MariaDB). 여러 번 실행해도 안전하다.
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS mentor_review_queue (
+    todo_id             BIGINT      NOT NULL,
+    mentor_id           BIGINT      NOT NULL,
+    mentee_id           BIGINT      NOT NULL,
+    submission_id       BIGINT      NOT NULL,
+    submitted_at        DATETIME(6) NOT NULL,
+    awaiting_feedback   BIT(1)      NOT NULL,
+    unanswered_question BIT(1)      NOT NULL,
+    PRIMARY KEY (todo_id),
+    INDEX idx_mentor_review_queue_inbox (mentor_id, submitted_at, todo_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 기존 제출물 중 검토 대기 건 채우기
+INSERT IGNORE INTO mentor_review_queue
+    (todo_id, mentor_id, mentee_id, submission_id, submitted_at, awaiting_feedback, unanswered_question)
+SELECT t.todo_id, m.mentor_id, m.mentee_id, s.submission_id, COALESCE(s.submitted_at, s.CREATE_DT),
+       f.todo_feedback_id IS NULL,
+       f.question IS NOT NULL AND f.answer IS NULL
+FROM assignment_submissions s
+JOIN todos t ON t.todo_id = s.todo_id
+JOIN mentees m ON m.mentee_id = t.mentee_id
+LEFT JOIN todo_feedbacks f ON f.todo_id = t.todo_id
+WHERE m.mentor_id IS NOT NULL
+  AND (f.todo_feedback_id IS NULL OR (f.question IS NOT NULL AND f.answer IS NULL));
@@ -0,0 +1,35 @@
+-- ============================================================
+-- 알림 SSE 전송 outbox
+--   notification_outbox : 아직 SSE로 보내지 않은 알림 (알림과 같은 트랜잭션에서 저장, 전송 성공 시 삭제)
+-- 커밋 후 바로 전송하고, 중단/실패한 행은 30초마다 스위퍼가 재시도한다 (최대 5회, attempts/last_error로 추적).
+-- 5회 실패한 행은 1일 보관 후 매일 04:30 NotificationOutboxPurgeJob이 삭제하며, 삭제 건수를 ERROR 로그로 남긴다
+-- (알림 자체는 notifications에 남아 알림 목록에서 조회된다). 보관 중에 last_error를 확인한 뒤
+-- attempts를 0으로 되돌리면 다시 전송된다.
+-- 다른 노드 발행이 일부 실패한 행은 sse_event_id/pending_nodes에 이벤트 ID와 남은 노드를 기록하고,
+-- 재시도 때 그 노드에만 같은 이벤트 ID로 보낸다 (이미 받은 연결에는 다시 보내지 않음).
+--
+-- prod(ddl-auto=validate) 배포 전에 1회 실행 (MariaDB). 여러 번 실행해도 안전하다.
+-- ============================================================
+
+CREATE SEQUENCE IF NOT EXISTS notification_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    outbox_id       BIGINT       NOT NULL,
+    notification_id BIGINT       NOT NULL,
+    attempts        INT          NOT NULL,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    last_error      VARCHAR(500) NULL,
+    sse_event_id    BIGINT       NULL,
+    pending_nodes   VARCHAR(500) NULL,
+    CREATE_DT       DATETIME(6)  NOT NULL,
+    UPDATE_DT       DATETIME(6)  NOT NULL,
+    PRIMARY KEY (outbox_id),
+    INDEX idx_notification_outbox_due (next_attempt_at, outbox_id),
+    CONSTRAINT fk_notification_outbox_notification
+        FOREIGN KEY (notification_id) REFERENCES notifications (notification_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 이전 버전으로 만든 테이블에 부분 전달 기록 컬럼 추가
+ALTER TABLE notification_outbox
+    ADD COLUMN IF NOT EXISTS sse_event_id  BIGINT       NULL AFTER last_error,
+    ADD COLUMN IF NOT EXISTS pending_nodes VARCHAR(500) NULL AFTER sse_event_id;
@@ -0,0 +1,53 @@
+-- ============================================================
+-- Planner ID 생성 전략 변경: IDENTITY -> SEQUENCE (pooled, allocationSize 50)
+-- 대상: todos, assignment_materials, todo_day_buckets, submission_files,
+--       notifications, todo_series_materials
+-- todo_series_seq, material_sets_seq, todo_changes_seq 는 각 테이블 스크립트(todo-series.sql,
+-- planner-material-sets.sql, todo-change-feed.sql) 끝에서 같은 방식으로 만든다.
+-- study_time_rollups 는 INSERT ... SELECT 재생성과 단건 upsert로만 쓰이므로 AUTO_INCREMENT를 유지한다.
+--
+-- prod(ddl-auto=validate) 배포 전에 1회 실행 (MariaDB 10.3 이상)
+-- 기존 데이터가 있는 dev/local(ddl-auto=update)도 실행한다. Hibernate가 이미 1부터 시작하는 시퀀스를
+-- 만들었어도 SETVAL로 최대 id + 50 까지 올린다 (SETVAL은 현재 값보다 낮게는 내리지 않음).
+-- dev/local은 기동 시 PlannerSequenceSeeder도 같은 보정을 한다.
+-- todo-day-buckets.sql, todo-series.sql 등 대상 테이블을 만드는 스크립트를 먼저 실행한다.
+-- pooled optimizer는 시퀀스 값을 할당 구간의 상한으로 사용하므로
+-- (시퀀스 값 - 49 ~ 시퀀스 값) 시작값은 현재 최대 id + 50 으로 잡는다.
+-- 기존 AUTO_INCREMENT 컬럼은 그대로 두며, id 없이 직접 INSERT 하지 않는다.
+-- ============================================================
+
+SET @start = (SELECT COALESCE(MAX(todo_id), 0) + 50 FROM todos);
+SET @sql = CONCAT('CREATE SEQUENCE IF NOT EXISTS todos_seq START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+SET @sql = CONCAT('SELECT SETVAL(todos_seq, ', @start, ', 0)');
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @start = (SELECT COALESCE(MAX(material_id), 0) + 50 FROM assignment_materials);
+SET @sql = CONCAT('CREATE SEQUENCE IF NOT EXISTS assignment_materials_seq START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+SET @sql = CONCAT('SELECT SETVAL(assignment_materials_seq, ', @start, ', 0)');
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @start = (SELECT COALESCE(MAX(bucket_id), 0) + 50 FROM todo_day_buckets);
+SET @sql = CONCAT('CREATE SEQUENCE IF NOT EXISTS todo_day_buckets_seq START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+SET @sql = CONCAT('SELECT SETVAL(todo_day_buckets_seq, ', @start, ', 0)');
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @start = (SELECT COALESCE(MAX(file_id), 0) + 50 FROM submission_files);
+SET @sql = CONCAT('CREATE SEQUENCE IF NOT EXISTS submission_files_seq START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+SET @sql = CONCAT('SELECT SETVAL(submission_files_seq, ', @start, ', 0)');
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @start = (SELECT COALESCE(MAX(notification_id), 0) + 50 FROM notifications);
+SET @sql = CONCAT('CREATE SEQUENCE IF NOT EXISTS notifications_seq START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+SET @sql = CONCAT('SELECT SETVAL(notifications_seq, ', @start, ', 0)');
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @start = (SELECT COALESCE(MAX(series_material_id), 0) + 50 FROM todo_series_materials);
+SET @sql = CONCAT('CREATE SEQUENCE IF NOT EXISTS todo_series_materials_seq START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+SET @sql = CONCAT('SELECT SETVAL(todo_series_materials_seq, ', @start, ', 0)');
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
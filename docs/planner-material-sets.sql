@@ -0,0 +1,83 @@
+-- ============================================================
+-- 학습자료 묶음(material_sets) 도입
+-- Todo/반복 할일마다 자료를 복사하던 구조를 묶음 공유 구조로 변경
+--   assignment_materials.todo_id      -> assignment_materials.material_set_id
+--   todo_series_materials             -> todo_series.material_set_id 가 참조하는 묶음
+--   todos.material_set_id (신규)      -> 같은 자료를 쓰는 Todo는 같은 묶음을 참조
+--
+-- 기존 데이터가 있는 모든 환경에서 배포 전에 1회 실행 (MariaDB 10.3 이상)
+--   prod(ddl-auto=validate)뿐 아니라 dev/local(ddl-auto=update)도 실행해야 한다.
+--   ddl-auto=update는 컬럼 추가만 하고 assignment_materials.todo_id NOT NULL/fk_material_todo를
+--   그대로 두므로, 실행하지 않으면 MaterialSetService.create의 자료 INSERT가 모두 실패한다.
+-- 실행 순서: todo-series.sql -> planner-id-sequences.sql -> 이 스크립트
+-- assignment_materials.todo_id 는 묶음으로 옮긴 뒤 FK와 함께 삭제한다.
+-- todo_series_materials 테이블은 롤백 대비로 남겨두고, 확인 후 별도로 정리한다.
+-- 이관 INSERT는 AUTO_INCREMENT로 id를 받고, 이후 애플리케이션은 material_sets_seq(pooled)로 발급하므로
+-- 시퀀스는 이관이 끝난 뒤 최대 id + 50 에서 시작한다.
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS material_sets (
+    material_set_id  BIGINT   NOT NULL AUTO_INCREMENT,
+    legacy_todo_id   BIGINT   NULL,
+    legacy_series_id BIGINT   NULL,
+    CREATE_DT        DATETIME(6) NOT NULL,
+    UPDATE_DT        DATETIME(6) NOT NULL,
+    PRIMARY KEY (material_set_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- ddl-auto=update 환경에서 Hibernate가 먼저 만든 material_sets 에는 이관용 컬럼이 없음
+ALTER TABLE material_sets ADD COLUMN IF NOT EXISTS legacy_todo_id BIGINT NULL;
+ALTER TABLE material_sets ADD COLUMN IF NOT EXISTS legacy_series_id BIGINT NULL;
+
+ALTER TABLE assignment_materials ADD COLUMN IF NOT EXISTS material_set_id BIGINT NULL;
+ALTER TABLE todos ADD COLUMN IF NOT EXISTS material_set_id BIGINT NULL;
+ALTER TABLE todo_series ADD COLUMN IF NOT EXISTS material_set_id BIGINT NULL;
+
+-- 1. 자료가 있는 Todo마다 묶음 1개 생성 후 연결
+INSERT INTO material_sets (legacy_todo_id, CREATE_DT, UPDATE_DT)
+SELECT DISTINCT todo_id, NOW(6), NOW(6) FROM assignment_materials WHERE material_set_id IS NULL;
+
+UPDATE assignment_materials m JOIN material_sets s ON s.legacy_todo_id = m.todo_id
+SET m.material_set_id = s.material_set_id
+WHERE m.material_set_id IS NULL;
+
+UPDATE todos t JOIN material_sets s ON s.legacy_todo_id = t.todo_id
+SET t.material_set_id = s.material_set_id;
+
+-- 2. 반복 할일 자료를 묶음으로 이동 (id는 assignment_materials_seq에서 발급)
+INSERT INTO material_sets (legacy_series_id, CREATE_DT, UPDATE_DT)
+SELECT DISTINCT series_id, NOW(6), NOW(6) FROM todo_series_materials;
+
+INSERT INTO assignment_materials (material_id, material_set_id, file_url, file_name, CREATE_DT, UPDATE_DT)
+SELECT NEXT VALUE FOR assignment_materials_seq, s.material_set_id, sm.file_url, sm.file_name, sm.CREATE_DT, sm.UPDATE_DT
+FROM todo_series_materials sm JOIN material_sets s ON s.legacy_series_id = sm.series_id;
+
+UPDATE todo_series ts JOIN material_sets s ON s.legacy_series_id = ts.series_id
+SET ts.material_set_id = s.material_set_id;
+
+-- 3. 제약조건/인덱스 정리 (todo_id는 묶음으로 이관 완료 -> FK와 컬럼 삭제)
+--    스키마 스크립트로 만든 DB는 fk_material_todo, Hibernate(ddl-auto=update)로 만든 DB는 FK 이름이 자동 생성되므로
+--    information_schema에서 todo_id를 참조하는 FK 이름을 찾아 삭제한다.
+SET @fk = (SELECT CONSTRAINT_NAME FROM information_schema.KEY_COLUMN_USAGE
+           WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'assignment_materials'
+             AND COLUMN_NAME = 'todo_id' AND REFERENCED_TABLE_NAME = 'todos' LIMIT 1);
+SET @sql = IF(@fk IS NULL, 'DO 0', CONCAT('ALTER TABLE assignment_materials DROP FOREIGN KEY ', @fk));
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+ALTER TABLE assignment_materials DROP COLUMN IF EXISTS todo_id;
+ALTER TABLE assignment_materials MODIFY material_set_id BIGINT NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_assignment_materials_set ON assignment_materials (material_set_id);
+ALTER TABLE assignment_materials
+    ADD CONSTRAINT fk_material_set FOREIGN KEY (material_set_id) REFERENCES material_sets (material_set_id);
+ALTER TABLE todos
+    ADD CONSTRAINT fk_todo_material_set FOREIGN KEY (material_set_id) REFERENCES material_sets (material_set_id);
+ALTER TABLE todo_series
+    ADD CONSTRAINT fk_series_material_set FOREIGN KEY (material_set_id) REFERENCES material_sets (material_set_id);
+
+ALTER TABLE material_sets DROP COLUMN legacy_todo_id, DROP COLUMN legacy_series_id;
+
+-- 4. 묶음 id 시퀀스 (이관으로 늘어난 최대 id 이후부터 발급)
+SET @start = (SELECT COALESCE(MAX(material_set_id), 0) + 50 FROM material_sets);
+SET @sql = CONCAT('CREATE SEQUENCE IF NOT EXISTS material_sets_seq START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+SET @sql = CONCAT('SELECT SETVAL(material_sets_seq, ', @start, ', 0)');
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
@@ -0,0 +1,17 @@
+-- ============================================================
+-- 학습 집계 테이블 (멘티/날짜/과목별 학습 시간, 완료 수, 전체 수)
+-- prod(ddl-auto=validate) 배포 전에 1회 실행 (MariaDB)
+-- 배포 후 POST /api/v1/admin/planner/study-time-rollups/rebuild 로 기존 Todo 집계를 채운다.
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS study_time_rollups (
+    rollup_id       BIGINT      NOT NULL AUTO_INCREMENT,
+    mentee_id       BIGINT      NOT NULL,
+    rollup_date     DATE        NOT NULL,
+    subject         VARCHAR(20) NOT NULL,
+    study_seconds   BIGINT      NOT NULL,
+    completed_count INT         NOT NULL,
+    total_count     INT         NOT NULL,
+    PRIMARY KEY (rollup_id),
+    CONSTRAINT uk_study_time_rollups_key UNIQUE (mentee_id, rollup_date, subject)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
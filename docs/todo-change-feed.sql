@@ -0,0 +1,39 @@
+-- ============================================================
+-- 캘린더 변경 피드 (GET /api/v1/study/todos/changes)
+--   todo_change_cursors : 멘티별 변경 순번 (행 잠금으로 커밋 순서대로 발급)
+--   todo_changes        : Todo당 1행(마지막 변경 순번) + 반복 할일 변경의 날짜 범위 행
+-- 30일이 지난 기록은 매일 04:00(Asia/Seoul) 정리되고, 그보다 오래된 커서는 전체 재조회로 돌아간다.
+--
+-- prod(ddl-auto=validate) 배포 전에 1회 실행 (MariaDB 10.3 이상). 여러 번 실행해도 안전하다.
+-- change_id는 todo_changes_seq(pooled, allocationSize 50)로 발급한다.
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS todo_change_cursors (
+    mentee_id  BIGINT NOT NULL,
+    last_seq   BIGINT NOT NULL,
+    pruned_seq BIGINT NOT NULL,
+    PRIMARY KEY (mentee_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS todo_changes (
+    change_id   BIGINT      NOT NULL AUTO_INCREMENT,
+    mentee_id   BIGINT      NOT NULL,
+    todo_id     BIGINT      NULL,
+    range_start DATE        NULL,
+    range_end   DATE        NULL,
+    change_seq  BIGINT      NOT NULL,
+    changed_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (change_id),
+    CONSTRAINT uk_todo_changes_todo UNIQUE (todo_id),
+    INDEX idx_todo_changes_feed (mentee_id, change_seq)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 기존 멘티의 커서를 미리 생성 (첫 변경 시 동시 생성 충돌 방지)
+INSERT IGNORE INTO todo_change_cursors (mentee_id, last_seq, pruned_seq)
+SELECT mentee_id, 0, 0 FROM mentees;
+
+SET @start = (SELECT COALESCE(MAX(change_id), 0) + 50 FROM todo_changes);
+SET @sql = CONCAT('CREATE SEQUENCE IF NOT EXISTS todo_changes_seq START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+SET @sql = CONCAT('SELECT SETVAL(todo_changes_seq, ', @start, ', 0)');
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
@@ -0,0 +1,19 @@
+-- ============================================================
+-- Todo 날짜 버킷 인덱스 (일/주/월 캘린더 조회)
+--   todo_day_buckets : Todo가 걸쳐 있는 날짜마다 (멘티, 날짜, Todo) 1행
+--
+-- prod(ddl-auto=validate) 배포 전에 1회 실행 (MariaDB). 여러 번 실행해도 안전하다.
+-- planner-id-sequences.sql 보다 먼저 실행한다 (todo_day_buckets_seq 시작값을 이 테이블에서 읽음).
+-- 배포 후 POST /api/v1/admin/planner/day-buckets/backfill 로 기존 Todo 버킷을 채우고,
+-- GET 같은 경로로 진행 상태를 확인한다.
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS todo_day_buckets (
+    bucket_id   BIGINT NOT NULL,
+    mentee_id   BIGINT NOT NULL,
+    bucket_date DATE   NOT NULL,
+    todo_id     BIGINT NOT NULL,
+    PRIMARY KEY (bucket_id),
+    CONSTRAINT uk_todo_day_buckets_todo_date UNIQUE (todo_id, bucket_date),
+    INDEX idx_todo_day_buckets_mentee_date (mentee_id, bucket_date, todo_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
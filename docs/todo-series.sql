@@ -0,0 +1,62 @@
+-- ============================================================
+-- 반복 할일 시리즈 (요일 반복 규칙 + 제외 날짜, 조회 시점에 발생일 펼침)
+--   todo_series            : 반복 할일 1건당 1행
+--   todo_series_exclusions : 발생하지 않는 날짜 (발생일 단건 삭제 등)
+--   todo_series_materials  : 시리즈 학습자료 (planner-material-sets.sql 에서 material_sets 로 이전)
+--   todos.series_id / occurrence_date : 발생일로 생성(materialize)된 Todo
+--
+-- prod(ddl-auto=validate) 배포 전에 1회 실행 (MariaDB 10.3 이상). 여러 번 실행해도 안전하다.
+-- planner-id-sequences.sql, planner-material-sets.sql 보다 먼저 실행한다.
+-- series_id는 todo_series_seq(pooled, allocationSize 50)로 발급하며, 시작값은 현재 최대 id + 50 으로 잡는다.
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS todo_series (
+    series_id        BIGINT       NOT NULL AUTO_INCREMENT,
+    mentee_id        BIGINT       NOT NULL,
+    title            VARCHAR(200) NOT NULL,
+    subject          VARCHAR(20)  NOT NULL,
+    goal_description TEXT,
+    start_date       DATE         NOT NULL,
+    end_date         DATE         NOT NULL,
+    repeat_days      VARCHAR(100) NOT NULL,
+    created_by       BIGINT       NOT NULL,
+    creator_type     VARCHAR(10)  NOT NULL,
+    CREATE_DT        DATETIME(6)  NOT NULL,
+    UPDATE_DT        DATETIME(6)  NOT NULL,
+    PRIMARY KEY (series_id),
+    CONSTRAINT fk_series_mentee FOREIGN KEY (mentee_id) REFERENCES mentees (mentee_id),
+    INDEX idx_series_mentee_period (mentee_id, start_date, end_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS todo_series_exclusions (
+    series_id     BIGINT NOT NULL,
+    excluded_date DATE   NOT NULL,
+    PRIMARY KEY (series_id, excluded_date),
+    CONSTRAINT fk_series_exclusion_series FOREIGN KEY (series_id) REFERENCES todo_series (series_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS todo_series_materials (
+    series_material_id BIGINT       NOT NULL AUTO_INCREMENT,
+    series_id          BIGINT       NOT NULL,
+    file_url           VARCHAR(500) NOT NULL,
+    file_name          VARCHAR(255) NOT NULL,
+    CREATE_DT          DATETIME(6)  NOT NULL,
+    UPDATE_DT          DATETIME(6)  NOT NULL,
+    PRIMARY KEY (series_material_id),
+    CONSTRAINT fk_series_material_series FOREIGN KEY (series_id) REFERENCES todo_series (series_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+ALTER TABLE todos ADD COLUMN IF NOT EXISTS series_id BIGINT NULL;
+ALTER TABLE todos ADD COLUMN IF NOT EXISTS occurrence_date DATE NULL;
+
+-- 발생일 Todo 중복 생성 방지 (동시 materialize 요청은 이 제약으로 1건만 성공)
+CREATE UNIQUE INDEX IF NOT EXISTS uk_todos_series_occurrence ON todos (series_id, occurrence_date);
+ALTER TABLE todos
+    ADD CONSTRAINT fk_todo_series FOREIGN KEY IF NOT EXISTS (series_id) REFERENCES todo_series (series_id);
+
+-- 시리즈 id 시퀀스 (planner-id-sequences.sql 과 같은 방식)
+SET @start = (SELECT COALESCE(MAX(series_id), 0) + 50 FROM todo_series);
+SET @sql = CONCAT('CREATE SEQUENCE IF NOT EXISTS todo_series_seq START WITH ', @start, ' INCREMENT BY 50');
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+SET @sql = CONCAT('SELECT SETVAL(todo_series_seq, ', @start, ', 0)');
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
@@ -3,6 +3,7 @@ package com.momen.application.auth;
 import com.momen.application.auth.dto.LoginRequest;
 import com.momen.application.auth.dto.SignupRequest;
 import com.momen.application.auth.dto.TokenResponse;
+import com.momen.application.planner.TodoChangeFeedService;
 import com.momen.application.user.dto.UserUpdateRequest;
 import com.momen.domain.mentoring.Mentee;
 import com.momen.domain.mentoring.Mentor;
@@ -28,6 +29,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final TokenRedisService tokenRedisService;
+    private final TodoChangeFeedService todoChangeFeedService;
 
     @Transactional
     public TokenResponse signup(SignupRequest request) {
@@ -53,6 +55,7 @@ public class AuthService {
         } else {
             Mentee mentee = new Mentee(user, null, request.getGrade());
             menteeRepository.save(mentee);
+            todoChangeFeedService.openCursor(mentee.getId());
         }
 
         String accessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getLoginId());
@@ -1,17 +1,29 @@
 package com.momen.application.mentoring;
 
 import com.momen.application.mentoring.dto.MenteeResponse;
+import com.momen.application.planner.TodoChangeFeedService;
+import com.momen.application.planner.TodoSeriesService;
 import com.momen.domain.mentoring.Mentee;
 import com.momen.domain.mentoring.Mentor;
+import com.momen.domain.planner.TodoSeriesOccurrence;
 import com.momen.domain.user.User;
 import com.momen.infrastructure.jpa.mentoring.MenteeRepository;
+import com.momen.infrastructure.jpa.mentoring.MenteeRosterRow;
+import com.momen.infrastructure.jpa.mentoring.MenteeValueRow;
 import com.momen.infrastructure.jpa.mentoring.MentorRepository;
+import com.momen.infrastructure.jpa.planner.MenteeCountRow;
+import com.momen.infrastructure.jpa.planner.MenteeTodoCountRow;
+import com.momen.infrastructure.jpa.planner.TodoFeedbackRepository;
+import com.momen.infrastructure.jpa.planner.TodoRepository;
 import com.momen.infrastructure.jpa.user.UserJpaRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,6 +34,10 @@ public class MentoringService {
     private final MentorRepository mentorRepository;
     private final MenteeRepository menteeRepository;
     private final UserJpaRepository userRepository;
+    private final TodoRepository todoRepository;
+    private final TodoFeedbackRepository todoFeedbackRepository;
+    private final TodoSeriesService todoSeriesService;
+    private final TodoChangeFeedService todoChangeFeedService;
 
     @Transactional
     public Long registerMentor(Long userId, String intro) {
@@ -35,16 +51,59 @@ public class MentoringService {
     public Long registerMentee(Long userId, String grade) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
-        Mentee mentee = new Mentee(user, null, grade);
-        return menteeRepository.save(mentee).getId();
+        Mentee mentee = menteeRepository.save(new Mentee(user, null, grade));
+        todoChangeFeedService.openCursor(mentee.getId());
+        return mentee.getId();
     }
 
-    // 멘토의 담당 멘티 목록 조회
+    /**
+     * 멘토의 담당 멘티 목록 조회 (오늘 진행률, 미답변 질문 수 포함).
+     * 멘티 수와 무관하게 멘티 프로필, 카드, 과목, 오늘 Todo 수, 반복 할일, 미답변 질문을 각각 한 번씩 조회한다.
+     */
     public List<MenteeResponse.MenteeForMentorResponse> getMenteeList(Long mentorUserId) {
         Mentor mentor = mentorRepository.findByUserId(mentorUserId)
                 .orElseThrow(() -> new IllegalArgumentException("Mentor not found"));
-        return menteeRepository.findByMentorId(mentor.getId()).stream()
-                .map(MenteeResponse.MenteeForMentorResponse::from)
+        Long mentorId = mentor.getId();
+        LocalDate today = LocalDate.now();
+
+        List<MenteeRosterRow> roster = menteeRepository.findRosterByMentorId(mentorId);
+        if (roster.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<String>> cards = groupValues(menteeRepository.findCardsByMentorId(mentorId));
+        Map<Long, List<String>> subjects = subjectsOf(roster);
+
+        // 오늘 Todo 수 (홈 진행률과 동일하게 수강 과목이 있으면 해당 과목만 집계)
+        Map<Long, int[]> todayCounts = new HashMap<>();
+        for (MenteeTodoCountRow row : todoRepository.countMentorDailyTodos(mentorId, today)) {
+            if (isTracked(subjects, row.menteeId(), row.subject())) {
+                int[] counts = todayCounts.computeIfAbsent(row.menteeId(), k -> new int[2]);
+                counts[0] += row.total().intValue();
+                counts[1] += row.completed().intValue();
+            }
+        }
+        // 아직 생성되지 않은 반복 할일 발생일은 미완료로 집계
+        for (TodoSeriesOccurrence occurrence : todoSeriesService.expandForMentor(mentorId, today, today)) {
+            Long menteeId = occurrence.series().getMentee().getId();
+            if (isTracked(subjects, menteeId, occurrence.series().getSubject())) {
+                todayCounts.computeIfAbsent(menteeId, k -> new int[2])[0]++;
+            }
+        }
+
+        Map<Long, Long> unanswered = todoFeedbackRepository.countUnansweredQuestionsByMentorId(mentorId).stream()
+                .collect(Collectors.toMap(MenteeCountRow::menteeId, MenteeCountRow::count));
+
+        return roster.stream()
+                .map(mentee -> {
+                    int[] counts = todayCounts.getOrDefault(mentee.menteeId(), new int[2]);
+                    return MenteeResponse.MenteeForMentorResponse.of(
+                            mentee,
+                            cards.getOrDefault(mentee.menteeId(), List.of()),
+                            subjects.getOrDefault(mentee.menteeId(), List.of()),
+                            counts[0],
+                            counts[1],
+                            unanswered.getOrDefault(mentee.menteeId(), 0L).intValue());
+                })
                 .collect(Collectors.toList());
     }
 
@@ -82,4 +141,24 @@ public class MentoringService {
                 .orElseThrow(() -> new IllegalArgumentException("Mentee not found"));
         mentee.updateCards(cards);
     }
+
+    private Map<Long, List<String>> groupValues(List<MenteeValueRow> rows) {
+        return rows.stream().collect(Collectors.groupingBy(MenteeValueRow::menteeId,
+                Collectors.mapping(MenteeValueRow::value, Collectors.toList())));
+    }
+
+    // 담당 멘티 전체의 수강 과목을 한 번에 조회
+    private Map<Long, List<String>> subjectsOf(List<MenteeRosterRow> roster) {
+        if (roster.isEmpty()) {
+            return Map.of();
+        }
+        return groupValues(menteeRepository.findSubjectsByMenteeIds(
+                roster.stream().map(MenteeRosterRow::menteeId).toList()));
+    }
+
+    // 수강 과목이 없으면 전체 과목 집계
+    private boolean isTracked(Map<Long, List<String>> subjects, Long menteeId, String subject) {
+        List<String> menteeSubjects = subjects.get(menteeId);
+        return menteeSubjects == null || menteeSubjects.isEmpty() || menteeSubjects.contains(subject);
+    }
 }
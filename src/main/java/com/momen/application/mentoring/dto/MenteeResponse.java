@@ -2,6 +2,7 @@ package com.momen.application.mentoring.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.momen.domain.mentoring.Mentee;
+import com.momen.infrastructure.jpa.mentoring.MenteeRosterRow;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -44,6 +45,11 @@ public class MenteeResponse {
         private String grade;
         private List<String> cards;
         private List<String> subjects;
+        // 목록 조회에서만 포함
+        private Integer todayTotalTodos;
+        private Integer todayCompletedTodos;
+        private Integer todayCompletionRate; // 정수 반올림
+        private Integer unansweredQuestionCount;
 
         public static MenteeForMentorResponse from(Mentee mentee) {
             return MenteeForMentorResponse.builder()
@@ -56,5 +62,22 @@ public class MenteeResponse {
                     .subjects(mentee.getSubjects())
                     .build();
         }
+
+        public static MenteeForMentorResponse of(MenteeRosterRow mentee, List<String> cards, List<String> subjects,
+                                                 int todayTotal, int todayCompleted, int unansweredQuestions) {
+            return MenteeForMentorResponse.builder()
+                    .menteeId(mentee.menteeId())
+                    .userId(mentee.userId())
+                    .name(mentee.name())
+                    .profileImageUrl(mentee.profileImageUrl())
+                    .grade(mentee.grade())
+                    .cards(cards)
+                    .subjects(subjects)
+                    .todayTotalTodos(todayTotal)
+                    .todayCompletedTodos(todayCompleted)
+                    .todayCompletionRate(todayTotal > 0 ? (int) Math.round((double) todayCompleted / todayTotal * 100.0) : 0)
+                    .unansweredQuestionCount(unansweredQuestions)
+                    .build();
+        }
     }
 }
@@ -0,0 +1,17 @@
+package com.momen.application.notification;
+
+import com.momen.application.notification.dto.NotificationResponse;
+
+import java.util.Set;
+
+/**
+ * 전송할 outbox 행과 알림 내용.
+ * pendingNodes가 있으면 이전 시도에서 일부 노드에만 전달된 행으로, 남은 노드에만 sseEventId로 다시 보낸다.
+ */
+public record NotificationDelivery(Long outboxId, Long userId, NotificationResponse response,
+                                   Long sseEventId, Set<String> pendingNodes) {
+
+    public NotificationDelivery(Long outboxId, Long userId, NotificationResponse response) {
+        this(outboxId, userId, response, null, null);
+    }
+}
@@ -0,0 +1,93 @@
+package com.momen.application.notification;
+
+import com.momen.infrastructure.sse.SseClusterRelay;
+import com.momen.infrastructure.sse.SseRelayException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 알림 outbox를 SSE로 전송한다.
+ * 알림을 저장한 트랜잭션이 커밋된 뒤에만 전송하므로 롤백된 알림은 나가지 않고, 전송 시간이 DB 트랜잭션에 포함되지 않는다.
+ * 전송 도중 중단되었거나 실패한 행(SseClusterRelay가 예외로 알린 경우 포함)은 스위퍼가 재시도 시각 이후 다시 보낸다.
+ * 일부 노드에만 전달된 행은 남은 노드에만 같은 이벤트 ID로 보내, 이미 받은 연결에 같은 알림이 다시 가지 않는다
+ * (최대 NotificationOutbox.MAX_ATTEMPTS회, 한도를 넘긴 행은 NotificationOutboxPurgeJob이 정리).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxDispatcher {
+
+    static final int BATCH_SIZE = 100;
+    private static final int MAX_SWEEP_BATCHES = 10;
+
+    private final NotificationOutboxService outboxService;
+    private final SseClusterRelay sseClusterRelay;
+    private final ExecutorService sseSendExecutor;
+
+    // 커밋 후 요청 스레드를 붙잡지 않도록 전송 Executor에서 처리
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEnqueued(NotificationOutboxEnqueuedEvent event) {
+        try {
+            sseSendExecutor.execute(() -> dispatch(event.outboxIds()));
+        } catch (RejectedExecutionException e) {
+            log.warn("Notification outbox dispatch rejected, leaving {} entries to sweeper", event.outboxIds().size());
+        }
+    }
+
+    @Scheduled(fixedDelay = 30_000) // 30초마다 재시도 대상 전송
+    public void sweep() {
+        try {
+            for (int i = 0; i < MAX_SWEEP_BATCHES; i++) {
+                List<NotificationDelivery> deliveries = outboxService.claimDue(BATCH_SIZE);
+                deliver(deliveries);
+                if (deliveries.size() < BATCH_SIZE) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to sweep notification outbox: {}", e.getMessage(), e);
+        }
+    }
+
+    void dispatch(List<Long> outboxIds) {
+        try {
+            for (int from = 0; from < outboxIds.size(); from += BATCH_SIZE) {
+                List<Long> batch = outboxIds.subList(from, Math.min(from + BATCH_SIZE, outboxIds.size()));
+                deliver(outboxService.claim(batch));
+            }
+        } catch (Exception e) {
+            log.error("Failed to dispatch notification outbox: {}", e.getMessage(), e);
+        }
+    }
+
+    private void deliver(List<NotificationDelivery> deliveries) {
+        List<Long> delivered = new ArrayList<>(deliveries.size());
+        for (NotificationDelivery delivery : deliveries) {
+            try {
+                if (delivery.pendingNodes() != null) {
+                    sseClusterRelay.resendToNodes(delivery.userId(), delivery.sseEventId(), "notification",
+                            delivery.response(), delivery.pendingNodes());
+                } else {
+                    sseClusterRelay.sendToUser(delivery.userId(), "notification", delivery.response());
+                }
+                delivered.add(delivery.outboxId());
+            } catch (SseRelayException e) {
+                log.warn("Partially pushed notification outbox {}: {}", delivery.outboxId(), e.getMessage());
+                outboxService.failPartially(delivery.outboxId(), e.getMessage(), e.getEventId(), e.getFailedNodes());
+            } catch (Exception e) {
+                log.warn("Failed to push notification outbox {}: {}", delivery.outboxId(), e.getMessage());
+                outboxService.fail(delivery.outboxId(), e.getMessage());
+            }
+        }
+        outboxService.complete(delivered);
+    }
+}
@@ -0,0 +1,9 @@
+package com.momen.application.notification;
+
+import java.util.List;
+
+/**
+ * 알림 outbox 행이 저장되었음을 알리는 이벤트 (커밋 후 전송 트리거).
+ */
+public record NotificationOutboxEnqueuedEvent(List<Long> outboxIds) {
+}
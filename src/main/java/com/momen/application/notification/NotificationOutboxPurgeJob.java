@@ -0,0 +1,38 @@
+package com.momen.application.notification;
+
+import com.momen.domain.notification.NotificationOutbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재시도 한도(NotificationOutbox.MAX_ATTEMPTS)를 넘긴 알림 outbox 행 정리 작업.
+ * 보관 기간 동안은 last_error 확인과 수동 재전송이 가능하고, 삭제 건수는 ERROR 로그로 남겨 알림을 받을 수 있게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxPurgeJob {
+
+    private static final int RETENTION_DAYS = 1;
+
+    private final NotificationOutboxService outboxService;
+
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    public void purge() {
+        try {
+            int deleted = outboxService.purgeExhausted(LocalDateTime.now().minusDays(RETENTION_DAYS));
+            if (deleted > 0) {
+                log.error("Notification outbox purge deleted {} entries that exhausted {} attempts",
+                        deleted, NotificationOutbox.MAX_ATTEMPTS);
+            } else {
+                log.info("Notification outbox purge finished - deleted=0");
+            }
+        } catch (Exception e) {
+            log.error("Failed to purge notification outbox", e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.momen.application.notification;
+
+import com.momen.application.notification.dto.NotificationResponse;
+import com.momen.domain.notification.Notification;
+import com.momen.domain.notification.NotificationOutbox;
+import com.momen.infrastructure.jpa.notification.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 알림 outbox 관리.
+ * 알림 저장과 같은 트랜잭션에서 outbox 행을 쓰고, 전송 측(NotificationOutboxDispatcher)은
+ * 행을 잡아(claim) 시도 횟수를 기록한 뒤 전송하고, 성공한 행을 삭제한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NotificationOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 호출 측 트랜잭션에 참여하여 저장하고, 커밋 후 전송되도록 이벤트 발행
+    @Transactional
+    public void enqueue(List<Notification> notifications) {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> outboxes = outboxRepository.insertAll(
+                notifications.stream().map(notification -> new NotificationOutbox(notification, now)).toList());
+        eventPublisher.publishEvent(new NotificationOutboxEnqueuedEvent(
+                outboxes.stream().map(NotificationOutbox::getId).toList()));
+    }
+
+    // 커밋 직후 전송할 행을 잡는다 (이미 스위퍼가 잡은 행은 제외)
+    @Transactional
+    public List<NotificationDelivery> claim(Collection<Long> outboxIds) {
+        return markAttempt(outboxRepository.findNewForUpdate(outboxIds));
+    }
+
+    // 재시도 시각이 지난 행을 잡는다
+    @Transactional
+    public List<NotificationDelivery> claimDue(int limit) {
+        return markAttempt(outboxRepository.findDueForUpdate(LocalDateTime.now(), NotificationOutbox.MAX_ATTEMPTS,
+                PageRequest.of(0, limit)));
+    }
+
+    @Transactional
+    public void complete(Collection<Long> outboxIds) {
+        if (!outboxIds.isEmpty()) {
+            outboxRepository.deleteByIdIn(outboxIds);
+        }
+    }
+
+    @Transactional
+    public void fail(Long outboxId, String error) {
+        outboxRepository.updateLastError(outboxId, truncate(error));
+    }
+
+    // 이 노드와 일부 노드에는 전달된 경우: 재시도 때 남은 노드에만 같은 이벤트 ID로 보내도록 기록
+    @Transactional
+    public void failPartially(Long outboxId, String error, Long sseEventId, Set<String> pendingNodes) {
+        outboxRepository.updatePartialDelivery(outboxId, truncate(error), sseEventId, String.join(",", pendingNodes));
+    }
+
+    // 재시도 한도를 넘긴 채 기준 시각 전에 마지막 재시도 시각이 지난 행 삭제 (알림 자체는 알림 목록에 남는다)
+    @Transactional
+    public int purgeExhausted(LocalDateTime before) {
+        return outboxRepository.deleteExhaustedBefore(NotificationOutbox.MAX_ATTEMPTS, before);
+    }
+
+    private List<NotificationDelivery> markAttempt(List<NotificationOutbox> outboxes) {
+        LocalDateTime now = LocalDateTime.now();
+        return outboxes.stream()
+                .map(outbox -> {
+                    outbox.markAttempt(now);
+                    Notification notification = outbox.getNotification();
+                    return new NotificationDelivery(outbox.getId(), notification.getUser().getId(),
+                            NotificationResponse.from(notification), outbox.getSseEventId(),
+                            pendingNodes(outbox.getPendingNodes()));
+                })
+                .toList();
+    }
+
+    private Set<String> pendingNodes(String value) {
+        return value == null || value.isEmpty() ? null : new LinkedHashSet<>(List.of(value.split(",")));
+    }
+
+    private String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
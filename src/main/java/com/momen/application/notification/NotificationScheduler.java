@@ -1,7 +1,10 @@
 package com.momen.application.notification;
 
+import com.momen.application.planner.TodoSeriesService;
+import com.momen.domain.notification.Notification;
 import com.momen.domain.notification.NotificationType;
 import com.momen.domain.planner.Todo;
+import com.momen.domain.planner.TodoSeriesOccurrence;
 import com.momen.domain.user.User;
 import com.momen.infrastructure.jpa.planner.TodoRepository;
 import lombok.RequiredArgsConstructor;
@@ -10,9 +13,11 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.TreeMap;
 
 @Slf4j
 @Component
@@ -21,41 +26,57 @@ public class NotificationScheduler {
 
     private final TodoRepository todoRepository;
     private final NotificationService notificationService;
+    private final TodoSeriesService todoSeriesService;
 
     @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
     public void notifyIncompleteTodos() {
         try {
             LocalDate today = LocalDate.now();
             List<Todo> incompleteTodos = todoRepository.findAllPastIncompleteWithMenteeAndUser(today);
+            // 아직 Todo로 생성되지 않은 어제 반복 할일 발생일도 미완료 (그 이전 발생일은 전날까지의 실행에서 알림)
+            List<TodoSeriesOccurrence> incompleteOccurrences = todoSeriesService.findVirtualOccurrencesOn(today.minusDays(1));
 
-            if (incompleteTodos.isEmpty()) {
+            if (incompleteTodos.isEmpty() && incompleteOccurrences.isEmpty()) {
                 log.debug("No past incomplete todos found");
                 return;
             }
 
-            // 멘티(User) 기준으로 그룹핑 → 각 멘티 내에서 endDate별로 다시 그룹핑
-            Map<User, Map<LocalDate, List<Todo>>> grouped = incompleteTodos.stream()
-                    .collect(Collectors.groupingBy(
-                            todo -> todo.getMentee().getUser(),
-                            Collectors.groupingBy(Todo::getEndDate)
-                    ));
+            // 멘티(User) 기준으로 그룹핑 → 각 멘티 내에서 endDate별 개수 집계
+            Map<Long, User> users = new HashMap<>();
+            Map<Long, Map<LocalDate, Integer>> grouped = new HashMap<>();
+            for (Todo todo : incompleteTodos) {
+                User user = todo.getMentee().getUser();
+                users.putIfAbsent(user.getId(), user);
+                grouped.computeIfAbsent(user.getId(), k -> new TreeMap<>()).merge(todo.getEndDate(), 1, Integer::sum);
+            }
+            for (TodoSeriesOccurrence occurrence : incompleteOccurrences) {
+                User user = occurrence.series().getMentee().getUser();
+                users.putIfAbsent(user.getId(), user);
+                grouped.computeIfAbsent(user.getId(), k -> new TreeMap<>()).merge(occurrence.date(), 1, Integer::sum);
+            }
 
-            for (Map.Entry<User, Map<LocalDate, List<Todo>>> userEntry : grouped.entrySet()) {
+            // 멘티별로 저장/발송 (한 멘티 실패가 다른 멘티 알림을 롤백하지 않도록 분리, 멘티 내 날짜별 알림은 배치 INSERT)
+            int sent = 0;
+            for (Map.Entry<Long, Map<LocalDate, Integer>> userEntry : grouped.entrySet()) {
                 try {
-                    User user = userEntry.getKey();
-                    for (Map.Entry<LocalDate, List<Todo>> dateEntry : userEntry.getValue().entrySet()) {
+                    User user = users.get(userEntry.getKey());
+                    List<Notification> notifications = new ArrayList<>();
+                    for (Map.Entry<LocalDate, Integer> dateEntry : userEntry.getValue().entrySet()) {
                         LocalDate date = dateEntry.getKey();
-                        int count = dateEntry.getValue().size();
+                        int count = dateEntry.getValue();
                         String message = String.format("%d월 %d일 %d개의 과제가 완료되지 않았습니다.",
                                 date.getMonthValue(), date.getDayOfMonth(), count);
 
-                        notificationService.createAndPush(user, message, NotificationType.TODO_INCOMPLETE, null);
+                        notifications.add(new Notification(user, message, NotificationType.TODO_INCOMPLETE, null));
                     }
+                    notificationService.createAndPushAll(notifications);
+                    sent += notifications.size();
                     log.debug("Sent incomplete todo notifications to userId={}", user.getId());
                 } catch (Exception e) {
-                    log.error("Failed to send notification to userId={}: {}", userEntry.getKey().getId(), e.getMessage());
+                    log.error("Failed to send notification to userId={}: {}", userEntry.getKey(), e.getMessage());
                 }
             }
+            log.debug("Sent {} incomplete todo notifications to {} users", sent, grouped.size());
         } catch (Exception e) {
             log.error("Failed to execute notifyIncompleteTodos scheduler: {}", e.getMessage(), e);
         }
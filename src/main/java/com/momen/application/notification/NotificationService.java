@@ -23,18 +23,40 @@ public class NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final SseEmitterManager sseEmitterManager;
+    private final NotificationOutboxService notificationOutboxService;
 
-    public SseEmitter subscribe(Long userId) {
-        return sseEmitterManager.createEmitter(userId);
+    /**
+     * SSE 구독. lastEventId(Last-Event-ID 헤더)가 있으면 그 이후 놓친 알림을 먼저 재전송한다.
+     */
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        return sseEmitterManager.createEmitter(userId, parseEventId(lastEventId));
     }
 
+    // 숫자가 아닌 값은 첫 연결로 취급
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 알림 저장 + outbox 기록 (SSE 전송은 커밋 후 NotificationOutboxDispatcher가 수행)
     @Transactional
     public void createAndPush(User user, String message, NotificationType type, Long referenceId) {
         Notification notification = new Notification(user, message, type, referenceId);
         notificationRepository.save(notification);
+        notificationOutboxService.enqueue(List.of(notification));
+    }
 
-        NotificationResponse response = NotificationResponse.from(notification);
-        sseEmitterManager.sendToUser(user.getId(), "notification", response);
+    // 알림 일괄 저장 (batch insert) 후 각 사용자에게 전송
+    @Transactional
+    public void createAndPushAll(List<Notification> notifications) {
+        notificationRepository.insertAll(notifications);
+        notificationOutboxService.enqueue(notifications);
     }
 
     public List<NotificationResponse> getNotifications(Long userId) {
@@ -13,6 +13,7 @@ import com.momen.infrastructure.jpa.planner.SubmissionFileRepository;
 import com.momen.infrastructure.jpa.planner.TodoRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,7 +30,9 @@ public class AssignmentService {
     private final SubmissionFileRepository fileRepository;
     private final TodoRepository todoRepository;
     private final MenteeRepository menteeRepository;
+    private final StudyTimeRollupService studyTimeRollupService;
     private final AiClient aiClient;
+    private final ApplicationEventPublisher eventPublisher;
 
     /** 과제 제출 (생성 또는 수정) - Todo당 1건만 존재 */
     @Transactional
@@ -66,12 +69,16 @@ public class AssignmentService {
 
         // 파일 저장
         if (hasFiles) {
-            for (SubmissionRequest.FileInfo f : request.getFiles()) {
-                fileRepository.save(new SubmissionFile(submission, f.getFileUrl(), f.getFileName()));
-            }
+            fileRepository.insertAll(request.getFiles().stream()
+                    .map(f -> new SubmissionFile(submission, f.getFileUrl(), f.getFileName()))
+                    .toList());
         }
 
-        todo.complete();
+        if (!Boolean.TRUE.equals(todo.getIsCompleted())) {
+            todo.complete();
+            studyTimeRollupService.onCompleted(todo);
+        }
+        eventPublisher.publishEvent(new TodoChangedEvent(mentee.getId(), todoId, todo.getStartDate(), todo.getEndDate()));
 
         // 파일이 있으면 첫 번째 파일로 AI 분석
         if (hasFiles) {
@@ -0,0 +1,21 @@
+package com.momen.application.planner;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 월 달력 조회 범위.
+ * 달력은 일요일부터 시작하므로, 첫 주의 주간 피드백은 이전 달 날짜(calendarStart)부터 조회한다.
+ */
+public record CalendarMonth(YearMonth yearMonth, LocalDate calendarStart, LocalDate monthStart, LocalDate monthEnd) {
+
+    public static CalendarMonth of(YearMonth ym) {
+        LocalDate firstOfMonth = ym.atDay(1);
+        int dayOfWeek = firstOfMonth.getDayOfWeek().getValue() % 7; // 일=0, 월=1, ..., 토=6
+        return new CalendarMonth(ym, firstOfMonth.minusDays(dayOfWeek), firstOfMonth, ym.atEndOfMonth());
+    }
+
+    public static CalendarMonth parse(String yearMonth) {
+        return of(YearMonth.parse(yearMonth));
+    }
+}
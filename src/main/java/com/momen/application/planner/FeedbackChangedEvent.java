@@ -0,0 +1,10 @@
+package com.momen.application.planner;
+
+import java.time.LocalDate;
+
+/**
+ * 멘티의 주간/월간 피드백이 변경되었음을 알리는 이벤트 (startDate~endDate: 피드백 대상 주/월).
+ * Todo 단위 피드백 변경은 TodoChangedEvent로 알린다.
+ */
+public record FeedbackChangedEvent(Long menteeId, LocalDate startDate, LocalDate endDate) {
+}
@@ -0,0 +1,69 @@
+package com.momen.application.planner;
+
+import com.momen.application.planner.dto.MaterialFileInfo;
+import com.momen.domain.planner.AssignmentMaterial;
+import com.momen.domain.planner.MaterialSet;
+import com.momen.infrastructure.jpa.planner.AssignmentMaterialRepository;
+import com.momen.infrastructure.jpa.planner.MaterialSetRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 학습자료 묶음(MaterialSet) 서비스.
+ * 묶음은 여러 Todo/반복 할일이 공유하므로 수정하지 않고, 자료 변경 시 새 묶음을 만든 뒤 이전 묶음을 정리한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MaterialSetService {
+
+    private final MaterialSetRepository materialSetRepository;
+    private final AssignmentMaterialRepository materialRepository;
+
+    // 자료 묶음 생성 (자료가 없으면 null)
+    @Transactional
+    public MaterialSet create(List<? extends MaterialFileInfo> materials) {
+        if (materials == null || materials.isEmpty()) {
+            return null;
+        }
+        MaterialSet materialSet = materialSetRepository.save(new MaterialSet());
+        materialRepository.insertAll(materials.stream()
+                .map(m -> new AssignmentMaterial(materialSet, m.getFileUrl(), m.getFileName()))
+                .toList());
+        return materialSet;
+    }
+
+    public List<AssignmentMaterial> findMaterials(MaterialSet materialSet) {
+        if (materialSet == null) {
+            return List.of();
+        }
+        return materialRepository.findByMaterialSetId(materialSet.getId());
+    }
+
+    // 여러 묶음의 자료를 한 번에 조회 (묶음 ID별)
+    public Map<Long, List<AssignmentMaterial>> findMaterialsBySetIds(Collection<Long> materialSetIds) {
+        if (materialSetIds.isEmpty()) {
+            return Map.of();
+        }
+        return materialRepository.findByMaterialSetIdIn(materialSetIds).stream()
+                .collect(Collectors.groupingBy(m -> m.getMaterialSet().getId()));
+    }
+
+    // 더 이상 참조되지 않는 묶음 정리, 삭제된 자료 수 반환
+    @Transactional
+    public int release(Collection<Long> materialSetIds) {
+        Set<Long> ids = materialSetIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int deleted = materialRepository.deleteUnreferenced(ids);
+        materialSetRepository.deleteUnreferenced(ids);
+        return deleted;
+    }
+}
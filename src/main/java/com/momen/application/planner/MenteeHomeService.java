@@ -0,0 +1,100 @@
+package com.momen.application.planner;
+
+import com.momen.application.mentoring.dto.MenteeResponse;
+import com.momen.application.notification.NotificationService;
+import com.momen.application.planner.dto.MenteeHomeResponse;
+import com.momen.application.planner.dto.MypageResponse;
+import com.momen.application.planner.dto.StudyDailyStatsResponse;
+import com.momen.application.planner.dto.TodoDetailResponse;
+import com.momen.domain.mentoring.Mentee;
+import com.momen.infrastructure.jpa.mentoring.MenteeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 멘티 홈 화면 묶음 조회 (프로필 + 당일 통계 + 당일 카드 + 읽지 않은 알림 수 + 마이페이지).
+ * 멘티는 한 번만 조회하고, 나머지 항목은 병렬로 조회한다.
+ * 항목별로 시간 제한을 두며, 실패하거나 시간을 넘긴 항목은 null로 두고 나머지 결과를 반환한다.
+ * 시간을 넘긴 항목은 작업을 취소(인터럽트)하고, Executor 대기열이 차서 거절된 항목은 바로 실패로 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MenteeHomeService {
+
+    static final long SECTION_TIMEOUT_MILLIS = 3000;
+
+    private final MenteeRepository menteeRepository;
+    private final TodoService todoService;
+    private final PlannerService plannerService;
+    private final NotificationService notificationService;
+    private final ExecutorService plannerReadExecutor;
+
+    public MenteeHomeResponse getHome(Long userId, LocalDate date) {
+        Mentee mentee = menteeRepository.findWithUserAndMentorByUserId(userId)
+                .orElseThrow(() -> new IllegalArgumentException("Mentee not found"));
+        Long menteeId = mentee.getId();
+        List<String> subjects = List.copyOf(mentee.getSubjects());
+
+        List<String> failed = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture<StudyDailyStatsResponse> dailyStats = section("dailyStats", failed,
+                () -> todoService.getDailyStats(menteeId, subjects, date));
+        CompletableFuture<List<TodoDetailResponse>> todoCards = section("todoCards", failed,
+                () -> todoService.getTodoCardsByDate(menteeId, date, null));
+        CompletableFuture<Long> unreadNotificationCount = section("unreadNotificationCount", failed,
+                () -> notificationService.getUnreadCount(userId));
+        CompletableFuture<MypageResponse> mypage = section("mypage", failed,
+                () -> plannerService.getMypage(mentee));
+
+        CompletableFuture.allOf(dailyStats, todoCards, unreadNotificationCount, mypage).join();
+        return MenteeHomeResponse.builder()
+                .date(date)
+                .me(MenteeResponse.from(mentee))
+                .dailyStats(dailyStats.join())
+                .todoCards(todoCards.join())
+                .unreadNotificationCount(unreadNotificationCount.join())
+                .mypage(mypage.join())
+                .failedSections(List.copyOf(failed))
+                .build();
+    }
+
+    // 항목 조회를 plannerReadExecutor에서 실행 (실패/거절/시간 초과 시 null, 시간 초과 시 작업 취소)
+    private <T> CompletableFuture<T> section(String name, List<String> failed, Supplier<T> loader) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            Future<?> task = plannerReadExecutor.submit(() -> {
+                try {
+                    result.complete(loader.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+            result.whenComplete((value, e) -> {
+                if (e != null) {
+                    task.cancel(true);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+        return result
+                .orTimeout(SECTION_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    log.warn("홈 화면 항목 조회 실패 - section: {}", name, e);
+                    failed.add(name);
+                    return null;
+                });
+    }
+}
@@ -0,0 +1,51 @@
+package com.momen.application.planner;
+
+import com.momen.infrastructure.jpa.planner.MenteeMypageAggregateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 마이페이지 집계 기간을 매일 하루씩 옮기는 작업.
+ * 집계가 있는 (마이페이지를 조회한 적 있는) 멘티만 대상으로 하며, 멘티마다 별도 트랜잭션으로 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MenteeMypageAggregateJob {
+
+    private static final int PAGE_SIZE = 100;
+
+    private final MenteeMypageAggregateService mypageAggregateService;
+    private final MenteeMypageAggregateRepository aggregateRepository;
+
+    @Scheduled(cron = "0 5 0 * * *", zone = "Asia/Seoul")
+    public void slide() {
+        try {
+            LocalDate today = LocalDate.now();
+            long processed = 0;
+            Long lastMenteeId = 0L;
+
+            while (true) {
+                List<Long> menteeIds = aggregateRepository.findOutdatedMenteeIds(today, lastMenteeId, PageRequest.of(0, PAGE_SIZE));
+                if (menteeIds.isEmpty()) {
+                    break;
+                }
+                for (Long menteeId : menteeIds) {
+                    mypageAggregateService.refresh(menteeId, today);
+                }
+                processed += menteeIds.size();
+                lastMenteeId = menteeIds.get(menteeIds.size() - 1);
+            }
+
+            log.info("Mypage aggregate slide finished - processed={}", processed);
+        } catch (Exception e) {
+            log.error("Failed to slide mypage aggregates", e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.momen.application.planner;
+
+import com.momen.domain.planner.MenteeMypageAggregate;
+import com.momen.domain.planner.MenteeMypageAggregate.SubjectCount;
+import com.momen.domain.planner.TodoSeriesOccurrence;
+import com.momen.infrastructure.jpa.planner.MenteeMypageAggregateRepository;
+import com.momen.infrastructure.jpa.planner.StudyTimeAggregate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 마이페이지 집계(최근 30일) 조회/재계산 서비스.
+ * Todo 단건 변경은 StudyTimeRollupService가 증분 반영하고, 여기서는 기간이 지났거나 무효화된 집계만 다시 계산한다.
+ * 조회는 읽기 전용이며, 다시 계산할 때만 별도 쓰기 트랜잭션에서 행을 잠근다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MenteeMypageAggregateService {
+
+    static final int WINDOW_DAYS = 30;
+
+    private final MenteeMypageAggregateRepository aggregateRepository;
+    private final StudyTimeRollupService studyTimeRollupService;
+    private final TodoSeriesService todoSeriesService;
+
+    // 오늘 기준 집계 조회 (없거나 기간이 지났으면 empty, 호출자가 refresh)
+    public Optional<MenteeMypageAggregate> findCurrent(Long menteeId, LocalDate today) {
+        return aggregateRepository.findById(menteeId)
+                .filter(aggregate -> aggregate.getWindowEnd().equals(today));
+    }
+
+    /**
+     * 날짜/과목별 학습 집계 + 아직 생성되지 않은 반복 할일 발생일(미완료)로 다시 계산한다.
+     * 집계 행을 먼저 잠가, 계산 중 커밋되지 않은 증분은 재계산 이후에 반영되도록 한다.
+     * 행이 없으면 INSERT IGNORE로 만들고 잠금 조회로 다시 읽는다 (첫 조회가 동시에 들어오면 먼저 넣은 쪽이 남음).
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public MenteeMypageAggregate refresh(Long menteeId, LocalDate today) {
+        Optional<MenteeMypageAggregate> existing = aggregateRepository.findForUpdate(menteeId);
+        LocalDate startDate = today.minusDays(WINDOW_DAYS);
+
+        Map<String, SubjectCount> counts = new HashMap<>();
+        long studySeconds = 0;
+        for (StudyTimeAggregate aggregate : studyTimeRollupService.findOverlapping(menteeId, startDate, today)) {
+            counts.merge(aggregate.subject(),
+                    new SubjectCount(aggregate.totalCount().intValue(), aggregate.completedCount().intValue()), this::sum);
+            studySeconds += aggregate.studySeconds();
+        }
+        List<TodoSeriesOccurrence> occurrences = todoSeriesService.expand(menteeId, startDate, today, null);
+        for (TodoSeriesOccurrence occurrence : occurrences) {
+            counts.merge(occurrence.series().getSubject(), new SubjectCount(1, 0), this::sum);
+        }
+
+        if (existing.isPresent()) {
+            existing.get().reset(startDate, today, counts, studySeconds);
+            return existing.get();
+        }
+        MenteeMypageAggregate created = new MenteeMypageAggregate(menteeId, startDate, today, counts, studySeconds);
+        aggregateRepository.insertIfAbsent(menteeId, created.getWindowStart(), created.getWindowEnd(),
+                created.getTotalTodos(), created.getCompletedTodos(), created.getStudySeconds(),
+                created.getSubjectCountsValue());
+        return aggregateRepository.findForUpdate(menteeId)
+                .orElseThrow(() -> new IllegalStateException("Mypage aggregate not found"));
+    }
+
+    private SubjectCount sum(SubjectCount a, SubjectCount b) {
+        return new SubjectCount(a.total() + b.total(), a.completed() + b.completed());
+    }
+}
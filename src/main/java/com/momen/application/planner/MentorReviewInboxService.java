@@ -0,0 +1,57 @@
+package com.momen.application.planner;
+
+import com.momen.application.planner.dto.MentorReviewInboxResponse;
+import com.momen.domain.mentoring.Mentor;
+import com.momen.infrastructure.jpa.mentoring.MentorRepository;
+import com.momen.infrastructure.jpa.planner.MentorReviewInboxRow;
+import com.momen.infrastructure.jpa.planner.MentorReviewItemRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 멘토 검토 대기함 조회.
+ * 담당 멘티 전체의 검토 대기 제출물을 제출 시각 순으로 키셋 페이지네이션한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MentorReviewInboxService {
+
+    static final int DEFAULT_LIMIT = 20;
+    static final int MAX_LIMIT = 100;
+
+    private final MentorRepository mentorRepository;
+    private final MentorReviewItemRepository reviewItemRepository;
+
+    public MentorReviewInboxResponse getInbox(Long mentorUserId, LocalDateTime cursorSubmittedAt, Long cursorTodoId,
+                                              Integer limit) {
+        Mentor mentor = mentorRepository.findByUserId(mentorUserId)
+                .orElseThrow(() -> new IllegalArgumentException("Mentor not found"));
+        if ((cursorSubmittedAt == null) != (cursorTodoId == null)) {
+            throw new IllegalArgumentException("cursorSubmittedAt과 cursorTodoId는 함께 입력해 주세요");
+        }
+
+        int size = limit == null ? DEFAULT_LIMIT : Math.min(Math.max(limit, 1), MAX_LIMIT);
+        PageRequest page = PageRequest.of(0, size + 1);
+        List<MentorReviewInboxRow> rows = cursorTodoId == null
+                ? reviewItemRepository.findInbox(mentor.getId(), page)
+                : reviewItemRepository.findInboxAfter(mentor.getId(), cursorSubmittedAt, cursorTodoId, page);
+        boolean hasMore = rows.size() > size;
+        if (hasMore) {
+            rows = rows.subList(0, size);
+        }
+
+        MentorReviewInboxRow last = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+        return MentorReviewInboxResponse.builder()
+                .items(rows.stream().map(MentorReviewInboxResponse.Item::from).toList())
+                .hasMore(hasMore)
+                .nextCursorSubmittedAt(hasMore ? last.submittedAt() : null)
+                .nextCursorTodoId(hasMore ? last.todoId() : null)
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.momen.application.planner;
+
+import com.momen.domain.planner.MentorReviewItem;
+import com.momen.infrastructure.jpa.planner.AssignmentSubmissionRepository;
+import com.momen.infrastructure.jpa.planner.MentorReviewItemRepository;
+import com.momen.infrastructure.jpa.planner.SubmissionReviewRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+
+/**
+ * Todo 변경 시 해당 Todo 제출물의 검토 상태를 멘토 검토 대기함(mentor_review_queue)에 반영한다.
+ * 변경과 같은 트랜잭션의 커밋 직전에 실행되므로, 대기함은 제출물/피드백과 함께 커밋된다.
+ * 반복 할일 발생일 일괄 삭제는 TodoSeriesService에서 대기함도 함께 정리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MentorReviewQueueRecorder {
+
+    private final AssignmentSubmissionRepository submissionRepository;
+    private final MentorReviewItemRepository reviewItemRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTodoChanged(TodoChangedEvent event) {
+        if (event.todoId() == null) {
+            return;
+        }
+
+        Optional<SubmissionReviewRow> state = submissionRepository.findReviewState(event.todoId());
+        // 제출물이 없거나, 담당 멘토가 없거나, 검토가 끝났으면 대기함에서 제외
+        if (state.isEmpty() || state.get().mentorId() == null || !state.get().pending()) {
+            reviewItemRepository.deleteByTodoId(event.todoId());
+            return;
+        }
+
+        SubmissionReviewRow row = state.get();
+        reviewItemRepository.findById(row.todoId()).ifPresentOrElse(
+                item -> item.update(row.submissionId(), row.submittedAt(), row.awaitingFeedback(), row.unansweredQuestion()),
+                () -> reviewItemRepository.save(new MentorReviewItem(row.todoId(), row.mentorId(), row.menteeId(),
+                        row.submissionId(), row.submittedAt(), row.awaitingFeedback(), row.unansweredQuestion())));
+    }
+}
@@ -16,6 +16,7 @@ import com.momen.infrastructure.jpa.mentoring.MentorRepository;
 import com.momen.infrastructure.jpa.planner.MonthlyFeedbackRepository;
 import com.momen.infrastructure.jpa.planner.WeeklyFeedbackRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,18 +35,18 @@ public class MonthlyFeedbackService {
     private final MenteeRepository menteeRepository;
     private final AiClient aiClient;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TodoCalendarCache todoCalendarCache;
 
     // AI 요약 생성 (해당 월 달력의 주간피드백들 조회 → AI 요약)
     public String generateAiSummary(Long mentorUserId, Long menteeId, MonthlyAiSummaryRequest request) {
         mentorRepository.findByUserId(mentorUserId)
                 .orElseThrow(() -> new IllegalArgumentException("Mentor not found"));
 
-        YearMonth ym = YearMonth.of(request.getYear(), request.getMonth());
-        LocalDate calendarStart = getCalendarStartDate(ym);
-        LocalDate lastOfMonth = ym.atEndOfMonth();
+        CalendarMonth month = CalendarMonth.of(YearMonth.of(request.getYear(), request.getMonth()));
 
         List<WeeklyFeedback> weeklyFeedbacks = weeklyFeedbackRepository
-                .findByMenteeIdAndWeekStartDateBetweenOrderByWeekStartDate(menteeId, calendarStart, lastOfMonth);
+                .findByMenteeIdAndWeekStartDateBetweenOrderByWeekStartDate(menteeId, month.calendarStart(), month.monthEnd());
 
         if (weeklyFeedbacks.isEmpty()) {
             return null;
@@ -71,6 +72,9 @@ public class MonthlyFeedbackService {
 
         feedback.update(request.getAiSummary(), request.getMentorComment());
 
+        YearMonth feedbackMonth = YearMonth.of(request.getYear(), request.getMonth());
+        eventPublisher.publishEvent(new FeedbackChangedEvent(menteeId, feedbackMonth.atDay(1), feedbackMonth.atEndOfMonth()));
+
         // 멘티에게 월간 피드백 알림 전송
         User menteeUser = mentee.getUser();
         String message = String.format("%d년 %d월 월간 피드백이 등록되었습니다.",
@@ -90,11 +94,7 @@ public class MonthlyFeedbackService {
     // 멘티의 월간 피드백 목록 조회 (필터: yearMonth 또는 year)
     public List<MonthlyFeedbackResponse> getFeedbackList(Long menteeId, String yearMonth, Integer year) {
         if (yearMonth != null) {
-            YearMonth ym = YearMonth.parse(yearMonth);
-            return monthlyFeedbackRepository.findByMenteeIdAndYearAndMonth(menteeId, ym.getYear(), ym.getMonthValue())
-                    .map(MonthlyFeedbackResponse::from)
-                    .map(List::of)
-                    .orElse(List.of());
+            return getCalendarFeedbacks(menteeId, CalendarMonth.parse(yearMonth));
         } else if (year != null) {
             return monthlyFeedbackRepository.findByMenteeIdAndYearOrderByMonthDesc(menteeId, year)
                     .stream()
@@ -108,11 +108,15 @@ public class MonthlyFeedbackService {
         }
     }
 
-    // 해당 월 달력의 첫 번째 일요일 계산
-    private LocalDate getCalendarStartDate(YearMonth ym) {
-        LocalDate firstOfMonth = ym.atDay(1);
-        int dayOfWeek = firstOfMonth.getDayOfWeek().getValue() % 7; // 일=0, 월=1, ..., 토=6
-        return firstOfMonth.minusDays(dayOfWeek);
+    // 해당 월의 월간 피드백 조회 (없으면 빈 목록, 캘린더 캐시, FeedbackChangedEvent로 무효화)
+    public List<MonthlyFeedbackResponse> getCalendarFeedbacks(Long menteeId, CalendarMonth month) {
+        YearMonth ym = month.yearMonth();
+        return todoCalendarCache.getOrLoad(TodoCalendarCache.VIEW_MONTHLY_FEEDBACK, menteeId,
+                month.monthStart(), month.monthEnd(), null, MonthlyFeedbackResponse.class,
+                () -> monthlyFeedbackRepository.findByMenteeIdAndYearAndMonth(menteeId, ym.getYear(), ym.getMonthValue())
+                        .map(MonthlyFeedbackResponse::from)
+                        .map(List::of)
+                        .orElse(List.of()));
     }
 
     private String buildMonthlySummaryPrompt(List<WeeklyFeedback> weeklyFeedbacks, int year, int month) {
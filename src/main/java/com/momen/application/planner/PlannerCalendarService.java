@@ -0,0 +1,133 @@
+package com.momen.application.planner;
+
+import com.momen.application.planner.dto.CalendarDotsResponse;
+import com.momen.application.planner.dto.MonthlyFeedbackResponse;
+import com.momen.application.planner.dto.PlannerCalendarResponse;
+import com.momen.application.planner.dto.TodoSummaryResponse;
+import com.momen.application.planner.dto.WeeklyFeedbackResponse;
+import com.momen.domain.planner.TodoSeriesOccurrence;
+import com.momen.infrastructure.jpa.planner.TodoDayStatusRow;
+import com.momen.infrastructure.jpa.planner.TodoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 월 달력 화면 묶음 조회 (Todo + 주간 피드백 + 월간 피드백).
+ * 세 구역은 같은 달력 범위로 각 서비스에서 조회하며, 구역별 조회/캐시(TodoCalendarCache)는 개별 API와 동일하다.
+ * Todo 구역만 plannerReadExecutor에서 병렬로 조회하고 (대기열이 차면 요청 스레드에서 조회),
+ * 대부분 캐시에서 끝나는 피드백 구역은 요청 스레드에서 조회해 요청당 추가 작업을 하나로 제한한다.
+ * 각 구역은 자체 읽기 전용 트랜잭션에서 실행되므로 묶음 조회에는 트랜잭션을 두지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PlannerCalendarService {
+
+    static final int MAX_DOTS_MONTHS = 24;
+
+    private final TodoService todoService;
+    private final WeeklyFeedbackService weeklyFeedbackService;
+    private final MonthlyFeedbackService monthlyFeedbackService;
+    private final TodoSeriesService todoSeriesService;
+    private final TodoRepository todoRepository;
+    private final ExecutorService plannerReadExecutor;
+
+    public PlannerCalendarResponse getCalendar(Long menteeId, String yearMonth, List<String> subjects) {
+        CalendarMonth month = CalendarMonth.parse(yearMonth);
+
+        Supplier<List<TodoSummaryResponse>> todoLoader = () -> todoService.getCalendarTodos(menteeId, month, subjects);
+        CompletableFuture<List<TodoSummaryResponse>> todos;
+        try {
+            todos = CompletableFuture.supplyAsync(todoLoader, plannerReadExecutor);
+        } catch (RejectedExecutionException e) {
+            todos = CompletableFuture.completedFuture(todoLoader.get());
+        }
+        List<WeeklyFeedbackResponse> weeklyFeedbacks = weeklyFeedbackService.getCalendarFeedbacks(menteeId, month);
+        List<MonthlyFeedbackResponse> monthlyFeedbacks = monthlyFeedbackService.getCalendarFeedbacks(menteeId, month);
+
+        try {
+            return PlannerCalendarResponse.builder()
+                    .yearMonth(month.yearMonth().toString())
+                    .calendarStartDate(month.calendarStart())
+                    .monthStartDate(month.monthStart())
+                    .monthEndDate(month.monthEnd())
+                    .todos(todos.join())
+                    .weeklyFeedbacks(weeklyFeedbacks)
+                    .monthlyFeedbacks(monthlyFeedbacks)
+                    .build();
+        } catch (CompletionException e) {
+            // 구역 조회에서 발생한 예외를 그대로 전달 (예: IllegalArgumentException)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 월별 달력 점 표시 상태 (최대 24개월).
+     * 날짜 버킷 인덱스로 날짜별 Todo/완료/피드백 수만 집계하고, 아직 생성되지 않은 반복 할일 발생일은 미완료 할일로 표시한다.
+     */
+    @Transactional(readOnly = true)
+    public CalendarDotsResponse getDots(Long menteeId, String startMonth, String endMonth, List<String> subjects) {
+        YearMonth from = YearMonth.parse(startMonth);
+        YearMonth to = endMonth != null ? YearMonth.parse(endMonth) : from;
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("endMonth는 startMonth 이후여야 합니다");
+        }
+        if (ChronoUnit.MONTHS.between(from, to) >= MAX_DOTS_MONTHS) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 기간은 최대 " + MAX_DOTS_MONTHS + "개월입니다");
+        }
+        LocalDate start = from.atDay(1);
+        LocalDate end = to.atEndOfMonth();
+
+        List<TodoDayStatusRow> rows = subjects != null && !subjects.isEmpty()
+                ? todoRepository.findDayStatusesBySubjects(menteeId, start, end, subjects)
+                : todoRepository.findDayStatuses(menteeId, start, end);
+        Map<YearMonth, int[]> masks = new TreeMap<>();
+        for (YearMonth ym = from; !ym.isAfter(to); ym = ym.plusMonths(1)) {
+            masks.put(ym, new int[3]);
+        }
+        for (TodoDayStatusRow row : rows) {
+            int[] month = masks.get(YearMonth.from(row.date()));
+            int bit = 1 << (row.date().getDayOfMonth() - 1);
+            month[0] |= bit;
+            if (row.completed() >= row.total()) {
+                month[1] |= bit;
+            }
+            if (row.withFeedback() > 0) {
+                month[2] |= bit;
+            }
+        }
+        // 가상 발생일은 미완료 할일
+        for (TodoSeriesOccurrence occurrence : todoSeriesService.expandWithoutMaterials(menteeId, start, end, subjects)) {
+            int[] month = masks.get(YearMonth.from(occurrence.date()));
+            int bit = 1 << (occurrence.date().getDayOfMonth() - 1);
+            month[0] |= bit;
+            month[1] &= ~bit;
+        }
+
+        return CalendarDotsResponse.builder()
+                .months(masks.entrySet().stream()
+                        .map(e -> CalendarDotsResponse.MonthDots.builder()
+                                .yearMonth(e.getKey().toString())
+                                .todoMask(e.getValue()[0])
+                                .allDoneMask(e.getValue()[1])
+                                .feedbackMask(e.getValue()[2])
+                                .build())
+                        .toList())
+                .build();
+    }
+}
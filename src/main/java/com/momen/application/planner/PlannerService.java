@@ -2,16 +2,15 @@ package com.momen.application.planner;
 
 import com.momen.application.planner.dto.*;
 import com.momen.domain.mentoring.Mentee;
-import com.momen.domain.planner.Todo;
+import com.momen.domain.planner.MenteeMypageAggregate;
+import com.momen.domain.planner.MenteeMypageAggregate.SubjectCount;
 import com.momen.infrastructure.jpa.mentoring.MenteeRepository;
-import com.momen.infrastructure.jpa.planner.TodoRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
-import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -20,42 +19,40 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PlannerService {
 
-    private final TodoRepository todoRepository;
     private final MenteeRepository menteeRepository;
+    private final MenteeMypageAggregateService mypageAggregateService;
 
     // 마이페이지 (성취율 등)
     public MypageResponse getMypage(Long userId) {
-        Mentee mentee = menteeRepository.findByUserId(userId)
+        Mentee mentee = menteeRepository.findWithUserAndMentorByUserId(userId)
                 .orElseThrow(() -> new IllegalArgumentException("Mentee not found"));
+        return getMypage(mentee);
+    }
 
-        // 최근 30일 Todo 조회
-        LocalDate endDate = LocalDate.now();
-        LocalDate startDate = endDate.minusDays(30);
-
-        List<Todo> allTodos = todoRepository.findByMenteeIdAndMonth(mentee.getId(), startDate, endDate);
+    // 마이페이지 (mentee: 사용자, 담당 멘토를 함께 조회한 멘티)
+    public MypageResponse getMypage(Mentee mentee) {
+        // 최근 30일과 기간이 겹치는 Todo 집계 (아직 생성되지 않은 반복 할일 발생일은 미완료로 포함, 기간이 지났을 때만 다시 계산)
+        LocalDate today = LocalDate.now();
+        MenteeMypageAggregate aggregate = mypageAggregateService.findCurrent(mentee.getId(), today)
+                .orElseGet(() -> mypageAggregateService.refresh(mentee.getId(), today));
+        Map<String, SubjectCount> subjectCounts = aggregate.getSubjectCounts();
 
-        int totalTodos = allTodos.size();
-        int completedTodos = (int) allTodos.stream().filter(t -> Boolean.TRUE.equals(t.getIsCompleted())).count();
+        int totalTodos = aggregate.getTotalTodos();
+        int completedTodos = aggregate.getCompletedTodos();
         int overallRate = totalTodos > 0 ? (int) Math.round((double) completedTodos / totalTodos * 100.0) : 0;
+        long totalSec = aggregate.getStudySeconds();
 
         // 과목별 성취율 (정수 반올림)
-        Map<String, Integer> subjectRates = allTodos.stream()
-                .collect(Collectors.groupingBy(Todo::getSubject))
-                .entrySet().stream()
+        Map<String, Integer> subjectRates = subjectCounts.entrySet().stream()
                 .collect(Collectors.toMap(
                         Map.Entry::getKey,
                         e -> {
-                            long total = e.getValue().size();
-                            long completed = e.getValue().stream().filter(t -> Boolean.TRUE.equals(t.getIsCompleted())).count();
+                            int total = e.getValue().total();
+                            int completed = e.getValue().completed();
                             return total > 0 ? (int) Math.round((double) completed / total * 100.0) : 0;
                         }
                 ));
 
-        int totalSec = allTodos.stream()
-                .filter(t -> t.getStudyTime() != null)
-                .mapToInt(Todo::getStudyTime)
-                .sum();
-
         String mentorName = mentee.getMentor() != null ? mentee.getMentor().getUser().getName() : null;
 
         return MypageResponse.builder()
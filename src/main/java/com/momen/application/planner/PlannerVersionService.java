@@ -0,0 +1,57 @@
+package com.momen.application.planner;
+
+import com.momen.infrastructure.redis.PlannerVersionRedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 멘티별 플래너/피드백 버전 스탬프로 조회 응답의 ETag를 만든다.
+ * 플래너(Todo, 학습자료, 제출물, Todo 피드백) 또는 주간/월간 피드백 변경이 커밋되면 스탬프를 폐기한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlannerVersionService {
+
+    private final PlannerVersionRedisService versionRedisService;
+
+    /**
+     * (멘티 버전 스탬프, 응답 표현) 기준 강한 ETag.
+     * representation은 같은 멘티의 서로 다른 응답을 구분하는 값 (요청 경로 + 쿼리 등)
+     * @return Redis 장애 시 null (ETag 없이 항상 새로 조회)
+     */
+    public String etag(Long menteeId, String representation) {
+        try {
+            String stamp = versionRedisService.getStamp(menteeId);
+            String hash = DigestUtils.md5DigestAsHex((stamp + ":" + representation).getBytes(StandardCharsets.UTF_8));
+            return "\"" + hash + "\"";
+        } catch (Exception e) {
+            log.warn("Planner version read failed - menteeId={}: {}", menteeId, e.getMessage());
+            return null;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        invalidate(event.menteeId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFeedbackChanged(FeedbackChangedEvent event) {
+        invalidate(event.menteeId());
+    }
+
+    private void invalidate(Long menteeId) {
+        try {
+            versionRedisService.invalidate(menteeId);
+        } catch (Exception e) {
+            log.warn("Planner version invalidate failed - menteeId={}: {}", menteeId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.momen.application.planner;
+
+import com.momen.infrastructure.jpa.mentoring.MenteeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 학습 집계(study_time_rollups) 재생성 및 정합성 점검 작업.
+ * 멘티마다 별도 트랜잭션으로 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyTimeRollupJob {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int RECONCILE_DAYS = 31; // 마이페이지 집계 기간(최근 30일) + 오늘
+
+    private final StudyTimeRollupService studyTimeRollupService;
+    private final MenteeRepository menteeRepository;
+
+    // 전체 멘티 집계 재생성, 처리한 멘티 수 반환
+    public long rebuildAll() {
+        long processed = 0;
+        Long lastMenteeId = 0L;
+
+        while (true) {
+            List<Long> menteeIds = menteeRepository.findIdsGreaterThan(lastMenteeId, PageRequest.of(0, PAGE_SIZE));
+            if (menteeIds.isEmpty()) {
+                break;
+            }
+            for (Long menteeId : menteeIds) {
+                studyTimeRollupService.rebuildAll(menteeId);
+            }
+            processed += menteeIds.size();
+            lastMenteeId = menteeIds.get(menteeIds.size() - 1);
+            log.info("Study time rollup rebuild progress - processed={}, lastMenteeId={}", processed, lastMenteeId);
+        }
+
+        log.info("Study time rollup rebuild finished - processed={}", processed);
+        return processed;
+    }
+
+    // 최근 집계를 Todo 원본과 비교해 어긋난 멘티만 다시 생성
+    @Scheduled(cron = "0 30 3 * * *", zone = "Asia/Seoul")
+    public void reconcileRecent() {
+        try {
+            LocalDate endDate = LocalDate.now();
+            LocalDate startDate = endDate.minusDays(RECONCILE_DAYS);
+            long drifted = 0;
+            Long lastMenteeId = 0L;
+
+            while (true) {
+                List<Long> menteeIds = menteeRepository.findIdsGreaterThan(lastMenteeId, PageRequest.of(0, PAGE_SIZE));
+                if (menteeIds.isEmpty()) {
+                    break;
+                }
+                for (Long menteeId : menteeIds) {
+                    int count = studyTimeRollupService.reconcile(menteeId, startDate, endDate);
+                    if (count > 0) {
+                        log.warn("Study time rollup drift fixed - menteeId={}, drifted={}", menteeId, count);
+                        drifted += count;
+                    }
+                }
+                lastMenteeId = menteeIds.get(menteeIds.size() - 1);
+            }
+
+            log.info("Study time rollup reconcile finished - drifted={}", drifted);
+        } catch (Exception e) {
+            log.error("Failed to reconcile study time rollups", e);
+        }
+    }
+}
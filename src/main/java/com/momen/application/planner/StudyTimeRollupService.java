@@ -0,0 +1,166 @@
+package com.momen.application.planner;
+
+import com.momen.domain.planner.StudyTimeRollup;
+import com.momen.domain.planner.Todo;
+import com.momen.infrastructure.jpa.planner.MenteeMypageAggregateRepository;
+import com.momen.infrastructure.jpa.planner.StudyTimeAggregate;
+import com.momen.infrastructure.jpa.planner.StudyTimeRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 멘티/날짜/과목별 학습 집계(study_time_rollups) 유지 서비스.
+ * Todo 변경과 같은 트랜잭션에서 호출되어야 하며, Todo는 시작일 행에 집계된다.
+ * 기간 조회는 기간 전에 시작해 기간까지 이어지는 Todo를 원본에서 더해, 기간과 겹치는 Todo 전체를 센다.
+ * 마이페이지 집계(mentee_mypage_aggregates)도 Todo 기간이 집계 기간과 겹치면 함께 증분 반영한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class StudyTimeRollupService {
+
+    private final StudyTimeRollupRepository rollupRepository;
+    private final MenteeMypageAggregateRepository mypageAggregateRepository;
+
+    // 신규 Todo 반영
+    public void onCreated(Todo todo) {
+        apply(todo.getMentee().getId(), todo.getStartDate(), todo.getEndDate(), todo.getSubject(),
+                studySeconds(todo), completed(todo), 1);
+    }
+
+    // 반복 할일 발생일 Todo 생성 반영 (마이페이지 집계는 가상 발생일로 이미 세고 있으므로 반영하지 않음)
+    public void onMaterialized(Todo todo) {
+        applyToRollup(todo.getMentee().getId(), todo.getStartDate(), todo.getSubject(), studySeconds(todo), completed(todo), 1);
+    }
+
+    // 삭제되는 Todo 반영
+    public void onDeleted(Todo todo) {
+        apply(todo.getMentee().getId(), todo.getStartDate(), todo.getEndDate(), todo.getSubject(),
+                -studySeconds(todo), -completed(todo), -1);
+    }
+
+    // 기간/과목이 바뀐 Todo를 이전 집계에서 새 집계로 이동
+    public void onMoved(Todo todo, LocalDate oldStartDate, LocalDate oldEndDate, String oldSubject) {
+        if (todo.getStartDate().equals(oldStartDate) && todo.getEndDate().equals(oldEndDate)
+                && todo.getSubject().equals(oldSubject)) {
+            return;
+        }
+        Long menteeId = todo.getMentee().getId();
+        apply(menteeId, oldStartDate, oldEndDate, oldSubject, -studySeconds(todo), -completed(todo), -1);
+        apply(menteeId, todo.getStartDate(), todo.getEndDate(), todo.getSubject(), studySeconds(todo), completed(todo), 1);
+    }
+
+    // 미완료 -> 완료 전환 반영 (이미 완료된 Todo는 호출하지 않음)
+    public void onCompleted(Todo todo) {
+        apply(todo.getMentee().getId(), todo.getStartDate(), todo.getEndDate(), todo.getSubject(), 0, 1, 0);
+    }
+
+    public void addStudyTime(Todo todo, int seconds) {
+        addStudyTime(todo.getMentee().getId(), todo.getStartDate(), todo.getEndDate(), todo.getSubject(), seconds);
+    }
+
+    public void addStudyTime(Long menteeId, LocalDate startDate, LocalDate endDate, String subject, long seconds) {
+        apply(menteeId, startDate, endDate, subject, seconds, 0, 0);
+    }
+
+    /**
+     * 기간과 겹치는 Todo의 날짜/과목별 합계.
+     * 기간 안에 시작한 Todo는 집계 행에서, 기간 전에 시작해 기간까지 이어지는 Todo는 원본에서 더한다.
+     */
+    @Transactional(readOnly = true)
+    public List<StudyTimeAggregate> findOverlapping(Long menteeId, LocalDate startDate, LocalDate endDate) {
+        List<StudyTimeAggregate> result = new ArrayList<>(rollupRepository.aggregateCarriedOver(menteeId, startDate));
+        for (StudyTimeRollup rollup : rollupRepository.findByMenteeIdAndRollupDateBetween(menteeId, startDate, endDate)) {
+            result.add(new StudyTimeAggregate(rollup.getRollupDate(), rollup.getSubject(), rollup.getStudySeconds(),
+                    (long) rollup.getCompletedCount(), (long) rollup.getTotalCount()));
+        }
+        return result;
+    }
+
+    /**
+     * 기간 집계를 Todo 원본으로부터 다시 생성한다 (일괄 수정/삭제 후, 전체 재생성 시).
+     * @return 생성된 집계 행 수
+     */
+    public int rebuild(Long menteeId, LocalDate startDate, LocalDate endDate) {
+        rollupRepository.deleteByMenteeIdAndRange(menteeId, startDate, endDate);
+        mypageAggregateRepository.markStale(menteeId);
+        return rollupRepository.insertFromTodos(menteeId, startDate, endDate);
+    }
+
+    // 멘티 전체 집계 재생성
+    public int rebuildAll(Long menteeId) {
+        rollupRepository.deleteByMenteeId(menteeId);
+        mypageAggregateRepository.markStale(menteeId);
+        return rollupRepository.insertAllFromTodos(menteeId);
+    }
+
+    /**
+     * 기간 집계를 Todo 원본과 비교해 어긋난 경우 다시 생성한다.
+     * @return 어긋난 (날짜, 과목) 수, 일치하면 0
+     */
+    public int reconcile(Long menteeId, LocalDate startDate, LocalDate endDate) {
+        Map<String, StudyTimeRollup> rollups = new HashMap<>();
+        for (StudyTimeRollup rollup : rollupRepository.findByMenteeIdAndRollupDateBetween(menteeId, startDate, endDate)) {
+            rollups.put(rollup.getRollupDate() + ":" + rollup.getSubject(), rollup);
+        }
+
+        int drifted = 0;
+        for (StudyTimeAggregate aggregate : rollupRepository.aggregateFromTodos(menteeId, startDate, endDate)) {
+            StudyTimeRollup rollup = rollups.remove(aggregate.date() + ":" + aggregate.subject());
+            if (rollup == null
+                    || rollup.getStudySeconds() != aggregate.studySeconds()
+                    || rollup.getCompletedCount() != aggregate.completedCount()
+                    || rollup.getTotalCount() != aggregate.totalCount()) {
+                drifted++;
+            }
+        }
+        // Todo가 없는데 남아 있는 집계 (전체 수 0인 행은 정상)
+        drifted += (int) rollups.values().stream()
+                .filter(r -> r.getTotalCount() != 0 || r.getStudySeconds() != 0 || r.getCompletedCount() != 0)
+                .count();
+
+        if (drifted > 0) {
+            rebuild(menteeId, startDate, endDate);
+        }
+        return drifted;
+    }
+
+    private void apply(Long menteeId, LocalDate startDate, LocalDate endDate, String subject,
+                       long seconds, int completed, int total) {
+        if (seconds == 0 && completed == 0 && total == 0) {
+            return;
+        }
+        applyToRollup(menteeId, startDate, subject, seconds, completed, total);
+        applyToMypage(menteeId, startDate, endDate, subject, seconds, completed, total);
+    }
+
+    private void applyToRollup(Long menteeId, LocalDate date, String subject, long seconds, int completed, int total) {
+        rollupRepository.upsert(menteeId, date, subject, seconds, completed, total);
+    }
+
+    // 마이페이지 집계 증분 반영 (집계가 없거나 기간이 겹치지 않으면 다음 조회/일일 갱신 때 다시 계산됨)
+    private void applyToMypage(Long menteeId, LocalDate startDate, LocalDate endDate, String subject,
+                               long seconds, int completed, int total) {
+        if (seconds != 0) {
+            mypageAggregateRepository.addStudySeconds(menteeId, startDate, endDate, seconds);
+        }
+        if (completed == 0 && total == 0) {
+            return;
+        }
+        mypageAggregateRepository.findForUpdate(menteeId)
+                .filter(aggregate -> aggregate.overlaps(startDate, endDate))
+                .ifPresent(aggregate -> aggregate.apply(subject, completed, total));
+    }
+
+    private long studySeconds(Todo todo) {
+        return todo.getStudyTime() != null ? todo.getStudyTime() : 0;
+    }
+
+    private int completed(Todo todo) {
+        return Boolean.TRUE.equals(todo.getIsCompleted()) ? 1 : 0;
+    }
+}
@@ -0,0 +1,64 @@
+package com.momen.application.planner;
+
+import com.momen.infrastructure.redis.StudyTimeTickKey;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 학습 시간 write-behind 버퍼.
+ * 같은 Todo의 tick은 초 단위로 합쳐 두었다가 StudyTimeTickFlusher가 주기적으로 DB에 반영한다.
+ * 인스턴스별 메모리 버퍼이며, DB 반영은 원자적 누적(+=)이라 여러 인스턴스가 동시에 반영해도 안전하다.
+ * 아직 Redis에 반영 기록이 없는 tick(대기/반영 중)은 여기서 중복을 거른다.
+ */
+@Component
+public class StudyTimeTickBuffer {
+
+    private final Map<Long, Long> pendingSeconds = new HashMap<>();
+    private final Set<StudyTimeTickKey> pendingTicks = new HashSet<>();
+    private final Set<StudyTimeTickKey> flushingTicks = new HashSet<>();
+
+    // 이미 대기/반영 중인 tick이면 false
+    public synchronized boolean add(StudyTimeTickKey tick, long seconds) {
+        if (pendingTicks.contains(tick) || flushingTicks.contains(tick)) {
+            return false;
+        }
+        pendingTicks.add(tick);
+        pendingSeconds.merge(tick.todoId(), seconds, Long::sum);
+        return true;
+    }
+
+    // 쌓인 값을 꺼내고 비움 (꺼낸 tick은 complete/restore 전까지 반영 중으로 남음)
+    public synchronized Batch drain() {
+        Batch batch = new Batch(new HashMap<>(pendingSeconds), new HashSet<>(pendingTicks));
+        flushingTicks.addAll(pendingTicks);
+        pendingSeconds.clear();
+        pendingTicks.clear();
+        return batch;
+    }
+
+    // 반영과 반영 기록이 끝난 tick 정리
+    public synchronized void complete(Batch batch) {
+        flushingTicks.removeAll(batch.ticks());
+    }
+
+    // 반영 실패 시 다음 주기에 다시 시도하도록 되돌림
+    public synchronized void restore(Batch batch) {
+        flushingTicks.removeAll(batch.ticks());
+        pendingTicks.addAll(batch.ticks());
+        batch.secondsByTodoId().forEach((todoId, seconds) -> pendingSeconds.merge(todoId, seconds, Long::sum));
+    }
+
+    public synchronized boolean isEmpty() {
+        return pendingTicks.isEmpty();
+    }
+
+    /**
+     * 한 번에 반영할 Todo별 누적 초와 그에 포함된 tick
+     */
+    public record Batch(Map<Long, Long> secondsByTodoId, Set<StudyTimeTickKey> ticks) {
+    }
+}
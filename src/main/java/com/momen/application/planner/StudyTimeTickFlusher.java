@@ -0,0 +1,45 @@
+package com.momen.application.planner;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 학습 시간 버퍼 주기적 반영 작업.
+ * 반영에 실패하면 버퍼로 되돌려 다음 주기에 다시 시도하고, 커밋된 뒤에만 tick을 반영됨으로 기록한다.
+ * 전용 스레드가 아니라 공용 스케줄러 풀(spring.task.scheduling.pool.size)에서 실행된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyTimeTickFlusher {
+
+    private final StudyTimeTickBuffer tickBuffer;
+    private final StudyTimeTickService studyTimeTickService;
+
+    @Scheduled(fixedDelayString = "${study-time.flush-interval-ms:5000}")
+    public void flush() {
+        if (tickBuffer.isEmpty()) {
+            return;
+        }
+        StudyTimeTickBuffer.Batch batch = tickBuffer.drain();
+        try {
+            studyTimeTickService.apply(batch.secondsByTodoId());
+        } catch (Exception e) {
+            tickBuffer.restore(batch);
+            log.error("Failed to flush study time ticks - todos={}", batch.secondsByTodoId().size(), e);
+            return;
+        }
+        studyTimeTickService.markFlushed(batch.ticks());
+        tickBuffer.complete(batch);
+        log.debug("Study time ticks flushed - todos={}", batch.secondsByTodoId().size());
+    }
+
+    // 종료 전 남은 tick 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,120 @@
+package com.momen.application.planner;
+
+import com.momen.application.planner.dto.StudyTimeTickRequest;
+import com.momen.application.planner.dto.StudyTimeTickResponse;
+import com.momen.domain.mentoring.Mentee;
+import com.momen.infrastructure.jpa.mentoring.MenteeRepository;
+import com.momen.infrastructure.jpa.planner.StudyTimeTarget;
+import com.momen.infrastructure.jpa.planner.TodoRepository;
+import com.momen.infrastructure.redis.StudyTimeTickKey;
+import com.momen.infrastructure.redis.StudyTimeTickRedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * 학습 타이머 tick 일괄 수집 서비스.
+ * tick은 버퍼에 합쳐 두고, 주기적으로 Todo별 1회 원자적 누적으로 반영한다.
+ * 중복은 반영이 커밋된 tick(Redis)과 대기/반영 중인 tick(버퍼)으로 거른다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StudyTimeTickService {
+
+    private static final int MAX_TICKS = 500;
+    private static final int MAX_TICK_SECONDS = 24 * 60 * 60;
+
+    private final MenteeRepository menteeRepository;
+    private final TodoRepository todoRepository;
+    private final StudyTimeTickRedisService tickRedisService;
+    private final StudyTimeTickBuffer tickBuffer;
+    private final StudyTimeRollupService studyTimeRollupService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // tick 수집 (멘티용) - DB 반영은 StudyTimeTickFlusher 주기에 맞춰 지연됨
+    public StudyTimeTickResponse collect(Long userId, StudyTimeTickRequest request) {
+        Mentee mentee = menteeRepository.findByUserId(userId)
+                .orElseThrow(() -> new IllegalArgumentException("Mentee not found"));
+
+        List<StudyTimeTickRequest.Tick> ticks = request.getTicks() != null ? request.getTicks() : List.of();
+        if (ticks.size() > MAX_TICKS) {
+            throw new IllegalArgumentException("한 번에 보낼 수 있는 tick은 최대 " + MAX_TICKS + "개입니다");
+        }
+        for (StudyTimeTickRequest.Tick tick : ticks) {
+            if (tick.getTodoId() == null || tick.getClientSeq() == null || tick.getSeconds() == null
+                    || tick.getSeconds() <= 0 || tick.getSeconds() > MAX_TICK_SECONDS) {
+                throw new IllegalArgumentException("잘못된 tick입니다");
+            }
+        }
+        if (ticks.isEmpty()) {
+            return StudyTimeTickResponse.builder().build();
+        }
+
+        // 본인 Todo의 tick만 반영
+        Set<Long> todoIds = new HashSet<>();
+        ticks.forEach(t -> todoIds.add(t.getTodoId()));
+        Set<Long> ownedTodoIds = new HashSet<>(todoRepository.findIdsByMenteeIdAndIdIn(mentee.getId(), todoIds));
+        List<StudyTimeTickRequest.Tick> owned = ticks.stream()
+                .filter(t -> ownedTodoIds.contains(t.getTodoId()))
+                .toList();
+
+        List<StudyTimeTickKey> keys = owned.stream()
+                .map(t -> new StudyTimeTickKey(userId, t.getTodoId(), t.getClientSeq()))
+                .toList();
+        List<Boolean> flushed = findFlushed(userId, keys);
+        int accepted = 0;
+        for (int i = 0; i < owned.size(); i++) {
+            if (!flushed.get(i) && tickBuffer.add(keys.get(i), owned.get(i).getSeconds())) {
+                accepted++;
+            }
+        }
+
+        return StudyTimeTickResponse.builder()
+                .accepted(accepted)
+                .duplicated(owned.size() - accepted)
+                .ignored(ticks.size() - owned.size())
+                .build();
+    }
+
+    /**
+     * 버퍼에서 꺼낸 Todo별 누적 초를 반영한다 (Todo 학습 시간, 학습 집계, 캘린더 캐시).
+     * 그 사이 삭제된 Todo는 건너뛴다.
+     */
+    @Transactional
+    public void apply(Map<Long, Long> secondsByTodoId) {
+        for (StudyTimeTarget target : todoRepository.findStudyTimeTargets(secondsByTodoId.keySet())) {
+            long seconds = secondsByTodoId.get(target.todoId());
+            todoRepository.addStudyTime(target.todoId(), (int) seconds);
+            studyTimeRollupService.addStudyTime(target.menteeId(), target.startDate(), target.endDate(), target.subject(), seconds);
+            eventPublisher.publishEvent(new TodoChangedEvent(target.menteeId(), target.todoId(), target.startDate(), target.endDate()));
+        }
+    }
+
+    /**
+     * 반영이 커밋된 tick 기록 (apply 커밋 이후 호출).
+     * 기록에 실패하면 그 tick의 재전송이 한 번 더 누적될 수 있다.
+     */
+    public void markFlushed(Set<StudyTimeTickKey> ticks) {
+        try {
+            tickRedisService.markFlushed(ticks);
+        } catch (Exception e) {
+            log.warn("Failed to record flushed study time ticks - ticks={}", ticks.size(), e);
+        }
+    }
+
+    private List<Boolean> findFlushed(Long userId, List<StudyTimeTickKey> keys) {
+        try {
+            return tickRedisService.findFlushed(keys);
+        } catch (Exception e) {
+            // Redis 장애 시 학습 시간 유실보다 재전송 중복 가능성을 택함 (버퍼에 남은 tick의 중복만 거름)
+            log.warn("Study time tick dedupe unavailable, accepting ticks as-is - userId={}", userId, e);
+            return Collections.nCopies(keys.size(), false);
+        }
+    }
+}
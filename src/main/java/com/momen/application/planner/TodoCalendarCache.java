@@ -0,0 +1,109 @@
+package com.momen.application.planner;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.momen.core.config.CacheConfig;
+import com.momen.infrastructure.redis.CalendarCacheVersionRedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 월/주 캘린더 응답 캐시 (Todo 목록, 달력의 주간/월간 피드백 구역).
+ * 완성된 응답 목록을 JSON으로 직렬화하여 (멘티, 조회 범위, 과목 필터, 월별 버전) 키로 저장한다.
+ * Todo 또는 주간/월간 피드백 변경이 커밋되면 영향받은 멘티/월의 버전만 올려서 해당 캐시를 무효화한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoCalendarCache {
+
+    public static final String VIEW_SUMMARY = "summary";
+    public static final String VIEW_CARDS = "cards";
+    public static final String VIEW_WEEKLY_FEEDBACK = "weekly-feedback";
+    public static final String VIEW_MONTHLY_FEEDBACK = "monthly-feedback";
+
+    private final CacheManager cacheManager;
+    private final CalendarCacheVersionRedisService versionRedisService;
+    private final ObjectMapper objectMapper;
+
+    public <T> List<T> getOrLoad(String view, Long menteeId, LocalDate from, LocalDate to, List<String> subjects,
+                                 Class<T> type, Supplier<List<T>> loader) {
+        Cache cache;
+        String key;
+        try {
+            cache = cacheManager.getCache(CacheConfig.TODO_CALENDAR_CACHE);
+            key = buildKey(view, menteeId, from, to, subjects);
+            String cached = cache != null ? cache.get(key, String.class) : null;
+            if (cached != null) {
+                return objectMapper.readValue(cached, listType(type));
+            }
+        } catch (Exception e) {
+            // 캐시 장애 시에도 조회는 DB로 계속 처리
+            log.warn("Calendar cache read failed - menteeId={}: {}", menteeId, e.getMessage());
+            return loader.get();
+        }
+
+        List<T> result = loader.get();
+        if (cache != null) {
+            try {
+                cache.put(key, objectMapper.writeValueAsString(result));
+            } catch (Exception e) {
+                log.warn("Calendar cache write failed - menteeId={}: {}", menteeId, e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        evict(event.menteeId(), event.startDate(), event.endDate());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFeedbackChanged(FeedbackChangedEvent event) {
+        evict(event.menteeId(), event.startDate(), event.endDate());
+    }
+
+    private void evict(Long menteeId, LocalDate from, LocalDate to) {
+        try {
+            for (YearMonth month : monthsBetween(from, to)) {
+                versionRedisService.bump(menteeId, month);
+            }
+        } catch (Exception e) {
+            log.warn("Calendar cache evict failed - menteeId={}: {}", menteeId, e.getMessage());
+        }
+    }
+
+    private String buildKey(String view, Long menteeId, LocalDate from, LocalDate to, List<String> subjects) {
+        List<Long> versions = versionRedisService.getVersions(menteeId, monthsBetween(from, to));
+        String subjectKey = subjects == null || subjects.isEmpty()
+                ? "ALL"
+                : subjects.stream().sorted().distinct().collect(Collectors.joining(","));
+        String versionKey = versions.stream().map(String::valueOf).collect(Collectors.joining("."));
+        return menteeId + ":" + view + ":" + from + ":" + to + ":" + subjectKey + ":v" + versionKey;
+    }
+
+    private List<YearMonth> monthsBetween(LocalDate from, LocalDate to) {
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth ym = YearMonth.from(from); !ym.isAfter(YearMonth.from(to)); ym = ym.plusMonths(1)) {
+            months.add(ym);
+        }
+        return months;
+    }
+
+    private JavaType listType(Class<?> type) {
+        return objectMapper.getTypeFactory().constructCollectionType(List.class, type);
+    }
+}
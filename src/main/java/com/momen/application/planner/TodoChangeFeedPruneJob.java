@@ -0,0 +1,32 @@
+package com.momen.application.planner;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오래된 캘린더 변경 피드 기록 정리 작업.
+ * 보관 기간보다 오래 동기화하지 않은 클라이언트는 전체 재조회로 돌아간다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoChangeFeedPruneJob {
+
+    private static final int RETENTION_DAYS = 30;
+
+    private final TodoChangeFeedService todoChangeFeedService;
+
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    public void prune() {
+        try {
+            int deleted = todoChangeFeedService.prune(LocalDateTime.now().minusDays(RETENTION_DAYS));
+            log.info("Todo change feed prune finished - deleted={}", deleted);
+        } catch (Exception e) {
+            log.error("Failed to prune todo change feed", e);
+        }
+    }
+}
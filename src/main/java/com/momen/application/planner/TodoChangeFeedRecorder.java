@@ -0,0 +1,49 @@
+package com.momen.application.planner;
+
+import com.momen.domain.planner.TodoChange;
+import com.momen.domain.planner.TodoChangeCursor;
+import com.momen.infrastructure.jpa.planner.TodoChangeCursorRepository;
+import com.momen.infrastructure.jpa.planner.TodoChangeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Todo 변경을 변경 피드(todo_changes)에 기록한다.
+ * 변경과 같은 트랜잭션의 커밋 직전에 실행되므로, 롤백된 변경은 기록되지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TodoChangeFeedRecorder {
+
+    private final TodoChangeCursorRepository cursorRepository;
+    private final TodoChangeRepository changeRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTodoChanged(TodoChangedEvent event) {
+        Long menteeId = event.menteeId();
+        long seq = nextSeq(menteeId);
+        LocalDateTime now = LocalDateTime.now();
+
+        if (event.todoId() == null) {
+            // 반복 할일 변경: 날짜 범위로 기록
+            changeRepository.save(new TodoChange(menteeId, null, event.startDate(), event.endDate(), seq, now));
+            return;
+        }
+        if (changeRepository.touch(menteeId, event.todoId(), seq, now) == 0) {
+            changeRepository.save(new TodoChange(menteeId, event.todoId(), null, null, seq, now));
+        }
+    }
+
+    private long nextSeq(Long menteeId) {
+        if (cursorRepository.increment(menteeId) == 0) {
+            // 커서가 없는 멘티의 첫 변경 (신규 멘티는 가입 시, 기존 멘티는 배포 스크립트에서 미리 생성)
+            cursorRepository.saveAndFlush(new TodoChangeCursor(menteeId, 1));
+            return 1;
+        }
+        return cursorRepository.findLastSeq(menteeId);
+    }
+}
@@ -0,0 +1,110 @@
+package com.momen.application.planner;
+
+import com.momen.application.planner.dto.TodoChangeFeedResponse;
+import com.momen.application.planner.dto.TodoSummaryResponse;
+import com.momen.domain.mentoring.Mentee;
+import com.momen.domain.planner.TodoChange;
+import com.momen.domain.planner.TodoChangeCursor;
+import com.momen.infrastructure.jpa.mentoring.MenteeRepository;
+import com.momen.infrastructure.jpa.planner.TodoChangeCursorRepository;
+import com.momen.infrastructure.jpa.planner.TodoChangeRepository;
+import com.momen.infrastructure.jpa.planner.TodoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 캘린더 변경 피드 조회.
+ * 클라이언트는 커서 이후 바뀐 Todo만 받아 로컬 캘린더에 반영하고, 월 단위 전체 조회는 fullResync일 때만 한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TodoChangeFeedService {
+
+    static final int DEFAULT_LIMIT = 500;
+    static final int MAX_LIMIT = 1000;
+
+    private final MenteeRepository menteeRepository;
+    private final TodoChangeCursorRepository cursorRepository;
+    private final TodoChangeRepository changeRepository;
+    private final TodoRepository todoRepository;
+
+    public TodoChangeFeedResponse getMyChanges(Long userId, Long cursor, Integer limit) {
+        Mentee mentee = menteeRepository.findByUserId(userId)
+                .orElseThrow(() -> new IllegalArgumentException("Mentee not found"));
+
+        Optional<TodoChangeCursor> menteeCursor = cursorRepository.findById(mentee.getId());
+        long lastSeq = menteeCursor.map(TodoChangeCursor::getLastSeq).orElse(0L);
+        long prunedSeq = menteeCursor.map(TodoChangeCursor::getPrunedSeq).orElse(0L);
+
+        // 커서가 없거나, 정리된 구간이거나, 발급된 적 없는 값이면 전체 재조회
+        if (cursor == null || cursor < prunedSeq || cursor > lastSeq) {
+            return TodoChangeFeedResponse.builder()
+                    .cursor(lastSeq)
+                    .fullResync(true)
+                    .upserted(List.of())
+                    .deletedTodoIds(List.of())
+                    .resyncRanges(List.of())
+                    .build();
+        }
+
+        int size = limit == null ? DEFAULT_LIMIT : Math.min(Math.max(limit, 1), MAX_LIMIT);
+        List<TodoChange> changes = changeRepository.findAfter(mentee.getId(), cursor, PageRequest.of(0, size + 1));
+        boolean hasMore = changes.size() > size;
+        if (hasMore) {
+            changes = changes.subList(0, size);
+        }
+
+        Set<Long> todoIds = new LinkedHashSet<>();
+        List<TodoChangeFeedResponse.DateRange> ranges = new ArrayList<>();
+        for (TodoChange change : changes) {
+            if (change.getTodoId() != null) {
+                todoIds.add(change.getTodoId());
+            } else {
+                ranges.add(TodoChangeFeedResponse.DateRange.builder()
+                        .startDate(change.getRangeStart())
+                        .endDate(change.getRangeEnd())
+                        .build());
+            }
+        }
+
+        List<TodoSummaryResponse> upserted = todoIds.isEmpty()
+                ? List.of()
+                : TodoViewAssembler.fromRows(todoRepository.findCalendarRowsByIds(mentee.getId(), todoIds)).stream()
+                        .map(TodoSummaryResponse::from)
+                        .toList();
+        // 변경 기록은 있는데 조회되지 않으면 삭제된 Todo
+        Set<Long> deleted = new LinkedHashSet<>(todoIds);
+        upserted.forEach(todo -> deleted.remove(todo.getTodoId()));
+
+        return TodoChangeFeedResponse.builder()
+                .cursor(changes.isEmpty() ? cursor : changes.get(changes.size() - 1).getChangeSeq())
+                .fullResync(false)
+                .hasMore(hasMore)
+                .upserted(upserted)
+                .deletedTodoIds(new ArrayList<>(deleted))
+                .resyncRanges(ranges)
+                .build();
+    }
+
+    // 멘티 생성 시 변경 커서 생성 (첫 변경에서 동시에 만들다 PK 충돌로 변경 트랜잭션이 롤백되지 않도록)
+    @Transactional
+    public void openCursor(Long menteeId) {
+        cursorRepository.save(new TodoChangeCursor(menteeId, 0));
+    }
+
+    /**
+     * before 이전 변경 기록을 정리한다. 그보다 오래된 커서는 이후 fullResync 응답을 받는다.
+     * @return 삭제된 변경 기록 수
+     */
+    @Transactional
+    public int prune(LocalDateTime before) {
+        cursorRepository.markPrunedBefore(before);
+        return changeRepository.deleteChangedBefore(before);
+    }
+}
@@ -0,0 +1,10 @@
+package com.momen.application.planner;
+
+import java.time.LocalDate;
+
+/**
+ * 멘티의 캘린더에 보이는 Todo 데이터(Todo, 학습자료, 피드백, 제출물)가 변경되었음을 알리는 이벤트.
+ * startDate ~ endDate 는 변경의 영향을 받는 날짜 범위이다.
+ */
+public record TodoChangedEvent(Long menteeId, Long todoId, LocalDate startDate, LocalDate endDate) {
+}
@@ -0,0 +1,87 @@
+package com.momen.application.planner;
+
+import com.momen.application.planner.dto.BackfillStatusResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 기존 todos 데이터에 대한 날짜 버킷 백필 작업.
+ * 요청 스레드에서 전체 테이블을 처리하지 않도록 백그라운드에서 실행하고, 진행 상태는 status()로 조회한다.
+ * 페이지마다 별도 트랜잭션으로 처리하여 대용량 테이블에서도 락/언두 로그가 커지지 않도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoDayBucketBackfillJob {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final TodoDayBucketService todoDayBucketService;
+    private final AsyncTaskExecutor asyncTaskExecutor;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile long processed;
+    private volatile Long lastTodoId;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    /**
+     * 백필을 백그라운드에서 시작한다. 이미 실행 중이면 새로 시작하지 않고 현재 상태를 반환한다.
+     */
+    public BackfillStatusResponse start() {
+        if (!running.compareAndSet(false, true)) {
+            return status();
+        }
+        processed = 0;
+        lastTodoId = 0L;
+        startedAt = LocalDateTime.now();
+        finishedAt = null;
+        error = null;
+        try {
+            asyncTaskExecutor.execute(this::run);
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        return status();
+    }
+
+    public BackfillStatusResponse status() {
+        return BackfillStatusResponse.builder()
+                .running(running.get())
+                .processed(processed)
+                .lastTodoId(lastTodoId)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .error(error)
+                .build();
+    }
+
+    void run() {
+        try {
+            while (true) {
+                List<Long> todoIds = todoDayBucketService.backfillPage(lastTodoId, PAGE_SIZE);
+                if (todoIds.isEmpty()) {
+                    break;
+                }
+                processed += todoIds.size();
+                lastTodoId = todoIds.get(todoIds.size() - 1);
+                log.info("Todo day bucket backfill progress - processed={}, lastTodoId={}", processed, lastTodoId);
+            }
+            log.info("Todo day bucket backfill finished - processed={}", processed);
+        } catch (Exception e) {
+            error = e.getMessage();
+            log.error("Todo day bucket backfill failed - processed={}, lastTodoId={}", processed, lastTodoId, e);
+        } finally {
+            finishedAt = LocalDateTime.now();
+            running.set(false);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.momen.application.planner;
+
+import com.momen.domain.planner.Todo;
+import com.momen.domain.planner.TodoDayBucket;
+import com.momen.infrastructure.jpa.planner.TodoDayBucketRepository;
+import com.momen.infrastructure.jpa.planner.TodoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Todo 날짜 버킷 인덱스 유지 서비스.
+ * Todo 생성/수정/삭제와 같은 트랜잭션에서 호출되어야 한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TodoDayBucketService {
+
+    private final TodoDayBucketRepository bucketRepository;
+    private final TodoRepository todoRepository;
+
+    // 신규 Todo의 날짜 버킷 생성
+    public void index(Todo todo) {
+        bucketRepository.insertAll(toBuckets(todo));
+    }
+
+    // 기간이 바뀐 Todo의 날짜 버킷 재생성
+    public void reindex(Todo todo) {
+        bucketRepository.deleteByTodoId(todo.getId());
+        index(todo);
+    }
+
+    // 삭제되는 Todo의 날짜 버킷 제거
+    public void remove(Long todoId) {
+        bucketRepository.deleteByTodoId(todoId);
+    }
+
+    // 일괄 삭제되는 반복 할일 발생일 Todo의 날짜 버킷 제거
+    public int removeSeriesOccurrencesFrom(Long seriesId, LocalDate fromDate) {
+        return bucketRepository.deleteBySeriesOccurrencesFrom(seriesId, fromDate);
+    }
+
+    /**
+     * 기존 Todo에 대한 날짜 버킷 백필 (한 페이지).
+     * 이미 버킷이 있는 Todo도 지우고 다시 만들기 때문에 여러 번 실행해도 안전하다.
+     * @return 이번 페이지에서 처리한 todoId 목록 (id 오름차순), 더 처리할 Todo가 없으면 빈 목록
+     */
+    public List<Long> backfillPage(Long lastTodoId, int pageSize) {
+        List<Todo> todos = todoRepository.findByIdGreaterThanOrderByIdAsc(lastTodoId, PageRequest.of(0, pageSize));
+        if (todos.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> todoIds = todos.stream().map(Todo::getId).toList();
+        bucketRepository.deleteByTodoIdIn(todoIds);
+
+        List<TodoDayBucket> buckets = new ArrayList<>();
+        for (Todo todo : todos) {
+            buckets.addAll(toBuckets(todo));
+        }
+        bucketRepository.insertAll(buckets);
+
+        return todoIds;
+    }
+
+    private List<TodoDayBucket> toBuckets(Todo todo) {
+        Long menteeId = todo.getMentee().getId();
+        List<TodoDayBucket> buckets = new ArrayList<>();
+        for (LocalDate d = todo.getStartDate(); !d.isAfter(todo.getEndDate()); d = d.plusDays(1)) {
+            buckets.add(new TodoDayBucket(menteeId, d, todo.getId()));
+        }
+        return buckets;
+    }
+}
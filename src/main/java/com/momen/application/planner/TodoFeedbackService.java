@@ -17,16 +17,22 @@ import com.momen.infrastructure.jpa.planner.SubmissionFileRepository;
 import com.momen.infrastructure.jpa.planner.TodoFeedbackRepository;
 import com.momen.infrastructure.jpa.planner.TodoRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoFeedbackService {
 
+    static final int MAX_BATCH_SIZE = 100;
+
     private final TodoFeedbackRepository todoFeedbackRepository;
     private final TodoRepository todoRepository;
     private final MentorRepository mentorRepository;
@@ -34,6 +40,7 @@ public class TodoFeedbackService {
     private final AssignmentSubmissionRepository submissionRepository;
     private final SubmissionFileRepository fileRepository;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 멘토: Todo 피드백 작성/수정
     @Transactional
@@ -48,6 +55,8 @@ public class TodoFeedbackService {
                 .orElseGet(() -> todoFeedbackRepository.save(new TodoFeedback(todo)));
 
         feedback.updateByMentor(request.getMentorComment(), request.getAnswer());
+        eventPublisher.publishEvent(new TodoChangedEvent(
+                todo.getMentee().getId(), todoId, todo.getStartDate(), todo.getEndDate()));
 
         // 멘티에게 피드백 알림 전송
         User menteeUser = todo.getMentee().getUser();
@@ -74,6 +83,8 @@ public class TodoFeedbackService {
                 .orElseThrow(() -> new IllegalArgumentException("Feedback not found"));
 
         feedback.updateQuestionByMentee(question);
+        eventPublisher.publishEvent(new TodoChangedEvent(
+                mentee.getId(), todoId, todo.getStartDate(), todo.getEndDate()));
         return buildResponseWithSubmission(feedback, todoId);
     }
 
@@ -84,6 +95,46 @@ public class TodoFeedbackService {
                 .orElse(null);
     }
 
+    /**
+     * 여러 Todo 피드백을 제출물/파일과 함께 일괄 조회 (주간 검토 화면용).
+     * Todo 수와 무관하게 피드백, 제출물, 파일을 각각 한 번씩 조회하며, 피드백이 없는 Todo는 제외한다.
+     * 요청자 본인(멘티) 또는 담당 멘티(멘토)의 Todo가 아닌 ID도 제외한다.
+     */
+    public List<TodoFeedbackResponse> getFeedbacks(Long userId, List<Long> todoIds) {
+        if (todoIds == null || todoIds.isEmpty()) {
+            return List.of();
+        }
+        if (todoIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 Todo는 최대 " + MAX_BATCH_SIZE + "개입니다");
+        }
+
+        Map<Long, TodoFeedback> feedbacks = todoFeedbackRepository.findAccessibleByTodoIdIn(userId, todoIds).stream()
+                .collect(Collectors.toMap(feedback -> feedback.getTodo().getId(), Function.identity()));
+        if (feedbacks.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, AssignmentSubmission> submissions = submissionRepository.findByTodoIdIn(feedbacks.keySet()).stream()
+                .collect(Collectors.toMap(submission -> submission.getTodo().getId(), Function.identity()));
+        Map<Long, List<SubmissionFile>> files = submissions.isEmpty()
+                ? Map.of()
+                : fileRepository.findBySubmissionIdIn(submissions.values().stream().map(AssignmentSubmission::getId).toList())
+                        .stream()
+                        .collect(Collectors.groupingBy(file -> file.getSubmission().getId()));
+
+        // 요청한 Todo 순서대로 반환
+        return todoIds.stream()
+                .distinct()
+                .filter(feedbacks::containsKey)
+                .map(todoId -> {
+                    AssignmentSubmission submission = submissions.get(todoId);
+                    List<SubmissionFile> submissionFiles = submission != null
+                            ? files.getOrDefault(submission.getId(), List.of())
+                            : List.of();
+                    return TodoFeedbackResponse.from(feedbacks.get(todoId), submission, submissionFiles);
+                })
+                .toList();
+    }
+
     private TodoFeedbackResponse buildResponseWithSubmission(TodoFeedback feedback, Long todoId) {
         AssignmentSubmission submission = submissionRepository.findByTodoId(todoId).orElse(null);
         List<SubmissionFile> files = submission != null
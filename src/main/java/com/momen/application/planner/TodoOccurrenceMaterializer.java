@@ -0,0 +1,51 @@
+package com.momen.application.planner;
+
+import com.momen.domain.planner.Todo;
+import com.momen.domain.planner.TodoSeries;
+import com.momen.infrastructure.jpa.planner.TodoRepository;
+import com.momen.infrastructure.jpa.planner.TodoSeriesRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 반복 할일 발생일 Todo INSERT.
+ * 동시 요청이 (series_id, occurrence_date) 유니크 제약에 걸려도 호출한 트랜잭션이 깨지지 않도록
+ * 별도 트랜잭션에서 INSERT 하고, 먼저 커밋된 Todo는 새 트랜잭션에서 다시 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TodoOccurrenceMaterializer {
+
+    private final TodoSeriesRepository seriesRepository;
+    private final TodoRepository todoRepository;
+    private final TodoDayBucketService todoDayBucketService;
+    private final StudyTimeRollupService studyTimeRollupService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 유니크 제약 위반 시 DataIntegrityViolationException (flush 시점에 발생하도록 saveAndFlush)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Long insert(Long seriesId, LocalDate date) {
+        TodoSeries series = seriesRepository.findById(seriesId)
+                .orElseThrow(() -> new IllegalArgumentException("Series not found"));
+
+        // 자료는 복사하지 않고 시리즈의 자료 묶음을 참조
+        Todo todo = todoRepository.saveAndFlush(new Todo(series, date));
+        todoDayBucketService.index(todo);
+        studyTimeRollupService.onMaterialized(todo);
+
+        eventPublisher.publishEvent(new TodoChangedEvent(series.getMentee().getId(), todo.getId(), date, date));
+        return todo.getId();
+    }
+
+    // 호출한 트랜잭션의 스냅샷에는 다른 요청이 커밋한 행이 보이지 않으므로 새 트랜잭션에서 조회
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public Optional<Long> findExisting(Long seriesId, LocalDate date) {
+        return todoRepository.findBySeriesIdAndOccurrenceDate(seriesId, date).map(Todo::getId);
+    }
+}
@@ -0,0 +1,364 @@
+package com.momen.application.planner;
+
+import com.momen.application.planner.dto.TodoCreateRequest;
+import com.momen.application.planner.dto.TodoSeriesBulkResponse;
+import com.momen.application.planner.dto.TodoUpdateRequest;
+import com.momen.domain.mentoring.Mentee;
+import com.momen.domain.mentoring.Mentor;
+import com.momen.domain.planner.*;
+import com.momen.infrastructure.jpa.mentoring.ChatLogRepository;
+import com.momen.infrastructure.jpa.mentoring.MenteeRepository;
+import com.momen.infrastructure.jpa.mentoring.MentorRepository;
+import com.momen.infrastructure.jpa.planner.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 반복 할일(TodoSeries) 서비스.
+ * 발생일은 조회 시점에 펼치고, 완료/제출/피드백이 필요할 때만 Todo 행으로 생성한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TodoSeriesService {
+
+    private final TodoSeriesRepository seriesRepository;
+    private final TodoRepository todoRepository;
+    private final TodoFeedbackRepository feedbackRepository;
+    private final MentorReviewItemRepository reviewItemRepository;
+    private final AssignmentSubmissionRepository submissionRepository;
+    private final SubmissionFileRepository submissionFileRepository;
+    private final MistakeNoteRepository mistakeNoteRepository;
+    private final ChatLogRepository chatLogRepository;
+    private final MenteeRepository menteeRepository;
+    private final MentorRepository mentorRepository;
+    private final TodoDayBucketService todoDayBucketService;
+    private final MaterialSetService materialSetService;
+    private final StudyTimeRollupService studyTimeRollupService;
+    private final MenteeMypageAggregateRepository mypageAggregateRepository;
+    private final TodoOccurrenceMaterializer occurrenceMaterializer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 반복 할일 생성 (규칙 1건 + 자료)
+    @Transactional
+    public Long createSeries(Mentee mentee, Long createdByUserId, CreatorType creatorType, TodoCreateRequest request) {
+        Set<DayOfWeek> dayOfWeeks = request.getRepeatDays().stream()
+                .map(String::trim)
+                .map(String::toUpperCase)
+                .map(DayOfWeek::valueOf)
+                .collect(Collectors.toSet());
+
+        TodoSeries series = new TodoSeries(
+                mentee,
+                request.getTitle(),
+                request.getSubject(),
+                request.getGoalDescription(),
+                request.getStartDate(),
+                request.getEndDate(),
+                dayOfWeeks,
+                createdByUserId,
+                creatorType
+        );
+        series.changeMaterialSet(materialSetService.create(request.getMaterials()));
+        seriesRepository.save(series);
+        // 가상 발생일이 추가되므로 마이페이지 집계는 다음 조회 때 다시 계산
+        mypageAggregateRepository.markStale(mentee.getId());
+
+        eventPublisher.publishEvent(new TodoChangedEvent(mentee.getId(), null, series.getStartDate(), series.getEndDate()));
+        return series.getId();
+    }
+
+    // 기간 내 아직 Todo로 생성되지 않은 발생일 목록
+    public List<TodoSeriesOccurrence> expand(Long menteeId, LocalDate startDate, LocalDate endDate, List<String> subjects) {
+        List<TodoSeries> seriesList = subjects != null && !subjects.isEmpty()
+                ? seriesRepository.findOverlappingBySubjects(menteeId, startDate, endDate, subjects)
+                : seriesRepository.findOverlapping(menteeId, startDate, endDate);
+        if (seriesList.isEmpty()) {
+            return List.of();
+        }
+
+        // 시리즈들이 참조하는 자료 묶음을 한 번에 조회
+        Set<Long> materialSetIds = seriesList.stream()
+                .map(TodoSeries::getMaterialSet)
+                .filter(Objects::nonNull)
+                .map(MaterialSet::getId)
+                .collect(Collectors.toSet());
+
+        return expand(seriesList, startDate, endDate, materialSetService.findMaterialsBySetIds(materialSetIds));
+    }
+
+    // 기간 내 가상 발생일 (달력 점 표시용, 자료는 포함하지 않음)
+    public List<TodoSeriesOccurrence> expandWithoutMaterials(Long menteeId, LocalDate startDate, LocalDate endDate,
+                                                             List<String> subjects) {
+        List<TodoSeries> seriesList = subjects != null && !subjects.isEmpty()
+                ? seriesRepository.findOverlappingBySubjects(menteeId, startDate, endDate, subjects)
+                : seriesRepository.findOverlapping(menteeId, startDate, endDate);
+        if (seriesList.isEmpty()) {
+            return List.of();
+        }
+        return expand(seriesList, startDate, endDate, Map.of());
+    }
+
+    // 멘토 담당 멘티 전체의 가상 발생일 (대시보드용, 자료는 포함하지 않음)
+    public List<TodoSeriesOccurrence> expandForMentor(Long mentorId, LocalDate startDate, LocalDate endDate) {
+        List<TodoSeries> seriesList = seriesRepository.findOverlappingByMentor(mentorId, startDate, endDate);
+        if (seriesList.isEmpty()) {
+            return List.of();
+        }
+        return expand(seriesList, startDate, endDate, Map.of());
+    }
+
+    /**
+     * 해당 날짜 발생일 중 아직 Todo로 생성되지 않은 것 (= 미완료) - 미완료 알림용, 자료는 포함하지 않음.
+     * 매일 전날 하루만 조회하므로 시리즈 기간이 길어지거나 수가 늘어도 펼치는 범위는 하루로 고정된다.
+     */
+    public List<TodoSeriesOccurrence> findVirtualOccurrencesOn(LocalDate date) {
+        List<TodoSeries> seriesList = seriesRepository.findActiveOnWithMenteeAndUser(date);
+        if (seriesList.isEmpty()) {
+            return List.of();
+        }
+        return expand(seriesList, date, date, Map.of());
+    }
+
+    // 발생일 Todo 생성 (멘티용) - 이미 생성된 경우 기존 todoId 반환
+    @Transactional
+    public Long materializeByMentee(Long userId, Long seriesId, LocalDate date) {
+        Mentee mentee = menteeRepository.findByUserId(userId)
+                .orElseThrow(() -> new IllegalArgumentException("Mentee not found"));
+
+        TodoSeries series = seriesRepository.findById(seriesId)
+                .orElseThrow(() -> new IllegalArgumentException("Series not found"));
+
+        if (!series.getMentee().getId().equals(mentee.getId())) {
+            throw new IllegalArgumentException("접근 권한이 없습니다");
+        }
+        return materialize(series, date);
+    }
+
+    // 발생일 Todo 생성 (멘토용) - 이미 생성된 경우 기존 todoId 반환
+    @Transactional
+    public Long materializeByMentor(Long mentorUserId, Long menteeId, Long seriesId, LocalDate date) {
+        Mentor mentor = mentorRepository.findByUserId(mentorUserId)
+                .orElseThrow(() -> new IllegalArgumentException("Mentor not found"));
+
+        TodoSeries series = seriesRepository.findById(seriesId)
+                .orElseThrow(() -> new IllegalArgumentException("Series not found"));
+
+        // 경로의 멘티가 시리즈의 멘티이고, 해당 멘티가 이 멘토의 담당 멘티인지 확인
+        Mentee mentee = series.getMentee();
+        if (!mentee.getId().equals(menteeId)
+                || mentee.getMentor() == null || !mentee.getMentor().getId().equals(mentor.getId())) {
+            throw new IllegalArgumentException("해당 멘티는 담당 멘티가 아닙니다");
+        }
+        return materialize(series, date);
+    }
+
+    // 반복 할일 일괄 수정 (멘토용 - 멘토가 생성한 반복 할일만)
+    @Transactional
+    public TodoSeriesBulkResponse updateSeriesByMentor(Long mentorUserId, Long seriesId, SeriesEditScope scope,
+                                                       LocalDate from, TodoUpdateRequest request) {
+        mentorRepository.findByUserId(mentorUserId)
+                .orElseThrow(() -> new IllegalArgumentException("Mentor not found"));
+
+        TodoSeries series = seriesRepository.findById(seriesId)
+                .orElseThrow(() -> new IllegalArgumentException("Series not found"));
+
+        if (series.getCreatorType() != CreatorType.MENTOR) {
+            throw new IllegalArgumentException("멘토가 생성한 할일만 수정할 수 있습니다");
+        }
+        return updateSeries(series, scope, from, request);
+    }
+
+    // 반복 할일 일괄 삭제 (멘토용 - 멘토가 생성한 반복 할일만)
+    @Transactional
+    public TodoSeriesBulkResponse deleteSeriesByMentor(Long mentorUserId, Long seriesId, SeriesEditScope scope, LocalDate from) {
+        mentorRepository.findByUserId(mentorUserId)
+                .orElseThrow(() -> new IllegalArgumentException("Mentor not found"));
+
+        TodoSeries series = seriesRepository.findById(seriesId)
+                .orElseThrow(() -> new IllegalArgumentException("Series not found"));
+
+        if (series.getCreatorType() != CreatorType.MENTOR) {
+            throw new IllegalArgumentException("멘토가 생성한 할일만 삭제할 수 있습니다");
+        }
+        return deleteSeries(series, scope, from);
+    }
+
+    // 반복 할일 일괄 수정 (멘티용 - 멘티가 생성한 반복 할일만)
+    @Transactional
+    public TodoSeriesBulkResponse updateSeriesByMentee(Long userId, Long seriesId, SeriesEditScope scope,
+                                                       LocalDate from, TodoUpdateRequest request) {
+        TodoSeries series = findMenteeSeries(userId, seriesId);
+        if (series.getCreatorType() != CreatorType.MENTEE) {
+            throw new IllegalArgumentException("멘티가 생성한 할일만 수정할 수 있습니다");
+        }
+        return updateSeries(series, scope, from, request);
+    }
+
+    // 반복 할일 일괄 삭제 (멘티용 - 멘티가 생성한 반복 할일만)
+    @Transactional
+    public TodoSeriesBulkResponse deleteSeriesByMentee(Long userId, Long seriesId, SeriesEditScope scope, LocalDate from) {
+        TodoSeries series = findMenteeSeries(userId, seriesId);
+        if (series.getCreatorType() != CreatorType.MENTEE) {
+            throw new IllegalArgumentException("멘티가 생성한 할일만 삭제할 수 있습니다");
+        }
+        return deleteSeries(series, scope, from);
+    }
+
+    private TodoSeries findMenteeSeries(Long userId, Long seriesId) {
+        Mentee mentee = menteeRepository.findByUserId(userId)
+                .orElseThrow(() -> new IllegalArgumentException("Mentee not found"));
+
+        TodoSeries series = seriesRepository.findById(seriesId)
+                .orElseThrow(() -> new IllegalArgumentException("Series not found"));
+
+        if (!series.getMentee().getId().equals(mentee.getId())) {
+            throw new IllegalArgumentException("접근 권한이 없습니다");
+        }
+        return series;
+    }
+
+    private TodoSeriesBulkResponse updateSeries(TodoSeries series, SeriesEditScope scope, LocalDate from, TodoUpdateRequest request) {
+        LocalDate fromDate = resolveFromDate(series, scope, from);
+        LocalDate endDate = series.getEndDate();
+
+        // from이 시작일 이후면 from부터 새 시리즈로 분리, 아니면 시리즈 전체 수정
+        boolean split = fromDate.isAfter(series.getStartDate());
+        TodoSeries target = series;
+        int affectedTodos = 0;
+        if (split) {
+            // 새 시리즈는 기존 자료 묶음을 그대로 공유
+            target = seriesRepository.save(series.splitFrom(fromDate));
+            affectedTodos = todoRepository.moveSeriesOccurrencesFrom(series.getId(), fromDate, target);
+        }
+
+        if (request.getTitle() != null) {
+            target.updateContent(request.getTitle(), request.getSubject(), request.getGoalDescription());
+            affectedTodos = todoRepository.updateSeriesOccurrencesFrom(
+                    target.getId(), fromDate, request.getTitle(), request.getSubject(), request.getGoalDescription());
+            // 과목이 바뀌었을 수 있으므로 해당 기간 학습 집계 재생성
+            studyTimeRollupService.rebuild(series.getMentee().getId(), fromDate, endDate);
+        }
+
+        int deletedMaterials = 0;
+        if (request.getMaterials() != null) {
+            // 새 자료 묶음 1개를 시리즈와 이미 생성된 발생일 Todo가 함께 참조
+            Set<Long> oldMaterialSetIds = new HashSet<>(
+                    todoRepository.findMaterialSetIdsBySeriesOccurrencesFrom(target.getId(), fromDate));
+            if (target.getMaterialSet() != null) {
+                oldMaterialSetIds.add(target.getMaterialSet().getId());
+            }
+            MaterialSet materialSet = materialSetService.create(request.getMaterials());
+            target.changeMaterialSet(materialSet);
+            todoRepository.updateSeriesOccurrencesMaterialSetFrom(target.getId(), fromDate, materialSet);
+            deletedMaterials = materialSetService.release(oldMaterialSetIds);
+        }
+
+        eventPublisher.publishEvent(new TodoChangedEvent(series.getMentee().getId(), null, fromDate, endDate));
+        return TodoSeriesBulkResponse.builder()
+                .seriesId(target.getId())
+                .affectedTodos(affectedTodos)
+                .deletedMaterials(deletedMaterials)
+                .build();
+    }
+
+    private TodoSeriesBulkResponse deleteSeries(TodoSeries series, SeriesEditScope scope, LocalDate from) {
+        LocalDate fromDate = resolveFromDate(series, scope, from);
+        LocalDate endDate = series.getEndDate();
+        Long seriesId = series.getId();
+
+        // 이미 생성된 발생일 Todo와 연관 데이터 일괄 삭제 (자료 묶음은 참조가 없어진 뒤 정리)
+        Set<Long> materialSetIds = new HashSet<>(todoRepository.findMaterialSetIdsBySeriesOccurrencesFrom(seriesId, fromDate));
+        mistakeNoteRepository.detachSeriesOccurrencesFrom(seriesId, fromDate);
+        chatLogRepository.detachSeriesOccurrencesFrom(seriesId, fromDate);
+        submissionFileRepository.deleteBySeriesOccurrencesFrom(seriesId, fromDate);
+        int deletedSubmissions = submissionRepository.deleteBySeriesOccurrencesFrom(seriesId, fromDate);
+        int deletedFeedbacks = feedbackRepository.deleteBySeriesOccurrencesFrom(seriesId, fromDate);
+        reviewItemRepository.deleteBySeriesOccurrencesFrom(seriesId, fromDate);
+        todoDayBucketService.removeSeriesOccurrencesFrom(seriesId, fromDate);
+        int deletedTodos = todoRepository.deleteBySeriesOccurrencesFrom(seriesId, fromDate);
+        studyTimeRollupService.rebuild(series.getMentee().getId(), fromDate, endDate);
+
+        boolean deleteAll = !fromDate.isAfter(series.getStartDate());
+        if (deleteAll) {
+            if (series.getMaterialSet() != null) {
+                materialSetIds.add(series.getMaterialSet().getId());
+            }
+            seriesRepository.delete(series);
+        } else {
+            series.endAt(fromDate.minusDays(1));
+        }
+        int deletedMaterials = materialSetService.release(materialSetIds);
+
+        eventPublisher.publishEvent(new TodoChangedEvent(series.getMentee().getId(), null, fromDate, endDate));
+        return TodoSeriesBulkResponse.builder()
+                .seriesId(deleteAll ? null : seriesId)
+                .affectedTodos(deletedTodos)
+                .deletedMaterials(deletedMaterials)
+                .deletedFeedbacks(deletedFeedbacks)
+                .deletedSubmissions(deletedSubmissions)
+                .build();
+    }
+
+    // 일괄 처리 시작일 (ALL이면 시리즈 시작일, THIS_AND_FOLLOWING이면 from)
+    private LocalDate resolveFromDate(TodoSeries series, SeriesEditScope scope, LocalDate from) {
+        if (scope == SeriesEditScope.ALL) {
+            return series.getStartDate();
+        }
+        if (from == null) {
+            throw new IllegalArgumentException("THIS_AND_FOLLOWING 범위는 from 날짜가 필요합니다");
+        }
+        if (from.isAfter(series.getEndDate())) {
+            throw new IllegalArgumentException("반복 기간을 벗어난 날짜입니다: " + from);
+        }
+        return from.isAfter(series.getStartDate()) ? from : series.getStartDate();
+    }
+
+    private Long materialize(TodoSeries series, LocalDate date) {
+        Optional<Todo> existing = todoRepository.findBySeriesIdAndOccurrenceDate(series.getId(), date);
+        if (existing.isPresent()) {
+            return existing.get().getId();
+        }
+        if (!series.occursOn(date)) {
+            throw new IllegalArgumentException("반복 일정의 발생일이 아닙니다: " + date);
+        }
+
+        try {
+            return occurrenceMaterializer.insert(series.getId(), date);
+        } catch (DataIntegrityViolationException e) {
+            // 동시 요청이 먼저 생성함 ((series_id, occurrence_date) 유니크 제약) -> 기존 todoId 반환
+            return occurrenceMaterializer.findExisting(series.getId(), date)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    private List<TodoSeriesOccurrence> expand(List<TodoSeries> seriesList, LocalDate startDate, LocalDate endDate,
+                                              Map<Long, List<AssignmentMaterial>> materialsBySetId) {
+        List<Long> seriesIds = seriesList.stream().map(TodoSeries::getId).toList();
+        Set<SeriesOccurrenceKey> materialized = new HashSet<>(todoRepository.findOccurrenceKeys(seriesIds, startDate, endDate));
+
+        List<TodoSeriesOccurrence> occurrences = new ArrayList<>();
+        for (TodoSeries series : seriesList) {
+            LocalDate from = series.getStartDate().isAfter(startDate) ? series.getStartDate() : startDate;
+            LocalDate to = series.getEndDate().isBefore(endDate) ? series.getEndDate() : endDate;
+            List<AssignmentMaterial> materials = series.getMaterialSet() != null
+                    ? materialsBySetId.getOrDefault(series.getMaterialSet().getId(), List.of())
+                    : List.of();
+
+            for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
+                if (series.occursOn(d) && !materialized.contains(new SeriesOccurrenceKey(series.getId(), d))) {
+                    occurrences.add(new TodoSeriesOccurrence(series, d, materials));
+                }
+            }
+        }
+        return occurrences;
+    }
+}
@@ -5,17 +5,21 @@ import com.momen.domain.mentoring.Mentee;
 import com.momen.domain.mentoring.Mentor;
 import com.momen.domain.planner.AssignmentMaterial;
 import com.momen.domain.planner.CreatorType;
+import com.momen.domain.planner.MaterialSet;
 import com.momen.domain.planner.Todo;
+import com.momen.domain.planner.TodoSeriesOccurrence;
 import com.momen.infrastructure.jpa.mentoring.MenteeRepository;
+import com.momen.infrastructure.jpa.mentoring.MenteeRosterRow;
 import com.momen.infrastructure.jpa.mentoring.MentorRepository;
-import com.momen.infrastructure.jpa.planner.AssignmentMaterialRepository;
-import com.momen.infrastructure.jpa.planner.TodoFeedbackRepository;
+import com.momen.infrastructure.jpa.planner.MentorWeekTodoRow;
+import com.momen.infrastructure.jpa.planner.StudyTimeAggregate;
+import com.momen.infrastructure.jpa.planner.TodoCalendarRow;
 import com.momen.infrastructure.jpa.planner.TodoRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.*;
@@ -27,16 +31,20 @@ import java.util.stream.Collectors;
 public class TodoService {
 
     private final TodoRepository todoRepository;
-    private final AssignmentMaterialRepository materialRepository;
-    private final TodoFeedbackRepository feedbackRepository;
     private final MenteeRepository menteeRepository;
     private final MentorRepository mentorRepository;
+    private final TodoDayBucketService todoDayBucketService;
+    private final MaterialSetService materialSetService;
+    private final StudyTimeRollupService studyTimeRollupService;
+    private final TodoSeriesService todoSeriesService;
+    private final TodoCalendarCache todoCalendarCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ==================== 멘토용 API ====================
 
     // Todo 생성 (단건 or 반복)
     @Transactional
-    public List<Long> createTodo(Long mentorUserId, Long menteeId, TodoCreateRequest request) {
+    public TodoCreateResponse createTodo(Long mentorUserId, Long menteeId, TodoCreateRequest request) {
         Mentor mentor = mentorRepository.findByUserId(mentorUserId)
                 .orElseThrow(() -> new IllegalArgumentException("Mentor not found"));
         Mentee mentee = menteeRepository.findById(menteeId)
@@ -47,69 +55,37 @@ public class TodoService {
             throw new IllegalArgumentException("멘티의 수강 과목이 아닙니다: " + request.getSubject());
         }
 
-        List<Long> createdIds = new ArrayList<>();
-
         if (request.getRepeatDays() != null && !request.getRepeatDays().isEmpty()) {
-            // 반복 일정 생성
-            createdIds.addAll(createRepeatingTodos(mentee, mentor.getUser().getId(), CreatorType.MENTOR, request));
-        } else {
-            // 단건 생성
-            Todo todo = new Todo(
-                    mentee,
-                    request.getTitle(),
-                    request.getSubject(),
-                    request.getGoalDescription(),
-                    request.getStartDate(),
-                    request.getEndDate(),
-                    mentor.getUser().getId(),
-                    CreatorType.MENTOR
-            );
-            todo = todoRepository.save(todo);
-            saveMaterials(todo, request.getMaterials());
-            createdIds.add(todo.getId());
+            // 반복 일정 생성 (시리즈 1건으로 저장, 발생일 Todo는 필요할 때 생성되므로 seriesId 반환)
+            Long seriesId = todoSeriesService.createSeries(mentee, mentor.getUser().getId(), CreatorType.MENTOR, request);
+            return TodoCreateResponse.ofSeries(seriesId);
         }
 
-        return createdIds;
-    }
-
-    private List<Long> createRepeatingTodos(Mentee mentee, Long createdByUserId, CreatorType creatorType, TodoCreateRequest request) {
-        Set<DayOfWeek> dayOfWeeks = request.getRepeatDays().stream()
-                .map(String::trim)
-                .map(String::toUpperCase)
-                .map(DayOfWeek::valueOf)
-                .collect(Collectors.toSet());
-
-        List<Long> ids = new ArrayList<>();
-
-        LocalDate current = request.getStartDate();
-        LocalDate end = request.getEndDate();
-
-        while (!current.isAfter(end)) {
-            if (dayOfWeeks.contains(current.getDayOfWeek())) {
-                Todo todo = new Todo(
-                        mentee,
-                        request.getTitle(),
-                        request.getSubject(),
-                        request.getGoalDescription(),
-                        current,
-                        current,
-                        createdByUserId,
-                        creatorType
-                );
-                todo = todoRepository.save(todo);
-                saveMaterials(todo, request.getMaterials());
-                ids.add(todo.getId());
-            }
-            current = current.plusDays(1);
-        }
-
-        return ids;
+        // 단건 생성
+        Todo todo = new Todo(
+                mentee,
+                request.getTitle(),
+                request.getSubject(),
+                request.getGoalDescription(),
+                request.getStartDate(),
+                request.getEndDate(),
+                mentor.getUser().getId(),
+                CreatorType.MENTOR
+        );
+        todo.changeMaterialSet(materialSetService.create(request.getMaterials()));
+        todo = todoRepository.save(todo);
+        todoDayBucketService.index(todo);
+        studyTimeRollupService.onCreated(todo);
+        publishTodoChanged(todo);
+        return TodoCreateResponse.ofTodo(todo.getId());
     }
 
-    private void saveMaterials(Todo todo, List<TodoCreateRequest.MaterialInfo> materials) {
-        if (materials == null || materials.isEmpty()) return;
-        for (TodoCreateRequest.MaterialInfo m : materials) {
-            materialRepository.save(new AssignmentMaterial(todo, m.getFileUrl(), m.getFileName()));
+    // 자료 변경 시 새 묶음으로 교체 (다른 Todo와 공유 중일 수 있으므로 기존 묶음은 수정하지 않음)
+    private void replaceMaterials(Todo todo, List<TodoUpdateRequest.MaterialInfo> materials) {
+        MaterialSet oldMaterialSet = todo.getMaterialSet();
+        todo.changeMaterialSet(materialSetService.create(materials));
+        if (oldMaterialSet != null) {
+            materialSetService.release(List.of(oldMaterialSet.getId()));
         }
     }
 
@@ -126,7 +102,13 @@ public class TodoService {
             throw new IllegalArgumentException("멘토가 생성한 할일만 수정할 수 있습니다");
         }
 
+        LocalDate oldStartDate = todo.getStartDate();
+        LocalDate oldEndDate = todo.getEndDate();
+        String oldSubject = todo.getSubject();
+
         if (request.getTitle() != null) {
+            boolean periodChanged = !todo.getStartDate().equals(request.getStartDate())
+                    || !todo.getEndDate().equals(request.getEndDate());
             todo.updateContent(
                     request.getTitle(),
                     request.getSubject(),
@@ -134,14 +116,19 @@ public class TodoService {
                     request.getStartDate(),
                     request.getEndDate()
             );
+            if (periodChanged) {
+                todoDayBucketService.reindex(todo);
+            }
+            studyTimeRollupService.onMoved(todo, oldStartDate, oldEndDate, oldSubject);
         }
 
         if (request.getMaterials() != null) {
-            materialRepository.deleteByTodoId(todoId);
-            for (TodoUpdateRequest.MaterialInfo m : request.getMaterials()) {
-                materialRepository.save(new AssignmentMaterial(todo, m.getFileUrl(), m.getFileName()));
-            }
+            replaceMaterials(todo, request.getMaterials());
         }
+
+        // 기간이 바뀐 경우 이전 기간의 캘린더 캐시도 무효화
+        publishTodoChanged(todo.getMentee().getId(), todoId, oldStartDate, oldEndDate);
+        publishTodoChanged(todo);
     }
 
     // Todo 삭제 (멘토용 - 멘토가 생성한 할일만)
@@ -157,8 +144,17 @@ public class TodoService {
             throw new IllegalArgumentException("멘토가 생성한 할일만 삭제할 수 있습니다");
         }
 
-        materialRepository.deleteByTodoId(todoId);
+        todoDayBucketService.remove(todoId);
+        studyTimeRollupService.onDeleted(todo);
+        if (todo.getSeries() != null) {
+            // 반복 할일 발생일은 삭제 후 다시 펼쳐지지 않도록 제외 날짜로 등록
+            todo.getSeries().exclude(todo.getOccurrenceDate());
+        }
         todoRepository.delete(todo);
+        if (todo.getMaterialSet() != null) {
+            materialSetService.release(List.of(todo.getMaterialSet().getId()));
+        }
+        publishTodoChanged(todo);
     }
 
     // Todo 확인 (멘토 확인 토글)
@@ -171,6 +167,7 @@ public class TodoService {
                 .orElseThrow(() -> new IllegalArgumentException("Todo not found"));
 
         todo.setMentorConfirmed(confirmed);
+        publishTodoChanged(todo);
     }
 
     // 멘티의 일별 Todo 조회 (멘토용)
@@ -178,10 +175,7 @@ public class TodoService {
         mentorRepository.findByUserId(mentorUserId)
                 .orElseThrow(() -> new IllegalArgumentException("Mentor not found"));
 
-        List<Todo> todos = hasSubjects(subjects)
-                ? todoRepository.findByMenteeIdAndDateAndSubjects(menteeId, date, subjects)
-                : todoRepository.findByMenteeIdAndDate(menteeId, date);
-        return toSummaryWithMaterials(todos);
+        return summaries(menteeId, date, date, subjects);
     }
 
     // 멘티의 월별 Todo 조회 (멘토용)
@@ -193,10 +187,8 @@ public class TodoService {
         LocalDate start = ym.atDay(1);
         LocalDate end = ym.atEndOfMonth();
 
-        List<Todo> todos = hasSubjects(subjects)
-                ? todoRepository.findByMenteeIdAndMonthAndSubjects(menteeId, start, end, subjects)
-                : todoRepository.findByMenteeIdAndMonth(menteeId, start, end);
-        return toSummaryWithMaterials(todos);
+        return todoCalendarCache.getOrLoad(TodoCalendarCache.VIEW_SUMMARY, menteeId, start, end, subjects,
+                TodoSummaryResponse.class, () -> summaries(menteeId, start, end, subjects));
     }
 
     // 멘티의 주별 Todo 조회 (멘토용)
@@ -205,10 +197,8 @@ public class TodoService {
                 .orElseThrow(() -> new IllegalArgumentException("Mentor not found"));
 
         LocalDate end = weekStartDate.plusDays(6);
-        List<Todo> todos = hasSubjects(subjects)
-                ? todoRepository.findByMenteeIdAndWeekAndSubjects(menteeId, weekStartDate, end, subjects)
-                : todoRepository.findByMenteeIdAndWeek(menteeId, weekStartDate, end);
-        return toSummaryWithMaterials(todos);
+        return todoCalendarCache.getOrLoad(TodoCalendarCache.VIEW_SUMMARY, menteeId, weekStartDate, end, subjects,
+                TodoSummaryResponse.class, () -> summaries(menteeId, weekStartDate, end, subjects));
     }
 
     // Todo 상세 조회
@@ -216,8 +206,41 @@ public class TodoService {
         Todo todo = todoRepository.findById(todoId)
                 .orElseThrow(() -> new IllegalArgumentException("Todo not found"));
 
-        List<AssignmentMaterial> materials = materialRepository.findByTodoId(todoId);
-        return TodoDetailResponse.from(todo, materials, false);
+        List<AssignmentMaterial> materials = materialSetService.findMaterials(todo.getMaterialSet());
+        return TodoDetailResponse.from(TodoViewAssembler.from(todo, materials, false));
+    }
+
+    /**
+     * 담당 멘티 전체의 주간 현황 (멘토 대시보드용).
+     * 멘티 수와 무관하게 멘토, 멘티 목록, 주간 Todo, 반복 할일, 생성된 발생일을 각각 한 번씩 조회한다.
+     */
+    public MentorWeekOverviewResponse getWeekOverviewForMentor(Long mentorUserId, LocalDate weekStartDate) {
+        Mentor mentor = mentorRepository.findByUserId(mentorUserId)
+                .orElseThrow(() -> new IllegalArgumentException("Mentor not found"));
+        LocalDate weekEnd = weekStartDate.plusDays(6);
+
+        Map<Long, List<MentorWeekOverviewResponse.TodoItem>> todosByMentee = new HashMap<>();
+        for (MentorWeekTodoRow row : todoRepository.findMentorWeekRows(mentor.getId(), weekStartDate, weekEnd)) {
+            todosByMentee.computeIfAbsent(row.menteeId(), k -> new ArrayList<>())
+                    .add(MentorWeekOverviewResponse.TodoItem.from(row));
+        }
+        for (TodoSeriesOccurrence occurrence : todoSeriesService.expandForMentor(mentor.getId(), weekStartDate, weekEnd)) {
+            todosByMentee.computeIfAbsent(occurrence.series().getMentee().getId(), k -> new ArrayList<>())
+                    .add(MentorWeekOverviewResponse.TodoItem.fromOccurrence(occurrence));
+        }
+
+        List<MentorWeekOverviewResponse.MenteeWeek> mentees = new ArrayList<>();
+        for (MenteeRosterRow mentee : menteeRepository.findRosterByMentorId(mentor.getId())) {
+            List<MentorWeekOverviewResponse.TodoItem> todos = todosByMentee.getOrDefault(mentee.menteeId(), new ArrayList<>());
+            todos.sort(Comparator.comparing(MentorWeekOverviewResponse.TodoItem::getStartDate));
+            mentees.add(MentorWeekOverviewResponse.MenteeWeek.of(mentee, todos));
+        }
+
+        return MentorWeekOverviewResponse.builder()
+                .weekStartDate(weekStartDate)
+                .weekEndDate(weekEnd)
+                .mentees(mentees)
+                .build();
     }
 
     // ==================== 멘티용 API ====================
@@ -227,10 +250,7 @@ public class TodoService {
         Mentee mentee = menteeRepository.findByUserId(userId)
                 .orElseThrow(() -> new IllegalArgumentException("Mentee not found"));
 
-        List<Todo> todos = hasSubjects(subjects)
-                ? todoRepository.findByMenteeIdAndDateAndSubjects(mentee.getId(), date, subjects)
-                : todoRepository.findByMenteeIdAndDate(mentee.getId(), date);
-        return toSummaryWithMaterials(todos);
+        return summaries(mentee.getId(), date, date, subjects);
     }
 
     // 본인 월별 Todo 조회
@@ -238,14 +258,16 @@ public class TodoService {
         Mentee mentee = menteeRepository.findByUserId(userId)
                 .orElseThrow(() -> new IllegalArgumentException("Mentee not found"));
 
-        YearMonth ym = YearMonth.parse(yearMonth);
-        LocalDate start = ym.atDay(1);
-        LocalDate end = ym.atEndOfMonth();
+        return getCalendarTodos(mentee.getId(), CalendarMonth.parse(yearMonth), subjects);
+    }
+
+    // 월 달력 Todo 조회 (캐시)
+    public List<TodoSummaryResponse> getCalendarTodos(Long menteeId, CalendarMonth month, List<String> subjects) {
+        LocalDate start = month.monthStart();
+        LocalDate end = month.monthEnd();
 
-        List<Todo> todos = hasSubjects(subjects)
-                ? todoRepository.findByMenteeIdAndMonthAndSubjects(mentee.getId(), start, end, subjects)
-                : todoRepository.findByMenteeIdAndMonth(mentee.getId(), start, end);
-        return toSummaryWithMaterials(todos);
+        return todoCalendarCache.getOrLoad(TodoCalendarCache.VIEW_SUMMARY, menteeId, start, end, subjects,
+                TodoSummaryResponse.class, () -> summaries(menteeId, start, end, subjects));
     }
 
     // 본인 주별 Todo 조회
@@ -255,10 +277,8 @@ public class TodoService {
 
         LocalDate weekEnd = weekStartDate.plusDays(6);
 
-        List<Todo> todos = hasSubjects(subjects)
-                ? todoRepository.findByMenteeIdAndWeekAndSubjects(mentee.getId(), weekStartDate, weekEnd, subjects)
-                : todoRepository.findByMenteeIdAndWeek(mentee.getId(), weekStartDate, weekEnd);
-        return toSummaryWithMaterials(todos);
+        return todoCalendarCache.getOrLoad(TodoCalendarCache.VIEW_SUMMARY, mentee.getId(), weekStartDate, weekEnd, subjects,
+                TodoSummaryResponse.class, () -> summaries(mentee.getId(), weekStartDate, weekEnd, subjects));
     }
 
     // 카드 UI용: 일별 Todo 배열 (진행상태, 학습지 포함)
@@ -266,21 +286,30 @@ public class TodoService {
         Mentee mentee = menteeRepository.findByUserId(userId)
                 .orElseThrow(() -> new IllegalArgumentException("Mentee not found"));
 
-        List<Todo> todos = hasSubjects(subjects)
-                ? todoRepository.findByMenteeIdAndDateAndSubjects(mentee.getId(), date, subjects)
-                : todoRepository.findByMenteeIdAndDate(mentee.getId(), date);
-        return toDetailResponseList(todos);
+        return getTodoCardsByDate(mentee.getId(), date, subjects);
+    }
+
+    // 카드 UI용: 멘티 일별 Todo 배열
+    public List<TodoDetailResponse> getTodoCardsByDate(Long menteeId, LocalDate date, List<String> subjects) {
+        return details(menteeId, date, date, subjects);
     }
 
     /** 당일(또는 지정 날짜) 학습 통계: 총 학습, 완료된 학습, 남은 학습. 홈 프로그레스바용 */
     public StudyDailyStatsResponse getDailyStats(Long userId, LocalDate date) {
-        Mentee mentee = menteeRepository.findByUserId(userId)
+        Long menteeId = menteeRepository.findIdByUserId(userId)
                 .orElseThrow(() -> new IllegalArgumentException("Mentee not found"));
 
-        List<Todo> todos = mentee.getSubjects().isEmpty()
-                ? todoRepository.findByMenteeIdAndDate(mentee.getId(), date)
-                : todoRepository.findByMenteeIdAndDateAndSubjects(mentee.getId(), date, mentee.getSubjects());
-        int total = todos.size();
+        return getDailyStats(menteeId, menteeRepository.findSubjectsByMenteeId(menteeId), date);
+    }
+
+    /** 멘티 일별 학습 통계 (menteeSubjects: 멘티 수강 과목, 비어 있으면 전체 과목) */
+    public StudyDailyStatsResponse getDailyStats(Long menteeId, List<String> menteeSubjects, LocalDate date) {
+        List<Todo> todos = menteeSubjects.isEmpty()
+                ? todoRepository.findByMenteeIdAndDate(menteeId, date)
+                : todoRepository.findByMenteeIdAndDateAndSubjects(menteeId, date, menteeSubjects);
+        // 아직 생성되지 않은 반복 할일 발생일은 미완료로 집계
+        int virtualCount = todoSeriesService.expand(menteeId, date, date, menteeSubjects).size();
+        int total = todos.size() + virtualCount;
         int completed = (int) todos.stream().filter(t -> Boolean.TRUE.equals(t.getIsCompleted())).count();
         int remaining = total - completed;
         int rate = total > 0 ? (int) Math.round((double) completed / total * 100.0) : 0;
@@ -303,29 +332,13 @@ public class TodoService {
         YearMonth ym = YearMonth.parse(yearMonth);
         LocalDate start = ym.atDay(1);
         LocalDate end = ym.atEndOfMonth();
-        List<Todo> todos = hasSubjects(subjects)
-                ? todoRepository.findByMenteeIdAndMonthAndSubjects(mentee.getId(), start, end, subjects)
-                : todoRepository.findByMenteeIdAndMonth(mentee.getId(), start, end);
-        return toDetailResponseList(todos);
-    }
-
-    private List<TodoDetailResponse> toDetailResponseList(List<Todo> todos) {
-        if (todos.isEmpty()) {
-            return List.of();
-        }
-        List<Long> todoIds = todos.stream().map(Todo::getId).toList();
-        List<AssignmentMaterial> allMaterials = materialRepository.findByTodoIdIn(todoIds);
-        Map<Long, List<AssignmentMaterial>> materialsByTodoId = allMaterials.stream()
-                .collect(Collectors.groupingBy(m -> m.getTodo().getId()));
-
-        return todos.stream()
-                .map(todo -> TodoDetailResponse.from(todo, materialsByTodoId.getOrDefault(todo.getId(), List.of()), false))
-                .collect(Collectors.toList());
+        return todoCalendarCache.getOrLoad(TodoCalendarCache.VIEW_CARDS, mentee.getId(), start, end, subjects,
+                TodoDetailResponse.class, () -> details(mentee.getId(), start, end, subjects));
     }
 
     // Todo 생성 (멘티용)
     @Transactional
-    public List<Long> createTodoByMentee(Long userId, TodoCreateRequest request) {
+    public TodoCreateResponse createTodoByMentee(Long userId, TodoCreateRequest request) {
         Mentee mentee = menteeRepository.findByUserId(userId)
                 .orElseThrow(() -> new IllegalArgumentException("Mentee not found"));
 
@@ -334,27 +347,27 @@ public class TodoService {
             throw new IllegalArgumentException("수강 과목이 아닙니다: " + request.getSubject());
         }
 
-        List<Long> createdIds = new ArrayList<>();
-
         if (request.getRepeatDays() != null && !request.getRepeatDays().isEmpty()) {
-            createdIds.addAll(createRepeatingTodos(mentee, userId, CreatorType.MENTEE, request));
-        } else {
-            Todo todo = new Todo(
-                    mentee,
-                    request.getTitle(),
-                    request.getSubject(),
-                    request.getGoalDescription(),
-                    request.getStartDate(),
-                    request.getEndDate(),
-                    userId,
-                    CreatorType.MENTEE
-            );
-            todo = todoRepository.save(todo);
-            saveMaterials(todo, request.getMaterials());
-            createdIds.add(todo.getId());
+            Long seriesId = todoSeriesService.createSeries(mentee, userId, CreatorType.MENTEE, request);
+            return TodoCreateResponse.ofSeries(seriesId);
         }
 
-        return createdIds;
+        Todo todo = new Todo(
+                mentee,
+                request.getTitle(),
+                request.getSubject(),
+                request.getGoalDescription(),
+                request.getStartDate(),
+                request.getEndDate(),
+                userId,
+                CreatorType.MENTEE
+        );
+        todo.changeMaterialSet(materialSetService.create(request.getMaterials()));
+        todo = todoRepository.save(todo);
+        todoDayBucketService.index(todo);
+        studyTimeRollupService.onCreated(todo);
+        publishTodoChanged(todo);
+        return TodoCreateResponse.ofTodo(todo.getId());
     }
 
     // Todo 내용 수정 (멘티용 - 멘티가 생성한 할일만)
@@ -373,7 +386,13 @@ public class TodoService {
             throw new IllegalArgumentException("멘티가 생성한 할일만 수정할 수 있습니다");
         }
 
+        LocalDate oldStartDate = todo.getStartDate();
+        LocalDate oldEndDate = todo.getEndDate();
+        String oldSubject = todo.getSubject();
+
         if (request.getTitle() != null) {
+            boolean periodChanged = !todo.getStartDate().equals(request.getStartDate())
+                    || !todo.getEndDate().equals(request.getEndDate());
             todo.updateContent(
                     request.getTitle(),
                     request.getSubject(),
@@ -381,14 +400,19 @@ public class TodoService {
                     request.getStartDate(),
                     request.getEndDate()
             );
+            if (periodChanged) {
+                todoDayBucketService.reindex(todo);
+            }
+            studyTimeRollupService.onMoved(todo, oldStartDate, oldEndDate, oldSubject);
         }
 
         if (request.getMaterials() != null) {
-            materialRepository.deleteByTodoId(todoId);
-            for (TodoUpdateRequest.MaterialInfo m : request.getMaterials()) {
-                materialRepository.save(new AssignmentMaterial(todo, m.getFileUrl(), m.getFileName()));
-            }
+            replaceMaterials(todo, request.getMaterials());
         }
+
+        // 기간이 바뀐 경우 이전 기간의 캘린더 캐시도 무효화
+        publishTodoChanged(todo.getMentee().getId(), todoId, oldStartDate, oldEndDate);
+        publishTodoChanged(todo);
     }
 
     // Todo 삭제 (멘티용 - 멘티가 생성한 할일만)
@@ -407,8 +431,17 @@ public class TodoService {
             throw new IllegalArgumentException("멘티가 생성한 할일만 삭제할 수 있습니다");
         }
 
-        materialRepository.deleteByTodoId(todoId);
+        todoDayBucketService.remove(todoId);
+        studyTimeRollupService.onDeleted(todo);
+        if (todo.getSeries() != null) {
+            // 반복 할일 발생일은 삭제 후 다시 펼쳐지지 않도록 제외 날짜로 등록
+            todo.getSeries().exclude(todo.getOccurrenceDate());
+        }
         todoRepository.delete(todo);
+        if (todo.getMaterialSet() != null) {
+            materialSetService.release(List.of(todo.getMaterialSet().getId()));
+        }
+        publishTodoChanged(todo);
     }
 
     // Todo별 학습 시간 추가 (타이머 측정값 누적)
@@ -424,67 +457,52 @@ public class TodoService {
             throw new IllegalArgumentException("접근 권한이 없습니다");
         }
 
-        todo.addStudyTime(seconds);
+        // 동시 요청 시 갱신 손실이 없도록 DB에서 원자적으로 누적
+        todoRepository.addStudyTime(todoId, seconds);
+        studyTimeRollupService.addStudyTime(todo, seconds);
+        publishTodoChanged(todo);
     }
 
     // 학습시간 통계 조회 (일별)
     public StudyTimeStatsResponse getStudyTimeStatsByDate(Long userId, LocalDate date) {
-        Mentee mentee = menteeRepository.findByUserId(userId)
+        Long menteeId = menteeRepository.findIdByUserId(userId)
                 .orElseThrow(() -> new IllegalArgumentException("Mentee not found"));
 
-        List<Todo> todos = mentee.getSubjects().isEmpty()
-                ? todoRepository.findByMenteeIdAndDate(mentee.getId(), date)
-                : todoRepository.findByMenteeIdAndDateAndSubjects(mentee.getId(), date, mentee.getSubjects());
-
-        return buildStudyTimeStats(todos);
+        return buildStudyTimeStats(menteeId, menteeRepository.findSubjectsByMenteeId(menteeId), date, date);
     }
 
     // 학습시간 통계 조회 (주별)
     public StudyTimeStatsResponse getStudyTimeStatsByWeek(Long userId, LocalDate weekStartDate) {
-        Mentee mentee = menteeRepository.findByUserId(userId)
+        Long menteeId = menteeRepository.findIdByUserId(userId)
                 .orElseThrow(() -> new IllegalArgumentException("Mentee not found"));
 
-        LocalDate weekEnd = weekStartDate.plusDays(6);
-
-        List<Todo> todos = mentee.getSubjects().isEmpty()
-                ? todoRepository.findByMenteeIdAndMonth(mentee.getId(), weekStartDate, weekEnd)
-                : todoRepository.findByMenteeIdAndMonthAndSubjects(mentee.getId(), weekStartDate, weekEnd, mentee.getSubjects());
-
-        return buildStudyTimeStats(todos);
+        return buildStudyTimeStats(menteeId, menteeRepository.findSubjectsByMenteeId(menteeId), weekStartDate, weekStartDate.plusDays(6));
     }
 
     // 학습시간 통계 조회 (월별)
     public StudyTimeStatsResponse getStudyTimeStatsByMonth(Long userId, String yearMonth) {
-        Mentee mentee = menteeRepository.findByUserId(userId)
+        Long menteeId = menteeRepository.findIdByUserId(userId)
                 .orElseThrow(() -> new IllegalArgumentException("Mentee not found"));
 
         YearMonth ym = YearMonth.parse(yearMonth);
-        LocalDate start = ym.atDay(1);
-        LocalDate end = ym.atEndOfMonth();
-
-        List<Todo> todos = mentee.getSubjects().isEmpty()
-                ? todoRepository.findByMenteeIdAndMonth(mentee.getId(), start, end)
-                : todoRepository.findByMenteeIdAndMonthAndSubjects(mentee.getId(), start, end, mentee.getSubjects());
-
-        return buildStudyTimeStats(todos);
+        return buildStudyTimeStats(menteeId, menteeRepository.findSubjectsByMenteeId(menteeId), ym.atDay(1), ym.atEndOfMonth());
     }
 
-    private StudyTimeStatsResponse buildStudyTimeStats(List<Todo> todos) {
-        int totalSec = todos.stream()
-                .filter(t -> t.getStudyTime() != null)
-                .mapToInt(Todo::getStudyTime)
-                .sum();
+    // 기간과 겹치는 Todo의 학습 시간을 과목별로 합산 (수강 과목이 있으면 해당 과목만)
+    private StudyTimeStatsResponse buildStudyTimeStats(Long menteeId, List<String> subjects, LocalDate startDate, LocalDate endDate) {
+        Map<String, Long> secondsBySubject = new HashMap<>();
+        for (StudyTimeAggregate aggregate : studyTimeRollupService.findOverlapping(menteeId, startDate, endDate)) {
+            if (aggregate.studySeconds() > 0
+                    && (subjects.isEmpty() || subjects.contains(aggregate.subject()))) {
+                secondsBySubject.merge(aggregate.subject(), aggregate.studySeconds(), Long::sum);
+            }
+        }
 
-        Map<String, StudyTimeStatsResponse.StudyTimeDetail> subjectStudyTime = todos.stream()
-                .filter(t -> t.getStudyTime() != null)
-                .collect(Collectors.groupingBy(
-                        Todo::getSubject,
-                        Collectors.summingInt(Todo::getStudyTime)
-                ))
-                .entrySet().stream()
+        int totalSec = (int) secondsBySubject.values().stream().mapToLong(Long::longValue).sum();
+        Map<String, StudyTimeStatsResponse.StudyTimeDetail> subjectStudyTime = secondsBySubject.entrySet().stream()
                 .collect(Collectors.toMap(
                         Map.Entry::getKey,
-                        e -> StudyTimeStatsResponse.StudyTimeDetail.fromSeconds(e.getValue())
+                        e -> StudyTimeStatsResponse.StudyTimeDetail.fromSeconds(e.getValue().intValue())
                 ));
 
         return StudyTimeStatsResponse.builder()
@@ -495,23 +513,39 @@ public class TodoService {
                 .build();
     }
 
-    private boolean hasSubjects(List<String> subjects) {
-        return subjects != null && !subjects.isEmpty();
+    private void publishTodoChanged(Todo todo) {
+        publishTodoChanged(todo.getMentee().getId(), todo.getId(), todo.getStartDate(), todo.getEndDate());
     }
 
-    private List<TodoSummaryResponse> toSummaryWithMaterials(List<Todo> todos) {
-        if (todos.isEmpty()) return Collections.emptyList();
+    private void publishTodoChanged(Long menteeId, Long todoId, LocalDate startDate, LocalDate endDate) {
+        eventPublisher.publishEvent(new TodoChangedEvent(menteeId, todoId, startDate, endDate));
+    }
 
-        List<Long> todoIds = todos.stream().map(Todo::getId).toList();
-        Map<Long, List<AssignmentMaterial>> materialsMap = materialRepository.findByTodoIdIn(todoIds).stream()
-                .collect(Collectors.groupingBy(m -> m.getTodo().getId()));
-        Set<Long> feedbackTodoIds = new HashSet<>(feedbackRepository.findTodoIdsWithFeedback(todoIds));
+    // Todo 행 + 아직 생성되지 않은 반복 할일 발생일 (시작일 순)
+    private List<TodoSummaryResponse> summaries(Long menteeId, LocalDate startDate, LocalDate endDate, List<String> subjects) {
+        return views(menteeId, startDate, endDate, subjects).stream().map(TodoSummaryResponse::from).toList();
+    }
 
-        return todos.stream()
-                .map(todo -> TodoSummaryResponse.from(
-                        todo,
-                        materialsMap.getOrDefault(todo.getId(), Collections.emptyList()),
-                        feedbackTodoIds.contains(todo.getId())))
-                .collect(Collectors.toList());
+    private List<TodoDetailResponse> details(Long menteeId, LocalDate startDate, LocalDate endDate, List<String> subjects) {
+        return views(menteeId, startDate, endDate, subjects).stream().map(TodoDetailResponse::from).toList();
+    }
+
+    private List<TodoView> views(Long menteeId, LocalDate startDate, LocalDate endDate, List<String> subjects) {
+        List<TodoView> result = new ArrayList<>(TodoViewAssembler.fromRows(findCalendarRows(menteeId, startDate, endDate, subjects)));
+        for (TodoSeriesOccurrence occurrence : todoSeriesService.expand(menteeId, startDate, endDate, subjects)) {
+            result.add(TodoViewAssembler.fromOccurrence(occurrence));
+        }
+        result.sort(Comparator.comparing(TodoView::startDate));
+        return result;
+    }
+
+    private List<TodoCalendarRow> findCalendarRows(Long menteeId, LocalDate startDate, LocalDate endDate, List<String> subjects) {
+        return hasSubjects(subjects)
+                ? todoRepository.findCalendarRowsBySubjects(menteeId, startDate, endDate, subjects)
+                : todoRepository.findCalendarRows(menteeId, startDate, endDate);
+    }
+
+    private boolean hasSubjects(List<String> subjects) {
+        return subjects != null && !subjects.isEmpty();
     }
 }
@@ -0,0 +1,97 @@
+package com.momen.application.planner;
+
+import com.momen.application.planner.dto.TodoView;
+import com.momen.domain.planner.AssignmentMaterial;
+import com.momen.domain.planner.Todo;
+import com.momen.domain.planner.TodoSeries;
+import com.momen.domain.planner.TodoSeriesOccurrence;
+import com.momen.infrastructure.jpa.planner.TodoCalendarRow;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Todo 엔티티, 캘린더 프로젝션 행, 반복 할일 발생일을 TodoView로 조립한다.
+ */
+public final class TodoViewAssembler {
+
+    private TodoViewAssembler() {
+    }
+
+    public static TodoView from(Todo todo, List<AssignmentMaterial> materials, boolean hasFeedback) {
+        return new TodoView(
+                todo.getId(),
+                todo.getSeries() != null ? todo.getSeries().getId() : null,
+                todo.getOccurrenceDate(),
+                todo.getTitle(),
+                todo.getSubject(),
+                todo.getGoalDescription(),
+                todo.getStartDate(),
+                todo.getEndDate(),
+                todo.getMentorConfirmed(),
+                todo.getCreatorType(),
+                todo.getIsCompleted(),
+                hasFeedback,
+                todo.getStudyTime() != null ? todo.getStudyTime() : 0,
+                materials != null ? materials.stream().map(TodoViewAssembler::material).toList() : List.of());
+    }
+
+    /**
+     * 캘린더 프로젝션 행(Todo x 학습자료)을 Todo 단위로 묶어서 변환.
+     * 같은 Todo의 행은 연속되어 있어야 한다 (todoId 순 정렬).
+     */
+    public static List<TodoView> fromRows(List<TodoCalendarRow> rows) {
+        List<TodoView> result = new ArrayList<>();
+        int i = 0;
+        while (i < rows.size()) {
+            TodoCalendarRow head = rows.get(i);
+            List<TodoView.Material> materials = new ArrayList<>();
+            while (i < rows.size() && rows.get(i).todoId().equals(head.todoId())) {
+                TodoCalendarRow row = rows.get(i++);
+                if (row.materialId() != null) {
+                    materials.add(new TodoView.Material(row.materialId(), row.fileUrl(), row.fileName()));
+                }
+            }
+            result.add(new TodoView(
+                    head.todoId(),
+                    head.seriesId(),
+                    head.occurrenceDate(),
+                    head.title(),
+                    head.subject(),
+                    head.goalDescription(),
+                    head.startDate(),
+                    head.endDate(),
+                    head.mentorConfirmed(),
+                    head.creatorType(),
+                    head.isCompleted(),
+                    Boolean.TRUE.equals(head.hasFeedback()),
+                    head.studyTime() != null ? head.studyTime() : 0,
+                    materials));
+        }
+        return result;
+    }
+
+    // 아직 Todo로 생성되지 않은 반복 할일 발생일
+    public static TodoView fromOccurrence(TodoSeriesOccurrence occurrence) {
+        TodoSeries series = occurrence.series();
+        return new TodoView(
+                null,
+                series.getId(),
+                occurrence.date(),
+                series.getTitle(),
+                series.getSubject(),
+                series.getGoalDescription(),
+                occurrence.date(),
+                occurrence.date(),
+                false,
+                series.getCreatorType(),
+                false,
+                false,
+                0,
+                occurrence.materials().stream().map(TodoViewAssembler::material).toList());
+    }
+
+    private static TodoView.Material material(AssignmentMaterial material) {
+        return new TodoView.Material(material.getId(), material.getFileUrl(), material.getFileName());
+    }
+}
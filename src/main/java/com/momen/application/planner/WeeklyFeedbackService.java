@@ -18,11 +18,11 @@ import com.momen.infrastructure.jpa.planner.TodoFeedbackRepository;
 import com.momen.infrastructure.jpa.planner.TodoRepository;
 import com.momen.infrastructure.jpa.planner.WeeklyFeedbackRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.YearMonth;
 import java.util.List;
 
 @Service
@@ -37,6 +37,8 @@ public class WeeklyFeedbackService {
     private final MenteeRepository menteeRepository;
     private final AiClient aiClient;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TodoCalendarCache todoCalendarCache;
 
     // AI 요약 생성 (해당 주차 Todo 피드백들을 DB에서 조회 → AI 요약)
     public String generateAiSummary(Long mentorUserId, Long menteeId, WeeklyAiSummaryRequest request) {
@@ -82,6 +84,9 @@ public class WeeklyFeedbackService {
                 request.getAiSummary()
         );
 
+        eventPublisher.publishEvent(new FeedbackChangedEvent(menteeId, request.getWeekStartDate(),
+                request.getWeekStartDate().plusDays(6)));
+
         // 멘티에게 주간 피드백 알림 전송
         User menteeUser = mentee.getUser();
         LocalDate weekEnd = request.getWeekStartDate().plusDays(6);
@@ -109,15 +114,7 @@ public class WeeklyFeedbackService {
                     .map(List::of)
                     .orElse(List.of());
         } else if (yearMonth != null) {
-            // 해당 월 달력에 보이는 주간 피드백 조회
-            YearMonth ym = YearMonth.parse(yearMonth);
-            LocalDate calendarStart = getCalendarStartDate(ym);
-            LocalDate lastOfMonth = ym.atEndOfMonth();
-            return weeklyFeedbackRepository
-                    .findByMenteeIdAndWeekStartDateBetweenOrderByWeekStartDate(menteeId, calendarStart, lastOfMonth)
-                    .stream()
-                    .map(WeeklyFeedbackResponse::from)
-                    .toList();
+            return getCalendarFeedbacks(menteeId, CalendarMonth.parse(yearMonth));
         } else {
             // 전체 목록
             return weeklyFeedbackRepository.findByMenteeIdOrderByWeekStartDateDesc(menteeId)
@@ -127,11 +124,15 @@ public class WeeklyFeedbackService {
         }
     }
 
-    // 해당 월 달력의 첫 번째 일요일 계산
-    private LocalDate getCalendarStartDate(YearMonth ym) {
-        LocalDate firstOfMonth = ym.atDay(1);
-        int dayOfWeek = firstOfMonth.getDayOfWeek().getValue() % 7; // 일=0, 월=1, ..., 토=6
-        return firstOfMonth.minusDays(dayOfWeek);
+    // 해당 월 달력에 보이는 주간 피드백 조회 (캘린더 캐시, FeedbackChangedEvent로 무효화)
+    public List<WeeklyFeedbackResponse> getCalendarFeedbacks(Long menteeId, CalendarMonth month) {
+        return todoCalendarCache.getOrLoad(TodoCalendarCache.VIEW_WEEKLY_FEEDBACK, menteeId,
+                month.calendarStart(), month.monthEnd(), null, WeeklyFeedbackResponse.class,
+                () -> weeklyFeedbackRepository
+                        .findByMenteeIdAndWeekStartDateBetweenOrderByWeekStartDate(menteeId, month.calendarStart(), month.monthEnd())
+                        .stream()
+                        .map(WeeklyFeedbackResponse::from)
+                        .toList());
     }
 
     private String buildWeeklySummaryPrompt(List<TodoFeedback> feedbacks, LocalDate weekStart) {
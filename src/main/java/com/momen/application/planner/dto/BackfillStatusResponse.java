@@ -0,0 +1,20 @@
+package com.momen.application.planner.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 백그라운드 백필 작업 진행 상태.
+ */
+@Getter
+@Builder
+public class BackfillStatusResponse {
+    private boolean running;
+    private long processed; // 처리한 Todo 수
+    private Long lastTodoId; // 마지막으로 처리한 todoId (id 오름차순 진행)
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error; // 실패 시 오류 메시지
+}
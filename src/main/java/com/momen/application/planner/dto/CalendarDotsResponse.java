@@ -0,0 +1,25 @@
+package com.momen.application.planner.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 월별 달력 점 표시 상태.
+ * 각 마스크의 (일 - 1)번째 비트가 해당 날짜의 상태를 나타낸다 (1일 = 1, 2일 = 2, 3일 = 4 ...).
+ */
+@Getter
+@Builder
+public class CalendarDotsResponse {
+    private List<MonthDots> months;
+
+    @Getter
+    @Builder
+    public static class MonthDots {
+        private String yearMonth;
+        private int todoMask;      // 할일이 있는 날
+        private int allDoneMask;   // 할일을 모두 완료한 날
+        private int feedbackMask;  // 멘토 피드백이 있는 날
+    }
+}
@@ -0,0 +1,9 @@
+package com.momen.application.planner.dto;
+
+/**
+ * 요청으로 받은 학습자료 파일 정보 (생성/수정 요청 공통)
+ */
+public interface MaterialFileInfo {
+    String getFileUrl();
+    String getFileName();
+}
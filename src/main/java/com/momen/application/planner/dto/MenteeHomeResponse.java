@@ -0,0 +1,21 @@
+package com.momen.application.planner.dto;
+
+import com.momen.application.mentoring.dto.MenteeResponse;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class MenteeHomeResponse {
+    private LocalDate date;
+    private MenteeResponse me;
+    // 아래 항목은 조회에 실패하거나 시간 내 응답하지 않으면 null (failedSections에 이름 포함)
+    private StudyDailyStatsResponse dailyStats;
+    private List<TodoDetailResponse> todoCards;
+    private Long unreadNotificationCount;
+    private MypageResponse mypage;
+    private List<String> failedSections; // 개별 API로 다시 조회해야 하는 항목
+}
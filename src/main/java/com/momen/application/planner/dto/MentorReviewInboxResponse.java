@@ -0,0 +1,50 @@
+package com.momen.application.planner.dto;
+
+import com.momen.infrastructure.jpa.planner.MentorReviewInboxRow;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class MentorReviewInboxResponse {
+    private List<Item> items;
+    private boolean hasMore;                      // 다음 페이지가 있으면 true
+    private LocalDateTime nextCursorSubmittedAt;  // 다음 요청에 보낼 cursorSubmittedAt
+    private Long nextCursorTodoId;                // 다음 요청에 보낼 cursorTodoId
+
+    @Getter
+    @Builder
+    public static class Item {
+        private Long todoId;
+        private Long submissionId;
+        private Long menteeId;
+        private String menteeName;
+        private String title;
+        private String subject;
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private LocalDateTime submittedAt;
+        private boolean awaitingFeedback;    // 멘토 피드백 없음
+        private boolean unansweredQuestion;  // 멘티 질문에 답변 없음
+
+        public static Item from(MentorReviewInboxRow row) {
+            return Item.builder()
+                    .todoId(row.todoId())
+                    .submissionId(row.submissionId())
+                    .menteeId(row.menteeId())
+                    .menteeName(row.menteeName())
+                    .title(row.title())
+                    .subject(row.subject())
+                    .startDate(row.startDate())
+                    .endDate(row.endDate())
+                    .submittedAt(row.submittedAt())
+                    .awaitingFeedback(row.awaitingFeedback())
+                    .unansweredQuestion(row.unansweredQuestion())
+                    .build();
+        }
+    }
+}
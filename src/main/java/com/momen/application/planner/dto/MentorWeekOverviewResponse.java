@@ -0,0 +1,105 @@
+package com.momen.application.planner.dto;
+
+import com.momen.domain.planner.TodoSeriesOccurrence;
+import com.momen.infrastructure.jpa.mentoring.MenteeRosterRow;
+import com.momen.infrastructure.jpa.planner.MentorWeekTodoRow;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class MentorWeekOverviewResponse {
+    private LocalDate weekStartDate;
+    private LocalDate weekEndDate;
+    private List<MenteeWeek> mentees;
+
+    @Getter
+    @Builder
+    public static class MenteeWeek {
+        private Long menteeId;
+        private Long userId;
+        private String name;
+        private String profileImageUrl;
+        private String grade;
+        private int totalTodos;
+        private int completedTodos;
+        private int completionRate;           // 정수 반올림
+        private int pendingFeedbackCount;     // 완료했지만 멘토 피드백이 없는 Todo 수
+        private int unansweredQuestionCount;  // 답변하지 않은 멘티 질문 수
+        private String totalStudyHours;
+        private String totalStudyMinutes;
+        private String totalStudySeconds;
+        private List<TodoItem> todos;
+
+        public static MenteeWeek of(MenteeRosterRow mentee, List<TodoItem> todos) {
+            int completed = (int) todos.stream().filter(TodoItem::isCompleted).count();
+            long totalSec = todos.stream().mapToLong(TodoItem::getStudySeconds).sum();
+            return MenteeWeek.builder()
+                    .menteeId(mentee.menteeId())
+                    .userId(mentee.userId())
+                    .name(mentee.name())
+                    .profileImageUrl(mentee.profileImageUrl())
+                    .grade(mentee.grade())
+                    .totalTodos(todos.size())
+                    .completedTodos(completed)
+                    .completionRate(todos.isEmpty() ? 0 : (int) Math.round((double) completed / todos.size() * 100.0))
+                    .pendingFeedbackCount((int) todos.stream().filter(TodoItem::isFeedbackPending).count())
+                    .unansweredQuestionCount((int) todos.stream().filter(TodoItem::isQuestionPending).count())
+                    .totalStudyHours(String.format("%02d", totalSec / 3600))
+                    .totalStudyMinutes(String.format("%02d", (totalSec % 3600) / 60))
+                    .totalStudySeconds(String.format("%02d", totalSec % 60))
+                    .todos(todos)
+                    .build();
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class TodoItem {
+        private Long todoId; // 아직 생성되지 않은 반복 할일 발생일이면 null
+        private Long seriesId;
+        private LocalDate occurrenceDate;
+        private String title;
+        private String subject;
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private boolean completed;
+        private boolean mentorConfirmed;
+        private int studySeconds;
+        private boolean feedbackPending;  // 완료했지만 멘토 피드백 없음
+        private boolean questionPending;  // 멘티 질문에 답변 없음
+
+        public static TodoItem from(MentorWeekTodoRow row) {
+            boolean completed = Boolean.TRUE.equals(row.isCompleted());
+            return TodoItem.builder()
+                    .todoId(row.todoId())
+                    .seriesId(row.seriesId())
+                    .occurrenceDate(row.occurrenceDate())
+                    .title(row.title())
+                    .subject(row.subject())
+                    .startDate(row.startDate())
+                    .endDate(row.endDate())
+                    .completed(completed)
+                    .mentorConfirmed(Boolean.TRUE.equals(row.mentorConfirmed()))
+                    .studySeconds(row.studyTime() != null ? row.studyTime() : 0)
+                    .feedbackPending(completed && !Boolean.TRUE.equals(row.hasMentorComment()))
+                    .questionPending(Boolean.TRUE.equals(row.hasUnansweredQuestion()))
+                    .build();
+        }
+
+        // 아직 Todo로 생성되지 않은 반복 할일 발생일 (미완료)
+        public static TodoItem fromOccurrence(TodoSeriesOccurrence occurrence) {
+            return TodoItem.builder()
+                    .seriesId(occurrence.series().getId())
+                    .occurrenceDate(occurrence.date())
+                    .title(occurrence.series().getTitle())
+                    .subject(occurrence.series().getSubject())
+                    .startDate(occurrence.date())
+                    .endDate(occurrence.date())
+                    .build();
+        }
+    }
+}
@@ -3,9 +3,11 @@ package com.momen.application.planner.dto;
 import com.momen.domain.planner.MonthlyFeedback;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
+@Jacksonized
 public class MonthlyFeedbackResponse {
     private Long feedbackId;
     private Long menteeId;
@@ -0,0 +1,19 @@
+package com.momen.application.planner.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class PlannerCalendarResponse {
+    private String yearMonth;
+    private LocalDate calendarStartDate; // 달력 첫 일요일 (주간 피드백 조회 시작일)
+    private LocalDate monthStartDate;
+    private LocalDate monthEndDate;
+    private List<TodoSummaryResponse> todos;
+    private List<WeeklyFeedbackResponse> weeklyFeedbacks;
+    private List<MonthlyFeedbackResponse> monthlyFeedbacks;
+}
@@ -0,0 +1,20 @@
+package com.momen.application.planner.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class StudyTimeTickRequest {
+    private List<Tick> ticks;
+
+    @Getter
+    @NoArgsConstructor
+    public static class Tick {
+        private Long todoId;
+        private Integer seconds;  // 이번 구간에 측정한 학습 시간(초)
+        private Long clientSeq;   // Todo별 클라이언트 순번 (재전송 시 동일 값, 중복 반영 방지)
+    }
+}
@@ -0,0 +1,12 @@
+package com.momen.application.planner.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class StudyTimeTickResponse {
+    private int accepted;   // 반영 대기열에 추가된 tick 수
+    private int duplicated; // 이미 받은 순번이라 무시된 tick 수
+    private int ignored;    // 본인 Todo가 아니거나 존재하지 않아 무시된 tick 수
+}
@@ -0,0 +1,25 @@
+package com.momen.application.planner.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class TodoChangeFeedResponse {
+    private long cursor;          // 다음 요청에 보낼 커서
+    private boolean fullResync;   // true면 커서가 없거나 만료되어 월별 조회로 전체를 다시 받아야 함
+    private boolean hasMore;      // 남은 변경이 있으면 true (cursor로 이어서 요청)
+    private List<TodoSummaryResponse> upserted; // 생성/수정된 Todo
+    private List<Long> deletedTodoIds;
+    private List<DateRange> resyncRanges;       // 반복 할일 변경 등으로 다시 조회해야 하는 날짜 범위
+
+    @Getter
+    @Builder
+    public static class DateRange {
+        private LocalDate startDate;
+        private LocalDate endDate;
+    }
+}
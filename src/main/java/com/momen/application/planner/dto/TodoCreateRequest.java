@@ -19,7 +19,7 @@ public class TodoCreateRequest {
 
     @Getter
     @NoArgsConstructor
-    public static class MaterialInfo {
+    public static class MaterialInfo implements MaterialFileInfo {
         private String fileUrl;
         private String fileName;
     }
@@ -0,0 +1,31 @@
+package com.momen.application.planner.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Todo 생성 결과.
+ * 단건 생성은 todoIds에 생성된 ID가 담기고, 반복 생성은 발생일 Todo를 미리 만들지 않으므로
+ * todoIds는 비어 있고 seriesId로 시리즈를 식별한다.
+ */
+@Getter
+@Builder
+public class TodoCreateResponse {
+    private List<Long> todoIds;
+    private Long seriesId; // 반복 생성일 때만 값이 있음
+
+    public static TodoCreateResponse ofTodo(Long todoId) {
+        return TodoCreateResponse.builder()
+                .todoIds(List.of(todoId))
+                .build();
+    }
+
+    public static TodoCreateResponse ofSeries(Long seriesId) {
+        return TodoCreateResponse.builder()
+                .todoIds(List.of())
+                .seriesId(seriesId)
+                .build();
+    }
+}
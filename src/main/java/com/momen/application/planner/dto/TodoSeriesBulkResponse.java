@@ -0,0 +1,18 @@
+package com.momen.application.planner.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 반복 할일 일괄 수정/삭제 결과.
+ * Todo 관련 건수는 이미 Todo로 생성된 발생일만 해당한다.
+ */
+@Getter
+@Builder
+public class TodoSeriesBulkResponse {
+    private Long seriesId; // 대상 일정이 속한 시리즈 (분리 시 새 시리즈 ID, 전체 삭제 시 null)
+    private int affectedTodos; // 수정 또는 삭제된 Todo 수
+    private int deletedMaterials;
+    private int deletedFeedbacks;
+    private int deletedSubmissions;
+}
@@ -1,20 +1,20 @@
 package com.momen.application.planner.dto;
 
-import com.momen.domain.planner.AssignmentMaterial;
 import com.momen.domain.planner.CreatorType;
-import com.momen.domain.planner.Todo;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDate;
-import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 @Builder
+@Jacksonized
 public class TodoSummaryResponse {
-    private Long todoId;
+    private Long todoId; // 아직 생성되지 않은 반복 할일 발생일이면 null
+    private Long seriesId; // 반복 할일인 경우 시리즈 ID
+    private LocalDate occurrenceDate; // 반복 할일인 경우 발생일
     private String title;
     private String subject;
     private String goalDescription;
@@ -31,45 +31,42 @@ public class TodoSummaryResponse {
 
     @Getter
     @Builder
+    @Jacksonized
     public static class MaterialInfo {
         private Long materialId;
         private String fileUrl;
         private String fileName;
 
-        public static MaterialInfo from(AssignmentMaterial material) {
+        public static MaterialInfo from(TodoView.Material material) {
             return MaterialInfo.builder()
-                    .materialId(material.getId())
-                    .fileUrl(material.getFileUrl())
-                    .fileName(material.getFileName())
+                    .materialId(material.materialId())
+                    .fileUrl(material.fileUrl())
+                    .fileName(material.fileName())
                     .build();
         }
     }
 
-    private static String fmt(int v) { return String.format("%02d", v); }
+    private static String fmt(int v) { return v < 10 ? "0" + v : Integer.toString(v); }
 
-    public static TodoSummaryResponse from(Todo todo, List<AssignmentMaterial> materials) {
-        return from(todo, materials, false);
-    }
-
-    public static TodoSummaryResponse from(Todo todo, List<AssignmentMaterial> materials, boolean hasFeedback) {
-        int s = todo.getStudyTime() != null ? todo.getStudyTime() : 0;
+    public static TodoSummaryResponse from(TodoView view) {
+        int s = view.studyTime();
         return TodoSummaryResponse.builder()
-                .todoId(todo.getId())
-                .title(todo.getTitle())
-                .subject(todo.getSubject())
-                .goalDescription(todo.getGoalDescription())
-                .startDate(todo.getStartDate())
-                .endDate(todo.getEndDate())
-                .mentorConfirmed(todo.getMentorConfirmed())
-                .creatorType(todo.getCreatorType())
-                .isCompleted(todo.getIsCompleted())
-                .hasFeedback(hasFeedback)
+                .todoId(view.todoId())
+                .seriesId(view.seriesId())
+                .occurrenceDate(view.occurrenceDate())
+                .title(view.title())
+                .subject(view.subject())
+                .goalDescription(view.goalDescription())
+                .startDate(view.startDate())
+                .endDate(view.endDate())
+                .mentorConfirmed(view.mentorConfirmed())
+                .creatorType(view.creatorType())
+                .isCompleted(view.isCompleted())
+                .hasFeedback(view.hasFeedback())
                 .studyTimeHours(fmt(s / 3600))
                 .studyTimeMinutes(fmt((s % 3600) / 60))
                 .studyTimeSeconds(fmt(s % 60))
-                .materials(materials != null
-                        ? materials.stream().map(MaterialInfo::from).collect(Collectors.toList())
-                        : Collections.emptyList())
+                .materials(view.materials().stream().map(MaterialInfo::from).toList())
                 .build();
     }
 }
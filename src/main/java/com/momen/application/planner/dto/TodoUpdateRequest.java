@@ -20,7 +20,7 @@ public class TodoUpdateRequest {
 
     @Getter
     @NoArgsConstructor
-    public static class MaterialInfo {
+    public static class MaterialInfo implements MaterialFileInfo {
         private String fileUrl;
         private String fileName;
     }
@@ -0,0 +1,30 @@
+package com.momen.application.planner.dto;
+
+import com.momen.domain.planner.CreatorType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Todo 응답 DTO 공통 원본 (Todo 엔티티, 캘린더 프로젝션 행, 반복 할일 발생일에서 조립).
+ * TodoSummaryResponse, TodoDetailResponse는 이 값의 필드만 옮겨 담는다.
+ */
+public record TodoView(
+        Long todoId, // 아직 생성되지 않은 반복 할일 발생일이면 null
+        Long seriesId,
+        LocalDate occurrenceDate,
+        String title,
+        String subject,
+        String goalDescription,
+        LocalDate startDate,
+        LocalDate endDate,
+        Boolean mentorConfirmed,
+        CreatorType creatorType,
+        Boolean isCompleted,
+        boolean hasFeedback,
+        int studyTime, // 초
+        List<Material> materials
+) {
+    public record Material(Long materialId, String fileUrl, String fileName) {
+    }
+}
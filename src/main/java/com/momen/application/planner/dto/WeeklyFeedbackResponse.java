@@ -3,11 +3,13 @@ package com.momen.application.planner.dto;
 import com.momen.domain.planner.WeeklyFeedback;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDate;
 
 @Getter
 @Builder
+@Jacksonized
 public class WeeklyFeedbackResponse {
     private Long feedbackId;
     private Long menteeId;
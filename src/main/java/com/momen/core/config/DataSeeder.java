@@ -1,5 +1,6 @@
 package com.momen.core.config;
 
+import com.momen.application.planner.TodoChangeFeedService;
 import com.momen.domain.mentoring.Mentee;
 import com.momen.domain.mentoring.Mentor;
 import com.momen.domain.user.User;
@@ -25,6 +26,7 @@ public class DataSeeder implements CommandLineRunner {
     private final MentorRepository mentorRepository;
     private final MenteeRepository menteeRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TodoChangeFeedService todoChangeFeedService;
 
     @Override
     @Transactional
@@ -65,6 +67,7 @@ public class DataSeeder implements CommandLineRunner {
 
         Mentee mentee1 = new Mentee(mentee1User, mentor, "고2");
         menteeRepository.save(mentee1);
+        todoChangeFeedService.openCursor(mentee1.getId());
 
         User mentee2User = User.builder()
                 .loginId("mentee02")
@@ -79,6 +82,7 @@ public class DataSeeder implements CommandLineRunner {
 
         Mentee mentee2 = new Mentee(mentee2User, mentor, "고3");
         menteeRepository.save(mentee2);
+        todoChangeFeedService.openCursor(mentee2.getId());
 
         log.info("Test data seeded: 1 mentor (mentor01), 2 mentees (mentee01, mentee02). Password: test1234!");
     }
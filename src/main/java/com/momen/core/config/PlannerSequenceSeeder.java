@@ -0,0 +1,67 @@
+package com.momen.core.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * dev/local(ddl-auto=update) 시퀀스 시작값 보정.
+ * Hibernate가 새로 만든 시퀀스는 1부터 시작하므로 기존 IDENTITY 데이터의 id와 겹친다.
+ * 시퀀스가 현재 최대 id보다 뒤처져 있으면 최대 id + 50 으로 재시작한다.
+ * prod(ddl-auto=validate)는 docs/planner-id-sequences.sql 로 생성한다.
+ */
+@Slf4j
+@Component
+@Profile({"dev", "local"})
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class PlannerSequenceSeeder implements CommandLineRunner {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    private record SequenceTarget(String sequence, String table, String idColumn) {
+    }
+
+    private static final List<SequenceTarget> TARGETS = List.of(
+            new SequenceTarget("todos_seq", "todos", "todo_id"),
+            new SequenceTarget("assignment_materials_seq", "assignment_materials", "material_id"),
+            new SequenceTarget("todo_day_buckets_seq", "todo_day_buckets", "bucket_id"),
+            new SequenceTarget("submission_files_seq", "submission_files", "file_id"),
+            new SequenceTarget("notifications_seq", "notifications", "notification_id"),
+            new SequenceTarget("todo_series_seq", "todo_series", "series_id"),
+            new SequenceTarget("material_sets_seq", "material_sets", "material_set_id"),
+            new SequenceTarget("todo_changes_seq", "todo_changes", "change_id")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        for (SequenceTarget target : TARGETS) {
+            try {
+                seed(target);
+            } catch (Exception e) {
+                log.warn("Failed to seed sequence {}: {}", target.sequence(), e.getMessage());
+            }
+        }
+    }
+
+    private void seed(SequenceTarget target) {
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(" + target.idColumn() + "), 0) FROM " + target.table(), Long.class);
+        // pooled optimizer는 (값 - 49 ~ 값) 구간을 사용 -> 구간 시작이 최대 id 이하이면 충돌
+        Long next = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR " + target.sequence(), Long.class);
+        if (next - ALLOCATION_SIZE < maxId) {
+            long start = maxId + ALLOCATION_SIZE;
+            jdbcTemplate.execute("ALTER SEQUENCE " + target.sequence() + " RESTART WITH " + start);
+            log.info("Sequence {} restarted with {} (max {}={})", target.sequence(), start, target.idColumn(), maxId);
+        }
+    }
+}
@@ -14,7 +14,8 @@ import lombok.NoArgsConstructor;
 public class Notification extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notifications_seq")
+    @SequenceGenerator(name = "notifications_seq", sequenceName = "notifications_seq", allocationSize = 50)
     @Column(name = "notification_id")
     private Long id;
 
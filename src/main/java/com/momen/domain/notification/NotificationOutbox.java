@@ -0,0 +1,67 @@
+package com.momen.domain.notification;
+
+import com.momen.core.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 알림 SSE 전송 대기 행 (transactional outbox).
+ * 알림과 같은 트랜잭션에 저장되고, 전송에 성공하면 삭제된다.
+ * 전송을 시도할 때마다 attempts를 올리고 다음 재시도 시각을 미뤄 두므로, 전송 도중 중단되면 스위퍼가 다시 시도한다.
+ * 일부 노드에만 전달된 경우 SSE 이벤트 ID와 남은 노드를 기록해 두고, 재시도는 그 노드에만 같은 ID로 보낸다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "notification_outbox",
+        indexes = @Index(name = "idx_notification_outbox_due", columnList = "next_attempt_at, outbox_id"))
+public class NotificationOutbox extends BaseTimeEntity {
+
+    public static final int MAX_ATTEMPTS = 5;
+    // 커밋 직후 전송이 진행되는 동안 스위퍼가 같은 행을 잡지 않도록 미뤄 두는 시간
+    private static final Duration LEASE = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_outbox_seq")
+    @SequenceGenerator(name = "notification_outbox_seq", sequenceName = "notification_outbox_seq", allocationSize = 50)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "notification_id", nullable = false)
+    private Notification notification;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "sse_event_id")
+    private Long sseEventId;
+
+    // 아직 전달하지 못한 노드 ID (쉼표 구분, null이면 처음부터 전송)
+    @Column(name = "pending_nodes", length = 500)
+    private String pendingNodes;
+
+    public NotificationOutbox(Notification notification, LocalDateTime now) {
+        this.notification = notification;
+        this.nextAttemptAt = now.plus(LEASE);
+    }
+
+    // 전송 시도 기록. 이번 시도가 끝나지 않으면 다음 재시도 시각(지수 백오프) 이후 스위퍼가 다시 시도한다
+    public void markAttempt(LocalDateTime now) {
+        this.attempts++;
+        Duration backoff = LEASE.multipliedBy(1L << Math.min(attempts - 1, 10));
+        this.nextAttemptAt = now.plus(backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff);
+    }
+}
@@ -9,17 +9,20 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "assignment_materials")
+@Table(name = "assignment_materials", indexes = {
+        @Index(name = "idx_assignment_materials_set", columnList = "material_set_id")
+})
 public class AssignmentMaterial extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "assignment_materials_seq")
+    @SequenceGenerator(name = "assignment_materials_seq", sequenceName = "assignment_materials_seq", allocationSize = 50)
     @Column(name = "material_id")
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "todo_id", nullable = false)
-    private Todo todo;
+    @JoinColumn(name = "material_set_id", nullable = false)
+    private MaterialSet materialSet;
 
     @Column(name = "file_url", nullable = false, length = 500)
     private String fileUrl;
@@ -27,8 +30,8 @@ public class AssignmentMaterial extends BaseTimeEntity {
     @Column(name = "file_name", nullable = false)
     private String fileName;
 
-    public AssignmentMaterial(Todo todo, String fileUrl, String fileName) {
-        this.todo = todo;
+    public AssignmentMaterial(MaterialSet materialSet, String fileUrl, String fileName) {
+        this.materialSet = materialSet;
         this.fileUrl = fileUrl;
         this.fileName = fileName;
     }
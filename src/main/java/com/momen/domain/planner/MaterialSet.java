@@ -0,0 +1,29 @@
+package com.momen.domain.planner;
+
+import com.momen.core.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 학습자료 묶음. 같은 자료를 쓰는 Todo/반복 할일이 하나의 묶음을 함께 참조한다.
+ * 여러 곳에서 공유되므로 생성 후에는 수정하지 않고, 자료가 바뀌면 새 묶음을 만들어 참조를 바꾼다 (copy-on-write).
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "material_sets")
+public class MaterialSet extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "material_sets_seq")
+    @SequenceGenerator(name = "material_sets_seq", sequenceName = "material_sets_seq", allocationSize = 50)
+    @Column(name = "material_set_id")
+    private Long id;
+
+    @OneToMany(mappedBy = "materialSet")
+    private List<AssignmentMaterial> materials = new ArrayList<>();
+}
@@ -0,0 +1,118 @@
+package com.momen.domain.planner;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 멘티별 마이페이지 집계 (최근 30일과 기간이 겹치는 Todo 수, 완료 수, 학습 시간, 과목별 수).
+ * 집계 기간과 겹치는 Todo 변경은 증분 반영되고, 기간은 매일 다시 계산되어 하루씩 밀린다.
+ * 마이페이지는 이 한 행만 읽는다.
+ * 학습 시간은 UPDATE 쿼리로 누적되므로, 과목별 수 변경 시 읽어둔 학습 시간을 덮어쓰지 않도록 변경된 컬럼만 갱신한다.
+ */
+@Entity
+@DynamicUpdate
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "mentee_mypage_aggregates")
+public class MenteeMypageAggregate {
+
+    @Id
+    @Column(name = "mentee_id")
+    private Long menteeId;
+
+    @Column(name = "window_start", nullable = false)
+    private LocalDate windowStart;
+
+    @Column(name = "window_end", nullable = false)
+    private LocalDate windowEnd;
+
+    @Column(name = "total_todos", nullable = false)
+    private int totalTodos;
+
+    @Column(name = "completed_todos", nullable = false)
+    private int completedTodos;
+
+    @Column(name = "study_seconds", nullable = false)
+    private long studySeconds;
+
+    // 과목별 전체/완료 수 (KOREAN=3/1;MATH=5/2)
+    @Column(name = "subject_counts", nullable = false, length = 1000)
+    private String subjectCounts;
+
+    public MenteeMypageAggregate(Long menteeId, LocalDate windowStart, LocalDate windowEnd,
+                                 Map<String, SubjectCount> subjectCounts, long studySeconds) {
+        this.menteeId = menteeId;
+        reset(windowStart, windowEnd, subjectCounts, studySeconds);
+    }
+
+    // 기간 이동/재계산 결과로 교체
+    public void reset(LocalDate windowStart, LocalDate windowEnd, Map<String, SubjectCount> subjectCounts, long studySeconds) {
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+        this.studySeconds = studySeconds;
+        setSubjectCounts(subjectCounts);
+    }
+
+    // Todo 기간이 집계 기간과 겹치는지
+    public boolean overlaps(LocalDate startDate, LocalDate endDate) {
+        return !endDate.isBefore(windowStart) && !startDate.isAfter(windowEnd);
+    }
+
+    // 과목별 완료/전체 수 증분 반영 (전체 수가 0이 된 과목은 제거)
+    public void apply(String subject, int completedDelta, int totalDelta) {
+        Map<String, SubjectCount> counts = getSubjectCounts();
+        SubjectCount current = counts.getOrDefault(subject, new SubjectCount(0, 0));
+        counts.put(subject, new SubjectCount(current.total() + totalDelta, current.completed() + completedDelta));
+        setSubjectCounts(counts);
+    }
+
+    public Map<String, SubjectCount> getSubjectCounts() {
+        Map<String, SubjectCount> counts = new LinkedHashMap<>();
+        if (subjectCounts.isEmpty()) {
+            return counts;
+        }
+        for (String entry : subjectCounts.split(";")) {
+            int eq = entry.indexOf('=');
+            int slash = entry.indexOf('/', eq);
+            counts.put(entry.substring(0, eq), new SubjectCount(
+                    Integer.parseInt(entry.substring(eq + 1, slash)),
+                    Integer.parseInt(entry.substring(slash + 1))));
+        }
+        return counts;
+    }
+
+    // 저장 형식 그대로의 과목별 수 (네이티브 INSERT용)
+    public String getSubjectCountsValue() {
+        return subjectCounts;
+    }
+
+    private void setSubjectCounts(Map<String, SubjectCount> counts) {
+        StringBuilder sb = new StringBuilder();
+        int total = 0;
+        int completed = 0;
+        for (Map.Entry<String, SubjectCount> e : counts.entrySet()) {
+            if (e.getValue().total() <= 0) {
+                continue;
+            }
+            if (!sb.isEmpty()) {
+                sb.append(';');
+            }
+            sb.append(e.getKey()).append('=').append(e.getValue().total()).append('/').append(e.getValue().completed());
+            total += e.getValue().total();
+            completed += e.getValue().completed();
+        }
+        this.subjectCounts = sb.toString();
+        this.totalTodos = total;
+        this.completedTodos = completed;
+    }
+
+    public record SubjectCount(int total, int completed) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.momen.domain.planner;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멘토 검토 대기함 항목 (제출물 1건 = Todo 1건).
+ * 피드백이 없거나 멘티 질문에 답변하지 않은 제출물만 남고, 검토가 끝나면 삭제된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "mentor_review_queue",
+        indexes = {
+                @Index(name = "idx_mentor_review_queue_inbox", columnList = "mentor_id, submitted_at, todo_id")
+        })
+public class MentorReviewItem {
+
+    @Id
+    @Column(name = "todo_id")
+    private Long todoId;
+
+    @Column(name = "mentor_id", nullable = false)
+    private Long mentorId;
+
+    @Column(name = "mentee_id", nullable = false)
+    private Long menteeId;
+
+    @Column(name = "submission_id", nullable = false)
+    private Long submissionId;
+
+    @Column(name = "submitted_at", nullable = false)
+    private LocalDateTime submittedAt;
+
+    @Column(name = "awaiting_feedback", nullable = false)
+    private boolean awaitingFeedback; // 멘토 피드백 없음
+
+    @Column(name = "unanswered_question", nullable = false)
+    private boolean unansweredQuestion; // 멘티 질문에 답변 없음
+
+    public MentorReviewItem(Long todoId, Long mentorId, Long menteeId, Long submissionId, LocalDateTime submittedAt,
+                            boolean awaitingFeedback, boolean unansweredQuestion) {
+        this.todoId = todoId;
+        this.mentorId = mentorId;
+        this.menteeId = menteeId;
+        this.submissionId = submissionId;
+        this.submittedAt = submittedAt;
+        this.awaitingFeedback = awaitingFeedback;
+        this.unansweredQuestion = unansweredQuestion;
+    }
+
+    public void update(Long submissionId, LocalDateTime submittedAt, boolean awaitingFeedback, boolean unansweredQuestion) {
+        this.submissionId = submissionId;
+        this.submittedAt = submittedAt;
+        this.awaitingFeedback = awaitingFeedback;
+        this.unansweredQuestion = unansweredQuestion;
+    }
+}
@@ -0,0 +1,7 @@
+package com.momen.domain.planner;
+
+// 반복 할일 수정/삭제 범위
+public enum SeriesEditScope {
+    THIS_AND_FOLLOWING, // 지정 날짜 및 이후 일정
+    ALL                 // 전체 일정
+}
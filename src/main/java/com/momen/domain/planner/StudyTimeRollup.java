@@ -0,0 +1,57 @@
+package com.momen.domain.planner;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 멘티/날짜/과목별 학습 집계 (학습 시간, 완료 수, 전체 수).
+ * Todo는 시작일 행에 집계되며, Todo 생성/삭제/완료/학습시간 누적 시 증분 반영된다.
+ * 학습시간 통계와 마이페이지는 Todo 대신 이 집계를 날짜 범위로 조회하고,
+ * 범위 전에 시작해 범위까지 이어지는 Todo만 원본에서 더한다 (StudyTimeRollupService.findOverlapping).
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "study_time_rollups",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_study_time_rollups_key", columnNames = {"mentee_id", "rollup_date", "subject"})
+        })
+public class StudyTimeRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Long id;
+
+    @Column(name = "mentee_id", nullable = false)
+    private Long menteeId;
+
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate;
+
+    @Column(nullable = false, length = 20)
+    private String subject;
+
+    @Column(name = "study_seconds", nullable = false)
+    private long studySeconds;
+
+    @Column(name = "completed_count", nullable = false)
+    private int completedCount;
+
+    @Column(name = "total_count", nullable = false)
+    private int totalCount;
+
+    public StudyTimeRollup(Long menteeId, LocalDate rollupDate, String subject,
+                           long studySeconds, int completedCount, int totalCount) {
+        this.menteeId = menteeId;
+        this.rollupDate = rollupDate;
+        this.subject = subject;
+        this.studySeconds = studySeconds;
+        this.completedCount = completedCount;
+        this.totalCount = totalCount;
+    }
+}
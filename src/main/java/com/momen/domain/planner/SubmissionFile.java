@@ -12,7 +12,8 @@ import lombok.NoArgsConstructor;
 public class SubmissionFile {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "submission_files_seq")
+    @SequenceGenerator(name = "submission_files_seq", sequenceName = "submission_files_seq", allocationSize = 50)
     @Column(name = "file_id")
     private Long id;
 
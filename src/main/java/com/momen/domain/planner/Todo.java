@@ -8,17 +8,22 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
+import java.time.temporal.ChronoUnit;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "todos")
+@Table(name = "todos", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_todos_series_occurrence", columnNames = {"series_id", "occurrence_date"})
+})
 public class Todo extends BaseTimeEntity {
 
+    // 하루마다 날짜 버킷 행이 생기므로 기간 상한을 둔다
+    public static final int MAX_PERIOD_DAYS = 366;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todos_seq")
+    @SequenceGenerator(name = "todos_seq", sequenceName = "todos_seq", allocationSize = 50)
     @Column(name = "todo_id")
     private Long id;
 
@@ -57,17 +62,28 @@ public class Todo extends BaseTimeEntity {
     @Column(name = "mentor_confirmed")
     private Boolean mentorConfirmed = false; // 멘토 확인 여부
 
+    // 반복 할일에서 생성된 경우 원본 시리즈와 발생일
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "series_id")
+    private TodoSeries series;
+
+    @Column(name = "occurrence_date")
+    private LocalDate occurrenceDate;
+
     @OneToOne(mappedBy = "todo", cascade = CascadeType.REMOVE, orphanRemoval = true)
     private TodoFeedback todoFeedback;
 
     @OneToOne(mappedBy = "todo", cascade = CascadeType.REMOVE, orphanRemoval = true)
     private AssignmentSubmission assignmentSubmission;
 
-    @OneToMany(mappedBy = "todo", cascade = CascadeType.REMOVE, orphanRemoval = true)
-    private List<AssignmentMaterial> assignmentMaterials = new ArrayList<>();
+    // 학습자료 묶음 (반복 할일 발생일은 시리즈의 묶음을 그대로 공유)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "material_set_id")
+    private MaterialSet materialSet;
 
     public Todo(Mentee mentee, String title, String subject, String goalDescription,
                 LocalDate startDate, LocalDate endDate, Long createdBy, CreatorType creatorType) {
+        validatePeriod(startDate, endDate);
         this.mentee = mentee;
         this.title = title;
         this.subject = subject;
@@ -78,6 +94,19 @@ public class Todo extends BaseTimeEntity {
         this.creatorType = creatorType;
     }
 
+    // 반복 할일의 발생일을 Todo로 생성
+    public Todo(TodoSeries series, LocalDate occurrenceDate) {
+        this(series.getMentee(), series.getTitle(), series.getSubject(), series.getGoalDescription(),
+                occurrenceDate, occurrenceDate, series.getCreatedBy(), series.getCreatorType());
+        this.series = series;
+        this.occurrenceDate = occurrenceDate;
+        this.materialSet = series.getMaterialSet();
+    }
+
+    public void changeMaterialSet(MaterialSet materialSet) {
+        this.materialSet = materialSet;
+    }
+
     public void complete() {
         this.isCompleted = true;
     }
@@ -86,12 +115,9 @@ public class Todo extends BaseTimeEntity {
         this.isCompleted = false;
     }
 
-    public void addStudyTime(int seconds) {
-        this.studyTime = (this.studyTime != null ? this.studyTime : 0) + seconds;
-    }
-
     public void updateContent(String title, String subject, String goalDescription,
                               LocalDate startDate, LocalDate endDate) {
+        validatePeriod(startDate, endDate);
         this.title = title;
         this.subject = subject;
         this.goalDescription = goalDescription;
@@ -102,4 +128,10 @@ public class Todo extends BaseTimeEntity {
     public void setMentorConfirmed(boolean confirmed) {
         this.mentorConfirmed = confirmed;
     }
+
+    private static void validatePeriod(LocalDate startDate, LocalDate endDate) {
+        if (startDate != null && endDate != null && ChronoUnit.DAYS.between(startDate, endDate) >= MAX_PERIOD_DAYS) {
+            throw new IllegalArgumentException("할일 기간은 최대 " + MAX_PERIOD_DAYS + "일까지 설정할 수 있습니다");
+        }
+    }
 }
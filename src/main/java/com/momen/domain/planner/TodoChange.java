@@ -0,0 +1,61 @@
+package com.momen.domain.planner;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 캘린더 변경 피드 항목.
+ * Todo 단위 변경은 Todo당 1행으로 압축되어 마지막 변경 순번만 남고,
+ * 반복 할일 변경처럼 Todo로 표현되지 않는 변경은 영향받은 날짜 범위로 기록된다 (todoId 없음).
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "todo_changes",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_todo_changes_todo", columnNames = {"todo_id"})
+        },
+        indexes = {
+                @Index(name = "idx_todo_changes_feed", columnList = "mentee_id, change_seq")
+        })
+public class TodoChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_changes_seq")
+    @SequenceGenerator(name = "todo_changes_seq", sequenceName = "todo_changes_seq", allocationSize = 50)
+    @Column(name = "change_id")
+    private Long id;
+
+    @Column(name = "mentee_id", nullable = false)
+    private Long menteeId;
+
+    @Column(name = "todo_id")
+    private Long todoId;
+
+    @Column(name = "range_start")
+    private LocalDate rangeStart;
+
+    @Column(name = "range_end")
+    private LocalDate rangeEnd;
+
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    public TodoChange(Long menteeId, Long todoId, LocalDate rangeStart, LocalDate rangeEnd,
+                      long changeSeq, LocalDateTime changedAt) {
+        this.menteeId = menteeId;
+        this.todoId = todoId;
+        this.rangeStart = rangeStart;
+        this.rangeEnd = rangeEnd;
+        this.changeSeq = changeSeq;
+        this.changedAt = changedAt;
+    }
+}
@@ -0,0 +1,34 @@
+package com.momen.domain.planner;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 멘티별 Todo 변경 커서 (변경 피드의 순번 발급).
+ * 순번은 이 행을 갱신(행 잠금)하여 발급하므로, 같은 멘티의 변경은 커밋 순서대로 순번이 증가한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "todo_change_cursors")
+public class TodoChangeCursor {
+
+    @Id
+    @Column(name = "mentee_id")
+    private Long menteeId;
+
+    // 마지막으로 발급한 순번
+    @Column(name = "last_seq", nullable = false)
+    private long lastSeq;
+
+    // 이 순번 이하의 변경은 정리되어 피드로 이어받을 수 없음
+    @Column(name = "pruned_seq", nullable = false)
+    private long prunedSeq;
+
+    public TodoChangeCursor(Long menteeId, long lastSeq) {
+        this.menteeId = menteeId;
+        this.lastSeq = lastSeq;
+    }
+}
@@ -0,0 +1,47 @@
+package com.momen.domain.planner;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Todo 날짜 버킷 인덱스.
+ * Todo 하나가 걸쳐 있는 날짜마다 (멘티, 날짜, Todo) 한 행을 유지하여
+ * 일/주/월 조회를 startDate/endDate 겹침 조건 대신 (mentee_id, bucket_date) 범위 스캔으로 처리한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "todo_day_buckets",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_todo_day_buckets_todo_date", columnNames = {"todo_id", "bucket_date"})
+        },
+        indexes = {
+                @Index(name = "idx_todo_day_buckets_mentee_date", columnList = "mentee_id, bucket_date, todo_id")
+        })
+public class TodoDayBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_day_buckets_seq")
+    @SequenceGenerator(name = "todo_day_buckets_seq", sequenceName = "todo_day_buckets_seq", allocationSize = 50)
+    @Column(name = "bucket_id")
+    private Long id;
+
+    @Column(name = "mentee_id", nullable = false)
+    private Long menteeId;
+
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;
+
+    @Column(name = "todo_id", nullable = false)
+    private Long todoId;
+
+    public TodoDayBucket(Long menteeId, LocalDate bucketDate, Long todoId) {
+        this.menteeId = menteeId;
+        this.bucketDate = bucketDate;
+        this.todoId = todoId;
+    }
+}
@@ -0,0 +1,144 @@
+package com.momen.domain.planner;
+
+import com.momen.core.entity.BaseTimeEntity;
+import com.momen.domain.mentoring.Mentee;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 반복 할일 (요일 반복 규칙 + 제외 날짜).
+ * 날짜별 Todo 행을 미리 만들지 않고 조회 시점에 발생일(occurrence)을 펼쳐서 보여준다.
+ * 완료/제출/피드백이 필요한 발생일만 Todo 행으로 생성(materialize)된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "todo_series")
+public class TodoSeries extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_series_seq")
+    @SequenceGenerator(name = "todo_series_seq", sequenceName = "todo_series_seq", allocationSize = 50)
+    @Column(name = "series_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "mentee_id", nullable = false)
+    private Mentee mentee;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(nullable = false, length = 20)
+    private String subject;
+
+    @Column(name = "goal_description", columnDefinition = "TEXT")
+    private String goalDescription;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Column(name = "repeat_days", nullable = false, length = 100)
+    private String repeatDays; // MONDAY,WEDNESDAY,FRIDAY
+
+    @Column(name = "created_by", nullable = false)
+    private Long createdBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "creator_type", nullable = false, length = 10)
+    private CreatorType creatorType = CreatorType.MENTOR;
+
+    // 학습자료 묶음 (발생일 Todo와 분리된 시리즈가 함께 참조)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "material_set_id")
+    private MaterialSet materialSet;
+
+    // 발생하지 않는 날짜 (발생일 단건 삭제 등)
+    @ElementCollection
+    @CollectionTable(name = "todo_series_exclusions", joinColumns = @JoinColumn(name = "series_id"))
+    @Column(name = "excluded_date")
+    private Set<LocalDate> excludedDates = new HashSet<>();
+
+    @Transient
+    private Set<DayOfWeek> repeatDayOfWeeks;
+
+    public TodoSeries(Mentee mentee, String title, String subject, String goalDescription,
+                      LocalDate startDate, LocalDate endDate, Set<DayOfWeek> repeatDays,
+                      Long createdBy, CreatorType creatorType) {
+        this.mentee = mentee;
+        this.title = title;
+        this.subject = subject;
+        this.goalDescription = goalDescription;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.repeatDays = repeatDays.stream()
+                .sorted()
+                .map(DayOfWeek::name)
+                .collect(Collectors.joining(","));
+        this.createdBy = createdBy;
+        this.creatorType = creatorType;
+    }
+
+    public Set<DayOfWeek> getRepeatDayOfWeeks() {
+        if (repeatDayOfWeeks == null) {
+            EnumSet<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+            for (String day : repeatDays.split(",")) {
+                days.add(DayOfWeek.valueOf(day.trim()));
+            }
+            repeatDayOfWeeks = days;
+        }
+        return repeatDayOfWeeks;
+    }
+
+    // 해당 날짜에 발생하는지 여부 (기간, 요일, 제외 날짜 기준)
+    public boolean occursOn(LocalDate date) {
+        return !date.isBefore(startDate)
+                && !date.isAfter(endDate)
+                && getRepeatDayOfWeeks().contains(date.getDayOfWeek())
+                && !excludedDates.contains(date);
+    }
+
+    public void exclude(LocalDate date) {
+        excludedDates.add(date);
+    }
+
+    public void changeMaterialSet(MaterialSet materialSet) {
+        this.materialSet = materialSet;
+    }
+
+    public void updateContent(String title, String subject, String goalDescription) {
+        this.title = title;
+        this.subject = subject;
+        this.goalDescription = goalDescription;
+    }
+
+    // 종료일 앞당기기 ("이후 일정" 삭제/분리 시)
+    public void endAt(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    /**
+     * from 이후 발생일을 새 시리즈로 분리한다 ("이 일정 및 이후 일정" 수정).
+     * 새 시리즈는 같은 반복 규칙, 자료 묶음, from 이후 제외 날짜를 이어받고, 이 시리즈는 from 전날에 끝난다.
+     */
+    public TodoSeries splitFrom(LocalDate from) {
+        TodoSeries next = new TodoSeries(mentee, title, subject, goalDescription,
+                from, endDate, getRepeatDayOfWeeks(), createdBy, creatorType);
+        next.materialSet = materialSet;
+        excludedDates.stream()
+                .filter(d -> !d.isBefore(from))
+                .forEach(next::exclude);
+        endAt(from.minusDays(1));
+        return next;
+    }
+}
@@ -0,0 +1,10 @@
+package com.momen.domain.planner;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 아직 Todo 행으로 생성되지 않은 반복 할일의 발생일 (조회 시점에 펼쳐진 가상 Todo).
+ */
+public record TodoSeriesOccurrence(TodoSeries series, LocalDate date, List<AssignmentMaterial> materials) {
+}
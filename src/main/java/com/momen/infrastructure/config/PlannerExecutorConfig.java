@@ -0,0 +1,30 @@
+package com.momen.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플래너 조회 병렬 실행용 Executor 설정
+ * 조회마다 DB 커넥션을 쓰므로, 동시 실행 수를 커넥션 풀의 절반으로 제한해 (bulkhead)
+ * 병렬 조회가 몰려도 다른 요청이 쓸 커넥션이 남도록 한다. 대기열이 차면 RejectedExecutionException으로 바로 거절한다.
+ */
+@Configuration
+public class PlannerExecutorConfig {
+
+    private static final int QUEUE_PER_THREAD = 8;
+
+    @Bean(destroyMethod = "close")
+    public ExecutorService plannerReadExecutor(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int dbPoolSize) {
+        int threads = Math.max(2, dbPoolSize / 2);
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * QUEUE_PER_THREAD),
+                Thread.ofPlatform().name("planner-read-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
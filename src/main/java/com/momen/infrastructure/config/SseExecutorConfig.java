@@ -0,0 +1,20 @@
+package com.momen.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * SSE 전송용 Executor 설정
+ * 느린 클라이언트에 대한 쓰기 대기가 요청/스케줄러 스레드를 막지 않도록 연결별 전송을 가상 스레드에서 수행한다.
+ */
+@Configuration
+public class SseExecutorConfig {
+
+    @Bean(destroyMethod = "close")
+    public ExecutorService sseSendExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-send-", 0).factory());
+    }
+}
@@ -0,0 +1,17 @@
+package com.momen.infrastructure.jpa.common;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 신규 엔티티 일괄 저장용 repository fragment.
+ * SEQUENCE(pooled) ID 엔티티에서만 JDBC batch insert로 전송된다.
+ */
+public interface BatchInsertRepository<T> {
+
+    /**
+     * 신규 엔티티를 persist 하고 한 번에 flush 한다 (JDBC batch 크기 단위로 전송).
+     * saveAll과 달리 isNew/merge 판단을 하지 않으므로 반드시 신규 엔티티만 전달해야 한다.
+     */
+    <S extends T> List<S> insertAll(Collection<S> entities);
+}
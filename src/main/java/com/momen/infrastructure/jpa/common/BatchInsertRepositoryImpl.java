@@ -0,0 +1,28 @@
+package com.momen.infrastructure.jpa.common;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class BatchInsertRepositoryImpl<T> implements BatchInsertRepository<T> {
+
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public <S extends T> List<S> insertAll(Collection<S> entities) {
+        for (S entity : entities) {
+            entityManager.persist(entity);
+        }
+        // INSERT는 flush 시 hibernate.jdbc.batch_size 단위로 묶여 전송된다.
+        // 영속성 컨텍스트를 비우지 않으므로 (호출 측에서 저장한 엔티티를 계속 사용) 배치마다 flush 하면
+        // 매번 관리 중인 엔티티 전체를 dirty checking 하게 되어 건수의 제곱에 비례해 느려진다 -> 마지막에 1회만 flush
+        entityManager.flush();
+        return new ArrayList<>(entities);
+    }
+}
@@ -1,11 +1,47 @@
 package com.momen.infrastructure.jpa.mentoring;
 
 import com.momen.domain.mentoring.Mentee;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface MenteeRepository extends JpaRepository<Mentee, Long> {
     Optional<Mentee> findByUserId(Long userId);
+
+    // 멘티 ID만 조회 (카드/과목 컬렉션 로딩 없이)
+    @Query("SELECT m.id FROM Mentee m WHERE m.user.id = :userId")
+    Optional<Long> findIdByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT s FROM Mentee m JOIN m.subjects s WHERE m.id = :menteeId")
+    List<String> findSubjectsByMenteeId(@Param("menteeId") Long menteeId);
+
+    // 마이페이지용 (사용자, 담당 멘토 이름까지 한 번에 조회)
+    @Query("SELECT m FROM Mentee m JOIN FETCH m.user LEFT JOIN FETCH m.mentor mt LEFT JOIN FETCH mt.user " +
+           "WHERE m.user.id = :userId")
+    Optional<Mentee> findWithUserAndMentorByUserId(@Param("userId") Long userId);
     List<Mentee> findByMentorId(Long mentorId);
+
+    // 멘토 담당 멘티 목록 (사용자 프로필 포함, 이름순)
+    @Query("SELECT new com.momen.infrastructure.jpa.mentoring.MenteeRosterRow(m.id, u.id, u.name, u.profileImageUrl, m.grade) " +
+           "FROM Mentee m JOIN m.user u WHERE m.mentor.id = :mentorId ORDER BY u.name ASC, m.id ASC")
+    List<MenteeRosterRow> findRosterByMentorId(@Param("mentorId") Long mentorId);
+
+    // 멘토 담당 멘티 전체의 특징 카드
+    @Query("SELECT new com.momen.infrastructure.jpa.mentoring.MenteeValueRow(m.id, c) " +
+           "FROM Mentee m JOIN m.cards c WHERE m.mentor.id = :mentorId")
+    List<MenteeValueRow> findCardsByMentorId(@Param("mentorId") Long mentorId);
+
+    // 멘티 여러 명의 수강 과목
+    @Query("SELECT new com.momen.infrastructure.jpa.mentoring.MenteeValueRow(m.id, s) " +
+           "FROM Mentee m JOIN m.subjects s WHERE m.id IN :menteeIds")
+    List<MenteeValueRow> findSubjectsByMenteeIds(@Param("menteeIds") Collection<Long> menteeIds);
+
+    // 배치 작업용 멘티 ID 페이지 조회 (id 오름차순)
+    @Query("SELECT m.id FROM Mentee m WHERE m.id > :lastId ORDER BY m.id ASC")
+    List<Long> findIdsGreaterThan(@Param("lastId") Long lastId, Pageable pageable);
 }
@@ -0,0 +1,14 @@
+package com.momen.infrastructure.jpa.mentoring;
+
+/**
+ * 멘토 담당 멘티 목록 조회용 프로젝션 (멘티 + 사용자 프로필).
+ * 카드/과목 컬렉션은 포함하지 않는다 (담당 멘티 전체를 IN 쿼리로 따로 조회).
+ */
+public record MenteeRosterRow(
+        Long menteeId,
+        Long userId,
+        String name,
+        String profileImageUrl,
+        String grade
+) {
+}
@@ -0,0 +1,7 @@
+package com.momen.infrastructure.jpa.mentoring;
+
+/**
+ * 멘티별 컬렉션 값 조회용 프로젝션 (카드, 수강 과목 등 멘티 1명 x 값 1개 = 1행).
+ */
+public record MenteeValueRow(Long menteeId, String value) {
+}
@@ -0,0 +1,59 @@
+package com.momen.infrastructure.jpa.notification;
+
+import com.momen.domain.notification.NotificationOutbox;
+import com.momen.infrastructure.jpa.common.BatchInsertRepository;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long>,
+        BatchInsertRepository<NotificationOutbox> {
+
+    // 커밋 직후 전송용: 아직 한 번도 시도하지 않은 행만 (스위퍼가 먼저 잡은 행 제외)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")) // SKIP LOCKED
+    @Query("SELECT o FROM NotificationOutbox o JOIN FETCH o.notification " +
+           "WHERE o.id IN :ids AND o.attempts = 0")
+    List<NotificationOutbox> findNewForUpdate(@Param("ids") Collection<Long> ids);
+
+    // 스위퍼용: 재시도 시각이 지난 행 (다른 노드가 잡고 있는 행은 건너뜀)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")) // SKIP LOCKED
+    @Query("SELECT o FROM NotificationOutbox o JOIN FETCH o.notification " +
+           "WHERE o.nextAttemptAt <= :now AND o.attempts < :maxAttempts ORDER BY o.nextAttemptAt ASC, o.id ASC")
+    List<NotificationOutbox> findDueForUpdate(@Param("now") LocalDateTime now,
+                                              @Param("maxAttempts") int maxAttempts,
+                                              Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 재시도 한도를 넘긴 행 정리용
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.attempts >= :maxAttempts AND o.nextAttemptAt < :before")
+    int deleteExhaustedBefore(@Param("maxAttempts") int maxAttempts, @Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.lastError = :error WHERE o.id = :id")
+    int updateLastError(@Param("id") Long id, @Param("error") String error);
+
+    // 일부 노드에만 전달된 경우 이벤트 ID와 남은 노드 기록
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.lastError = :error, o.sseEventId = :sseEventId, " +
+           "o.pendingNodes = :pendingNodes WHERE o.id = :id")
+    int updatePartialDelivery(@Param("id") Long id,
+                              @Param("error") String error,
+                              @Param("sseEventId") Long sseEventId,
+                              @Param("pendingNodes") String pendingNodes);
+}
@@ -1,6 +1,7 @@
 package com.momen.infrastructure.jpa.notification;
 
 import com.momen.domain.notification.Notification;
+import com.momen.infrastructure.jpa.common.BatchInsertRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,7 +9,7 @@ import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
+public interface NotificationRepository extends JpaRepository<Notification, Long>, BatchInsertRepository<Notification> {
 
     List<Notification> findByUserIdAndIsReadFalseOrderByCreateDtDesc(Long userId);
 
@@ -1,13 +1,23 @@
 package com.momen.infrastructure.jpa.planner;
 
 import com.momen.domain.planner.AssignmentMaterial;
+import com.momen.infrastructure.jpa.common.BatchInsertRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Collection;
 import java.util.List;
 
-public interface AssignmentMaterialRepository extends JpaRepository<AssignmentMaterial, Long> {
-    List<AssignmentMaterial> findByTodoId(Long todoId);
-    List<AssignmentMaterial> findByTodoIdIn(Collection<Long> todoIds); // 멘티화면 리스트 보여주는거
-    void deleteByTodoId(Long todoId);
+public interface AssignmentMaterialRepository extends JpaRepository<AssignmentMaterial, Long>, BatchInsertRepository<AssignmentMaterial> {
+    List<AssignmentMaterial> findByMaterialSetId(Long materialSetId);
+    List<AssignmentMaterial> findByMaterialSetIdIn(Collection<Long> materialSetIds); // 여러 자료 묶음 한 번에 조회
+
+    // Todo/반복 할일 어디에서도 참조하지 않는 자료 묶음의 자료 삭제
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM AssignmentMaterial m WHERE m.materialSet.id IN :materialSetIds " +
+           "AND NOT EXISTS (SELECT t.id FROM Todo t WHERE t.materialSet.id = m.materialSet.id) " +
+           "AND NOT EXISTS (SELECT s.id FROM TodoSeries s WHERE s.materialSet.id = m.materialSet.id)")
+    int deleteUnreferenced(@Param("materialSetIds") Collection<Long> materialSetIds);
 }
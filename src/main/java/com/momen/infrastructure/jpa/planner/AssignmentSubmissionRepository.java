@@ -2,9 +2,33 @@ package com.momen.infrastructure.jpa.planner;
 
 import com.momen.domain.planner.AssignmentSubmission;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface AssignmentSubmissionRepository extends JpaRepository<AssignmentSubmission, Long> {
     Optional<AssignmentSubmission> findByTodoId(Long todoId);
+
+    List<AssignmentSubmission> findByTodoIdIn(Collection<Long> todoIds); // 여러 Todo 제출물 한 번에 조회
+
+    // Todo 제출물의 검토 상태 (제출물이 없으면 빈 값)
+    @Query("SELECT new com.momen.infrastructure.jpa.planner.SubmissionReviewRow(" +
+           "t.id, m.id, m.mentor.id, s.id, COALESCE(s.submittedAt, s.createDt), " +
+           "CASE WHEN f.id IS NULL THEN true ELSE false END, " +
+           "CASE WHEN f.question IS NOT NULL AND f.answer IS NULL THEN true ELSE false END) " +
+           "FROM AssignmentSubmission s JOIN s.todo t JOIN t.mentee m " +
+           "LEFT JOIN TodoFeedback f ON f.todo = t " +
+           "WHERE t.id = :todoId")
+    Optional<SubmissionReviewRow> findReviewState(@Param("todoId") Long todoId);
+
+    // 반복 할일 from 이후 발생일 Todo의 제출물 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM AssignmentSubmission s WHERE s.todo.id IN (" +
+           "SELECT t.id FROM Todo t WHERE t.series.id = :seriesId AND t.occurrenceDate >= :fromDate)")
+    int deleteBySeriesOccurrencesFrom(@Param("seriesId") Long seriesId, @Param("fromDate") LocalDate fromDate);
 }
@@ -0,0 +1,19 @@
+package com.momen.infrastructure.jpa.planner;
+
+import com.momen.domain.planner.MaterialSet;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface MaterialSetRepository extends JpaRepository<MaterialSet, Long> {
+
+    // Todo/반복 할일 어디에서도 참조하지 않는 자료 묶음 삭제 (자료를 먼저 삭제해야 함)
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM MaterialSet ms WHERE ms.id IN :materialSetIds " +
+           "AND NOT EXISTS (SELECT t.id FROM Todo t WHERE t.materialSet.id = ms.id) " +
+           "AND NOT EXISTS (SELECT s.id FROM TodoSeries s WHERE s.materialSet.id = ms.id)")
+    int deleteUnreferenced(@Param("materialSetIds") Collection<Long> materialSetIds);
+}
@@ -0,0 +1,7 @@
+package com.momen.infrastructure.jpa.planner;
+
+/**
+ * 멘티별 건수 조회용 프로젝션.
+ */
+public record MenteeCountRow(Long menteeId, Long count) {
+}
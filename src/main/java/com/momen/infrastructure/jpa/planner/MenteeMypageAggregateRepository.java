@@ -0,0 +1,57 @@
+package com.momen.infrastructure.jpa.planner;
+
+import com.momen.domain.planner.MenteeMypageAggregate;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface MenteeMypageAggregateRepository extends JpaRepository<MenteeMypageAggregate, Long> {
+
+    // 과목별 수 증분 반영용 (행 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM MenteeMypageAggregate a WHERE a.menteeId = :menteeId")
+    Optional<MenteeMypageAggregate> findForUpdate(@Param("menteeId") Long menteeId);
+
+    // 첫 조회 생성용 (다른 요청이 먼저 만들었으면 무시)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO mentee_mypage_aggregates " +
+                   "(mentee_id, window_start, window_end, total_todos, completed_todos, study_seconds, subject_counts) " +
+                   "VALUES (:menteeId, :windowStart, :windowEnd, :totalTodos, :completedTodos, :studySeconds, :subjectCounts)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("menteeId") Long menteeId,
+                       @Param("windowStart") LocalDate windowStart,
+                       @Param("windowEnd") LocalDate windowEnd,
+                       @Param("totalTodos") int totalTodos,
+                       @Param("completedTodos") int completedTodos,
+                       @Param("studySeconds") long studySeconds,
+                       @Param("subjectCounts") String subjectCounts);
+
+    // 집계 기간과 겹치는 Todo의 학습 시간 원자적 누적
+    @Modifying
+    @Query("UPDATE MenteeMypageAggregate a SET a.studySeconds = a.studySeconds + :seconds " +
+           "WHERE a.menteeId = :menteeId AND a.windowStart <= :endDate AND a.windowEnd >= :startDate")
+    int addStudySeconds(@Param("menteeId") Long menteeId,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate,
+                        @Param("seconds") long seconds);
+
+    // 반복 할일 변경 등 증분 반영이 어려운 경우 삭제 (다음 조회 때 다시 계산)
+    @Modifying
+    @Query("DELETE FROM MenteeMypageAggregate a WHERE a.menteeId = :menteeId")
+    int markStale(@Param("menteeId") Long menteeId);
+
+    // 기간을 옮겨야 하는 집계 (일일 갱신용, mentee_id 오름차순)
+    @Query("SELECT a.menteeId FROM MenteeMypageAggregate a " +
+           "WHERE a.windowEnd < :today AND a.menteeId > :lastMenteeId ORDER BY a.menteeId ASC")
+    List<Long> findOutdatedMenteeIds(@Param("today") LocalDate today,
+                                     @Param("lastMenteeId") Long lastMenteeId,
+                                     Pageable pageable);
+}
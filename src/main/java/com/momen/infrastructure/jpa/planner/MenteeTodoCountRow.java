@@ -0,0 +1,7 @@
+package com.momen.infrastructure.jpa.planner;
+
+/**
+ * 멘티/과목별 Todo 수 조회용 프로젝션.
+ */
+public record MenteeTodoCountRow(Long menteeId, String subject, Long total, Long completed) {
+}
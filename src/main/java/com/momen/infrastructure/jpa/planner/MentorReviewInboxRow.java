@@ -0,0 +1,22 @@
+package com.momen.infrastructure.jpa.planner;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 멘토 검토 대기함 목록 행.
+ */
+public record MentorReviewInboxRow(
+        Long todoId,
+        Long submissionId,
+        Long menteeId,
+        String menteeName,
+        String title,
+        String subject,
+        LocalDate startDate,
+        LocalDate endDate,
+        LocalDateTime submittedAt,
+        boolean awaitingFeedback,
+        boolean unansweredQuestion
+) {
+}
@@ -0,0 +1,47 @@
+package com.momen.infrastructure.jpa.planner;
+
+import com.momen.domain.planner.MentorReviewItem;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MentorReviewItemRepository extends JpaRepository<MentorReviewItem, Long> {
+
+    String INBOX_SELECT = "SELECT new com.momen.infrastructure.jpa.planner.MentorReviewInboxRow(" +
+            "q.todoId, q.submissionId, q.menteeId, u.name, t.title, t.subject, t.startDate, t.endDate, " +
+            "q.submittedAt, q.awaitingFeedback, q.unansweredQuestion) " +
+            "FROM MentorReviewItem q JOIN Todo t ON t.id = q.todoId " +
+            "JOIN Mentee m ON m.id = q.menteeId JOIN m.user u ";
+
+    // 검토 대기함 첫 페이지 (제출 시각 오름차순, idx_mentor_review_queue_inbox 범위 스캔)
+    @Query(INBOX_SELECT +
+           "WHERE q.mentorId = :mentorId " +
+           "ORDER BY q.submittedAt ASC, q.todoId ASC")
+    List<MentorReviewInboxRow> findInbox(@Param("mentorId") Long mentorId, Pageable pageable);
+
+    // 검토 대기함 다음 페이지 (이전 페이지 마지막 항목 이후부터)
+    @Query(INBOX_SELECT +
+           "WHERE q.mentorId = :mentorId " +
+           "AND (q.submittedAt > :afterSubmittedAt OR (q.submittedAt = :afterSubmittedAt AND q.todoId > :afterTodoId)) " +
+           "ORDER BY q.submittedAt ASC, q.todoId ASC")
+    List<MentorReviewInboxRow> findInboxAfter(@Param("mentorId") Long mentorId,
+                                              @Param("afterSubmittedAt") LocalDateTime afterSubmittedAt,
+                                              @Param("afterTodoId") Long afterTodoId,
+                                              Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM MentorReviewItem q WHERE q.todoId = :todoId")
+    int deleteByTodoId(@Param("todoId") Long todoId);
+
+    // 반복 할일 from 이후 발생일 Todo의 검토 대기 항목 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM MentorReviewItem q WHERE q.todoId IN (" +
+           "SELECT t.id FROM Todo t WHERE t.series.id = :seriesId AND t.occurrenceDate >= :fromDate)")
+    int deleteBySeriesOccurrencesFrom(@Param("seriesId") Long seriesId, @Param("fromDate") LocalDate fromDate);
+}
@@ -0,0 +1,23 @@
+package com.momen.infrastructure.jpa.planner;
+
+import java.time.LocalDate;
+
+/**
+ * 멘토 담당 멘티 전체의 주간 Todo 조회용 프로젝션 (Todo 1건 = 1행, 학습자료 제외).
+ */
+public record MentorWeekTodoRow(
+        Long menteeId,
+        Long todoId,
+        String title,
+        String subject,
+        LocalDate startDate,
+        LocalDate endDate,
+        Boolean isCompleted,
+        Boolean mentorConfirmed,
+        Integer studyTime,
+        Long seriesId,
+        LocalDate occurrenceDate,
+        Boolean hasMentorComment,
+        Boolean hasUnansweredQuestion
+) {
+}
@@ -2,8 +2,19 @@ package com.momen.infrastructure.jpa.planner;
 
 import com.momen.domain.planner.MistakeNote;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
 import java.util.List;
 
 public interface MistakeNoteRepository extends JpaRepository<MistakeNote, Long> {
     List<MistakeNote> findByMenteeId(Long menteeId);
+
+    // 반복 할일 from 이후 발생일 Todo 삭제 전 연결 해제
+    @Modifying
+    @Query("UPDATE MistakeNote n SET n.todo = null WHERE n.todo.id IN (" +
+           "SELECT t.id FROM Todo t WHERE t.series.id = :seriesId AND t.occurrenceDate >= :fromDate)")
+    int detachSeriesOccurrencesFrom(@Param("seriesId") Long seriesId, @Param("fromDate") LocalDate fromDate);
 }
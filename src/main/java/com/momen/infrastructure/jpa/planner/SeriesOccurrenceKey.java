@@ -0,0 +1,9 @@
+package com.momen.infrastructure.jpa.planner;
+
+import java.time.LocalDate;
+
+/**
+ * Todo 행으로 생성된 반복 할일 발생일 (시리즈 ID + 발생일).
+ */
+public record SeriesOccurrenceKey(Long seriesId, LocalDate occurrenceDate) {
+}
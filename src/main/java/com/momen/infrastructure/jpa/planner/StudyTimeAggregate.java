@@ -0,0 +1,9 @@
+package com.momen.infrastructure.jpa.planner;
+
+import java.time.LocalDate;
+
+/**
+ * Todo 원본 기준 날짜/과목별 학습 집계 (study_time_rollups 정합성 점검용)
+ */
+public record StudyTimeAggregate(LocalDate date, String subject, Long studySeconds, Long completedCount, Long totalCount) {
+}
@@ -0,0 +1,78 @@
+package com.momen.infrastructure.jpa.planner;
+
+import com.momen.domain.planner.StudyTimeRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface StudyTimeRollupRepository extends JpaRepository<StudyTimeRollup, Long> {
+
+    List<StudyTimeRollup> findByMenteeIdAndRollupDateBetween(Long menteeId, LocalDate startDate, LocalDate endDate);
+
+    // 증분 반영 (행이 없으면 생성). 동시에 처음 쓰는 트랜잭션도 uk_study_time_rollups_key에서 누적으로 합쳐진다
+    @Modifying
+    @Query(value = "INSERT INTO study_time_rollups " +
+                   "(mentee_id, rollup_date, subject, study_seconds, completed_count, total_count) " +
+                   "VALUES (:menteeId, :date, :subject, :seconds, :completed, :total) " +
+                   "ON DUPLICATE KEY UPDATE study_seconds = study_seconds + :seconds, " +
+                   "completed_count = completed_count + :completed, total_count = total_count + :total",
+           nativeQuery = true)
+    int upsert(@Param("menteeId") Long menteeId,
+                  @Param("date") LocalDate date,
+                  @Param("subject") String subject,
+                  @Param("seconds") long seconds,
+                  @Param("completed") int completed,
+                  @Param("total") int total);
+
+    @Modifying
+    @Query("DELETE FROM StudyTimeRollup r WHERE r.menteeId = :menteeId AND r.rollupDate BETWEEN :startDate AND :endDate")
+    int deleteByMenteeIdAndRange(@Param("menteeId") Long menteeId,
+                                 @Param("startDate") LocalDate startDate,
+                                 @Param("endDate") LocalDate endDate);
+
+    @Modifying
+    @Query("DELETE FROM StudyTimeRollup r WHERE r.menteeId = :menteeId")
+    int deleteByMenteeId(@Param("menteeId") Long menteeId);
+
+    // Todo 원본으로부터 멘티 전체 집계를 다시 생성
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO StudyTimeRollup (menteeId, rollupDate, subject, studySeconds, completedCount, totalCount) " +
+           "SELECT t.mentee.id, t.startDate, t.subject, SUM(COALESCE(t.studyTime, 0)), " +
+           "SUM(CASE WHEN t.isCompleted = true THEN 1 ELSE 0 END), COUNT(t) " +
+           "FROM Todo t WHERE t.mentee.id = :menteeId " +
+           "GROUP BY t.mentee.id, t.startDate, t.subject")
+    int insertAllFromTodos(@Param("menteeId") Long menteeId);
+
+    // Todo 원본으로부터 기간 집계를 다시 생성
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO StudyTimeRollup (menteeId, rollupDate, subject, studySeconds, completedCount, totalCount) " +
+           "SELECT t.mentee.id, t.startDate, t.subject, SUM(COALESCE(t.studyTime, 0)), " +
+           "SUM(CASE WHEN t.isCompleted = true THEN 1 ELSE 0 END), COUNT(t) " +
+           "FROM Todo t WHERE t.mentee.id = :menteeId AND t.startDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY t.mentee.id, t.startDate, t.subject")
+    int insertFromTodos(@Param("menteeId") Long menteeId,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate);
+
+    // 조회 시작일 전에 시작해 시작일까지 이어지는 Todo (시작일 기준 집계에서 빠지는 기간 겹침분, 시작일의 날짜 버킷으로 조회)
+    @Query("SELECT new com.momen.infrastructure.jpa.planner.StudyTimeAggregate(t.startDate, t.subject, " +
+           "SUM(COALESCE(t.studyTime, 0)), SUM(CASE WHEN t.isCompleted = true THEN 1 ELSE 0 END), COUNT(t)) " +
+           "FROM TodoDayBucket b JOIN Todo t ON t.id = b.todoId " +
+           "WHERE b.menteeId = :menteeId AND b.bucketDate = :startDate AND t.startDate < :startDate " +
+           "GROUP BY t.startDate, t.subject")
+    List<StudyTimeAggregate> aggregateCarriedOver(@Param("menteeId") Long menteeId,
+                                                  @Param("startDate") LocalDate startDate);
+
+    // Todo 원본 기준 기간 집계 (정합성 점검용)
+    @Query("SELECT new com.momen.infrastructure.jpa.planner.StudyTimeAggregate(t.startDate, t.subject, " +
+           "SUM(COALESCE(t.studyTime, 0)), SUM(CASE WHEN t.isCompleted = true THEN 1 ELSE 0 END), COUNT(t)) " +
+           "FROM Todo t WHERE t.mentee.id = :menteeId AND t.startDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY t.mentee.id, t.startDate, t.subject")
+    List<StudyTimeAggregate> aggregateFromTodos(@Param("menteeId") Long menteeId,
+                                             @Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate);
+}
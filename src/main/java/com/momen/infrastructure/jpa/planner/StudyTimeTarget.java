@@ -0,0 +1,9 @@
+package com.momen.infrastructure.jpa.planner;
+
+import java.time.LocalDate;
+
+/**
+ * 학습 시간 반영 대상 Todo 정보 (집계 키와 캐시 무효화 범위)
+ */
+public record StudyTimeTarget(Long todoId, Long menteeId, String subject, LocalDate startDate, LocalDate endDate) {
+}
@@ -1,11 +1,24 @@
 package com.momen.infrastructure.jpa.planner;
 
 import com.momen.domain.planner.SubmissionFile;
+import com.momen.infrastructure.jpa.common.BatchInsertRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
-public interface SubmissionFileRepository extends JpaRepository<SubmissionFile, Long> {
+public interface SubmissionFileRepository extends JpaRepository<SubmissionFile, Long>, BatchInsertRepository<SubmissionFile> {
     List<SubmissionFile> findBySubmissionId(Long submissionId);
+    List<SubmissionFile> findBySubmissionIdIn(Collection<Long> submissionIds); // 여러 제출물 파일 한 번에 조회
     void deleteBySubmissionId(Long submissionId);
+
+    // 반복 할일 from 이후 발생일 Todo의 제출 파일 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM SubmissionFile f WHERE f.submission.id IN (" +
+           "SELECT s.id FROM AssignmentSubmission s WHERE s.todo.series.id = :seriesId AND s.todo.occurrenceDate >= :fromDate)")
+    int deleteBySeriesOccurrencesFrom(@Param("seriesId") Long seriesId, @Param("fromDate") LocalDate fromDate);
 }
@@ -0,0 +1,20 @@
+package com.momen.infrastructure.jpa.planner;
+
+import java.time.LocalDateTime;
+
+/**
+ * 제출물의 검토 상태 (검토 대기함 갱신용).
+ */
+public record SubmissionReviewRow(
+        Long todoId,
+        Long menteeId,
+        Long mentorId,
+        Long submissionId,
+        LocalDateTime submittedAt,
+        boolean awaitingFeedback,
+        boolean unansweredQuestion
+) {
+    public boolean pending() {
+        return awaitingFeedback || unansweredQuestion;
+    }
+}
@@ -0,0 +1,29 @@
+package com.momen.infrastructure.jpa.planner;
+
+import com.momen.domain.planner.CreatorType;
+
+import java.time.LocalDate;
+
+/**
+ * 캘린더 목록 조회용 프로젝션 (Todo 1건 x 학습자료 1건 = 1행).
+ * 학습자료가 없는 Todo는 material 컬럼이 null인 1행으로 조회된다.
+ */
+public record TodoCalendarRow(
+        Long todoId,
+        String title,
+        String subject,
+        String goalDescription,
+        LocalDate startDate,
+        LocalDate endDate,
+        Boolean mentorConfirmed,
+        CreatorType creatorType,
+        Boolean isCompleted,
+        Integer studyTime,
+        Long seriesId,
+        LocalDate occurrenceDate,
+        Boolean hasFeedback,
+        Long materialId,
+        String fileUrl,
+        String fileName
+) {
+}
@@ -0,0 +1,27 @@
+package com.momen.infrastructure.jpa.planner;
+
+import com.momen.domain.planner.TodoChangeCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface TodoChangeCursorRepository extends JpaRepository<TodoChangeCursor, Long> {
+
+    // 순번 증가 (커밋까지 행 잠금 유지, 행이 없으면 0 반환)
+    @Modifying
+    @Query("UPDATE TodoChangeCursor c SET c.lastSeq = c.lastSeq + 1 WHERE c.menteeId = :menteeId")
+    int increment(@Param("menteeId") Long menteeId);
+
+    @Query("SELECT c.lastSeq FROM TodoChangeCursor c WHERE c.menteeId = :menteeId")
+    Long findLastSeq(@Param("menteeId") Long menteeId);
+
+    // 정리될 변경의 최대 순번을 멘티별로 기록 (TodoChangeRepository.deleteChangedBefore 전에 실행)
+    @Modifying
+    @Query("UPDATE TodoChangeCursor c SET c.prunedSeq = " +
+           "(SELECT MAX(t.changeSeq) FROM TodoChange t WHERE t.menteeId = c.menteeId AND t.changedAt < :before) " +
+           "WHERE EXISTS (SELECT 1 FROM TodoChange t WHERE t.menteeId = c.menteeId AND t.changedAt < :before)")
+    int markPrunedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,31 @@
+package com.momen.infrastructure.jpa.planner;
+
+import com.momen.domain.planner.TodoChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TodoChangeRepository extends JpaRepository<TodoChange, Long> {
+
+    // Todo 변경 순번 갱신 (Todo당 1행, 행이 없으면 0 반환)
+    @Modifying
+    @Query("UPDATE TodoChange c SET c.changeSeq = :seq, c.changedAt = :changedAt " +
+           "WHERE c.menteeId = :menteeId AND c.todoId = :todoId")
+    int touch(@Param("menteeId") Long menteeId,
+              @Param("todoId") Long todoId,
+              @Param("seq") long seq,
+              @Param("changedAt") LocalDateTime changedAt);
+
+    // 커서 이후 변경 (순번 오름차순)
+    @Query("SELECT c FROM TodoChange c WHERE c.menteeId = :menteeId AND c.changeSeq > :cursor ORDER BY c.changeSeq ASC")
+    List<TodoChange> findAfter(@Param("menteeId") Long menteeId, @Param("cursor") long cursor, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM TodoChange c WHERE c.changedAt < :before")
+    int deleteChangedBefore(@Param("before") LocalDateTime before);
+}
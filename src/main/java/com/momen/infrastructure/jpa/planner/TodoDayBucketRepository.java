@@ -0,0 +1,28 @@
+package com.momen.infrastructure.jpa.planner;
+
+import com.momen.domain.planner.TodoDayBucket;
+import com.momen.infrastructure.jpa.common.BatchInsertRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+public interface TodoDayBucketRepository extends JpaRepository<TodoDayBucket, Long>, BatchInsertRepository<TodoDayBucket> {
+
+    @Modifying
+    @Query("DELETE FROM TodoDayBucket b WHERE b.todoId = :todoId")
+    int deleteByTodoId(@Param("todoId") Long todoId);
+
+    @Modifying
+    @Query("DELETE FROM TodoDayBucket b WHERE b.todoId IN :todoIds")
+    int deleteByTodoIdIn(@Param("todoIds") Collection<Long> todoIds);
+
+    // 반복 할일 from 이후 발생일 Todo의 날짜 버킷 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM TodoDayBucket b WHERE b.todoId IN (" +
+           "SELECT t.id FROM Todo t WHERE t.series.id = :seriesId AND t.occurrenceDate >= :fromDate)")
+    int deleteBySeriesOccurrencesFrom(@Param("seriesId") Long seriesId, @Param("fromDate") LocalDate fromDate);
+}
@@ -0,0 +1,9 @@
+package com.momen.infrastructure.jpa.planner;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜별 Todo 상태 집계 (달력 점 표시용).
+ */
+public record TodoDayStatusRow(LocalDate date, Long total, Long completed, Long withFeedback) {
+}
@@ -2,9 +2,11 @@ package com.momen.infrastructure.jpa.planner;
 
 import com.momen.domain.planner.TodoFeedback;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +17,25 @@ public interface TodoFeedbackRepository extends JpaRepository<TodoFeedback, Long
 
     List<TodoFeedback> findByTodoIdIn(List<Long> todoIds);
 
+    // 요청자 본인(멘티)의 Todo 또는 담당 멘티(멘토)의 Todo 피드백만 조회
+    @Query("SELECT tf FROM TodoFeedback tf JOIN tf.todo t JOIN t.mentee m LEFT JOIN m.mentor mr " +
+           "WHERE t.id IN :todoIds AND (m.user.id = :userId OR mr.user.id = :userId)")
+    List<TodoFeedback> findAccessibleByTodoIdIn(@Param("userId") Long userId, @Param("todoIds") List<Long> todoIds);
+
     @Query("SELECT tf.todo.id FROM TodoFeedback tf WHERE tf.todo.id IN :todoIds")
     List<Long> findTodoIdsWithFeedback(@Param("todoIds") List<Long> todoIds);
+
+    // 멘토 담당 멘티별 답변하지 않은 질문 수
+    @Query("SELECT new com.momen.infrastructure.jpa.planner.MenteeCountRow(t.mentee.id, COUNT(tf)) " +
+           "FROM TodoFeedback tf JOIN tf.todo t " +
+           "WHERE t.mentee.id IN (SELECT m.id FROM Mentee m WHERE m.mentor.id = :mentorId) " +
+           "AND tf.question IS NOT NULL AND tf.answer IS NULL " +
+           "GROUP BY t.mentee.id")
+    List<MenteeCountRow> countUnansweredQuestionsByMentorId(@Param("mentorId") Long mentorId);
+
+    // 반복 할일 from 이후 발생일 Todo의 피드백 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM TodoFeedback tf WHERE tf.todo.id IN (" +
+           "SELECT t.id FROM Todo t WHERE t.series.id = :seriesId AND t.occurrenceDate >= :fromDate)")
+    int deleteBySeriesOccurrencesFrom(@Param("seriesId") Long seriesId, @Param("fromDate") LocalDate fromDate);
 }
@@ -1,38 +1,146 @@
 package com.momen.infrastructure.jpa.planner;
 
+import com.momen.domain.planner.MaterialSet;
 import com.momen.domain.planner.Todo;
+import com.momen.domain.planner.TodoSeries;
+import com.momen.infrastructure.jpa.common.BatchInsertRepository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface TodoRepository extends JpaRepository<Todo, Long> {
+public interface TodoRepository extends JpaRepository<Todo, Long>, BatchInsertRepository<Todo> {
 
     List<Todo> findByMenteeId(Long menteeId);
 
-    // 일별 조회
-    @Query("SELECT t FROM Todo t WHERE t.mentee.id = :menteeId AND t.startDate <= :date AND t.endDate >= :date ORDER BY t.startDate ASC")
+    // 날짜 버킷 백필용: id 순으로 페이지 단위 조회
+    List<Todo> findByIdGreaterThanOrderByIdAsc(Long lastId, Pageable pageable);
+
+    // 일별 조회 (날짜 버킷 인덱스 사용)
+    @Query("SELECT t FROM Todo t WHERE t.id IN (" +
+           "SELECT b.todoId FROM TodoDayBucket b WHERE b.menteeId = :menteeId AND b.bucketDate = :date) " +
+           "ORDER BY t.startDate ASC")
     List<Todo> findByMenteeIdAndDate(@Param("menteeId") Long menteeId, @Param("date") LocalDate date);
 
-    // 월별/주별 조회
-    @Query("SELECT t FROM Todo t WHERE t.mentee.id = :menteeId AND t.startDate <= :endOfMonth AND t.endDate >= :startOfMonth ORDER BY t.startDate ASC")
+    // 월별/주별 조회 (날짜 버킷 인덱스 사용)
+    @Query("SELECT t FROM Todo t WHERE t.id IN (" +
+           "SELECT b.todoId FROM TodoDayBucket b WHERE b.menteeId = :menteeId AND b.bucketDate BETWEEN :startOfMonth AND :endOfMonth) " +
+           "ORDER BY t.startDate ASC")
     List<Todo> findByMenteeIdAndMonth(@Param("menteeId") Long menteeId,
                                        @Param("startOfMonth") LocalDate startOfMonth,
                                        @Param("endOfMonth") LocalDate endOfMonth);
 
     // 일별 조회 + 과목 필터
-    @Query("SELECT t FROM Todo t WHERE t.mentee.id = :menteeId AND t.startDate <= :date AND t.endDate >= :date AND t.subject IN :subjects ORDER BY t.startDate ASC")
+    @Query("SELECT t FROM Todo t WHERE t.id IN (" +
+           "SELECT b.todoId FROM TodoDayBucket b WHERE b.menteeId = :menteeId AND b.bucketDate = :date) " +
+           "AND t.subject IN :subjects ORDER BY t.startDate ASC")
     List<Todo> findByMenteeIdAndDateAndSubjects(@Param("menteeId") Long menteeId, @Param("date") LocalDate date, @Param("subjects") List<String> subjects);
 
     // 월별/주별 조회 + 과목 필터
-    @Query("SELECT t FROM Todo t WHERE t.mentee.id = :menteeId AND t.startDate <= :endOfMonth AND t.endDate >= :startOfMonth AND t.subject IN :subjects ORDER BY t.startDate ASC")
+    @Query("SELECT t FROM Todo t WHERE t.id IN (" +
+           "SELECT b.todoId FROM TodoDayBucket b WHERE b.menteeId = :menteeId AND b.bucketDate BETWEEN :startOfMonth AND :endOfMonth) " +
+           "AND t.subject IN :subjects ORDER BY t.startDate ASC")
     List<Todo> findByMenteeIdAndMonthAndSubjects(@Param("menteeId") Long menteeId,
                                                   @Param("startOfMonth") LocalDate startOfMonth,
                                                   @Param("endOfMonth") LocalDate endOfMonth,
                                                   @Param("subjects") List<String> subjects);
 
+    String DAY_STATUS_SELECT = "SELECT new com.momen.infrastructure.jpa.planner.TodoDayStatusRow(b.bucketDate, COUNT(t), " +
+            "SUM(CASE WHEN t.isCompleted = true THEN 1L ELSE 0L END), " +
+            "SUM(CASE WHEN tf.id IS NOT NULL THEN 1L ELSE 0L END)) " +
+            "FROM TodoDayBucket b JOIN Todo t ON t.id = b.todoId LEFT JOIN TodoFeedback tf ON tf.todo = t " +
+            "WHERE b.menteeId = :menteeId AND b.bucketDate BETWEEN :startDate AND :endDate ";
+
+    // 날짜별 Todo 수/완료 수/피드백 수 (날짜 버킷 인덱스 사용, 달력 점 표시용)
+    @Query(DAY_STATUS_SELECT + "GROUP BY b.bucketDate")
+    List<TodoDayStatusRow> findDayStatuses(@Param("menteeId") Long menteeId,
+                                           @Param("startDate") LocalDate startDate,
+                                           @Param("endDate") LocalDate endDate);
+
+    // 날짜별 Todo 상태 + 과목 필터
+    @Query(DAY_STATUS_SELECT + "AND t.subject IN :subjects GROUP BY b.bucketDate")
+    List<TodoDayStatusRow> findDayStatusesBySubjects(@Param("menteeId") Long menteeId,
+                                                     @Param("startDate") LocalDate startDate,
+                                                     @Param("endDate") LocalDate endDate,
+                                                     @Param("subjects") List<String> subjects);
+
+    // 반복 할일 발생일로 생성된 Todo 조회
+    Optional<Todo> findBySeriesIdAndOccurrenceDate(Long seriesId, LocalDate occurrenceDate);
+
+    // 기간 내 Todo로 생성된 반복 할일 발생일 (가상 발생일 펼칠 때 제외용)
+    @Query("SELECT new com.momen.infrastructure.jpa.planner.SeriesOccurrenceKey(t.series.id, t.occurrenceDate) " +
+           "FROM Todo t WHERE t.series.id IN :seriesIds AND t.occurrenceDate BETWEEN :startDate AND :endDate")
+    List<SeriesOccurrenceKey> findOccurrenceKeys(@Param("seriesIds") Collection<Long> seriesIds,
+                                                 @Param("startDate") LocalDate startDate,
+                                                 @Param("endDate") LocalDate endDate);
+
+    // 캘린더 목록용 프로젝션 조회 (학습자료, 피드백 여부를 한 번에 조회, 엔티티 로딩 없음)
+    @Query("SELECT new com.momen.infrastructure.jpa.planner.TodoCalendarRow(" +
+           "t.id, t.title, t.subject, t.goalDescription, t.startDate, t.endDate, t.mentorConfirmed, t.creatorType, " +
+           "t.isCompleted, t.studyTime, s.id, t.occurrenceDate, CASE WHEN f.id IS NULL THEN false ELSE true END, " +
+           "m.id, m.fileUrl, m.fileName) " +
+           "FROM Todo t LEFT JOIN t.series s LEFT JOIN t.todoFeedback f LEFT JOIN t.materialSet ms LEFT JOIN ms.materials m " +
+           "WHERE t.id IN (" +
+           "SELECT b.todoId FROM TodoDayBucket b WHERE b.menteeId = :menteeId AND b.bucketDate BETWEEN :startDate AND :endDate) " +
+           "ORDER BY t.startDate ASC, t.id ASC, m.id ASC")
+    List<TodoCalendarRow> findCalendarRows(@Param("menteeId") Long menteeId,
+                                           @Param("startDate") LocalDate startDate,
+                                           @Param("endDate") LocalDate endDate);
+
+    // 캘린더 목록용 프로젝션 조회 + 과목 필터
+    @Query("SELECT new com.momen.infrastructure.jpa.planner.TodoCalendarRow(" +
+           "t.id, t.title, t.subject, t.goalDescription, t.startDate, t.endDate, t.mentorConfirmed, t.creatorType, " +
+           "t.isCompleted, t.studyTime, s.id, t.occurrenceDate, CASE WHEN f.id IS NULL THEN false ELSE true END, " +
+           "m.id, m.fileUrl, m.fileName) " +
+           "FROM Todo t LEFT JOIN t.series s LEFT JOIN t.todoFeedback f LEFT JOIN t.materialSet ms LEFT JOIN ms.materials m " +
+           "WHERE t.id IN (" +
+           "SELECT b.todoId FROM TodoDayBucket b WHERE b.menteeId = :menteeId AND b.bucketDate BETWEEN :startDate AND :endDate) " +
+           "AND t.subject IN :subjects ORDER BY t.startDate ASC, t.id ASC, m.id ASC")
+    List<TodoCalendarRow> findCalendarRowsBySubjects(@Param("menteeId") Long menteeId,
+                                                     @Param("startDate") LocalDate startDate,
+                                                     @Param("endDate") LocalDate endDate,
+                                                     @Param("subjects") List<String> subjects);
+
+    // 멘토 담당 멘티 전체의 기간 Todo (피드백 대기/미답변 질문 여부 포함)
+    @Query("SELECT new com.momen.infrastructure.jpa.planner.MentorWeekTodoRow(" +
+           "t.mentee.id, t.id, t.title, t.subject, t.startDate, t.endDate, t.isCompleted, t.mentorConfirmed, t.studyTime, " +
+           "s.id, t.occurrenceDate, " +
+           "CASE WHEN f.mentorComment IS NULL THEN false ELSE true END, " +
+           "CASE WHEN f.question IS NOT NULL AND f.answer IS NULL THEN true ELSE false END) " +
+           "FROM Todo t LEFT JOIN t.series s LEFT JOIN t.todoFeedback f " +
+           "WHERE t.id IN (" +
+           "SELECT b.todoId FROM TodoDayBucket b WHERE b.bucketDate BETWEEN :startDate AND :endDate AND b.menteeId IN (" +
+           "SELECT m.id FROM Mentee m WHERE m.mentor.id = :mentorId)) " +
+           "ORDER BY t.startDate ASC, t.id ASC")
+    List<MentorWeekTodoRow> findMentorWeekRows(@Param("mentorId") Long mentorId,
+                                               @Param("startDate") LocalDate startDate,
+                                               @Param("endDate") LocalDate endDate);
+
+    // 멘토 담당 멘티 전체의 특정 날짜 Todo 수 (멘티/과목별 전체, 완료)
+    @Query("SELECT new com.momen.infrastructure.jpa.planner.MenteeTodoCountRow(" +
+           "t.mentee.id, t.subject, COUNT(t), SUM(CASE WHEN t.isCompleted = true THEN 1L ELSE 0L END)) " +
+           "FROM Todo t WHERE t.id IN (" +
+           "SELECT b.todoId FROM TodoDayBucket b WHERE b.bucketDate = :date AND b.menteeId IN (" +
+           "SELECT m.id FROM Mentee m WHERE m.mentor.id = :mentorId)) " +
+           "GROUP BY t.mentee.id, t.subject")
+    List<MenteeTodoCountRow> countMentorDailyTodos(@Param("mentorId") Long mentorId, @Param("date") LocalDate date);
+
+    // 변경 피드용 프로젝션 조회 (멘티 소유 Todo만, todoId 순)
+    @Query("SELECT new com.momen.infrastructure.jpa.planner.TodoCalendarRow(" +
+           "t.id, t.title, t.subject, t.goalDescription, t.startDate, t.endDate, t.mentorConfirmed, t.creatorType, " +
+           "t.isCompleted, t.studyTime, s.id, t.occurrenceDate, CASE WHEN f.id IS NULL THEN false ELSE true END, " +
+           "m.id, m.fileUrl, m.fileName) " +
+           "FROM Todo t LEFT JOIN t.series s LEFT JOIN t.todoFeedback f LEFT JOIN t.materialSet ms LEFT JOIN ms.materials m " +
+           "WHERE t.mentee.id = :menteeId AND t.id IN :todoIds ORDER BY t.id ASC, m.id ASC")
+    List<TodoCalendarRow> findCalendarRowsByIds(@Param("menteeId") Long menteeId,
+                                                @Param("todoIds") Collection<Long> todoIds);
+
     // 특정 날짜의 미완료 Todo 조회 (멘티, 유저 정보 함께 로딩)
     @Query("SELECT t FROM Todo t JOIN FETCH t.mentee m JOIN FETCH m.user " +
            "WHERE t.startDate <= :date AND t.endDate >= :date AND t.isCompleted = false")
@@ -44,15 +152,70 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
     List<Todo> findAllPastIncompleteWithMenteeAndUser(@Param("today") LocalDate today);
 
     // 주별 조회: 해당 주와 겹치는 todo
-    @Query("SELECT t FROM Todo t WHERE t.mentee.id = :menteeId AND t.startDate <= :endOfWeek AND t.endDate >= :startOfWeek ORDER BY t.startDate ASC")
+    @Query("SELECT t FROM Todo t WHERE t.id IN (" +
+           "SELECT b.todoId FROM TodoDayBucket b WHERE b.menteeId = :menteeId AND b.bucketDate BETWEEN :startOfWeek AND :endOfWeek) " +
+           "ORDER BY t.startDate ASC")
     List<Todo> findByMenteeIdAndWeek(@Param("menteeId") Long menteeId,
                                       @Param("startOfWeek") LocalDate startOfWeek,
                                       @Param("endOfWeek") LocalDate endOfWeek);
 
     // 주별 조회 + 과목 필터
-    @Query("SELECT t FROM Todo t WHERE t.mentee.id = :menteeId AND t.startDate <= :endOfWeek AND t.endDate >= :startOfWeek AND t.subject IN :subjects ORDER BY t.startDate ASC")
+    @Query("SELECT t FROM Todo t WHERE t.id IN (" +
+           "SELECT b.todoId FROM TodoDayBucket b WHERE b.menteeId = :menteeId AND b.bucketDate BETWEEN :startOfWeek AND :endOfWeek) " +
+           "AND t.subject IN :subjects ORDER BY t.startDate ASC")
     List<Todo> findByMenteeIdAndWeekAndSubjects(@Param("menteeId") Long menteeId,
                                                  @Param("startOfWeek") LocalDate startOfWeek,
                                                  @Param("endOfWeek") LocalDate endOfWeek,
                                                  @Param("subjects") List<String> subjects);
+
+    // 학습 시간 원자적 누적 (동시 요청 시 갱신 손실 방지)
+    @Modifying
+    @Query("UPDATE Todo t SET t.studyTime = COALESCE(t.studyTime, 0) + :seconds, t.updateDt = CURRENT_TIMESTAMP " +
+           "WHERE t.id = :todoId")
+    int addStudyTime(@Param("todoId") Long todoId, @Param("seconds") int seconds);
+
+    // 멘티 본인의 Todo ID만 조회 (학습 시간 tick 검증용)
+    @Query("SELECT t.id FROM Todo t WHERE t.mentee.id = :menteeId AND t.id IN :todoIds")
+    List<Long> findIdsByMenteeIdAndIdIn(@Param("menteeId") Long menteeId, @Param("todoIds") Collection<Long> todoIds);
+
+    @Query("SELECT new com.momen.infrastructure.jpa.planner.StudyTimeTarget(t.id, t.mentee.id, t.subject, t.startDate, t.endDate) " +
+           "FROM Todo t WHERE t.id IN :todoIds")
+    List<StudyTimeTarget> findStudyTimeTargets(@Param("todoIds") Collection<Long> todoIds);
+
+    // 반복 할일 from 이후 발생일 Todo가 참조하는 자료 묶음 ID
+    @Query("SELECT DISTINCT t.materialSet.id FROM Todo t " +
+           "WHERE t.series.id = :seriesId AND t.occurrenceDate >= :fromDate AND t.materialSet IS NOT NULL")
+    List<Long> findMaterialSetIdsBySeriesOccurrencesFrom(@Param("seriesId") Long seriesId, @Param("fromDate") LocalDate fromDate);
+
+    // 반복 할일 from 이후 발생일 Todo를 분리된 시리즈로 이동
+    @Modifying
+    @Query("UPDATE Todo t SET t.series = :target, t.updateDt = CURRENT_TIMESTAMP " +
+           "WHERE t.series.id = :seriesId AND t.occurrenceDate >= :fromDate")
+    int moveSeriesOccurrencesFrom(@Param("seriesId") Long seriesId,
+                                  @Param("fromDate") LocalDate fromDate,
+                                  @Param("target") TodoSeries target);
+
+    // 반복 할일 from 이후 발생일 Todo 내용 일괄 수정
+    @Modifying
+    @Query("UPDATE Todo t SET t.title = :title, t.subject = :subject, t.goalDescription = :goalDescription, " +
+           "t.updateDt = CURRENT_TIMESTAMP " +
+           "WHERE t.series.id = :seriesId AND t.occurrenceDate >= :fromDate")
+    int updateSeriesOccurrencesFrom(@Param("seriesId") Long seriesId,
+                                    @Param("fromDate") LocalDate fromDate,
+                                    @Param("title") String title,
+                                    @Param("subject") String subject,
+                                    @Param("goalDescription") String goalDescription);
+
+    // 반복 할일 from 이후 발생일 Todo의 자료 묶음 일괄 교체
+    @Modifying
+    @Query("UPDATE Todo t SET t.materialSet = :materialSet, t.updateDt = CURRENT_TIMESTAMP " +
+           "WHERE t.series.id = :seriesId AND t.occurrenceDate >= :fromDate")
+    int updateSeriesOccurrencesMaterialSetFrom(@Param("seriesId") Long seriesId,
+                                               @Param("fromDate") LocalDate fromDate,
+                                               @Param("materialSet") MaterialSet materialSet);
+
+    // 반복 할일 from 이후 발생일 Todo 일괄 삭제 (연관 데이터는 먼저 삭제해야 함)
+    @Modifying
+    @Query("DELETE FROM Todo t WHERE t.series.id = :seriesId AND t.occurrenceDate >= :fromDate")
+    int deleteBySeriesOccurrencesFrom(@Param("seriesId") Long seriesId, @Param("fromDate") LocalDate fromDate);
 }
@@ -0,0 +1,41 @@
+package com.momen.infrastructure.jpa.planner;
+
+import com.momen.domain.planner.TodoSeries;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TodoSeriesRepository extends JpaRepository<TodoSeries, Long> {
+
+    // 조회 기간과 겹치는 반복 할일 (제외 날짜 함께 로딩)
+    @Query("SELECT DISTINCT s FROM TodoSeries s LEFT JOIN FETCH s.excludedDates " +
+           "WHERE s.mentee.id = :menteeId AND s.startDate <= :endDate AND s.endDate >= :startDate")
+    List<TodoSeries> findOverlapping(@Param("menteeId") Long menteeId,
+                                     @Param("startDate") LocalDate startDate,
+                                     @Param("endDate") LocalDate endDate);
+
+    // 조회 기간과 겹치는 반복 할일 + 과목 필터
+    @Query("SELECT DISTINCT s FROM TodoSeries s LEFT JOIN FETCH s.excludedDates " +
+           "WHERE s.mentee.id = :menteeId AND s.startDate <= :endDate AND s.endDate >= :startDate " +
+           "AND s.subject IN :subjects")
+    List<TodoSeries> findOverlappingBySubjects(@Param("menteeId") Long menteeId,
+                                               @Param("startDate") LocalDate startDate,
+                                               @Param("endDate") LocalDate endDate,
+                                               @Param("subjects") List<String> subjects);
+
+    // 멘토 담당 멘티 전체의 조회 기간과 겹치는 반복 할일 (제외 날짜 함께 로딩)
+    @Query("SELECT DISTINCT s FROM TodoSeries s LEFT JOIN FETCH s.excludedDates " +
+           "WHERE s.mentee.id IN (SELECT m.id FROM Mentee m WHERE m.mentor.id = :mentorId) " +
+           "AND s.startDate <= :endDate AND s.endDate >= :startDate")
+    List<TodoSeries> findOverlappingByMentor(@Param("mentorId") Long mentorId,
+                                             @Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate);
+
+    // 해당 날짜가 반복 기간에 포함되는 반복 할일 (멘티, 유저 정보 함께 로딩) - 미완료 알림용
+    @Query("SELECT DISTINCT s FROM TodoSeries s JOIN FETCH s.mentee m JOIN FETCH m.user " +
+           "LEFT JOIN FETCH s.excludedDates WHERE s.startDate <= :date AND s.endDate >= :date")
+    List<TodoSeries> findActiveOnWithMenteeAndUser(@Param("date") LocalDate date);
+}
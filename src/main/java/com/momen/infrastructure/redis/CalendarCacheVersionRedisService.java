@@ -0,0 +1,50 @@
+package com.momen.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 멘티별/월별 캘린더 캐시 버전 관리 서비스.
+ * 캐시 키에 해당 월의 버전을 포함시키고, 변경 시 버전만 올려서
+ * 과목 필터 조합과 무관하게 해당 멘티의 해당 월 캐시만 정확히 무효화한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CalendarCacheVersionRedisService {
+
+    private static final String CALENDAR_VERSION_PREFIX = "calendar:version:";
+    // 캐시 TTL(10분)보다 길게 유지해야 버전 키 만료로 인한 stale 응답이 생기지 않는다
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 월 목록의 현재 버전 조회 (없으면 0)
+    public List<Long> getVersions(Long menteeId, List<YearMonth> months) {
+        List<String> keys = months.stream().map(ym -> key(menteeId, ym)).toList();
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+
+        List<Long> versions = new ArrayList<>(months.size());
+        for (int i = 0; i < months.size(); i++) {
+            String value = values != null ? values.get(i) : null;
+            versions.add(value != null ? Long.parseLong(value) : 0L);
+        }
+        return versions;
+    }
+
+    // 해당 월 버전 증가 (= 해당 월 캐시 무효화)
+    public void bump(Long menteeId, YearMonth month) {
+        String key = key(menteeId, month);
+        redisTemplate.opsForValue().increment(key);
+        redisTemplate.expire(key, VERSION_TTL);
+    }
+
+    private String key(Long menteeId, YearMonth month) {
+        return CALENDAR_VERSION_PREFIX + menteeId + ":" + month;
+    }
+}
@@ -0,0 +1,48 @@
+package com.momen.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 멘티별 플래너/피드백 데이터 버전 스탬프 관리 서비스 (조회 응답 ETag 생성용).
+ * 변경 시 스탬프를 지우고, 다음 조회 때 임의 값으로 새로 발급한다.
+ * 삭제에 실패해도 TTL이 지나면 새 스탬프가 발급되므로, 오래된 응답이 304로 유지되는 기간은 TTL로 제한된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PlannerVersionRedisService {
+
+    private static final String PLANNER_VERSION_PREFIX = "planner:version:";
+    private static final Duration VERSION_TTL = Duration.ofHours(1);
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 현재 스탬프 조회 (없으면 새로 발급)
+    public String getStamp(Long menteeId) {
+        String key = key(menteeId);
+        String stamp = redisTemplate.opsForValue().get(key);
+        if (stamp != null) {
+            return stamp;
+        }
+        String issued = UUID.randomUUID().toString();
+        if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, issued, VERSION_TTL))) {
+            return issued;
+        }
+        // 동시에 다른 요청이 발급한 경우
+        String current = redisTemplate.opsForValue().get(key);
+        return current != null ? current : issued;
+    }
+
+    // 스탬프 폐기 (= 이전에 발급한 ETag 무효화)
+    public void invalidate(Long menteeId) {
+        redisTemplate.delete(key(menteeId));
+    }
+
+    private String key(Long menteeId) {
+        return PLANNER_VERSION_PREFIX + menteeId;
+    }
+}
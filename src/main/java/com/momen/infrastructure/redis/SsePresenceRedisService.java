@@ -0,0 +1,61 @@
+package com.momen.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * SSE 연결 위치(사용자 → 노드) 관리 서비스.
+ * 사용자별 ZSET에 연결을 가진 노드 ID를 만료 시각(score)과 함께 저장한다.
+ * 노드가 heartbeat마다 만료 시각을 갱신하므로, 비정상 종료된 노드는 TTL이 지나면 조회 대상에서 빠진다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SsePresenceRedisService {
+
+    private static final String PRESENCE_PREFIX = "sse:presence:";
+    public static final Duration PRESENCE_TTL = Duration.ofSeconds(90);
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 사용자 연결 등록/갱신 (여러 사용자를 파이프라인 1회 왕복으로 처리)
+    public void register(Collection<Long> userIds, String nodeId) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        double expiresAt = now + PRESENCE_TTL.toMillis();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long userId : userIds) {
+                String key = key(userId);
+                stringConnection.zAdd(key, expiresAt, nodeId);
+                stringConnection.zRemRangeByScore(key, Double.NEGATIVE_INFINITY, now); // 만료된 노드 정리
+                stringConnection.pExpire(key, PRESENCE_TTL.toMillis());
+            }
+            return null;
+        });
+    }
+
+    // 노드의 사용자 연결 해제
+    public void unregister(Long userId, String nodeId) {
+        redisTemplate.opsForZSet().remove(key(userId), nodeId);
+    }
+
+    // 사용자가 연결된 노드 ID 목록 (만료되지 않은 것만)
+    public Set<String> findNodes(Long userId) {
+        Set<String> nodes = redisTemplate.opsForZSet()
+                .rangeByScore(key(userId), System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        return nodes != null ? nodes : Set.of();
+    }
+
+    private String key(Long userId) {
+        return PRESENCE_PREFIX + userId;
+    }
+}
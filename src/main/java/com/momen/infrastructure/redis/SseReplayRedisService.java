@@ -0,0 +1,62 @@
+package com.momen.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * SSE 재전송용 이벤트 저장 서비스.
+ * 사용자별 이벤트 ID 시퀀스(INCR)와 최근 이벤트 ZSET(score = 이벤트 ID)을 관리한다.
+ * 노드 메모리 버퍼에 없는 이벤트를 재연결 시 보충하는 용도이며, 재연결 시 재전송할 수 있는 개수만큼만 보관한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SseReplayRedisService {
+
+    private static final String SEQUENCE_PREFIX = "sse:seq:";
+    private static final String EVENTS_PREFIX = "sse:replay:";
+    private static final Duration EVENTS_TTL = Duration.ofHours(2);   // SSE 연결 타임아웃(1시간)보다 길게
+    private static final Duration SEQUENCE_TTL = Duration.ofDays(1);
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 사용자별 다음 이벤트 ID 발급
+    public long nextId(Long userId) {
+        Long id = redisTemplate.opsForValue().increment(SEQUENCE_PREFIX + userId);
+        if (id == null) {
+            throw new IllegalStateException("SSE event id not issued");
+        }
+        return id;
+    }
+
+    // 이벤트 저장 및 최근 maxEvents개를 넘는 오래된 이벤트 정리 (파이프라인 1회 왕복)
+    public void append(Long userId, long eventId, String event, int maxEvents) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            String key = EVENTS_PREFIX + userId;
+            stringConnection.zAdd(key, eventId, event);
+            stringConnection.zRemRange(key, 0, -(maxEvents + 1));
+            stringConnection.pExpire(key, EVENTS_TTL.toMillis());
+            stringConnection.pExpire(SEQUENCE_PREFIX + userId, SEQUENCE_TTL.toMillis());
+            return null;
+        });
+    }
+
+    // 마지막으로 발급한 이벤트 ID (없으면 0)
+    public long latestId(Long userId) {
+        String value = redisTemplate.opsForValue().get(SEQUENCE_PREFIX + userId);
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    // afterId 이후 이벤트 (ID 오름차순)
+    public Set<String> findAfter(Long userId, long afterId) {
+        Set<String> events = redisTemplate.opsForZSet()
+                .rangeByScore(EVENTS_PREFIX + userId, afterId + 1, Double.POSITIVE_INFINITY);
+        return events != null ? events : Set.of();
+    }
+}
@@ -0,0 +1,7 @@
+package com.momen.infrastructure.redis;
+
+/**
+ * 학습 타이머 tick 식별자 (유저, Todo, 클라이언트 순번)
+ */
+public record StudyTimeTickKey(Long userId, Long todoId, Long clientSeq) {
+}
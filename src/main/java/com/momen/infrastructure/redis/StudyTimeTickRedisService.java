@@ -0,0 +1,62 @@
+package com.momen.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 학습 타이머 tick 중복 제거 서비스.
+ * DB 반영이 커밋된 tick만 키로 남겨, 재전송된 tick이 두 번 누적되지 않도록 한다.
+ * 반영 전에 인스턴스가 죽으면 키가 남지 않으므로 클라이언트 재전송이 다시 받아들여진다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StudyTimeTickRedisService {
+
+    private static final String TICK_PREFIX = "study-time:tick:";
+    private static final Duration TICK_TTL = Duration.ofDays(1);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 이미 반영된 tick인지 조회 (파이프라인 1회 왕복).
+     * @return 입력 순서대로 이미 반영된 tick이면 true
+     */
+    public List<Boolean> findFlushed(List<StudyTimeTickKey> ticks) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (StudyTimeTickKey tick : ticks) {
+                stringConnection.exists(key(tick));
+            }
+            return null;
+        });
+
+        List<Boolean> flushed = new ArrayList<>(results.size());
+        for (Object result : results) {
+            flushed.add(Boolean.TRUE.equals(result));
+        }
+        return flushed;
+    }
+
+    // DB 반영이 커밋된 tick 기록 (파이프라인 1회 왕복)
+    public void markFlushed(Collection<StudyTimeTickKey> ticks) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (StudyTimeTickKey tick : ticks) {
+                stringConnection.setEx(key(tick), TICK_TTL.toSeconds(), "1");
+            }
+            return null;
+        });
+    }
+
+    private String key(StudyTimeTickKey tick) {
+        return TICK_PREFIX + tick.userId() + ":" + tick.todoId() + ":" + tick.clientSeq();
+    }
+}
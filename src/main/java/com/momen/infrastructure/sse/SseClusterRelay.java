@@ -0,0 +1,118 @@
+package com.momen.infrastructure.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.momen.infrastructure.redis.SsePresenceRedisService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 여러 서버 인스턴스에 걸친 SSE 전송.
+ * 이 노드의 연결에는 바로 보내고, 다른 노드의 연결은 연결 위치(SsePresenceRedisService)로 찾아
+ * 해당 노드 채널에만 발행한다. 각 노드는 자기 채널을 구독하여 로컬 연결로 전달한다.
+ * 전송하는 이벤트마다 SseReplayBuffer에서 사용자별 ID를 발급받아 저장하며, 재연결 시 재전송에 사용한다.
+ * 연결 위치를 조회할 수 없으면(Redis 장애) 이 노드의 연결에만 전송하고,
+ * 연결 위치가 확인된 다른 노드로의 발행이 실패한 경우에만 SseRelayException으로 실패한 노드를 알린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseClusterRelay implements MessageListener {
+
+    private final SseEmitterManager sseEmitterManager;
+    private final SsePresenceRedisService presenceRedisService;
+    private final SseNode sseNode;
+    private final SseReplayBuffer replayBuffer;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(sseNode.channel()));
+    }
+
+    /**
+     * 사용자의 모든 노드 연결로 전송한다.
+     * 직렬화에 실패하면 아무 데도 보내지 않고 IllegalStateException을,
+     * 다른 노드 발행이 실패하면 SseRelayException(이벤트 ID, 실패한 노드)을 던진다.
+     */
+    public void sendToUser(Long userId, String eventName, Object data) {
+        String json = serialize(userId, data);
+        Long eventId = replayBuffer.append(userId, eventName, json);
+        sseEmitterManager.sendToUser(userId, eventId, eventName, data);
+
+        Set<String> nodes;
+        try {
+            nodes = presenceRedisService.findNodes(userId);
+        } catch (Exception e) {
+            log.warn("SSE 연결 위치 조회 실패, 이 노드에만 전송 - userId: {}", userId, e);
+            return;
+        }
+        Set<String> remoteNodes = new LinkedHashSet<>(nodes);
+        remoteNodes.remove(sseNode.getId());
+        publish(userId, eventId, eventName, json, remoteNodes);
+    }
+
+    /**
+     * sendToUser에서 발행에 실패한 노드에만 같은 이벤트 ID로 다시 발행한다 (이 노드와 성공한 노드에는 다시 보내지 않음).
+     * 여전히 실패한 노드가 있으면 SseRelayException을 던진다.
+     */
+    public void resendToNodes(Long userId, Long eventId, String eventName, Object data, Set<String> nodeIds) {
+        publish(userId, eventId, eventName, serialize(userId, data), nodeIds);
+    }
+
+    private void publish(Long userId, Long eventId, String eventName, String json, Set<String> nodeIds) {
+        if (nodeIds.isEmpty()) {
+            return;
+        }
+        String payload = serialize(userId, new SseRelayMessage(userId, eventId, eventName, json));
+        Set<String> failedNodes = new LinkedHashSet<>();
+        for (String nodeId : nodeIds) {
+            try {
+                redisTemplate.convertAndSend(SseNode.channel(nodeId), payload);
+            } catch (Exception e) {
+                log.warn("SSE 노드 전달 실패 - userId: {}, nodeId: {}", userId, nodeId, e);
+                failedNodes.add(nodeId);
+            }
+        }
+        if (!failedNodes.isEmpty()) {
+            throw new SseRelayException(userId, eventId, failedNodes);
+        }
+    }
+
+    private String serialize(Long userId, Object data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("SSE 이벤트 직렬화 실패 - userId: " + userId, e);
+        }
+    }
+
+    // 다른 노드에서 발행한 메시지를 이 노드의 연결로 전달
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            SseRelayMessage relayed = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), SseRelayMessage.class);
+            if (relayed.eventId() != null) {
+                replayBuffer.remember(relayed.userId(),
+                        new SseReplayEvent(relayed.eventId(), relayed.eventName(), relayed.data()));
+            }
+            sseEmitterManager.sendToUser(relayed.userId(), relayed.eventId(), relayed.eventName(), relayed.data());
+        } catch (JsonProcessingException e) {
+            log.warn("SSE 노드 메시지 파싱 실패", e);
+        }
+    }
+}
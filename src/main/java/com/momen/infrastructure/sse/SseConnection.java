@@ -0,0 +1,212 @@
+package com.momen.infrastructure.sse;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * SSE 연결 하나와 그 전송 큐.
+ * 이벤트는 제한된 크기의 큐에 넣고, 연결당 최대 한 개의 가상 스레드가 순서대로 꺼내 전송한다.
+ * 호출 스레드는 큐에 넣기만 하므로 느린 클라이언트가 있어도 막히지 않는다.
+ * 재연결 직후에는 live 이벤트를 잠시 보류했다가, 놓친 이벤트를 먼저 넣은 뒤 이어서 넣는다(release).
+ */
+class SseConnection {
+
+    static final int QUEUE_CAPACITY = 64;
+
+    private record Outbound(SseEmitter.SseEventBuilder event, boolean heartbeat, long enqueuedAt) {
+    }
+
+    private record HeldEvent(Long eventId, SseEmitter.SseEventBuilder event) {
+    }
+
+    @Getter
+    private final String id;
+    @Getter
+    private final Long userId;
+    @Getter
+    private final SseEmitter emitter;
+    private final BlockingQueue<Outbound> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Executor executor;
+    private final Timer sendLatency;
+    private final Runnable onSendFailure;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean heartbeatPending = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicLong sentCount = new AtomicLong();
+    private long sentCountAtLastCheck;
+
+    private final ReentrantLock holdLock = new ReentrantLock();
+    private List<HeldEvent> heldBack; // null이면 live 전송 중
+
+    SseConnection(String id, Long userId, SseEmitter emitter, Executor executor, Timer sendLatency,
+                  boolean holdLive, Runnable onSendFailure) {
+        this.id = id;
+        this.heldBack = holdLive ? new ArrayList<>() : null;
+        this.userId = userId;
+        this.emitter = emitter;
+        this.executor = executor;
+        this.sendLatency = sendLatency;
+        this.onSendFailure = onSendFailure;
+    }
+
+    /**
+     * 이벤트를 전송 큐에 넣는다. 큐가 가득 차 있으면 false를 반환한다.
+     */
+    boolean enqueue(SseEmitter.SseEventBuilder event) {
+        return enqueue(null, event);
+    }
+
+    /**
+     * ID가 있는 이벤트를 전송 큐에 넣는다. release 전이면 보류한다.
+     */
+    boolean enqueue(Long eventId, SseEmitter.SseEventBuilder event) {
+        holdLock.lock();
+        try {
+            if (heldBack != null) {
+                if (heldBack.size() >= QUEUE_CAPACITY) {
+                    return false;
+                }
+                heldBack.add(new HeldEvent(eventId, event));
+                return true;
+            }
+        } finally {
+            holdLock.unlock();
+        }
+        return offer(new Outbound(event, false, System.nanoTime()));
+    }
+
+    /**
+     * 놓친 이벤트를 먼저 넣고, 보류한 live 이벤트 중 replayedUpTo 이후 것만 이어서 넣은 뒤 live 전송으로 전환한다.
+     * 큐가 넘치면 false를 반환한다.
+     */
+    boolean release(List<SseEmitter.SseEventBuilder> replayed, long replayedUpTo) {
+        holdLock.lock();
+        try {
+            boolean accepted = true;
+            for (SseEmitter.SseEventBuilder event : replayed) {
+                accepted &= offer(new Outbound(event, false, System.nanoTime()));
+            }
+            if (heldBack != null) {
+                for (HeldEvent held : heldBack) {
+                    if (held.eventId() == null || held.eventId() > replayedUpTo) {
+                        accepted &= offer(new Outbound(held.event(), false, System.nanoTime()));
+                    }
+                }
+                heldBack = null;
+            }
+            return accepted;
+        } finally {
+            holdLock.unlock();
+        }
+    }
+
+    /**
+     * heartbeat를 큐에 넣는다. 이미 대기 중인 heartbeat나 다른 이벤트가 있으면 합쳐서 생략한다.
+     * 반환값은 실제로 큐에 넣었는지 여부다.
+     */
+    boolean enqueueHeartbeat(SseEmitter.SseEventBuilder heartbeat) {
+        if (!queue.isEmpty() || !heartbeatPending.compareAndSet(false, true)) {
+            return false;
+        }
+        if (!offer(new Outbound(heartbeat, true, System.nanoTime()))) {
+            heartbeatPending.set(false);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 직전 검사 이후 큐에 이벤트가 남아 있는데 하나도 전송하지 못했으면 true.
+     * heartbeat 주기마다 스케줄러 스레드에서만 호출한다.
+     */
+    boolean isStalled() {
+        long sent = sentCount.get();
+        boolean stalled = !queue.isEmpty() && sent == sentCountAtLastCheck;
+        sentCountAtLastCheck = sent;
+        return stalled;
+    }
+
+    int queueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * 큐를 비우고 연결을 종료한다. 전송 중인 쓰기와 경합하지 않도록 종료도 전송 Executor에서 수행한다.
+     */
+    void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        queue.clear();
+        try {
+            executor.execute(this::completeQuietly);
+        } catch (RejectedExecutionException e) {
+            completeQuietly();
+        }
+    }
+
+    // 이미 종료된 연결(타임아웃, 클라이언트 끊김)에 대한 complete 호출은 무시한다
+    private void completeQuietly() {
+        try {
+            emitter.complete();
+        } catch (Exception ignored) {
+        }
+    }
+
+    private boolean offer(Outbound outbound) {
+        if (closed.get() || !queue.offer(outbound)) {
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining.set(false); // 종료 중
+        }
+    }
+
+    private void drain() {
+        try {
+            Outbound next;
+            while (!closed.get() && (next = queue.poll()) != null) {
+                if (next.heartbeat()) {
+                    heartbeatPending.set(false);
+                }
+                try {
+                    emitter.send(next.event());
+                } catch (Exception e) {
+                    onSendFailure.run();
+                    return;
+                }
+                sentCount.incrementAndGet();
+                sendLatency.record(System.nanoTime() - next.enqueuedAt(), TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            draining.set(false);
+        }
+        // drain 종료 직후 들어온 이벤트 처리
+        if (!closed.get() && !queue.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+}
@@ -1,86 +1,288 @@
 package com.momen.infrastructure.sse;
 
+import com.momen.infrastructure.redis.SsePresenceRedisService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * 이 노드의 SSE 연결 관리.
+ * 사용자당 여러 연결(기기)을 연결 ID로 구분해 유지하고, sendToUser는 사용자의 모든 연결로 전송한다.
+ * 사용자별 연결 수와 노드 전체 연결 수에 상한을 두며, 전체 상한을 넘으면 가장 오래 사용하지 않은 연결부터 끊는다.
+ * 전송은 연결별 큐(SseConnection)에 넣고 가상 스레드가 비동기로 처리하므로,
+ * 호출 스레드(요청 트랜잭션, heartbeat 스케줄러)는 클라이언트 쓰기를 기다리지 않는다.
+ * 재연결 시 Last-Event-ID 이후 놓친 이벤트를 SseReplayBuffer에서 찾아 live 이벤트보다 먼저 보낸다.
+ * 연결 위치는 SsePresenceRedisService에 등록하고 heartbeat마다 갱신한다.
+ * 다른 노드로의 전달은 SseClusterRelay가 담당한다.
+ */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class SseEmitterManager {
 
     private static final long TIMEOUT = 60 * 60 * 1000L; // 1시간
-    private final ConcurrentHashMap<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+    static final int MAX_CONNECTIONS_PER_USER = 5;
+
+    // 연결 ID → 연결 (접근 순서 = LRU), 사용자 ID → 사용자의 연결 (생성 순서). lock으로 함께 보호한다
+    private final Map<String, SseConnection> connections = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, Map<String, SseConnection>> userConnections = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final SsePresenceRedisService presenceRedisService;
+    private final SseNode sseNode;
+    private final SseReplayBuffer replayBuffer;
+    private final ExecutorService sseSendExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${sse.max-connections:10000}")
+    private int maxConnections;
+
+    private Timer sendLatency;
+    private Counter slowDisconnects;
+    private Counter evictions;
+    private Counter heartbeatsSkipped;
+
+    @PostConstruct
+    void registerMetrics() {
+        sendLatency = Timer.builder("sse.send.latency")
+                .description("SSE 이벤트 큐 등록부터 전송 완료까지 걸린 시간")
+                .register(meterRegistry);
+        slowDisconnects = Counter.builder("sse.disconnect.slow")
+                .description("전송 큐가 밀려 끊은 연결 수")
+                .register(meterRegistry);
+        evictions = Counter.builder("sse.disconnect.evicted")
+                .description("연결 수 상한으로 끊은 연결 수")
+                .register(meterRegistry);
+        heartbeatsSkipped = Counter.builder("sse.heartbeat.skipped")
+                .description("대기 중인 이벤트가 있어 생략한 heartbeat 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.queue.depth", this,
+                        manager -> manager.snapshot().stream().mapToInt(SseConnection::queueDepth).sum())
+                .description("전체 SSE 전송 큐에 대기 중인 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.queue.depth.max", this,
+                        manager -> manager.snapshot().stream().mapToInt(SseConnection::queueDepth).max().orElse(0))
+                .description("가장 밀린 SSE 전송 큐의 대기 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.connections", this, manager -> manager.snapshot().size())
+                .description("이 노드의 SSE 연결 수")
+                .register(meterRegistry);
+    }
 
     @Scheduled(fixedRate = 30_000) // 30초마다 heartbeat
     public void sendHeartbeat() {
-        List<Long> deadEmitters = new ArrayList<>();
-        emitters.forEach((userId, emitter) -> {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("heartbeat")
-                        .data("ping"));
-            } catch (IOException e) {
-                deadEmitters.add(userId);
+        Set<Long> userIds = new HashSet<>();
+        for (SseConnection connection : snapshot()) {
+            // 지난 주기 동안 하나도 전송하지 못한 연결은 끊는다
+            if (connection.isStalled()) {
+                disconnectSlow(connection);
+                continue;
+            }
+            userIds.add(connection.getUserId());
+            if (!connection.enqueueHeartbeat(SseEmitter.event().name("heartbeat").data("ping"))) {
+                heartbeatsSkipped.increment();
             }
-        });
-        deadEmitters.forEach(emitters::remove);
-    }
-
-    public SseEmitter createEmitter(Long userId) {
-        // 기존 연결이 있으면 제거
-        SseEmitter old = emitters.remove(userId);
-        if (old != null) {
-            old.complete();
         }
+        refreshPresence(userIds);
+    }
 
+    /**
+     * @param lastEventId 재연결 시 클라이언트가 마지막으로 받은 이벤트 ID (첫 연결이면 null)
+     */
+    public SseEmitter createEmitter(Long userId, Long lastEventId) {
+        String connectionId = UUID.randomUUID().toString();
         SseEmitter emitter = new SseEmitter(TIMEOUT);
+        SseConnection connection = new SseConnection(connectionId, userId, emitter, sseSendExecutor, sendLatency,
+                lastEventId != null, () -> {
+                    log.warn("Failed to send SSE event to userId={}, removing connection {}", userId, connectionId);
+                    remove(connectionId);
+                });
 
         emitter.onCompletion(() -> {
-            log.debug("SSE connection completed for userId={}", userId);
-            emitters.remove(userId);
+            log.debug("SSE connection completed for userId={}, connectionId={}", userId, connectionId);
+            remove(connectionId);
         });
         emitter.onTimeout(() -> {
-            log.debug("SSE connection timed out for userId={}", userId);
-            emitters.remove(userId);
-            emitter.complete();
+            log.debug("SSE connection timed out for userId={}, connectionId={}", userId, connectionId);
+            remove(connectionId);
         });
         emitter.onError(e -> {
-            log.debug("SSE connection error for userId={}: {}", userId, e.getMessage());
-            emitters.remove(userId);
+            log.debug("SSE connection error for userId={}, connectionId={}: {}", userId, connectionId, e.getMessage());
+            remove(connectionId);
         });
 
-        emitters.put(userId, emitter);
-
-        // 연결 즉시 connect 이벤트 전송
+        // 사용자별 상한을 넘으면 그 사용자의 가장 오래된 연결, 전체 상한을 넘으면 가장 오래 사용하지 않은 연결을 끊는다
+        List<SseConnection> evicted = new ArrayList<>();
+        Set<Long> releasedUsers = new HashSet<>();
+        lock.lock();
         try {
-            emitter.send(SseEmitter.event()
-                    .name("connect")
-                    .data("connected"));
-        } catch (IOException e) {
-            log.warn("Failed to send connect event to userId={}", userId);
-            emitters.remove(userId);
+            Map<String, SseConnection> mine = userConnections.computeIfAbsent(userId, id -> new LinkedHashMap<>());
+            if (mine.size() >= MAX_CONNECTIONS_PER_USER) {
+                evicted.add(detach(mine.keySet().iterator().next(), releasedUsers));
+            }
+            while (!connections.isEmpty() && connections.size() >= maxConnections) {
+                evicted.add(detach(connections.keySet().iterator().next(), releasedUsers));
+            }
+            userConnections.computeIfAbsent(userId, id -> new LinkedHashMap<>()).put(connectionId, connection);
+            connections.put(connectionId, connection);
+            releasedUsers.remove(userId);
+        } finally {
+            lock.unlock();
+        }
+        evicted.forEach(old -> {
+            log.debug("Evicting SSE connection for userId={}, connectionId={}", old.getUserId(), old.getId());
+            evictions.increment();
+            old.close();
+        });
+        releasedUsers.forEach(this::unregisterPresence);
+        refreshPresence(Set.of(userId));
+
+        // 연결 즉시 connect 이벤트 전송 (재연결이면 놓친 이벤트를 이어서 전송)
+        SseEmitter.SseEventBuilder connect = SseEmitter.event()
+                .name("connect")
+                .data("connected");
+        if (lastEventId == null) {
+            connection.enqueue(connect);
+        } else {
+            replay(connection, lastEventId, connect);
         }
 
         return emitter;
     }
 
-    public void sendToUser(Long userId, String eventName, Object data) {
-        SseEmitter emitter = emitters.get(userId);
-        if (emitter != null) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name(eventName)
-                        .data(data));
-            } catch (IOException e) {
-                log.warn("Failed to send SSE event to userId={}, removing emitter", userId);
-                emitters.remove(userId);
+    // connect → 놓친 이벤트 → (다 채우지 못했으면) resync 순서로 넣은 뒤 live 전송으로 전환한다.
+    // resync를 받은 클라이언트는 알림 목록을 다시 조회한다
+    private void replay(SseConnection connection, long lastEventId, SseEmitter.SseEventBuilder connect) {
+        SseReplayBuffer.Replay replay = replayBuffer.replay(connection.getUserId(), lastEventId, SseReplayBuffer.REPLAY_LIMIT);
+        List<SseEmitter.SseEventBuilder> events = new ArrayList<>();
+        events.add(connect);
+        long replayedUpTo = lastEventId;
+        for (SseReplayEvent event : replay.events()) {
+            events.add(event(event.id(), event.eventName(), event.data()));
+            replayedUpTo = event.id();
+        }
+        if (!replay.complete()) {
+            events.add(SseEmitter.event().name("resync").data("reload"));
+        }
+        if (!connection.release(events, replayedUpTo)) {
+            disconnectSlow(connection);
+        }
+    }
+
+    /**
+     * 이 노드에 있는 사용자의 모든 연결로 전송한다. 클러스터 전체 전송은 SseClusterRelay를 사용한다.
+     * 큐에 넣고 바로 반환하며, 큐가 가득 찬 연결은 느린 클라이언트로 보고 끊는다.
+     */
+    public void sendToUser(Long userId, Long eventId, String eventName, Object data) {
+        List<SseConnection> targets;
+        lock.lock();
+        try {
+            Map<String, SseConnection> mine = userConnections.get(userId);
+            if (mine == null) {
+                return;
+            }
+            targets = new ArrayList<>(mine.values());
+            targets.forEach(connection -> connections.get(connection.getId())); // LRU 갱신
+        } finally {
+            lock.unlock();
+        }
+        for (SseConnection connection : targets) {
+            // SseEventBuilder는 build 시 내부 상태가 바뀌므로 연결마다 새로 만든다
+            if (!connection.enqueue(eventId, event(eventId, eventName, data))) {
+                disconnectSlow(connection);
+            }
+        }
+    }
+
+    private SseEmitter.SseEventBuilder event(Long eventId, String eventName, Object data) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event();
+        if (eventId != null) {
+            event.id(String.valueOf(eventId));
+        }
+        return event.name(eventName).data(data);
+    }
+
+    private void disconnectSlow(SseConnection connection) {
+        log.warn("SSE send queue stalled for userId={}, connectionId={}, disconnecting (queued={})",
+                connection.getUserId(), connection.getId(), connection.queueDepth());
+        slowDisconnects.increment();
+        remove(connection.getId());
+    }
+
+    private void remove(String connectionId) {
+        SseConnection connection;
+        Set<Long> releasedUsers = new HashSet<>();
+        lock.lock();
+        try {
+            connection = detach(connectionId, releasedUsers);
+        } finally {
+            lock.unlock();
+        }
+        if (connection == null) {
+            return;
+        }
+        connection.close();
+        releasedUsers.forEach(this::unregisterPresence);
+    }
+
+    // lock 안에서 호출. 사용자의 마지막 연결이었으면 releasedUsers에 추가한다
+    private SseConnection detach(String connectionId, Set<Long> releasedUsers) {
+        SseConnection connection = connections.remove(connectionId);
+        if (connection == null) {
+            return null;
+        }
+        Map<String, SseConnection> mine = userConnections.get(connection.getUserId());
+        if (mine != null) {
+            mine.remove(connectionId);
+            if (mine.isEmpty()) {
+                userConnections.remove(connection.getUserId());
+                releasedUsers.add(connection.getUserId());
             }
         }
+        return connection;
+    }
+
+    private List<SseConnection> snapshot() {
+        lock.lock();
+        try {
+            return new ArrayList<>(connections.values());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void unregisterPresence(Long userId) {
+        try {
+            presenceRedisService.unregister(userId, sseNode.getId());
+        } catch (Exception e) {
+            log.warn("Failed to unregister SSE presence for userId={}", userId, e);
+        }
+    }
+
+    private void refreshPresence(Set<Long> userIds) {
+        try {
+            presenceRedisService.register(userIds, sseNode.getId());
+        } catch (Exception e) {
+            log.warn("Failed to refresh SSE presence for {} users", userIds.size(), e);
+        }
     }
 }
@@ -0,0 +1,32 @@
+package com.momen.infrastructure.sse;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 현재 서버 인스턴스(노드) 식별자.
+ * sse.node-id를 지정하지 않으면 기동 시마다 새로 발급하며, 노드별 Redis 채널 이름에 사용한다.
+ */
+@Getter
+@Component
+public class SseNode {
+
+    private static final String CHANNEL_PREFIX = "sse:node:";
+
+    private final String id;
+
+    public SseNode(@Value("${sse.node-id:}") String nodeId) {
+        this.id = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+    }
+
+    public String channel() {
+        return channel(id);
+    }
+
+    public static String channel(String nodeId) {
+        return CHANNEL_PREFIX + nodeId;
+    }
+}
@@ -0,0 +1,22 @@
+package com.momen.infrastructure.sse;
+
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 다른 노드 발행 실패.
+ * 이 노드와 발행에 성공한 노드에는 이미 전달되었으므로, 재시도는 같은 이벤트 ID로 실패한 노드에만 보낸다.
+ */
+@Getter
+public class SseRelayException extends IllegalStateException {
+
+    private final Long eventId;
+    private final Set<String> failedNodes;
+
+    public SseRelayException(Long userId, Long eventId, Set<String> failedNodes) {
+        super("SSE 노드 전달 실패 - userId: " + userId + ", nodeIds: " + failedNodes);
+        this.eventId = eventId;
+        this.failedNodes = Set.copyOf(failedNodes);
+    }
+}
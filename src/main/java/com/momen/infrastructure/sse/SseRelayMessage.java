@@ -0,0 +1,7 @@
+package com.momen.infrastructure.sse;
+
+/**
+ * 노드 간 SSE 전달 메시지 (data는 JSON 문자열, eventId는 ID 발급 실패 시 null).
+ */
+public record SseRelayMessage(Long userId, Long eventId, String eventName, String data) {
+}
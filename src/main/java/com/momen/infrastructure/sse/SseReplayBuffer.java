@@ -0,0 +1,151 @@
+package com.momen.infrastructure.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.momen.infrastructure.redis.SseReplayRedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * SSE 재연결(Last-Event-ID) 재전송 버퍼.
+ * 사용자별 최근 이벤트를 노드 메모리에 보관하고, 메모리에 없는 구간은 Redis(SseReplayRedisService)에서 보충한다.
+ * 이벤트 ID는 사용자별로 Redis에서 발급하므로 어느 노드로 재연결해도 이어진다.
+ * 재연결 시 한 번에 재전송할 수 있는 개수(REPLAY_LIMIT)를 넘게 놓치면 resync로 처리하므로,
+ * 메모리와 Redis 모두 사용자별로 최근 REPLAY_LIMIT개만 보관한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseReplayBuffer {
+
+    // 재전송 이벤트는 live 이벤트와 같은 전송 큐에 넣으므로 큐의 절반까지만 (나머지는 보류한 live 이벤트 몫)
+    static final int REPLAY_LIMIT = SseConnection.QUEUE_CAPACITY / 2;
+    private static final int MAX_USERS = 10_000;
+
+    /**
+     * 재전송 결과. complete가 false이면 놓친 이벤트를 모두 채우지 못한 것이다.
+     */
+    public record Replay(List<SseReplayEvent> events, boolean complete) {
+    }
+
+    // 사용자 ID → (이벤트 ID → 이벤트), 접근 순서 기준으로 오래된 사용자부터 제거
+    private final Map<Long, TreeMap<Long, SseReplayEvent>> memory = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, TreeMap<Long, SseReplayEvent>> eldest) {
+            return size() > MAX_USERS;
+        }
+    };
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final SseReplayRedisService replayRedisService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이벤트 ID를 발급하고 메모리와 Redis에 저장한다. Redis 장애 시 null을 반환한다(재전송 불가).
+     */
+    public Long append(Long userId, String eventName, String data) {
+        try {
+            long id = replayRedisService.nextId(userId);
+            SseReplayEvent event = new SseReplayEvent(id, eventName, data);
+            replayRedisService.append(userId, id, objectMapper.writeValueAsString(event), REPLAY_LIMIT);
+            remember(userId, event);
+            return id;
+        } catch (Exception e) {
+            log.warn("SSE 이벤트 ID 발급 실패, 재전송 없이 전송 - userId: {}", userId, e);
+            return null;
+        }
+    }
+
+    // 다른 노드에서 발급된 이벤트를 메모리에 보관
+    public void remember(Long userId, SseReplayEvent event) {
+        lock.lock();
+        try {
+            TreeMap<Long, SseReplayEvent> events = memory.computeIfAbsent(userId, id -> new TreeMap<>());
+            events.put(event.id(), event);
+            while (events.size() > REPLAY_LIMIT) {
+                events.pollFirstEntry();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * lastEventId 이후 이벤트를 ID 순으로 반환한다. limit개를 넘거나 중간이 비어 있으면 complete = false.
+     */
+    public Replay replay(Long userId, long lastEventId, int limit) {
+        long latestId;
+        try {
+            latestId = replayRedisService.latestId(userId);
+        } catch (Exception e) {
+            log.warn("SSE 재전송 조회 실패 - userId: {}", userId, e);
+            return new Replay(List.of(), false);
+        }
+        if (latestId == lastEventId) {
+            return new Replay(List.of(), true);
+        }
+        if (latestId < lastEventId || latestId - lastEventId > limit) {
+            return new Replay(List.of(), false); // 시퀀스 만료 또는 너무 많이 놓침
+        }
+
+        List<SseReplayEvent> events = fromMemory(userId, lastEventId);
+        if (!isContiguous(events, lastEventId, latestId)) {
+            events = fromRedis(userId, lastEventId);
+        }
+        boolean complete = isContiguous(events, lastEventId, latestId);
+        // 조회 이후 발급된 이벤트는 live로 전달되므로 제외
+        return new Replay(events.stream().filter(event -> event.id() <= latestId).toList(), complete);
+    }
+
+    private List<SseReplayEvent> fromMemory(Long userId, long lastEventId) {
+        lock.lock();
+        try {
+            TreeMap<Long, SseReplayEvent> events = memory.get(userId);
+            return events != null ? new ArrayList<>(events.tailMap(lastEventId, false).values()) : List.of();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<SseReplayEvent> fromRedis(Long userId, long lastEventId) {
+        try {
+            List<SseReplayEvent> events = new ArrayList<>();
+            for (String event : replayRedisService.findAfter(userId, lastEventId)) {
+                events.add(objectMapper.readValue(event, SseReplayEvent.class));
+            }
+            return events;
+        } catch (JsonProcessingException e) {
+            log.warn("SSE 재전송 이벤트 파싱 실패 - userId: {}", userId, e);
+            return List.of();
+        } catch (Exception e) {
+            log.warn("SSE 재전송 조회 실패 - userId: {}", userId, e);
+            return List.of();
+        }
+    }
+
+    // lastEventId 다음부터 latestId까지 빠짐없이 있는지
+    private boolean isContiguous(List<SseReplayEvent> events, long lastEventId, long latestId) {
+        if (events.size() < latestId - lastEventId) {
+            return false;
+        }
+        long expected = lastEventId + 1;
+        for (SseReplayEvent event : events) {
+            if (event.id() > latestId) {
+                break;
+            }
+            if (event.id() != expected) {
+                return false;
+            }
+            expected++;
+        }
+        return expected > latestId;
+    }
+}
@@ -0,0 +1,7 @@
+package com.momen.infrastructure.sse;
+
+/**
+ * 재전송 버퍼에 보관하는 SSE 이벤트 (data는 JSON 문자열).
+ */
+public record SseReplayEvent(long id, String eventName, String data) {
+}
@@ -2,12 +2,17 @@ package com.momen.presentation.admin;
 
 import com.momen.application.admin.AdminService;
 import com.momen.application.admin.dto.AdminDashboardResponse;
+import com.momen.application.planner.StudyTimeRollupJob;
+import com.momen.application.planner.TodoDayBucketBackfillJob;
+import com.momen.application.planner.dto.BackfillStatusResponse;
+import com.momen.core.dto.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -19,10 +24,31 @@ import org.springframework.web.bind.annotation.RestController;
 public class AdminController {
 
     private final AdminService adminService;
+    private final TodoDayBucketBackfillJob todoDayBucketBackfillJob;
+    private final StudyTimeRollupJob studyTimeRollupJob;
 
     @Operation(summary = "대시보드 통계 조회", description = "전체 사용자 수, 멘토/멘티 수, 학습 세션 등 통계를 조회합니다")
     @GetMapping("/dashboard")
     public ResponseEntity<AdminDashboardResponse> getDashboard() {
         return ResponseEntity.ok(adminService.getDashboardStats());
     }
+
+    @Operation(summary = "Todo 날짜 버킷 백필 시작", description = "기존 Todo 전체에 대해 날짜 버킷 인덱스를 백그라운드에서 페이지 단위로 재생성합니다. "
+            + "이미 실행 중이면 새로 시작하지 않고 진행 상태를 반환합니다. 여러 번 실행해도 안전합니다")
+    @PostMapping("/planner/day-buckets/backfill")
+    public ResponseEntity<ApiResponse<BackfillStatusResponse>> backfillTodoDayBuckets() {
+        return ResponseEntity.accepted().body(ApiResponse.ok(todoDayBucketBackfillJob.start()));
+    }
+
+    @Operation(summary = "Todo 날짜 버킷 백필 진행 상태", description = "백필 실행 여부, 처리한 Todo 수, 마지막 todoId, 오류를 조회합니다")
+    @GetMapping("/planner/day-buckets/backfill")
+    public ResponseEntity<ApiResponse<BackfillStatusResponse>> getTodoDayBucketBackfillStatus() {
+        return ResponseEntity.ok(ApiResponse.ok(todoDayBucketBackfillJob.status()));
+    }
+
+    @Operation(summary = "학습 집계 재생성", description = "전체 멘티의 날짜/과목별 학습 집계를 Todo 원본으로부터 다시 생성하고 처리한 멘티 수를 반환합니다. 여러 번 실행해도 안전합니다")
+    @PostMapping("/planner/study-time-rollups/rebuild")
+    public ResponseEntity<ApiResponse<Long>> rebuildStudyTimeRollups() {
+        return ResponseEntity.ok(ApiResponse.ok(studyTimeRollupJob.rebuildAll()));
+    }
 }
@@ -5,9 +5,11 @@ import com.momen.application.mentoring.MentoringService;
 import com.momen.application.mentoring.dto.ChatRequest;
 import com.momen.application.mentoring.dto.MenteeResponse;
 import com.momen.application.planner.AssignmentService;
+import com.momen.application.planner.TodoSeriesService;
 import com.momen.application.planner.TodoService;
 import com.momen.application.planner.dto.*;
 import com.momen.core.dto.response.ApiResponse;
+import com.momen.domain.planner.SeriesEditScope;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -30,6 +32,7 @@ public class MentoringController {
     private final MentoringChatService chatService;
     private final MentoringService mentoringService;
     private final TodoService todoService;
+    private final TodoSeriesService todoSeriesService;
     private final AssignmentService assignmentService;
 
     @Operation(summary = "담당 멘티 목록 조회", description = "멘토가 담당하는 멘티 목록을 조회합니다")
@@ -38,6 +41,14 @@ public class MentoringController {
         return ResponseEntity.ok(ApiResponse.ok(mentoringService.getMenteeList(userId)));
     }
 
+    @Operation(summary = "담당 멘티 주간 현황 조회", description = "담당 멘티 전체의 주간 할일, 완료율, 학습 시간, 피드백 대기/미답변 질문 수를 한 번에 조회합니다 (멘토 대시보드용)")
+    @GetMapping("/mentees/week-overview")
+    public ResponseEntity<ApiResponse<MentorWeekOverviewResponse>> getWeekOverview(
+            @RequestAttribute("userId") Long userId,
+            @Parameter(description = "주 시작일-일요일 (yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weekStartDate) {
+        return ResponseEntity.ok(ApiResponse.ok(todoService.getWeekOverviewForMentor(userId, weekStartDate)));
+    }
+
     @Operation(summary = "멘티 단건 조회", description = "멘토가 담당 멘티 한 명의 정보를 조회합니다")
     @GetMapping("/mentees/{menteeId}")
     public ResponseEntity<ApiResponse<MenteeResponse.MenteeForMentorResponse>> getMentee(
@@ -48,15 +59,48 @@ public class MentoringController {
 
     // ==================== Todo CRUD ====================
 
-    @Operation(summary = "Todo 생성", description = "멘토가 멘티에게 할일을 등록합니다 (단건/반복)")
+    @Operation(summary = "Todo 생성", description = "멘토가 멘티에게 할일을 등록합니다 (단건/반복). 단건은 todoIds, 반복 일정은 시리즈로 저장되어 seriesId를 반환합니다")
     @PostMapping("/mentees/{menteeId}/todos")
-    public ResponseEntity<ApiResponse<List<Long>>> createTodo(
+    public ResponseEntity<ApiResponse<TodoCreateResponse>> createTodo(
             @RequestAttribute("userId") Long userId,
             @Parameter(description = "멘티 ID") @PathVariable Long menteeId,
             @RequestBody TodoCreateRequest request) {
         return ResponseEntity.ok(ApiResponse.ok(todoService.createTodo(userId, menteeId, request)));
     }
 
+    @Operation(summary = "반복 할일 발생일 Todo 생성", description = "반복 할일의 특정 날짜를 Todo로 생성하고 todoId를 반환합니다. 피드백 작성 전에 호출하며, 이미 생성된 경우 기존 todoId를 반환합니다")
+    @PostMapping("/mentees/{menteeId}/todos/series/{seriesId}/occurrences")
+    public ResponseEntity<ApiResponse<Long>> materializeOccurrence(
+            @RequestAttribute("userId") Long userId,
+            @PathVariable Long menteeId,
+            @PathVariable Long seriesId,
+            @Parameter(description = "발생일 (yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(ApiResponse.ok(todoSeriesService.materializeByMentor(userId, menteeId, seriesId, date)));
+    }
+
+    @Operation(summary = "반복 할일 일괄 수정", description = "멘토가 생성한 반복 할일을 일괄 수정합니다. scope=ALL은 전체, THIS_AND_FOLLOWING은 from 이후 일정을 새 시리즈로 분리해 수정합니다")
+    @PatchMapping("/mentees/{menteeId}/todos/series/{seriesId}")
+    public ResponseEntity<ApiResponse<TodoSeriesBulkResponse>> updateSeries(
+            @RequestAttribute("userId") Long userId,
+            @PathVariable Long menteeId,
+            @PathVariable Long seriesId,
+            @Parameter(description = "수정 범위 (ALL, THIS_AND_FOLLOWING)") @RequestParam SeriesEditScope scope,
+            @Parameter(description = "기준 발생일 (yyyy-MM-dd, THIS_AND_FOLLOWING일 때 필수)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestBody TodoUpdateRequest request) {
+        return ResponseEntity.ok(ApiResponse.ok(todoSeriesService.updateSeriesByMentor(userId, seriesId, scope, from, request)));
+    }
+
+    @Operation(summary = "반복 할일 일괄 삭제", description = "멘토가 생성한 반복 할일을 일괄 삭제합니다. 이미 생성된 발생일 Todo의 자료/피드백/제출도 함께 삭제되며 삭제 건수를 반환합니다")
+    @DeleteMapping("/mentees/{menteeId}/todos/series/{seriesId}")
+    public ResponseEntity<ApiResponse<TodoSeriesBulkResponse>> deleteSeries(
+            @RequestAttribute("userId") Long userId,
+            @PathVariable Long menteeId,
+            @PathVariable Long seriesId,
+            @Parameter(description = "삭제 범위 (ALL, THIS_AND_FOLLOWING)") @RequestParam SeriesEditScope scope,
+            @Parameter(description = "기준 발생일 (yyyy-MM-dd, THIS_AND_FOLLOWING일 때 필수)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from) {
+        return ResponseEntity.ok(ApiResponse.ok(todoSeriesService.deleteSeriesByMentor(userId, seriesId, scope, from)));
+    }
+
     @Operation(summary = "Todo 수정", description = "멘토가 할일을 수정합니다")
     @PatchMapping("/mentees/{menteeId}/todos/{todoId}")
     public ResponseEntity<ApiResponse<Void>> updateTodo(
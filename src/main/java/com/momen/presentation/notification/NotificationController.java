@@ -4,6 +4,7 @@ import com.momen.application.notification.NotificationService;
 import com.momen.application.notification.dto.NotificationResponse;
 import com.momen.core.dto.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -24,11 +25,15 @@ public class NotificationController {
 
     private final NotificationService notificationService;
 
-    @Operation(summary = "SSE 구독", description = "실시간 알림을 위한 SSE 연결 (query param token 사용)")
+    @Operation(summary = "SSE 구독", description = "실시간 알림을 위한 SSE 연결 (query param token 사용). "
+            + "재연결 시 Last-Event-ID 헤더 이후 놓친 알림을 먼저 전송하며, 모두 채우지 못하면 resync 이벤트를 보냅니다")
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe(@RequestAttribute("userId") Long userId) {
+    public SseEmitter subscribe(
+            @RequestAttribute("userId") Long userId,
+            @Parameter(description = "마지막으로 받은 이벤트 ID (브라우저 EventSource가 재연결 시 자동 전송)")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
         try {
-            return notificationService.subscribe(userId);
+            return notificationService.subscribe(userId, lastEventId);
         } catch (Exception e) {
             log.error("SSE 구독 실패 - userId: {}", userId, e);
             SseEmitter emitter = new SseEmitter();
@@ -1,5 +1,6 @@
 package com.momen.presentation.planner;
 
+import com.momen.application.planner.MentorReviewInboxService;
 import com.momen.application.planner.MonthlyFeedbackService;
 import com.momen.application.planner.TodoFeedbackService;
 import com.momen.application.planner.WeeklyFeedbackService;
@@ -13,8 +14,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -26,11 +29,26 @@ import java.util.Map;
 public class FeedbackController {
 
     private final TodoFeedbackService todoFeedbackService;
+    private final MentorReviewInboxService mentorReviewInboxService;
     private final WeeklyFeedbackService weeklyFeedbackService;
     private final MonthlyFeedbackService monthlyFeedbackService;
+    private final PlannerConditionalGet conditionalGet;
 
     // ==================== Todo 피드백 ====================
 
+    @Operation(summary = "검토 대기함 조회 (멘토)", description = "담당 멘티 전체에서 피드백이 없거나 질문에 답변하지 않은 제출물을 제출 시각 순으로 조회합니다. "
+            + "hasMore가 true면 응답의 nextCursorSubmittedAt, nextCursorTodoId로 다음 페이지를 요청합니다")
+    @GetMapping("/inbox")
+    public ResponseEntity<ApiResponse<MentorReviewInboxResponse>> getReviewInbox(
+            @RequestAttribute("userId") Long userId,
+            @Parameter(description = "이전 응답의 nextCursorSubmittedAt (첫 요청은 생략)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorSubmittedAt,
+            @Parameter(description = "이전 응답의 nextCursorTodoId (첫 요청은 생략)") @RequestParam(required = false) Long cursorTodoId,
+            @Parameter(description = "최대 항목 수 (기본 20, 최대 100)") @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(ApiResponse.ok(
+                mentorReviewInboxService.getInbox(userId, cursorSubmittedAt, cursorTodoId, limit)));
+    }
+
     @Operation(summary = "Todo 피드백 작성/수정 (멘토)", description = "멘토가 Todo에 대한 피드백을 작성합니다")
     @PostMapping("/todo/{todoId}")
     public ResponseEntity<ApiResponse<TodoFeedbackResponse>> saveTodoFeedback(
@@ -57,6 +75,14 @@ public class FeedbackController {
         return ResponseEntity.ok(ApiResponse.ok(todoFeedbackService.getFeedback(todoId)));
     }
 
+    @Operation(summary = "Todo 피드백 일괄 조회", description = "여러 Todo의 피드백을 제출물/파일과 함께 한 번에 조회합니다 (최대 100개). 피드백이 없거나 접근 권한이 없는 Todo는 제외됩니다")
+    @GetMapping("/todo")
+    public ResponseEntity<ApiResponse<List<TodoFeedbackResponse>>> getTodoFeedbacks(
+            @RequestAttribute("userId") Long userId,
+            @Parameter(description = "Todo ID 목록 (예: 1,2,3)") @RequestParam List<Long> todoIds) {
+        return ResponseEntity.ok(ApiResponse.ok(todoFeedbackService.getFeedbacks(userId, todoIds)));
+    }
+
     // ==================== 주간 피드백 ====================
 
     @Operation(summary = "주간 피드백 AI 요약 생성", description = "해당 주차의 Todo 피드백들을 기반으로 AI 요약을 생성합니다 (저장X)")
@@ -93,8 +119,10 @@ public class FeedbackController {
     public ResponseEntity<ApiResponse<List<WeeklyFeedbackResponse>>> getWeeklyFeedbackList(
             @Parameter(description = "멘티 ID") @PathVariable Long menteeId,
             @Parameter(description = "연월 (yyyy-MM)") @RequestParam(required = false) String yearMonth,
-            @Parameter(description = "주 시작일-일요일 (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weekStartDate) {
-        return ResponseEntity.ok(ApiResponse.ok(weeklyFeedbackService.getFeedbackList(menteeId, yearMonth, weekStartDate)));
+            @Parameter(description = "주 시작일-일요일 (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weekStartDate,
+            ServletWebRequest webRequest) {
+        return conditionalGet.respond(menteeId, webRequest,
+                () -> weeklyFeedbackService.getFeedbackList(menteeId, yearMonth, weekStartDate));
     }
 
     // ==================== 월간 피드백 ====================
@@ -133,7 +161,9 @@ public class FeedbackController {
     public ResponseEntity<ApiResponse<List<MonthlyFeedbackResponse>>> getMonthlyFeedbackList(
             @Parameter(description = "멘티 ID") @PathVariable Long menteeId,
             @Parameter(description = "연월 (yyyy-MM)") @RequestParam(required = false) String yearMonth,
-            @Parameter(description = "연도") @RequestParam(required = false) Integer year) {
-        return ResponseEntity.ok(ApiResponse.ok(monthlyFeedbackService.getFeedbackList(menteeId, yearMonth, year)));
+            @Parameter(description = "연도") @RequestParam(required = false) Integer year,
+            ServletWebRequest webRequest) {
+        return conditionalGet.respond(menteeId, webRequest,
+                () -> monthlyFeedbackService.getFeedbackList(menteeId, yearMonth, year));
     }
 }
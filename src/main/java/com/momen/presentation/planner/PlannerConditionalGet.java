@@ -0,0 +1,39 @@
+package com.momen.presentation.planner;
+
+import com.momen.application.planner.PlannerVersionService;
+import com.momen.core.dto.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * 멘티 플래너/피드백 조회 API의 조건부 GET 처리 (ETag / If-None-Match).
+ * ETag가 일치하면 조회(loader)를 실행하지 않고 304를 반환한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlannerConditionalGet {
+
+    private final PlannerVersionService plannerVersionService;
+
+    public <T> ResponseEntity<ApiResponse<T>> respond(Long menteeId, ServletWebRequest webRequest, Supplier<T> loader) {
+        String etag = plannerVersionService.etag(menteeId, representation(webRequest));
+        if (etag == null) {
+            return ResponseEntity.ok(ApiResponse.ok(loader.get()));
+        }
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(ApiResponse.ok(loader.get()));
+    }
+
+    // 같은 멘티의 서로 다른 응답을 구분 (경로 + 쿼리)
+    private String representation(ServletWebRequest webRequest) {
+        String query = webRequest.getRequest().getQueryString();
+        return webRequest.getRequest().getRequestURI() + (query != null ? "?" + query : "");
+    }
+}
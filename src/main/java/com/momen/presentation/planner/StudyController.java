@@ -4,7 +4,7 @@ import com.momen.application.mentoring.MentoringService;
 import com.momen.application.mentoring.dto.MenteeResponse;
 import com.momen.application.planner.*;
 import com.momen.application.planner.dto.*;
-import com.momen.domain.mentoring.Mentee;
+import com.momen.domain.planner.SeriesEditScope;
 import com.momen.infrastructure.jpa.mentoring.MenteeRepository;
 import com.momen.core.dto.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -32,12 +33,18 @@ public class StudyController {
     private final AssignmentService assignmentService;
     private final MistakeNoteService mistakeNoteService;
     private final TodoService todoService;
+    private final TodoSeriesService todoSeriesService;
+    private final StudyTimeTickService studyTimeTickService;
+    private final TodoChangeFeedService todoChangeFeedService;
     private final PlannerService plannerService;
+    private final PlannerCalendarService plannerCalendarService;
+    private final MenteeHomeService menteeHomeService;
     private final MentoringService mentoringService;
     private final TodoFeedbackService todoFeedbackService;
     private final WeeklyFeedbackService weeklyFeedbackService;
     private final MonthlyFeedbackService monthlyFeedbackService;
     private final MenteeRepository menteeRepository;
+    private final PlannerConditionalGet conditionalGet;
 
     // ==================== Todo 조회 (멘티용) ====================
 
@@ -46,8 +53,10 @@ public class StudyController {
     public ResponseEntity<ApiResponse<List<TodoSummaryResponse>>> getMyTodosByDate(
             @RequestAttribute("userId") Long userId,
             @Parameter(description = "조회할 날짜 (yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
-            @Parameter(description = "과목 필터 (KOREAN,MATH,ENGLISH 등)") @RequestParam(required = false) List<String> subjects) {
-        return ResponseEntity.ok(ApiResponse.ok(todoService.getMyTodosByDate(userId, date, subjects)));
+            @Parameter(description = "과목 필터 (KOREAN,MATH,ENGLISH 등)") @RequestParam(required = false) List<String> subjects,
+            ServletWebRequest webRequest) {
+        return conditionalGet.respond(getMenteeId(userId), webRequest,
+                () -> todoService.getMyTodosByDate(userId, date, subjects));
     }
 
     @Operation(summary = "월별 Todo 조회", description = "멘티 본인의 월별 할일을 조회합니다. subjects로 과목 필터링 가능 (다중선택)")
@@ -55,8 +64,37 @@ public class StudyController {
     public ResponseEntity<ApiResponse<List<TodoSummaryResponse>>> getMyTodosByMonth(
             @RequestAttribute("userId") Long userId,
             @Parameter(description = "연월 (yyyy-MM)") @RequestParam String yearMonth,
-            @Parameter(description = "과목 필터") @RequestParam(required = false) List<String> subjects) {
-        return ResponseEntity.ok(ApiResponse.ok(todoService.getMyTodosByMonth(userId, yearMonth, subjects)));
+            @Parameter(description = "과목 필터") @RequestParam(required = false) List<String> subjects,
+            ServletWebRequest webRequest) {
+        return conditionalGet.respond(getMenteeId(userId), webRequest,
+                () -> todoService.getMyTodosByMonth(userId, yearMonth, subjects));
+    }
+
+    @Operation(summary = "월 달력 묶음 조회", description = "월 달력 화면에 필요한 할일, 주간 피드백(달력 첫 일요일부터), 월간 피드백을 한 번에 조회합니다. "
+            + "각 항목은 월별 Todo 조회, 주간/월간 피드백 목록 조회(yearMonth)와 같은 결과입니다")
+    @GetMapping("/calendar")
+    public ResponseEntity<ApiResponse<PlannerCalendarResponse>> getMyCalendar(
+            @RequestAttribute("userId") Long userId,
+            @Parameter(description = "연월 (yyyy-MM)") @RequestParam String yearMonth,
+            @Parameter(description = "과목 필터 (할일에만 적용)") @RequestParam(required = false) List<String> subjects,
+            ServletWebRequest webRequest) {
+        Long menteeId = getMenteeId(userId);
+        return conditionalGet.respond(menteeId, webRequest,
+                () -> plannerCalendarService.getCalendar(menteeId, yearMonth, subjects));
+    }
+
+    @Operation(summary = "월 달력 점 표시 조회", description = "startMonth~endMonth(최대 24개월)의 날짜별 상태를 월별 비트마스크로 조회합니다. "
+            + "(일 - 1)번째 비트가 해당 날짜를 나타내며 todoMask(할일 있음), allDoneMask(모두 완료), feedbackMask(멘토 피드백 있음)를 제공합니다")
+    @GetMapping("/calendar/dots")
+    public ResponseEntity<ApiResponse<CalendarDotsResponse>> getMyCalendarDots(
+            @RequestAttribute("userId") Long userId,
+            @Parameter(description = "시작 연월 (yyyy-MM)") @RequestParam String startMonth,
+            @Parameter(description = "종료 연월 (yyyy-MM, 미입력 시 시작 연월)") @RequestParam(required = false) String endMonth,
+            @Parameter(description = "과목 필터") @RequestParam(required = false) List<String> subjects,
+            ServletWebRequest webRequest) {
+        Long menteeId = getMenteeId(userId);
+        return conditionalGet.respond(menteeId, webRequest,
+                () -> plannerCalendarService.getDots(menteeId, startMonth, endMonth, subjects));
     }
 
     @Operation(summary = "주별 Todo 조회", description = "멘티 본인의 특정 주차 할일을 조회합니다. subjects로 과목 필터링 가능 (다중선택)")
@@ -64,8 +102,10 @@ public class StudyController {
     public ResponseEntity<ApiResponse<List<TodoSummaryResponse>>> getMyTodosByWeek(
             @RequestAttribute("userId") Long userId,
             @Parameter(description = "주 시작일-일요일 (yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weekStartDate,
-            @Parameter(description = "과목 필터") @RequestParam(required = false) List<String> subjects) {
-        return ResponseEntity.ok(ApiResponse.ok(todoService.getMyTodosByWeek(userId, weekStartDate, subjects)));
+            @Parameter(description = "과목 필터") @RequestParam(required = false) List<String> subjects,
+            ServletWebRequest webRequest) {
+        return conditionalGet.respond(getMenteeId(userId), webRequest,
+                () -> todoService.getMyTodosByWeek(userId, weekStartDate, subjects));
     }
 
     @Operation(summary = "Todo 상세 조회", description = "할일의 상세 정보를 조회합니다 (자료파일 포함)")
@@ -79,8 +119,10 @@ public class StudyController {
     public ResponseEntity<ApiResponse<List<TodoDetailResponse>>> getMyTodoCardsByDate(
             @RequestAttribute("userId") Long userId,
             @Parameter(description = "조회할 날짜 (yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
-            @Parameter(description = "과목 필터") @RequestParam(required = false) List<String> subjects) {
-        return ResponseEntity.ok(ApiResponse.ok(todoService.getMyTodoCardsByDate(userId, date, subjects)));
+            @Parameter(description = "과목 필터") @RequestParam(required = false) List<String> subjects,
+            ServletWebRequest webRequest) {
+        return conditionalGet.respond(getMenteeId(userId), webRequest,
+                () -> todoService.getMyTodoCardsByDate(userId, date, subjects));
     }
 
     @Operation(summary = "학습 카드 목록 조회 (월별)", description = "해당 월의 학습 할일을 카드 표시용 배열로 조회합니다. subjects로 과목 필터링 가능")
@@ -88,20 +130,63 @@ public class StudyController {
     public ResponseEntity<ApiResponse<List<TodoDetailResponse>>> getMyTodoCardsByMonth(
             @RequestAttribute("userId") Long userId,
             @Parameter(description = "연월 (yyyy-MM)") @RequestParam String yearMonth,
-            @Parameter(description = "과목 필터") @RequestParam(required = false) List<String> subjects) {
-        return ResponseEntity.ok(ApiResponse.ok(todoService.getMyTodoCardsByMonth(userId, yearMonth, subjects)));
+            @Parameter(description = "과목 필터") @RequestParam(required = false) List<String> subjects,
+            ServletWebRequest webRequest) {
+        return conditionalGet.respond(getMenteeId(userId), webRequest,
+                () -> todoService.getMyTodoCardsByMonth(userId, yearMonth, subjects));
+    }
+
+    @Operation(summary = "Todo 변경 피드 조회", description = "cursor 이후 생성/수정/삭제된 할일만 조회합니다. "
+            + "fullResync가 true면 월별 조회로 전체를 다시 받은 뒤 응답의 cursor부터 이어서 요청합니다. "
+            + "resyncRanges의 날짜 범위는 반복 할일 변경으로 다시 조회해야 하는 구간입니다")
+    @GetMapping("/todos/changes")
+    public ResponseEntity<ApiResponse<TodoChangeFeedResponse>> getMyTodoChanges(
+            @RequestAttribute("userId") Long userId,
+            @Parameter(description = "이전 응답의 cursor (첫 요청은 생략)") @RequestParam(required = false) Long cursor,
+            @Parameter(description = "최대 변경 수 (기본 500, 최대 1000)") @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(ApiResponse.ok(todoChangeFeedService.getMyChanges(userId, cursor, limit)));
     }
 
     // ==================== Todo CRUD (멘티용) ====================
 
-    @Operation(summary = "Todo 생성 (멘티)", description = "멘티가 본인의 할일을 생성합니다 (단건/반복)")
+    @Operation(summary = "Todo 생성 (멘티)", description = "멘티가 본인의 할일을 생성합니다 (단건/반복). 단건은 todoIds, 반복 일정은 시리즈로 저장되어 seriesId를 반환합니다")
     @PostMapping("/todos")
-    public ResponseEntity<ApiResponse<List<Long>>> createTodo(
+    public ResponseEntity<ApiResponse<TodoCreateResponse>> createTodo(
             @RequestAttribute("userId") Long userId,
             @RequestBody TodoCreateRequest request) {
         return ResponseEntity.ok(ApiResponse.ok(todoService.createTodoByMentee(userId, request)));
     }
 
+    @Operation(summary = "반복 할일 발생일 Todo 생성 (멘티)", description = "반복 할일의 특정 날짜를 Todo로 생성하고 todoId를 반환합니다. 완료/제출 전에 호출하며, 이미 생성된 경우 기존 todoId를 반환합니다")
+    @PostMapping("/todos/series/{seriesId}/occurrences")
+    public ResponseEntity<ApiResponse<Long>> materializeOccurrence(
+            @RequestAttribute("userId") Long userId,
+            @PathVariable Long seriesId,
+            @Parameter(description = "발생일 (yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(ApiResponse.ok(todoSeriesService.materializeByMentee(userId, seriesId, date)));
+    }
+
+    @Operation(summary = "반복 할일 일괄 수정 (멘티)", description = "멘티가 생성한 반복 할일을 일괄 수정합니다. scope=ALL은 전체, THIS_AND_FOLLOWING은 from 이후 일정을 새 시리즈로 분리해 수정합니다")
+    @PatchMapping("/todos/series/{seriesId}")
+    public ResponseEntity<ApiResponse<TodoSeriesBulkResponse>> updateSeries(
+            @RequestAttribute("userId") Long userId,
+            @PathVariable Long seriesId,
+            @Parameter(description = "수정 범위 (ALL, THIS_AND_FOLLOWING)") @RequestParam SeriesEditScope scope,
+            @Parameter(description = "기준 발생일 (yyyy-MM-dd, THIS_AND_FOLLOWING일 때 필수)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestBody TodoUpdateRequest request) {
+        return ResponseEntity.ok(ApiResponse.ok(todoSeriesService.updateSeriesByMentee(userId, seriesId, scope, from, request)));
+    }
+
+    @Operation(summary = "반복 할일 일괄 삭제 (멘티)", description = "멘티가 생성한 반복 할일을 일괄 삭제합니다. 이미 생성된 발생일 Todo의 자료/피드백/제출도 함께 삭제되며 삭제 건수를 반환합니다")
+    @DeleteMapping("/todos/series/{seriesId}")
+    public ResponseEntity<ApiResponse<TodoSeriesBulkResponse>> deleteSeries(
+            @RequestAttribute("userId") Long userId,
+            @PathVariable Long seriesId,
+            @Parameter(description = "삭제 범위 (ALL, THIS_AND_FOLLOWING)") @RequestParam SeriesEditScope scope,
+            @Parameter(description = "기준 발생일 (yyyy-MM-dd, THIS_AND_FOLLOWING일 때 필수)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from) {
+        return ResponseEntity.ok(ApiResponse.ok(todoSeriesService.deleteSeriesByMentee(userId, seriesId, scope, from)));
+    }
+
     @Operation(summary = "Todo 내용 수정 (멘티)", description = "멘티가 본인이 생성한 할일의 내용을 수정합니다")
     @PatchMapping("/todos/{todoId}/content")
     public ResponseEntity<ApiResponse<Void>> updateTodoContent(
@@ -131,6 +216,14 @@ public class StudyController {
         return ResponseEntity.ok(ApiResponse.ok(null));
     }
 
+    @Operation(summary = "학습 시간 tick 일괄 전송", description = "타이머 tick 목록(todoId, seconds, clientSeq)을 한 번에 전송합니다. 같은 clientSeq는 한 번만 누적되며, 학습시간 반영은 수 초 지연될 수 있습니다")
+    @PostMapping("/todos/study-time/ticks")
+    public ResponseEntity<ApiResponse<StudyTimeTickResponse>> collectStudyTimeTicks(
+            @RequestAttribute("userId") Long userId,
+            @RequestBody StudyTimeTickRequest request) {
+        return ResponseEntity.ok(ApiResponse.ok(studyTimeTickService.collect(userId, request)));
+    }
+
     // ==================== 학습시간 통계 ====================
 
     @Operation(summary = "학습시간 통계 (일별)", description = "특정 날짜의 총 학습시간과 과목별 학습시간을 조회합니다")
@@ -157,6 +250,16 @@ public class StudyController {
         return ResponseEntity.ok(ApiResponse.ok(todoService.getStudyTimeStatsByMonth(userId, yearMonth)));
     }
 
+    @Operation(summary = "홈 화면 묶음 조회", description = "본인 정보, 당일 학습 통계, 당일 학습 카드, 읽지 않은 알림 수, 마이페이지를 한 번에 조회합니다. "
+            + "시간 내 조회하지 못한 항목은 null로 내려가며 failedSections에 이름이 포함됩니다")
+    @GetMapping("/home")
+    public ResponseEntity<ApiResponse<MenteeHomeResponse>> getHome(
+            @RequestAttribute("userId") Long userId,
+            @Parameter(description = "조회할 날짜 (미입력 시 오늘)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        LocalDate targetDate = date != null ? date : now();
+        return ResponseEntity.ok(ApiResponse.ok(menteeHomeService.getHome(userId, targetDate)));
+    }
+
     @Operation(summary = "당일 학습 통계", description = "오늘(또는 지정 날짜) 하루의 총 학습·완료·남은 개수와 완료율을 조회합니다. 홈 프로그레스바용.")
     @GetMapping("/daily-stats")
     public ResponseEntity<ApiResponse<StudyDailyStatsResponse>> getDailyStats(
@@ -252,9 +355,11 @@ public class StudyController {
     public ResponseEntity<ApiResponse<List<WeeklyFeedbackResponse>>> getMyWeeklyFeedbackList(
             @RequestAttribute("userId") Long userId,
             @Parameter(description = "연월 (yyyy-MM)") @RequestParam(required = false) String yearMonth,
-            @Parameter(description = "주 시작일-일요일 (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weekStartDate) {
+            @Parameter(description = "주 시작일-일요일 (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weekStartDate,
+            ServletWebRequest webRequest) {
         Long menteeId = getMenteeId(userId);
-        return ResponseEntity.ok(ApiResponse.ok(weeklyFeedbackService.getFeedbackList(menteeId, yearMonth, weekStartDate)));
+        return conditionalGet.respond(menteeId, webRequest,
+                () -> weeklyFeedbackService.getFeedbackList(menteeId, yearMonth, weekStartDate));
     }
 
     @Operation(summary = "주간 피드백 단건 조회", description = "주간 피드백을 조회합니다")
@@ -269,9 +374,11 @@ public class StudyController {
     public ResponseEntity<ApiResponse<List<MonthlyFeedbackResponse>>> getMyMonthlyFeedbackList(
             @RequestAttribute("userId") Long userId,
             @Parameter(description = "연월 (yyyy-MM)") @RequestParam(required = false) String yearMonth,
-            @Parameter(description = "연도") @RequestParam(required = false) Integer year) {
+            @Parameter(description = "연도") @RequestParam(required = false) Integer year,
+            ServletWebRequest webRequest) {
         Long menteeId = getMenteeId(userId);
-        return ResponseEntity.ok(ApiResponse.ok(monthlyFeedbackService.getFeedbackList(menteeId, yearMonth, year)));
+        return conditionalGet.respond(menteeId, webRequest,
+                () -> monthlyFeedbackService.getFeedbackList(menteeId, yearMonth, year));
     }
 
     @Operation(summary = "월간 피드백 단건 조회", description = "월간 피드백을 조회합니다")
@@ -282,8 +389,7 @@ public class StudyController {
     }
 
     private Long getMenteeId(Long userId) {
-        Mentee mentee = menteeRepository.findByUserId(userId)
+        return menteeRepository.findIdByUserId(userId)
                 .orElseThrow(() -> new IllegalArgumentException("Mentee not found"));
-        return mentee.getId();
     }
 }
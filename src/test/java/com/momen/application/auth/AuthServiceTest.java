@@ -3,6 +3,7 @@ package com.momen.application.auth;
 import com.momen.application.auth.dto.LoginRequest;
 import com.momen.application.auth.dto.SignupRequest;
 import com.momen.application.auth.dto.TokenResponse;
+import com.momen.application.planner.TodoChangeFeedService;
 import com.momen.domain.mentoring.Mentee;
 import com.momen.domain.mentoring.Mentor;
 import com.momen.domain.user.User;
@@ -51,6 +52,9 @@ class AuthServiceTest {
     @Mock
     private TokenRedisService tokenRedisService;
 
+    @Mock
+    private TodoChangeFeedService todoChangeFeedService;
+
     @InjectMocks
     private AuthService authService;
 
@@ -103,7 +107,11 @@ class AuthServiceTest {
             ReflectionTestUtils.setField(user, "id", 1L);
             return user;
         });
-        given(menteeRepository.save(any(Mentee.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(menteeRepository.save(any(Mentee.class))).willAnswer(invocation -> {
+            Mentee mentee = invocation.getArgument(0);
+            ReflectionTestUtils.setField(mentee, "id", 10L);
+            return mentee;
+        });
         given(jwtTokenProvider.createAccessToken(anyLong(), anyString())).willReturn("access-token");
         given(jwtTokenProvider.createRefreshToken(anyLong(), anyString())).willReturn("refresh-token");
 
@@ -111,6 +119,7 @@ class AuthServiceTest {
 
         assertThat(result.getAccessToken()).isEqualTo("access-token");
         verify(menteeRepository).save(any(Mentee.class));
+        verify(todoChangeFeedService).openCursor(10L);
     }
 
     @Test
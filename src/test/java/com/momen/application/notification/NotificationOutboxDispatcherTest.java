@@ -0,0 +1,112 @@
+package com.momen.application.notification;
+
+import com.momen.application.notification.dto.NotificationResponse;
+import com.momen.infrastructure.sse.SseClusterRelay;
+import com.momen.infrastructure.sse.SseRelayException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxDispatcherTest {
+
+    @Mock
+    private NotificationOutboxService outboxService;
+
+    @Mock
+    private SseClusterRelay sseClusterRelay;
+
+    @Mock
+    private ExecutorService sseSendExecutor;
+
+    @InjectMocks
+    private NotificationOutboxDispatcher dispatcher;
+
+    private NotificationDelivery delivery(long outboxId, long userId) {
+        return new NotificationDelivery(outboxId, userId, NotificationResponse.builder().id(outboxId).build());
+    }
+
+    @Test
+    @DisplayName("전송에 성공한 행만 삭제하고, 실패한 행은 오류를 기록해 스위퍼 재시도 대상으로 남긴다")
+    void dispatch_completesOnlyDelivered() {
+        NotificationDelivery ok = delivery(1L, 10L);
+        NotificationDelivery broken = delivery(2L, 20L);
+        given(outboxService.claim(List.of(1L, 2L))).willReturn(List.of(ok, broken));
+        willAnswer(invocation -> {
+            if (invocation.getArgument(0).equals(20L)) {
+                throw new IllegalStateException("boom");
+            }
+            return null;
+        }).given(sseClusterRelay).sendToUser(anyLong(), eq("notification"), any());
+
+        dispatcher.dispatch(List.of(1L, 2L));
+
+        verify(sseClusterRelay).sendToUser(10L, "notification", ok.response());
+        verify(outboxService).fail(2L, "boom");
+        verify(outboxService).complete(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("일부 노드에만 전달되면 이벤트 ID와 남은 노드를 기록하고, 재시도는 남은 노드에만 보낸다")
+    void deliver_tracksPartialDelivery() {
+        NotificationDelivery first = delivery(4L, 40L);
+        given(outboxService.claim(List.of(4L))).willReturn(List.of(first));
+        willThrow(new SseRelayException(40L, 9L, Set.of("node-b")))
+                .given(sseClusterRelay).sendToUser(40L, "notification", first.response());
+
+        dispatcher.dispatch(List.of(4L));
+
+        verify(outboxService).failPartially(eq(4L), anyString(), eq(9L), eq(Set.of("node-b")));
+        verify(outboxService).complete(List.of());
+
+        NotificationDelivery retry = new NotificationDelivery(4L, 40L, first.response(), 9L, Set.of("node-b"));
+        given(outboxService.claimDue(NotificationOutboxDispatcher.BATCH_SIZE)).willReturn(List.of(retry));
+
+        dispatcher.sweep();
+
+        verify(sseClusterRelay).resendToNodes(40L, 9L, "notification", first.response(), Set.of("node-b"));
+        verify(sseClusterRelay, times(1)).sendToUser(anyLong(), anyString(), any());
+        verify(outboxService).complete(List.of(4L));
+    }
+
+    @Test
+    @DisplayName("커밋 후 전송은 배치 크기 단위로 나누어 잡는다")
+    void dispatch_claimsInBatches() {
+        List<Long> ids = LongStream.rangeClosed(1, NotificationOutboxDispatcher.BATCH_SIZE + 1).boxed().toList();
+
+        dispatcher.dispatch(ids);
+
+        verify(outboxService).claim(ids.subList(0, NotificationOutboxDispatcher.BATCH_SIZE));
+        verify(outboxService).claim(ids.subList(NotificationOutboxDispatcher.BATCH_SIZE, ids.size()));
+    }
+
+    @Test
+    @DisplayName("스위퍼는 재시도 대상이 배치보다 적으면 멈춘다")
+    void sweep_stopsWhenBatchNotFull() {
+        NotificationDelivery due = delivery(3L, 30L);
+        given(outboxService.claimDue(NotificationOutboxDispatcher.BATCH_SIZE)).willReturn(List.of(due));
+
+        dispatcher.sweep();
+
+        verify(sseClusterRelay).sendToUser(30L, "notification", due.response());
+        verify(outboxService).complete(List.of(3L));
+    }
+}
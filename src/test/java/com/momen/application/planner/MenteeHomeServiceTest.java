@@ -0,0 +1,123 @@
+package com.momen.application.planner;
+
+import com.momen.application.notification.NotificationService;
+import com.momen.application.planner.dto.MenteeHomeResponse;
+import com.momen.application.planner.dto.StudyDailyStatsResponse;
+import com.momen.domain.mentoring.Mentee;
+import com.momen.domain.user.User;
+import com.momen.infrastructure.jpa.mentoring.MenteeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class MenteeHomeServiceTest {
+
+    private static final Long USER_ID = 10L;
+    private static final Long MENTEE_ID = 1L;
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 3);
+
+    @Mock
+    private MenteeRepository menteeRepository;
+
+    @Mock
+    private TodoService todoService;
+
+    @Mock
+    private PlannerService plannerService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private MenteeHomeService menteeHomeService;
+
+    @BeforeEach
+    void setUp() {
+        menteeHomeService = new MenteeHomeService(menteeRepository, todoService, plannerService, notificationService, executor);
+        Mentee mentee = mock(Mentee.class);
+        given(mentee.getId()).willReturn(MENTEE_ID);
+        given(mentee.getSubjects()).willReturn(List.of());
+        given(mentee.getUser()).willReturn(mock(User.class));
+        given(menteeRepository.findWithUserAndMentorByUserId(USER_ID)).willReturn(Optional.of(mentee));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("홈 화면 - 실패한 항목은 null로 두고 나머지 결과를 반환")
+    void getHome_partialResult() {
+        StudyDailyStatsResponse stats = StudyDailyStatsResponse.builder().date(DATE).total(2).build();
+        given(todoService.getDailyStats(MENTEE_ID, List.of(), DATE)).willReturn(stats);
+        given(todoService.getTodoCardsByDate(MENTEE_ID, DATE, null)).willReturn(List.of());
+        given(notificationService.getUnreadCount(USER_ID)).willThrow(new IllegalStateException("db down"));
+        given(plannerService.getMypage(any(Mentee.class))).willReturn(null);
+
+        MenteeHomeResponse response = menteeHomeService.getHome(USER_ID, DATE);
+
+        assertThat(response.getDailyStats()).isSameAs(stats);
+        assertThat(response.getTodoCards()).isEmpty();
+        assertThat(response.getUnreadNotificationCount()).isNull();
+        assertThat(response.getFailedSections()).containsExactly("unreadNotificationCount");
+    }
+
+    @Test
+    @DisplayName("홈 화면 - 시간 제한을 넘긴 항목은 기다리지 않고 작업을 취소")
+    void getHome_sectionTimeout() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        given(notificationService.getUnreadCount(USER_ID)).willAnswer(invocation -> {
+            try {
+                Thread.sleep(MenteeHomeService.SECTION_TIMEOUT_MILLIS * 3);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return 5L;
+        });
+
+        long started = System.currentTimeMillis();
+        MenteeHomeResponse response = menteeHomeService.getHome(USER_ID, DATE);
+
+        assertThat(System.currentTimeMillis() - started).isLessThan(MenteeHomeService.SECTION_TIMEOUT_MILLIS * 2);
+        assertThat(response.getFailedSections()).containsExactly("unreadNotificationCount");
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("홈 화면 - Executor가 거절한 항목은 기다리지 않고 실패로 처리")
+    void getHome_rejectedSections() {
+        ExecutorService saturated = Executors.newSingleThreadExecutor();
+        saturated.shutdown();
+        MenteeHomeService service = new MenteeHomeService(menteeRepository, todoService, plannerService,
+                notificationService, saturated);
+
+        MenteeHomeResponse response = service.getHome(USER_ID, DATE);
+
+        assertThat(response.getDailyStats()).isNull();
+        assertThat(response.getFailedSections())
+                .containsExactlyInAnyOrder("dailyStats", "todoCards", "unreadNotificationCount", "mypage");
+        verifyNoInteractions(todoService, notificationService, plannerService);
+    }
+}
@@ -0,0 +1,112 @@
+package com.momen.application.planner;
+
+import com.momen.domain.planner.CreatorType;
+import com.momen.domain.planner.MenteeMypageAggregate;
+import com.momen.domain.planner.MenteeMypageAggregate.SubjectCount;
+import com.momen.domain.planner.TodoSeries;
+import com.momen.domain.planner.TodoSeriesOccurrence;
+import com.momen.infrastructure.jpa.planner.MenteeMypageAggregateRepository;
+import com.momen.infrastructure.jpa.planner.StudyTimeAggregate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MenteeMypageAggregateServiceTest {
+
+    private static final Long MENTEE_ID = 1L;
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 31);
+    private static final LocalDate WINDOW_START = TODAY.minusDays(MenteeMypageAggregateService.WINDOW_DAYS);
+
+    @Mock
+    private MenteeMypageAggregateRepository aggregateRepository;
+
+    @Mock
+    private StudyTimeRollupService studyTimeRollupService;
+
+    @Mock
+    private TodoSeriesService todoSeriesService;
+
+    @InjectMocks
+    private MenteeMypageAggregateService aggregateService;
+
+    @Test
+    @DisplayName("집계 조회 - 오늘 기준으로 계산된 집계만 반환하고 지난 집계는 empty")
+    void findCurrent_onlyTodaysWindow() {
+        given(aggregateRepository.findById(MENTEE_ID))
+                .willReturn(Optional.of(aggregate(TODAY)))
+                .willReturn(Optional.of(aggregate(TODAY.minusDays(1))));
+
+        assertThat(aggregateService.findCurrent(MENTEE_ID, TODAY)).isPresent();
+        assertThat(aggregateService.findCurrent(MENTEE_ID, TODAY)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재계산 - 학습 집계와 아직 생성되지 않은 반복 발생일을 합쳐 잠근 기존 행을 갱신")
+    void refresh_resetsLockedRow() {
+        MenteeMypageAggregate existing = aggregate(TODAY.minusDays(3));
+        given(aggregateRepository.findForUpdate(MENTEE_ID)).willReturn(Optional.of(existing));
+        givenSources();
+
+        MenteeMypageAggregate result = aggregateService.refresh(MENTEE_ID, TODAY);
+
+        assertThat(result).isSameAs(existing);
+        assertThat(result.getWindowStart()).isEqualTo(WINDOW_START);
+        assertThat(result.getWindowEnd()).isEqualTo(TODAY);
+        assertThat(result.getStudySeconds()).isEqualTo(900);
+        assertThat(result.getSubjectCounts())
+                .containsEntry("MATH", new SubjectCount(4, 2))
+                .containsEntry("KOREAN", new SubjectCount(1, 1));
+        verify(aggregateRepository, never()).insertIfAbsent(any(), any(), any(), anyInt(), anyInt(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("재계산 - 행이 없으면 INSERT IGNORE 후 잠금 조회로 다시 읽음")
+    void refresh_insertsWhenMissing() {
+        MenteeMypageAggregate inserted = aggregate(TODAY);
+        given(aggregateRepository.findForUpdate(MENTEE_ID))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(inserted));
+        givenSources();
+
+        MenteeMypageAggregate result = aggregateService.refresh(MENTEE_ID, TODAY);
+
+        assertThat(result).isSameAs(inserted);
+        verify(aggregateRepository).insertIfAbsent(eq(MENTEE_ID), eq(WINDOW_START), eq(TODAY), eq(5), eq(3), eq(900L), any());
+    }
+
+    // MATH: 집계 3건(완료 2) + 가상 발생일 1건, KOREAN: 집계 1건(완료 1)
+    private void givenSources() {
+        given(studyTimeRollupService.findOverlapping(MENTEE_ID, WINDOW_START, TODAY)).willReturn(List.of(
+                new StudyTimeAggregate(WINDOW_START.minusDays(1), "MATH", 300L, 1L, 1L),
+                new StudyTimeAggregate(TODAY, "MATH", 400L, 1L, 2L),
+                new StudyTimeAggregate(TODAY, "KOREAN", 200L, 1L, 1L)));
+        TodoSeries series = new TodoSeries(null, "t", "MATH", null, WINDOW_START, TODAY,
+                EnumSet.of(DayOfWeek.MONDAY), 1L, CreatorType.MENTOR);
+        given(todoSeriesService.expand(MENTEE_ID, WINDOW_START, TODAY, null))
+                .willReturn(List.of(new TodoSeriesOccurrence(series, TODAY, List.of())));
+    }
+
+    private MenteeMypageAggregate aggregate(LocalDate windowEnd) {
+        return new MenteeMypageAggregate(MENTEE_ID, windowEnd.minusDays(30), windowEnd, new HashMap<>(), 0);
+    }
+}
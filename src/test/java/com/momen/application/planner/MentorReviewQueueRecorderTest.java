@@ -0,0 +1,68 @@
+package com.momen.application.planner;
+
+import com.momen.domain.planner.MentorReviewItem;
+import com.momen.infrastructure.jpa.planner.AssignmentSubmissionRepository;
+import com.momen.infrastructure.jpa.planner.MentorReviewItemRepository;
+import com.momen.infrastructure.jpa.planner.SubmissionReviewRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MentorReviewQueueRecorderTest {
+
+    private static final Long TODO_ID = 100L;
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 3);
+    private static final LocalDateTime SUBMITTED_AT = LocalDateTime.of(2025, 3, 3, 21, 0);
+
+    @Mock
+    private AssignmentSubmissionRepository submissionRepository;
+
+    @Mock
+    private MentorReviewItemRepository reviewItemRepository;
+
+    @InjectMocks
+    private MentorReviewQueueRecorder recorder;
+
+    @Test
+    @DisplayName("검토 대기함 - 피드백 없는 제출물은 대기함에 추가")
+    void onTodoChanged_addsPendingSubmission() {
+        given(submissionRepository.findReviewState(TODO_ID)).willReturn(Optional.of(
+                new SubmissionReviewRow(TODO_ID, 1L, 2L, 5L, SUBMITTED_AT, true, false)));
+        given(reviewItemRepository.findById(TODO_ID)).willReturn(Optional.empty());
+
+        recorder.onTodoChanged(new TodoChangedEvent(1L, TODO_ID, DATE, DATE));
+
+        ArgumentCaptor<MentorReviewItem> captor = ArgumentCaptor.forClass(MentorReviewItem.class);
+        verify(reviewItemRepository).save(captor.capture());
+        assertThat(captor.getValue().getMentorId()).isEqualTo(2L);
+        assertThat(captor.getValue().getSubmittedAt()).isEqualTo(SUBMITTED_AT);
+        assertThat(captor.getValue().isAwaitingFeedback()).isTrue();
+    }
+
+    @Test
+    @DisplayName("검토 대기함 - 피드백과 답변이 끝난 제출물은 대기함에서 제거")
+    void onTodoChanged_removesReviewedSubmission() {
+        given(submissionRepository.findReviewState(TODO_ID)).willReturn(Optional.of(
+                new SubmissionReviewRow(TODO_ID, 1L, 2L, 5L, SUBMITTED_AT, false, false)));
+
+        recorder.onTodoChanged(new TodoChangedEvent(1L, TODO_ID, DATE, DATE));
+
+        verify(reviewItemRepository).deleteByTodoId(TODO_ID);
+        verify(reviewItemRepository, never()).save(any());
+    }
+}
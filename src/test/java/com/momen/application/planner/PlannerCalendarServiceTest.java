@@ -0,0 +1,158 @@
+package com.momen.application.planner;
+
+import com.momen.application.planner.dto.CalendarDotsResponse;
+import com.momen.application.planner.dto.PlannerCalendarResponse;
+import com.momen.application.planner.dto.TodoSummaryResponse;
+import com.momen.application.planner.dto.WeeklyFeedbackResponse;
+import com.momen.domain.planner.CreatorType;
+import com.momen.domain.planner.TodoSeries;
+import com.momen.domain.planner.TodoSeriesOccurrence;
+import com.momen.infrastructure.jpa.planner.TodoDayStatusRow;
+import com.momen.infrastructure.jpa.planner.TodoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class PlannerCalendarServiceTest {
+
+    private static final Long MENTEE_ID = 1L;
+    // 2025-03-01은 토요일 -> 달력은 2025-02-23(일)부터
+    private static final CalendarMonth MONTH = CalendarMonth.parse("2025-03");
+
+    @Mock
+    private TodoService todoService;
+
+    @Mock
+    private WeeklyFeedbackService weeklyFeedbackService;
+
+    @Mock
+    private MonthlyFeedbackService monthlyFeedbackService;
+
+    @Mock
+    private TodoSeriesService todoSeriesService;
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private ExecutorService plannerReadExecutor;
+
+    @InjectMocks
+    private PlannerCalendarService plannerCalendarService;
+
+    @Test
+    @DisplayName("달력 범위 - 첫 주는 이전 달 일요일부터 시작")
+    void calendarMonth_startsOnSunday() {
+        assertThat(MONTH.calendarStart()).isEqualTo(LocalDate.of(2025, 2, 23));
+        assertThat(MONTH.monthStart()).isEqualTo(LocalDate.of(2025, 3, 1));
+        assertThat(MONTH.monthEnd()).isEqualTo(LocalDate.of(2025, 3, 31));
+        assertThat(CalendarMonth.parse("2025-06").calendarStart()).isEqualTo(LocalDate.of(2025, 6, 1));
+    }
+
+    @Test
+    @DisplayName("달력 묶음 조회 - Todo는 실행기에서, 피드백 구역은 요청 스레드에서 같은 달력 범위로 조회")
+    void getCalendar_assemblesSections() {
+        willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).given(plannerReadExecutor).execute(any());
+        givenSections();
+
+        PlannerCalendarResponse response = plannerCalendarService.getCalendar(MENTEE_ID, "2025-03", null);
+
+        assertThat(response.getYearMonth()).isEqualTo("2025-03");
+        assertThat(response.getCalendarStartDate()).isEqualTo(MONTH.calendarStart());
+        assertThat(response.getTodos()).hasSize(1);
+        assertThat(response.getWeeklyFeedbacks()).hasSize(1);
+        assertThat(response.getMonthlyFeedbacks()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("달력 묶음 조회 - 실행기 대기열이 가득 차면 Todo 구역을 요청 스레드에서 조회")
+    void getCalendar_runsInlineWhenRejected() {
+        willThrow(new RejectedExecutionException("full")).given(plannerReadExecutor).execute(any());
+        givenSections();
+
+        PlannerCalendarResponse response = plannerCalendarService.getCalendar(MENTEE_ID, "2025-03", null);
+
+        assertThat(response.getTodos()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("달력 묶음 조회 - Todo 구역 예외는 감싸지 않고 그대로 전달")
+    void getCalendar_unwrapsSectionException() {
+        willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).given(plannerReadExecutor).execute(any());
+        given(todoService.getCalendarTodos(MENTEE_ID, MONTH, null)).willThrow(new IllegalArgumentException("Mentee not found"));
+
+        assertThatThrownBy(() -> plannerCalendarService.getCalendar(MENTEE_ID, "2025-03", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Mentee not found");
+    }
+
+    @Test
+    @DisplayName("달력 점 - 날짜별 상태를 월별 비트마스크로, 가상 발생일이 있는 날은 미완료로 표시")
+    void getDots_buildsMonthMasks() {
+        LocalDate start = LocalDate.of(2025, 3, 1);
+        LocalDate end = LocalDate.of(2025, 4, 30);
+        given(todoRepository.findDayStatuses(MENTEE_ID, start, end)).willReturn(List.of(
+                new TodoDayStatusRow(LocalDate.of(2025, 3, 1), 2L, 2L, 1L),   // 모두 완료 + 피드백
+                new TodoDayStatusRow(LocalDate.of(2025, 3, 3), 2L, 1L, 0L),   // 일부 완료
+                new TodoDayStatusRow(LocalDate.of(2025, 4, 7), 1L, 1L, 0L))); // 완료했지만 가상 발생일 있음
+        TodoSeries series = new TodoSeries(null, "t", "MATH", null, start, end,
+                EnumSet.of(DayOfWeek.MONDAY), 1L, CreatorType.MENTOR);
+        given(todoSeriesService.expandWithoutMaterials(MENTEE_ID, start, end, null)).willReturn(List.of(
+                new TodoSeriesOccurrence(series, LocalDate.of(2025, 4, 7), List.of())));
+
+        CalendarDotsResponse response = plannerCalendarService.getDots(MENTEE_ID, "2025-03", "2025-04", null);
+
+        assertThat(response.getMonths()).extracting(CalendarDotsResponse.MonthDots::getYearMonth)
+                .containsExactly("2025-03", "2025-04");
+        CalendarDotsResponse.MonthDots march = response.getMonths().get(0);
+        assertThat(march.getTodoMask()).isEqualTo(0b101);
+        assertThat(march.getAllDoneMask()).isEqualTo(0b1);
+        assertThat(march.getFeedbackMask()).isEqualTo(0b1);
+        CalendarDotsResponse.MonthDots april = response.getMonths().get(1);
+        assertThat(april.getTodoMask()).isEqualTo(1 << 6);
+        assertThat(april.getAllDoneMask()).isZero();
+    }
+
+    @Test
+    @DisplayName("달력 점 - 종료 월이 시작 월보다 앞서거나 최대 개월 수를 넘으면 조회하지 않음")
+    void getDots_rejectsInvalidRange() {
+        assertThatThrownBy(() -> plannerCalendarService.getDots(MENTEE_ID, "2025-03", "2025-02", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> plannerCalendarService.getDots(MENTEE_ID, "2025-01", "2027-01", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(todoRepository, todoSeriesService);
+    }
+
+    private void givenSections() {
+        given(todoService.getCalendarTodos(MENTEE_ID, MONTH, null))
+                .willReturn(List.of(TodoSummaryResponse.builder().todoId(10L).build()));
+        given(weeklyFeedbackService.getCalendarFeedbacks(MENTEE_ID, MONTH))
+                .willReturn(List.of(WeeklyFeedbackResponse.builder().feedbackId(5L).build()));
+        given(monthlyFeedbackService.getCalendarFeedbacks(MENTEE_ID, MONTH)).willReturn(List.of());
+    }
+}
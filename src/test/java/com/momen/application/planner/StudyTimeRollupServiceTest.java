@@ -0,0 +1,161 @@
+package com.momen.application.planner;
+
+import com.momen.domain.mentoring.Mentee;
+import com.momen.domain.planner.CreatorType;
+import com.momen.domain.planner.MenteeMypageAggregate;
+import com.momen.domain.planner.MenteeMypageAggregate.SubjectCount;
+import com.momen.domain.planner.StudyTimeRollup;
+import com.momen.domain.planner.Todo;
+import com.momen.infrastructure.jpa.planner.MenteeMypageAggregateRepository;
+import com.momen.infrastructure.jpa.planner.StudyTimeAggregate;
+import com.momen.infrastructure.jpa.planner.StudyTimeRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class StudyTimeRollupServiceTest {
+
+    private static final Long MENTEE_ID = 1L;
+    private static final LocalDate START = LocalDate.of(2025, 3, 10);
+    private static final LocalDate END = LocalDate.of(2025, 3, 12);
+
+    @Mock
+    private StudyTimeRollupRepository rollupRepository;
+
+    @Mock
+    private MenteeMypageAggregateRepository mypageAggregateRepository;
+
+    @InjectMocks
+    private StudyTimeRollupService studyTimeRollupService;
+
+    private Mentee mentee;
+
+    @BeforeEach
+    void setUp() {
+        mentee = new Mentee(null, null, "고1");
+        ReflectionTestUtils.setField(mentee, "id", MENTEE_ID);
+    }
+
+    @Test
+    @DisplayName("Todo 생성 - 시작일 집계 행에 증분하고 기간이 겹치는 마이페이지 집계에도 반영")
+    void onCreated_incrementsRollupAndMypage() {
+        Todo todo = todo("MATH", 600);
+        MenteeMypageAggregate aggregate = aggregate(START.minusDays(30), START);
+        given(mypageAggregateRepository.findForUpdate(MENTEE_ID)).willReturn(Optional.of(aggregate));
+
+        studyTimeRollupService.onCreated(todo);
+
+        verify(rollupRepository).upsert(MENTEE_ID, START, "MATH", 600, 0, 1);
+        verify(mypageAggregateRepository).addStudySeconds(MENTEE_ID, START, END, 600);
+        assertThat(aggregate.getSubjectCounts()).containsEntry("MATH", new SubjectCount(1, 0));
+    }
+
+    @Test
+    @DisplayName("Todo 생성 - 마이페이지 집계 기간과 겹치지 않으면 과목별 수를 바꾸지 않음")
+    void onCreated_skipsNonOverlappingMypage() {
+        MenteeMypageAggregate aggregate = aggregate(START.minusDays(40), START.minusDays(10));
+        given(mypageAggregateRepository.findForUpdate(MENTEE_ID)).willReturn(Optional.of(aggregate));
+
+        studyTimeRollupService.onCreated(todo("MATH", 0));
+
+        verify(rollupRepository).upsert(MENTEE_ID, START, "MATH", 0, 0, 1);
+        verify(mypageAggregateRepository, never()).addStudySeconds(MENTEE_ID, START, END, 0);
+        assertThat(aggregate.getSubjectCounts()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("발생일 Todo 생성 - 집계 행만 증분하고 마이페이지 집계는 건드리지 않음")
+    void onMaterialized_onlyRollup() {
+        studyTimeRollupService.onMaterialized(todo("ENGLISH", 0));
+
+        verify(rollupRepository).upsert(MENTEE_ID, START, "ENGLISH", 0, 0, 1);
+        verifyNoInteractions(mypageAggregateRepository);
+    }
+
+    @Test
+    @DisplayName("Todo 이동 - 이전 시작일/과목에서 빼고 새 시작일/과목에 더함")
+    void onMoved_movesBetweenKeys() {
+        Todo todo = todo("MATH", 300);
+        todo.complete();
+        given(mypageAggregateRepository.findForUpdate(MENTEE_ID)).willReturn(Optional.empty());
+
+        studyTimeRollupService.onMoved(todo, START.minusDays(1), START.minusDays(1), "KOREAN");
+
+        verify(rollupRepository).upsert(MENTEE_ID, START.minusDays(1), "KOREAN", -300, -1, -1);
+        verify(rollupRepository).upsert(MENTEE_ID, START, "MATH", 300, 1, 1);
+    }
+
+    @Test
+    @DisplayName("Todo 이동 - 기간과 과목이 그대로면 아무것도 하지 않음")
+    void onMoved_unchanged() {
+        studyTimeRollupService.onMoved(todo("MATH", 300), START, END, "MATH");
+
+        verifyNoInteractions(rollupRepository, mypageAggregateRepository);
+    }
+
+    @Test
+    @DisplayName("기간 조회 - 기간 전에 시작해 이어지는 Todo 합계와 기간 내 집계 행을 함께 반환")
+    void findOverlapping_mergesCarriedOver() {
+        StudyTimeAggregate carried = new StudyTimeAggregate(START.minusDays(2), "MATH", 120L, 0L, 1L);
+        given(rollupRepository.aggregateCarriedOver(MENTEE_ID, START)).willReturn(List.of(carried));
+        given(rollupRepository.findByMenteeIdAndRollupDateBetween(MENTEE_ID, START, END))
+                .willReturn(List.of(new StudyTimeRollup(MENTEE_ID, START, "KOREAN", 600, 1, 2)));
+
+        List<StudyTimeAggregate> result = studyTimeRollupService.findOverlapping(MENTEE_ID, START, END);
+
+        assertThat(result).containsExactly(carried, new StudyTimeAggregate(START, "KOREAN", 600L, 1L, 2L));
+    }
+
+    @Test
+    @DisplayName("정합성 점검 - 원본과 어긋난 집계가 있으면 기간 집계를 다시 생성")
+    void reconcile_rebuildsOnDrift() {
+        given(rollupRepository.findByMenteeIdAndRollupDateBetween(MENTEE_ID, START, END))
+                .willReturn(List.of(new StudyTimeRollup(MENTEE_ID, START, "MATH", 600, 0, 1)));
+        given(rollupRepository.aggregateFromTodos(MENTEE_ID, START, END))
+                .willReturn(List.of(new StudyTimeAggregate(START, "MATH", 900L, 0L, 1L)));
+
+        assertThat(studyTimeRollupService.reconcile(MENTEE_ID, START, END)).isEqualTo(1);
+        verify(rollupRepository).deleteByMenteeIdAndRange(MENTEE_ID, START, END);
+        verify(rollupRepository).insertFromTodos(MENTEE_ID, START, END);
+        verify(mypageAggregateRepository).markStale(MENTEE_ID);
+    }
+
+    @Test
+    @DisplayName("정합성 점검 - 원본과 일치하면 다시 생성하지 않음")
+    void reconcile_noDrift() {
+        given(rollupRepository.findByMenteeIdAndRollupDateBetween(MENTEE_ID, START, END))
+                .willReturn(List.of(new StudyTimeRollup(MENTEE_ID, START, "MATH", 600, 0, 1)));
+        given(rollupRepository.aggregateFromTodos(MENTEE_ID, START, END))
+                .willReturn(List.of(new StudyTimeAggregate(START, "MATH", 600L, 0L, 1L)));
+
+        assertThat(studyTimeRollupService.reconcile(MENTEE_ID, START, END)).isZero();
+        verify(rollupRepository, never()).deleteByMenteeIdAndRange(MENTEE_ID, START, END);
+    }
+
+    private Todo todo(String subject, int studySeconds) {
+        Todo todo = new Todo(mentee, "t", subject, null, START, END, 1L, CreatorType.MENTOR);
+        ReflectionTestUtils.setField(todo, "studyTime", studySeconds);
+        return todo;
+    }
+
+    private MenteeMypageAggregate aggregate(LocalDate windowStart, LocalDate windowEnd) {
+        return new MenteeMypageAggregate(MENTEE_ID, windowStart, windowEnd, new HashMap<>(), 0);
+    }
+}
@@ -0,0 +1,60 @@
+package com.momen.application.planner;
+
+import com.momen.infrastructure.redis.StudyTimeTickKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class StudyTimeTickFlusherTest {
+
+    private static final StudyTimeTickKey TICK = new StudyTimeTickKey(10L, 1L, 1L);
+
+    @Spy
+    private StudyTimeTickBuffer tickBuffer = new StudyTimeTickBuffer();
+
+    @Mock
+    private StudyTimeTickService studyTimeTickService;
+
+    @InjectMocks
+    private StudyTimeTickFlusher flusher;
+
+    @Test
+    @DisplayName("반영 - 커밋된 뒤에 tick을 반영됨으로 기록하고 버퍼에서 정리")
+    void flush_marksAfterApply() {
+        tickBuffer.add(TICK, 30);
+
+        flusher.flush();
+
+        verify(studyTimeTickService).apply(Map.of(1L, 30L));
+        verify(studyTimeTickService).markFlushed(Set.of(TICK));
+        assertThat(tickBuffer.isEmpty()).isTrue();
+        assertThat(tickBuffer.add(TICK, 30)).isTrue(); // Redis 기록이 중복 검사를 넘겨받음
+    }
+
+    @Test
+    @DisplayName("반영 실패 - 기록하지 않고 버퍼로 되돌려 같은 tick 재전송은 중복으로 거름")
+    void flush_restoresOnFailure() {
+        tickBuffer.add(TICK, 30);
+        willThrow(new IllegalStateException("db down")).given(studyTimeTickService).apply(any());
+
+        flusher.flush();
+
+        verify(studyTimeTickService, never()).markFlushed(any());
+        assertThat(tickBuffer.add(TICK, 30)).isFalse();
+        assertThat(tickBuffer.drain().secondsByTodoId()).isEqualTo(Map.of(1L, 30L));
+    }
+}
@@ -0,0 +1,137 @@
+package com.momen.application.planner;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.momen.application.planner.dto.StudyTimeTickRequest;
+import com.momen.application.planner.dto.StudyTimeTickResponse;
+import com.momen.domain.mentoring.Mentee;
+import com.momen.infrastructure.jpa.mentoring.MenteeRepository;
+import com.momen.infrastructure.jpa.planner.TodoRepository;
+import com.momen.infrastructure.redis.StudyTimeTickKey;
+import com.momen.infrastructure.redis.StudyTimeTickRedisService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class StudyTimeTickServiceTest {
+
+    private static final Long USER_ID = 10L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private MenteeRepository menteeRepository;
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private StudyTimeTickRedisService tickRedisService;
+
+    @Spy
+    private StudyTimeTickBuffer tickBuffer = new StudyTimeTickBuffer();
+
+    @Mock
+    private StudyTimeRollupService studyTimeRollupService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private StudyTimeTickService studyTimeTickService;
+
+    @BeforeEach
+    void setUp() {
+        given(menteeRepository.findByUserId(USER_ID)).willReturn(Optional.of(mock(Mentee.class)));
+    }
+
+    @Test
+    @DisplayName("tick 수집 - 중복 순번과 본인 Todo가 아닌 tick은 제외하고 Todo별로 합산")
+    void collect_dedupesAndCoalesces() throws Exception {
+        StudyTimeTickRequest request = request("""
+                {"ticks": [
+                  {"todoId": 1, "seconds": 30, "clientSeq": 1},
+                  {"todoId": 1, "seconds": 30, "clientSeq": 2},
+                  {"todoId": 1, "seconds": 30, "clientSeq": 2},
+                  {"todoId": 2, "seconds": 10, "clientSeq": 1}
+                ]}
+                """);
+        given(todoRepository.findIdsByMenteeIdAndIdIn(any(), any())).willReturn(List.of(1L));
+        given(tickRedisService.findFlushed(any())).willReturn(List.of(false, false, false));
+
+        StudyTimeTickResponse response = studyTimeTickService.collect(USER_ID, request);
+
+        assertThat(response.getAccepted()).isEqualTo(2);
+        assertThat(response.getDuplicated()).isEqualTo(1);
+        assertThat(response.getIgnored()).isEqualTo(1);
+        assertThat(tickBuffer.drain().secondsByTodoId()).isEqualTo(Map.of(1L, 60L));
+    }
+
+    @Test
+    @DisplayName("tick 수집 - 이미 반영된 tick과 반영 중인 tick은 중복으로 거름")
+    void collect_rejectsFlushedAndInFlightTicks() throws Exception {
+        tickBuffer.add(new StudyTimeTickKey(USER_ID, 1L, 1L), 30);
+        tickBuffer.drain(); // 순번 1은 반영 중
+        StudyTimeTickRequest request = request("""
+                {"ticks": [
+                  {"todoId": 1, "seconds": 30, "clientSeq": 1},
+                  {"todoId": 1, "seconds": 30, "clientSeq": 2},
+                  {"todoId": 1, "seconds": 30, "clientSeq": 3}
+                ]}
+                """);
+        given(todoRepository.findIdsByMenteeIdAndIdIn(any(), any())).willReturn(List.of(1L));
+        given(tickRedisService.findFlushed(any())).willReturn(List.of(false, true, false));
+
+        StudyTimeTickResponse response = studyTimeTickService.collect(USER_ID, request);
+
+        assertThat(response.getAccepted()).isEqualTo(1);
+        assertThat(response.getDuplicated()).isEqualTo(2);
+        assertThat(tickBuffer.drain().ticks()).containsExactly(new StudyTimeTickKey(USER_ID, 1L, 3L));
+    }
+
+    @Test
+    @DisplayName("tick 수집 - Redis 장애 시 중복 검사 없이 반영")
+    void collect_redisUnavailable() throws Exception {
+        StudyTimeTickRequest request = request("""
+                {"ticks": [{"todoId": 1, "seconds": 45, "clientSeq": 7}]}
+                """);
+        given(todoRepository.findIdsByMenteeIdAndIdIn(any(), any())).willReturn(List.of(1L));
+        given(tickRedisService.findFlushed(any())).willThrow(new IllegalStateException("redis down"));
+
+        StudyTimeTickResponse response = studyTimeTickService.collect(USER_ID, request);
+
+        assertThat(response.getAccepted()).isEqualTo(1);
+        assertThat(tickBuffer.drain().secondsByTodoId()).isEqualTo(Map.of(1L, 45L));
+    }
+
+    @Test
+    @DisplayName("tick 수집 - 0초 이하 tick은 거부")
+    void collect_invalidSeconds() throws Exception {
+        StudyTimeTickRequest request = request("""
+                {"ticks": [{"todoId": 1, "seconds": 0, "clientSeq": 1}]}
+                """);
+
+        assertThatThrownBy(() -> studyTimeTickService.collect(USER_ID, request))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private StudyTimeTickRequest request(String json) throws Exception {
+        return objectMapper.readValue(json, StudyTimeTickRequest.class);
+    }
+}
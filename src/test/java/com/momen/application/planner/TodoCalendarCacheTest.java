@@ -0,0 +1,80 @@
+package com.momen.application.planner;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.momen.application.planner.dto.WeeklyFeedbackResponse;
+import com.momen.core.config.CacheConfig;
+import com.momen.infrastructure.redis.CalendarCacheVersionRedisService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class TodoCalendarCacheTest {
+
+    private static final Long MENTEE_ID = 1L;
+    private static final CalendarMonth MONTH = CalendarMonth.parse("2025-03");
+
+    @Mock
+    private CalendarCacheVersionRedisService versionRedisService;
+
+    private TodoCalendarCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TodoCalendarCache(new ConcurrentMapCacheManager(CacheConfig.TODO_CALENDAR_CACHE),
+                versionRedisService, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    @DisplayName("주간 피드백 구역 - 같은 버전이면 캐시에서 역직렬화해 반환하고 DB를 다시 조회하지 않음")
+    void getOrLoad_cachesWeeklyFeedbacks() {
+        given(versionRedisService.getVersions(eq(MENTEE_ID), any())).willReturn(List.of(0L, 0L));
+        AtomicInteger loads = new AtomicInteger();
+        WeeklyFeedbackResponse feedback = WeeklyFeedbackResponse.builder()
+                .feedbackId(5L).menteeId(MENTEE_ID).weekStartDate(MONTH.calendarStart()).overallReview("good").build();
+
+        List<WeeklyFeedbackResponse> first = load(loads, feedback);
+        List<WeeklyFeedbackResponse> second = load(loads, feedback);
+
+        assertThat(loads).hasValue(1);
+        assertThat(second).hasSize(1);
+        assertThat(second.get(0).getFeedbackId()).isEqualTo(first.get(0).getFeedbackId());
+        assertThat(second.get(0).getWeekStartDate()).isEqualTo(MONTH.calendarStart());
+        assertThat(second.get(0).getOverallReview()).isEqualTo("good");
+    }
+
+    @Test
+    @DisplayName("피드백 변경 - 피드백 대상 주가 걸친 월의 버전을 모두 올림")
+    void onFeedbackChanged_bumpsSpannedMonths() {
+        cache.onFeedbackChanged(new FeedbackChangedEvent(MENTEE_ID, LocalDate.of(2025, 3, 30), LocalDate.of(2025, 4, 5)));
+
+        verify(versionRedisService).bump(MENTEE_ID, YearMonth.of(2025, 3));
+        verify(versionRedisService).bump(MENTEE_ID, YearMonth.of(2025, 4));
+        verifyNoMoreInteractions(versionRedisService);
+    }
+
+    private List<WeeklyFeedbackResponse> load(AtomicInteger loads, WeeklyFeedbackResponse feedback) {
+        return cache.getOrLoad(TodoCalendarCache.VIEW_WEEKLY_FEEDBACK, MENTEE_ID, MONTH.calendarStart(), MONTH.monthEnd(),
+                null, WeeklyFeedbackResponse.class, () -> {
+                    loads.incrementAndGet();
+                    return List.of(feedback);
+                });
+    }
+}
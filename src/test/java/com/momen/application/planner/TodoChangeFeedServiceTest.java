@@ -0,0 +1,107 @@
+package com.momen.application.planner;
+
+import com.momen.application.planner.dto.TodoChangeFeedResponse;
+import com.momen.domain.mentoring.Mentee;
+import com.momen.domain.planner.CreatorType;
+import com.momen.domain.planner.TodoChange;
+import com.momen.domain.planner.TodoChangeCursor;
+import com.momen.infrastructure.jpa.mentoring.MenteeRepository;
+import com.momen.infrastructure.jpa.planner.TodoCalendarRow;
+import com.momen.infrastructure.jpa.planner.TodoChangeCursorRepository;
+import com.momen.infrastructure.jpa.planner.TodoChangeRepository;
+import com.momen.infrastructure.jpa.planner.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoChangeFeedServiceTest {
+
+    private static final Long USER_ID = 10L;
+    private static final Long MENTEE_ID = 1L;
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 3);
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 3, 9, 0);
+
+    @Mock
+    private MenteeRepository menteeRepository;
+
+    @Mock
+    private TodoChangeCursorRepository cursorRepository;
+
+    @Mock
+    private TodoChangeRepository changeRepository;
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @InjectMocks
+    private TodoChangeFeedService todoChangeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        Mentee mentee = mock(Mentee.class);
+        given(mentee.getId()).willReturn(MENTEE_ID);
+        given(menteeRepository.findByUserId(USER_ID)).willReturn(Optional.of(mentee));
+    }
+
+    @Test
+    @DisplayName("변경 피드 - 정리된 구간의 커서는 전체 재조회 응답")
+    void getMyChanges_prunedCursor_requiresFullResync() {
+        given(cursorRepository.findById(MENTEE_ID)).willReturn(Optional.of(new TodoChangeCursor(MENTEE_ID, 20)));
+        given(changeRepository.findAfter(eq(MENTEE_ID), eq(20L), any())).willReturn(List.of());
+
+        TodoChangeFeedResponse upToDate = todoChangeFeedService.getMyChanges(USER_ID, 20L, null);
+        TodoChangeFeedResponse unknown = todoChangeFeedService.getMyChanges(USER_ID, 21L, null);
+        TodoChangeFeedResponse first = todoChangeFeedService.getMyChanges(USER_ID, null, null);
+
+        assertThat(upToDate.isFullResync()).isFalse();
+        assertThat(upToDate.getCursor()).isEqualTo(20L);
+        assertThat(unknown.isFullResync()).isTrue();
+        assertThat(first.isFullResync()).isTrue();
+        assertThat(first.getCursor()).isEqualTo(20L);
+        verify(changeRepository, never()).findAfter(eq(MENTEE_ID), eq(21L), any());
+    }
+
+    @Test
+    @DisplayName("변경 피드 - 조회되지 않는 Todo는 삭제로, 날짜 범위 변경은 재조회 범위로 반환")
+    void getMyChanges_splitsUpsertedDeletedAndRanges() {
+        given(cursorRepository.findById(MENTEE_ID)).willReturn(Optional.of(new TodoChangeCursor(MENTEE_ID, 9)));
+        given(changeRepository.findAfter(eq(MENTEE_ID), eq(5L), any())).willReturn(List.of(
+                new TodoChange(MENTEE_ID, 100L, null, null, 6, NOW),
+                new TodoChange(MENTEE_ID, null, DATE, DATE.plusDays(6), 7, NOW),
+                new TodoChange(MENTEE_ID, 200L, null, null, 8, NOW)));
+        given(todoRepository.findCalendarRowsByIds(eq(MENTEE_ID), any())).willReturn(List.of(
+                new TodoCalendarRow(100L, "수학 과제", "MATH", null, DATE, DATE, false, CreatorType.MENTOR,
+                        false, 0, null, null, false, null, null, null)));
+
+        TodoChangeFeedResponse response = todoChangeFeedService.getMyChanges(USER_ID, 5L, 2);
+
+        assertThat(response.getCursor()).isEqualTo(7L);
+        assertThat(response.isHasMore()).isTrue();
+        assertThat(response.getUpserted()).extracting("todoId").containsExactly(100L);
+        assertThat(response.getDeletedTodoIds()).isEmpty();
+        assertThat(response.getResyncRanges()).extracting("startDate").containsExactly(DATE);
+
+        TodoChangeFeedResponse all = todoChangeFeedService.getMyChanges(USER_ID, 5L, null);
+        assertThat(all.getCursor()).isEqualTo(8L);
+        assertThat(all.isHasMore()).isFalse();
+        assertThat(all.getDeletedTodoIds()).containsExactly(200L);
+    }
+}
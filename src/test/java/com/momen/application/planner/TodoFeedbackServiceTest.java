@@ -0,0 +1,108 @@
+package com.momen.application.planner;
+
+import com.momen.application.notification.NotificationService;
+import com.momen.application.planner.dto.TodoFeedbackResponse;
+import com.momen.domain.planner.AssignmentSubmission;
+import com.momen.domain.planner.SubmissionFile;
+import com.momen.domain.planner.Todo;
+import com.momen.domain.planner.TodoFeedback;
+import com.momen.infrastructure.jpa.mentoring.MenteeRepository;
+import com.momen.infrastructure.jpa.mentoring.MentorRepository;
+import com.momen.infrastructure.jpa.planner.AssignmentSubmissionRepository;
+import com.momen.infrastructure.jpa.planner.SubmissionFileRepository;
+import com.momen.infrastructure.jpa.planner.TodoFeedbackRepository;
+import com.momen.infrastructure.jpa.planner.TodoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class TodoFeedbackServiceTest {
+
+    @Mock
+    private TodoFeedbackRepository todoFeedbackRepository;
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private MentorRepository mentorRepository;
+
+    @Mock
+    private MenteeRepository menteeRepository;
+
+    @Mock
+    private AssignmentSubmissionRepository submissionRepository;
+
+    @Mock
+    private SubmissionFileRepository fileRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private TodoFeedbackService todoFeedbackService;
+
+    @Test
+    @DisplayName("피드백 일괄 조회 - 피드백/제출물/파일을 한 번씩 조회하고 요청 순서대로 반환")
+    void getFeedbacks_batchesLookups() {
+        Todo todo1 = todo(1L);
+        Todo todo2 = todo(2L);
+        TodoFeedback feedback1 = feedback(10L, todo1);
+        TodoFeedback feedback2 = feedback(20L, todo2);
+        AssignmentSubmission submission = mock(AssignmentSubmission.class);
+        given(submission.getId()).willReturn(100L);
+        given(submission.getTodo()).willReturn(todo2);
+        SubmissionFile file = mock(SubmissionFile.class);
+        given(file.getSubmission()).willReturn(submission);
+
+        given(todoFeedbackRepository.findAccessibleByTodoIdIn(any(), any())).willReturn(List.of(feedback1, feedback2));
+        given(submissionRepository.findByTodoIdIn(any())).willReturn(List.of(submission));
+        given(fileRepository.findBySubmissionIdIn(any())).willReturn(List.of(file));
+
+        List<TodoFeedbackResponse> responses = todoFeedbackService.getFeedbacks(7L, List.of(2L, 3L, 1L));
+
+        assertThat(responses).extracting(TodoFeedbackResponse::getTodoId).containsExactly(2L, 1L);
+        assertThat(responses.get(0).getSubmission().getFiles()).hasSize(1);
+        assertThat(responses.get(1).getSubmission()).isNull();
+        verify(fileRepository).findBySubmissionIdIn(List.of(100L));
+    }
+
+    @Test
+    @DisplayName("피드백 일괄 조회 - 피드백이 없으면 제출물을 조회하지 않음")
+    void getFeedbacks_noFeedback() {
+        given(todoFeedbackRepository.findAccessibleByTodoIdIn(any(), any())).willReturn(List.of());
+
+        assertThat(todoFeedbackService.getFeedbacks(7L, List.of(1L))).isEmpty();
+        verifyNoInteractions(submissionRepository, fileRepository);
+    }
+
+    private Todo todo(Long id) {
+        Todo todo = mock(Todo.class);
+        given(todo.getId()).willReturn(id);
+        return todo;
+    }
+
+    private TodoFeedback feedback(Long id, Todo todo) {
+        TodoFeedback feedback = mock(TodoFeedback.class);
+        given(feedback.getId()).willReturn(id);
+        given(feedback.getTodo()).willReturn(todo);
+        return feedback;
+    }
+}
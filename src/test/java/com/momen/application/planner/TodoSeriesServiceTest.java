@@ -0,0 +1,261 @@
+package com.momen.application.planner;
+
+import com.momen.application.planner.dto.TodoSeriesBulkResponse;
+import com.momen.application.planner.dto.TodoUpdateRequest;
+import com.momen.domain.mentoring.Mentee;
+import com.momen.domain.planner.CreatorType;
+import com.momen.domain.planner.SeriesEditScope;
+import com.momen.domain.planner.Todo;
+import com.momen.domain.planner.TodoSeries;
+import com.momen.domain.planner.TodoSeriesOccurrence;
+import com.momen.infrastructure.jpa.mentoring.ChatLogRepository;
+import com.momen.infrastructure.jpa.mentoring.MenteeRepository;
+import com.momen.infrastructure.jpa.mentoring.MentorRepository;
+import com.momen.infrastructure.jpa.planner.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoSeriesServiceTest {
+
+    private static final Long USER_ID = 7L;
+    private static final Long MENTEE_ID = 1L;
+    private static final Long SERIES_ID = 10L;
+    // 2025-03-03 (월) ~ 2025-03-16 (일), 월/수 반복
+    private static final LocalDate START = LocalDate.of(2025, 3, 3);
+    private static final LocalDate END = LocalDate.of(2025, 3, 16);
+
+    @Mock
+    private TodoSeriesRepository seriesRepository;
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private TodoFeedbackRepository feedbackRepository;
+
+    @Mock
+    private MentorReviewItemRepository reviewItemRepository;
+
+    @Mock
+    private AssignmentSubmissionRepository submissionRepository;
+
+    @Mock
+    private SubmissionFileRepository submissionFileRepository;
+
+    @Mock
+    private MistakeNoteRepository mistakeNoteRepository;
+
+    @Mock
+    private ChatLogRepository chatLogRepository;
+
+    @Mock
+    private MenteeRepository menteeRepository;
+
+    @Mock
+    private MentorRepository mentorRepository;
+
+    @Mock
+    private TodoDayBucketService todoDayBucketService;
+
+    @Mock
+    private MaterialSetService materialSetService;
+
+    @Mock
+    private StudyTimeRollupService studyTimeRollupService;
+
+    @Mock
+    private MenteeMypageAggregateRepository mypageAggregateRepository;
+
+    @Mock
+    private TodoOccurrenceMaterializer occurrenceMaterializer;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private TodoSeriesService todoSeriesService;
+
+    private Mentee mentee;
+    private TodoSeries series;
+
+    @BeforeEach
+    void setUp() {
+        mentee = new Mentee(null, null, "고1");
+        ReflectionTestUtils.setField(mentee, "id", MENTEE_ID);
+        series = new TodoSeries(mentee, "단어 암기", "ENGLISH", null, START, END,
+                EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY), USER_ID, CreatorType.MENTEE);
+        ReflectionTestUtils.setField(series, "id", SERIES_ID);
+    }
+
+    @Test
+    @DisplayName("발생일 펼치기 - 반복 요일만 펼치고 제외 날짜와 이미 생성된 발생일은 빼고 반환")
+    void expand_skipsExcludedAndMaterialized() {
+        series.exclude(LocalDate.of(2025, 3, 5));
+        given(seriesRepository.findOverlapping(MENTEE_ID, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 12)))
+                .willReturn(List.of(series));
+        given(todoRepository.findOccurrenceKeys(List.of(SERIES_ID), LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 12)))
+                .willReturn(List.of(new SeriesOccurrenceKey(SERIES_ID, LocalDate.of(2025, 3, 10))));
+        given(materialSetService.findMaterialsBySetIds(any())).willReturn(Map.of());
+
+        List<TodoSeriesOccurrence> occurrences = todoSeriesService.expand(
+                MENTEE_ID, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 12), null);
+
+        assertThat(occurrences).extracting(TodoSeriesOccurrence::date)
+                .containsExactly(LocalDate.of(2025, 3, 3), LocalDate.of(2025, 3, 12));
+    }
+
+    @Test
+    @DisplayName("발생일 펼치기 - 겹치는 반복 할일이 없으면 Todo/자료를 조회하지 않음")
+    void expand_noSeries() {
+        given(seriesRepository.findOverlapping(eq(MENTEE_ID), any(), any())).willReturn(List.of());
+
+        assertThat(todoSeriesService.expand(MENTEE_ID, START, END, List.of())).isEmpty();
+        verify(todoRepository, never()).findOccurrenceKeys(any(), any(), any());
+        verify(materialSetService, never()).findMaterialsBySetIds(any());
+    }
+
+    @Test
+    @DisplayName("발생일 Todo 생성 - 이미 생성된 발생일이면 기존 todoId를 반환하고 INSERT 하지 않음")
+    void materialize_returnsExisting() {
+        givenMenteeSeries();
+        Todo existing = new Todo(series, START);
+        ReflectionTestUtils.setField(existing, "id", 100L);
+        given(todoRepository.findBySeriesIdAndOccurrenceDate(SERIES_ID, START)).willReturn(Optional.of(existing));
+
+        assertThat(todoSeriesService.materializeByMentee(USER_ID, SERIES_ID, START)).isEqualTo(100L);
+        verify(occurrenceMaterializer, never()).insert(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("발생일 Todo 생성 - 동시 요청이 먼저 생성해 유니크 제약에 걸리면 먼저 커밋된 todoId 반환")
+    void materialize_concurrentInsert() {
+        givenMenteeSeries();
+        given(todoRepository.findBySeriesIdAndOccurrenceDate(SERIES_ID, START)).willReturn(Optional.empty());
+        given(occurrenceMaterializer.insert(SERIES_ID, START)).willThrow(new DataIntegrityViolationException("duplicate"));
+        given(occurrenceMaterializer.findExisting(SERIES_ID, START)).willReturn(Optional.of(101L));
+
+        assertThat(todoSeriesService.materializeByMentee(USER_ID, SERIES_ID, START)).isEqualTo(101L);
+    }
+
+    @Test
+    @DisplayName("발생일 Todo 생성 - 반복 요일이 아니거나 제외된 날짜는 생성할 수 없음")
+    void materialize_notOccurrence() {
+        givenMenteeSeries();
+        LocalDate tuesday = START.plusDays(1);
+        given(todoRepository.findBySeriesIdAndOccurrenceDate(SERIES_ID, tuesday)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> todoSeriesService.materializeByMentee(USER_ID, SERIES_ID, tuesday))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(occurrenceMaterializer, never()).insert(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("발생일 Todo 생성 - 다른 멘티의 반복 할일이면 접근 거부")
+    void materialize_otherMentee() {
+        Mentee other = new Mentee(null, null, "고2");
+        ReflectionTestUtils.setField(other, "id", 2L);
+        given(menteeRepository.findByUserId(USER_ID)).willReturn(Optional.of(other));
+        given(seriesRepository.findById(SERIES_ID)).willReturn(Optional.of(series));
+
+        assertThatThrownBy(() -> todoSeriesService.materializeByMentee(USER_ID, SERIES_ID, START))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("접근 권한이 없습니다");
+    }
+
+    @Test
+    @DisplayName("반복 할일 일괄 수정 - 이 일정 및 이후 일정이면 from부터 새 시리즈로 분리하고 생성된 발생일 Todo를 옮김")
+    void updateSeries_thisAndFollowingSplits() {
+        givenMenteeSeries();
+        LocalDate from = LocalDate.of(2025, 3, 10);
+        given(seriesRepository.save(any(TodoSeries.class))).willAnswer(invocation -> invocation.getArgument(0));
+        TodoUpdateRequest request = new TodoUpdateRequest();
+        ReflectionTestUtils.setField(request, "title", "단어 시험");
+        ReflectionTestUtils.setField(request, "subject", "ENGLISH");
+
+        todoSeriesService.updateSeriesByMentee(USER_ID, SERIES_ID, SeriesEditScope.THIS_AND_FOLLOWING, from, request);
+
+        ArgumentCaptor<TodoSeries> captor = ArgumentCaptor.forClass(TodoSeries.class);
+        verify(seriesRepository).save(captor.capture());
+        TodoSeries next = captor.getValue();
+        assertThat(series.getEndDate()).isEqualTo(from.minusDays(1));
+        assertThat(series.getTitle()).isEqualTo("단어 암기");
+        assertThat(next.getStartDate()).isEqualTo(from);
+        assertThat(next.getEndDate()).isEqualTo(END);
+        assertThat(next.getTitle()).isEqualTo("단어 시험");
+        verify(todoRepository).moveSeriesOccurrencesFrom(SERIES_ID, from, next);
+        verify(studyTimeRollupService).rebuild(MENTEE_ID, from, END);
+    }
+
+    @Test
+    @DisplayName("반복 할일 일괄 삭제 - 이 일정 및 이후 일정이면 from 전날로 종료하고 시리즈는 남김")
+    void deleteSeries_thisAndFollowingEndsSeries() {
+        givenMenteeSeries();
+        LocalDate from = LocalDate.of(2025, 3, 10);
+        given(todoRepository.findMaterialSetIdsBySeriesOccurrencesFrom(SERIES_ID, from)).willReturn(List.of());
+        given(todoRepository.deleteBySeriesOccurrencesFrom(SERIES_ID, from)).willReturn(2);
+
+        TodoSeriesBulkResponse response = todoSeriesService.deleteSeriesByMentee(
+                USER_ID, SERIES_ID, SeriesEditScope.THIS_AND_FOLLOWING, from);
+
+        assertThat(response.getSeriesId()).isEqualTo(SERIES_ID);
+        assertThat(response.getAffectedTodos()).isEqualTo(2);
+        assertThat(series.getEndDate()).isEqualTo(from.minusDays(1));
+        verify(todoDayBucketService).removeSeriesOccurrencesFrom(SERIES_ID, from);
+        verify(seriesRepository, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("반복 할일 일괄 삭제 - 전체 일정이면 시작일부터 모두 삭제하고 시리즈도 삭제")
+    void deleteSeries_allDeletesSeries() {
+        givenMenteeSeries();
+        given(todoRepository.findMaterialSetIdsBySeriesOccurrencesFrom(SERIES_ID, START)).willReturn(List.of());
+
+        TodoSeriesBulkResponse response = todoSeriesService.deleteSeriesByMentee(USER_ID, SERIES_ID, SeriesEditScope.ALL, null);
+
+        assertThat(response.getSeriesId()).isNull();
+        verify(todoRepository).deleteBySeriesOccurrencesFrom(SERIES_ID, START);
+        verify(seriesRepository).delete(series);
+    }
+
+    @Test
+    @DisplayName("반복 할일 일괄 삭제 - 이 일정 및 이후 일정인데 from이 없으면 실패")
+    void deleteSeries_thisAndFollowingRequiresFrom() {
+        givenMenteeSeries();
+
+        assertThatThrownBy(() -> todoSeriesService.deleteSeriesByMentee(
+                USER_ID, SERIES_ID, SeriesEditScope.THIS_AND_FOLLOWING, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(todoRepository, never()).deleteBySeriesOccurrencesFrom(anyLong(), any());
+    }
+
+    private void givenMenteeSeries() {
+        given(menteeRepository.findByUserId(USER_ID)).willReturn(Optional.of(mentee));
+        given(seriesRepository.findById(SERIES_ID)).willReturn(Optional.of(series));
+    }
+}
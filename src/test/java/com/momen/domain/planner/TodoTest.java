@@ -0,0 +1,34 @@
+package com.momen.domain.planner;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TodoTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 3, 1);
+
+    @Test
+    @DisplayName("할일 기간 - 최대 기간까지는 생성할 수 있다")
+    void periodWithinLimit() {
+        assertThatCode(() -> new Todo(null, "t", "MATH", null,
+                START, START.plusDays(Todo.MAX_PERIOD_DAYS - 1), 1L, CreatorType.MENTOR))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("할일 기간 - 최대 기간을 넘으면 생성/수정할 수 없다")
+    void periodOverLimit() {
+        assertThatThrownBy(() -> new Todo(null, "t", "MATH", null,
+                START, START.plusDays(Todo.MAX_PERIOD_DAYS), 1L, CreatorType.MENTOR))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        Todo todo = new Todo(null, "t", "MATH", null, START, START, 1L, CreatorType.MENTOR);
+        assertThatThrownBy(() -> todo.updateContent("t", "MATH", null, START, START.plusYears(3)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
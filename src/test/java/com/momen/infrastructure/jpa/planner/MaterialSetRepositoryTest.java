@@ -0,0 +1,124 @@
+package com.momen.infrastructure.jpa.planner;
+
+import com.momen.application.planner.MaterialSetService;
+import com.momen.application.planner.dto.MaterialFileInfo;
+import com.momen.domain.mentoring.Mentee;
+import com.momen.domain.planner.CreatorType;
+import com.momen.domain.planner.MaterialSet;
+import com.momen.domain.planner.Todo;
+import com.momen.domain.planner.TodoSeries;
+import com.momen.domain.user.User;
+import com.momen.domain.user.UserRole;
+import com.momen.infrastructure.config.JpaAuditingConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 학습자료 묶음 생성/정리 통합 테스트 (test 프로필의 H2, MariaDB 모드)
+ */
+@DataJpaTest
+@Import({JpaAuditingConfig.class, MaterialSetService.class}) // 감사 필드 + 정리 로직은 실제 서비스로 검증
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+class MaterialSetRepositoryTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 10);
+
+    @Autowired
+    private MaterialSetService materialSetService;
+
+    @Autowired
+    private MaterialSetRepository materialSetRepository;
+
+    @Autowired
+    private AssignmentMaterialRepository materialRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private Mentee mentee;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .loginId("materialmentee")
+                .email("material@test.com")
+                .passwordHash("encoded")
+                .name("자료멘티")
+                .role(UserRole.MENTEE)
+                .build();
+        entityManager.persist(user);
+        mentee = new Mentee(user, null, "고1");
+        entityManager.persist(mentee);
+    }
+
+    @Test
+    @DisplayName("자료 묶음 생성 - 자료가 없으면 묶음을 만들지 않는다")
+    void create_withoutMaterials() {
+        assertThat(materialSetService.create(null)).isNull();
+        assertThat(materialSetService.create(List.of())).isNull();
+        assertThat(materialSetRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("자료 묶음 정리 - Todo나 반복 할일이 아직 참조하는 묶음은 남기고 참조가 끊긴 묶음만 자료와 함께 삭제")
+    void release_deletesOnlyUnreferencedSets() {
+        MaterialSet todoSet = materialSetService.create(materials("a.pdf"));
+        MaterialSet seriesSet = materialSetService.create(materials("b.pdf"));
+        MaterialSet orphanSet = materialSetService.create(materials("c.pdf", "d.pdf"));
+
+        Todo todo = new Todo(mentee, "수학", "MATH", null, DATE, DATE, user.getId(), CreatorType.MENTOR);
+        todo.changeMaterialSet(todoSet);
+        entityManager.persist(todo);
+        TodoSeries series = new TodoSeries(mentee, "영어", "ENGLISH", null, DATE, DATE.plusDays(14),
+                EnumSet.of(DayOfWeek.MONDAY), user.getId(), CreatorType.MENTOR);
+        series.changeMaterialSet(seriesSet);
+        entityManager.persist(series);
+
+        int deleted = materialSetService.release(Arrays.asList(todoSet.getId(), seriesSet.getId(), orphanSet.getId(), null));
+        entityManager.clear();
+
+        assertThat(deleted).isEqualTo(2);
+        assertThat(materialSetRepository.findAllById(List.of(todoSet.getId(), seriesSet.getId(), orphanSet.getId())))
+                .extracting(MaterialSet::getId)
+                .containsExactlyInAnyOrder(todoSet.getId(), seriesSet.getId());
+        assertThat(materialSetService.findMaterialsBySetIds(List.of(todoSet.getId(), seriesSet.getId(), orphanSet.getId())))
+                .containsOnlyKeys(todoSet.getId(), seriesSet.getId());
+        assertThat(materialRepository.findByMaterialSetId(orphanSet.getId())).isEmpty();
+    }
+
+    private List<MaterialFile> materials(String... fileNames) {
+        return Arrays.stream(fileNames)
+                .map(name -> new MaterialFile("https://files.test/" + name, name))
+                .toList();
+    }
+
+    private record MaterialFile(String fileUrl, String fileName) implements MaterialFileInfo {
+        @Override
+        public String getFileUrl() {
+            return fileUrl;
+        }
+
+        @Override
+        public String getFileName() {
+            return fileName;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.momen.infrastructure.jpa.planner;
+
+import com.momen.domain.planner.MenteeMypageAggregate;
+import com.momen.domain.planner.MenteeMypageAggregate.SubjectCount;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MenteeMypageAggregateRepository 통합 테스트 (test 프로필의 H2, MariaDB 모드)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+class MenteeMypageAggregateRepositoryTest {
+
+    private static final Long MENTEE_ID = 1L;
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 31);
+
+    @Autowired
+    private MenteeMypageAggregateRepository aggregateRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("insertIfAbsent - 이미 행이 있으면 무시하고 먼저 넣은 값을 유지한다")
+    void insertIfAbsent_keepsFirstRow() {
+        int first = insert(Map.of("MATH", new SubjectCount(3, 1)), 600);
+        int second = insert(Map.of("MATH", new SubjectCount(5, 5)), 900);
+        entityManager.clear();
+
+        MenteeMypageAggregate aggregate = aggregateRepository.findById(MENTEE_ID).orElseThrow();
+
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(aggregate.getTotalTodos()).isEqualTo(3);
+        assertThat(aggregate.getCompletedTodos()).isEqualTo(1);
+        assertThat(aggregate.getStudySeconds()).isEqualTo(600);
+        assertThat(aggregate.getSubjectCounts()).containsEntry("MATH", new SubjectCount(3, 1));
+    }
+
+    @Test
+    @DisplayName("addStudySeconds - Todo 기간이 집계 기간과 겹칠 때만 누적한다")
+    void addStudySeconds_matchesOverlappingPeriod() {
+        insert(Map.of(), 0);
+
+        int before = aggregateRepository.addStudySeconds(MENTEE_ID, TODAY.minusDays(40), TODAY.minusDays(31), 100);
+        int crossing = aggregateRepository.addStudySeconds(MENTEE_ID, TODAY.minusDays(35), TODAY.minusDays(29), 200);
+        int inside = aggregateRepository.addStudySeconds(MENTEE_ID, TODAY, TODAY, 300);
+        entityManager.clear();
+
+        assertThat(before).isZero();
+        assertThat(crossing).isEqualTo(1);
+        assertThat(inside).isEqualTo(1);
+        assertThat(aggregateRepository.findById(MENTEE_ID).orElseThrow().getStudySeconds()).isEqualTo(500);
+    }
+
+    private int insert(Map<String, SubjectCount> counts, long studySeconds) {
+        MenteeMypageAggregate aggregate = new MenteeMypageAggregate(MENTEE_ID, TODAY.minusDays(30), TODAY, counts, studySeconds);
+        return aggregateRepository.insertIfAbsent(MENTEE_ID, aggregate.getWindowStart(), aggregate.getWindowEnd(),
+                aggregate.getTotalTodos(), aggregate.getCompletedTodos(), aggregate.getStudySeconds(),
+                aggregate.getSubjectCountsValue());
+    }
+}
@@ -0,0 +1,229 @@
+package com.momen.infrastructure.jpa.planner;
+
+import com.momen.domain.mentoring.Mentee;
+import com.momen.domain.mentoring.Mentor;
+import com.momen.domain.planner.CreatorType;
+import com.momen.domain.planner.Todo;
+import com.momen.domain.planner.TodoDayBucket;
+import com.momen.domain.planner.TodoFeedback;
+import com.momen.domain.planner.TodoSeries;
+import com.momen.domain.user.User;
+import com.momen.domain.user.UserRole;
+import com.momen.infrastructure.config.JpaAuditingConfig;
+import com.momen.infrastructure.jpa.mentoring.MenteeRepository;
+import com.momen.infrastructure.jpa.mentoring.MenteeRosterRow;
+import com.momen.infrastructure.jpa.mentoring.MenteeValueRow;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 멘토 담당 멘티 전체 대상 프로젝션 쿼리 통합 테스트 (test 프로필의 H2, MariaDB 모드)
+ */
+@DataJpaTest
+@Import(JpaAuditingConfig.class) // BaseTimeEntity의 CREATE_DT/UPDATE_DT 채움
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+class MentorProjectionRepositoryTest {
+
+    // 2025-03-10 (월) ~ 2025-03-16 (일)
+    private static final LocalDate WEEK_START = LocalDate.of(2025, 3, 10);
+    private static final LocalDate WEEK_END = WEEK_START.plusDays(6);
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoSeriesRepository seriesRepository;
+
+    @Autowired
+    private TodoFeedbackRepository todoFeedbackRepository;
+
+    @Autowired
+    private MenteeRepository menteeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Mentor mentor;
+    private Mentee kim;
+    private Mentee lee;
+    private Mentee other;
+
+    @BeforeEach
+    void setUp() {
+        mentor = new Mentor(persistUser("projmentor", "멘토", UserRole.MENTOR), null);
+        entityManager.persist(mentor);
+        Mentor otherMentor = new Mentor(persistUser("othermentor", "다른멘토", UserRole.MENTOR), null);
+        entityManager.persist(otherMentor);
+
+        // 이름순 정렬 확인을 위해 이름 역순으로 저장
+        lee = persistMentee("leementee", "이멘티", mentor);
+        kim = persistMentee("kimmentee", "김멘티", mentor);
+        other = persistMentee("othermentee", "박멘티", otherMentor);
+    }
+
+    @Test
+    @DisplayName("findRosterByMentorId - 담당 멘티만 이름순으로 프로필과 함께 조회")
+    void findRosterByMentorId_ordersByName() {
+        entityManager.flush();
+        entityManager.clear();
+
+        List<MenteeRosterRow> roster = menteeRepository.findRosterByMentorId(mentor.getId());
+
+        assertThat(roster).extracting(MenteeRosterRow::menteeId).containsExactly(kim.getId(), lee.getId());
+        assertThat(roster.get(0).name()).isEqualTo("김멘티");
+        assertThat(roster.get(0).grade()).isEqualTo("고1");
+    }
+
+    @Test
+    @DisplayName("findMentorWeekRows - 주간과 겹치는 담당 멘티 Todo만 피드백 상태와 함께 1행씩 조회")
+    void findMentorWeekRows_flagsFeedbackState() {
+        Todo commented = persistTodo(kim, WEEK_START, WEEK_START);
+        TodoFeedback comment = new TodoFeedback(commented);
+        comment.updateByMentor("잘했어요", null);
+        entityManager.persist(comment);
+        Todo questioned = persistTodo(lee, WEEK_START.minusDays(2), WEEK_START.plusDays(1)); // 주 시작 전부터 이어짐
+        TodoFeedback question = new TodoFeedback(questioned);
+        question.updateQuestionByMentee("질문 있어요");
+        entityManager.persist(question);
+        persistTodo(kim, WEEK_END.plusDays(1), WEEK_END.plusDays(1)); // 주간 밖
+        persistTodo(other, WEEK_START, WEEK_START);                   // 다른 멘토의 멘티
+        entityManager.flush();
+        entityManager.clear();
+
+        List<MentorWeekTodoRow> rows = todoRepository.findMentorWeekRows(mentor.getId(), WEEK_START, WEEK_END);
+
+        assertThat(rows).extracting(MentorWeekTodoRow::todoId).containsExactly(questioned.getId(), commented.getId());
+        assertThat(rows.get(0).menteeId()).isEqualTo(lee.getId());
+        assertThat(rows.get(0).hasMentorComment()).isFalse();
+        assertThat(rows.get(0).hasUnansweredQuestion()).isTrue();
+        assertThat(rows.get(1).hasMentorComment()).isTrue();
+        assertThat(rows.get(1).hasUnansweredQuestion()).isFalse();
+    }
+
+    @Test
+    @DisplayName("findOverlappingByMentor - 주간과 겹치는 담당 멘티의 반복 할일만 조회")
+    void findOverlappingByMentor_onlyRoster() {
+        TodoSeries kimSeries = persistSeries(kim, WEEK_START.minusDays(7), WEEK_START);
+        persistSeries(lee, WEEK_END.plusDays(1), WEEK_END.plusDays(14)); // 주간 이후 시작
+        persistSeries(other, WEEK_START, WEEK_END);                       // 다른 멘토의 멘티
+        entityManager.flush();
+        entityManager.clear();
+
+        List<TodoSeries> series = seriesRepository.findOverlappingByMentor(mentor.getId(), WEEK_START, WEEK_END);
+
+        assertThat(series).extracting(TodoSeries::getId).containsExactly(kimSeries.getId());
+    }
+
+    @Test
+    @DisplayName("findCardsByMentorId / findSubjectsByMenteeIds - 멘티별 컬렉션 값을 한 번에 조회")
+    void findRosterValues() {
+        kim.updateCards(List.of("성실"));
+        lee.updateCards(List.of("끈기", "집중"));
+        other.updateCards(List.of("다른"));
+        kim.getSubjects().add("MATH");
+        lee.getSubjects().add("KOREAN");
+        entityManager.flush();
+        entityManager.clear();
+
+        List<MenteeValueRow> cards = menteeRepository.findCardsByMentorId(mentor.getId());
+        List<MenteeValueRow> subjects = menteeRepository.findSubjectsByMenteeIds(List.of(kim.getId(), lee.getId()));
+
+        assertThat(cards).containsExactlyInAnyOrder(new MenteeValueRow(kim.getId(), "성실"),
+                new MenteeValueRow(lee.getId(), "끈기"), new MenteeValueRow(lee.getId(), "집중"));
+        assertThat(subjects).containsExactlyInAnyOrder(new MenteeValueRow(kim.getId(), "MATH"),
+                new MenteeValueRow(lee.getId(), "KOREAN"));
+    }
+
+    @Test
+    @DisplayName("countMentorDailyTodos - 그날 걸친 담당 멘티 Todo를 멘티/과목별 전체/완료 수로 집계")
+    void countMentorDailyTodos_groupsByMenteeAndSubject() {
+        Todo done = persistTodo(kim, WEEK_START, WEEK_START);
+        done.complete();
+        persistTodo(kim, WEEK_START.minusDays(1), WEEK_START.plusDays(1));
+        persistTodo(kim, WEEK_START.plusDays(1), WEEK_START.plusDays(1)); // 다른 날
+        persistTodo(lee, WEEK_START, WEEK_START);
+        persistTodo(other, WEEK_START, WEEK_START);                       // 다른 멘토의 멘티
+        entityManager.flush();
+        entityManager.clear();
+
+        List<MenteeTodoCountRow> counts = todoRepository.countMentorDailyTodos(mentor.getId(), WEEK_START);
+
+        assertThat(counts).containsExactlyInAnyOrder(
+                new MenteeTodoCountRow(kim.getId(), "MATH", 2L, 1L),
+                new MenteeTodoCountRow(lee.getId(), "MATH", 1L, 0L));
+    }
+
+    @Test
+    @DisplayName("countUnansweredQuestionsByMentorId - 답변하지 않은 질문만 담당 멘티별로 센다")
+    void countUnansweredQuestionsByMentorId() {
+        persistFeedback(persistTodo(kim, WEEK_START, WEEK_START), "질문 1", null);
+        persistFeedback(persistTodo(kim, WEEK_START, WEEK_START), "질문 2", null);
+        persistFeedback(persistTodo(lee, WEEK_START, WEEK_START), "질문 3", "답변");
+        persistFeedback(persistTodo(other, WEEK_START, WEEK_START), "질문 4", null);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<MenteeCountRow> counts = todoFeedbackRepository.countUnansweredQuestionsByMentorId(mentor.getId());
+
+        assertThat(counts).containsExactly(new MenteeCountRow(kim.getId(), 2L));
+    }
+
+    private void persistFeedback(Todo todo, String question, String answer) {
+        TodoFeedback feedback = new TodoFeedback(todo);
+        feedback.updateQuestionByMentee(question);
+        if (answer != null) {
+            feedback.updateByMentor(null, answer);
+        }
+        entityManager.persist(feedback);
+    }
+
+    private User persistUser(String loginId, String name, UserRole role) {
+        User user = User.builder()
+                .loginId(loginId)
+                .email(loginId + "@test.com")
+                .passwordHash("encoded")
+                .name(name)
+                .role(role)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Mentee persistMentee(String loginId, String name, Mentor mentor) {
+        Mentee mentee = new Mentee(persistUser(loginId, name, UserRole.MENTEE), mentor, "고1");
+        entityManager.persist(mentee);
+        return mentee;
+    }
+
+    private Todo persistTodo(Mentee mentee, LocalDate startDate, LocalDate endDate) {
+        Todo todo = new Todo(mentee, "할일", "MATH", null, startDate, endDate, 1L, CreatorType.MENTOR);
+        entityManager.persist(todo);
+        for (LocalDate d = startDate; !d.isAfter(endDate); d = d.plusDays(1)) {
+            entityManager.persist(new TodoDayBucket(mentee.getId(), d, todo.getId()));
+        }
+        return todo;
+    }
+
+    private TodoSeries persistSeries(Mentee mentee, LocalDate startDate, LocalDate endDate) {
+        TodoSeries series = new TodoSeries(mentee, "반복", "ENGLISH", null, startDate, endDate,
+                EnumSet.of(DayOfWeek.MONDAY), 1L, CreatorType.MENTOR);
+        entityManager.persist(series);
+        return series;
+    }
+}
@@ -0,0 +1,150 @@
+package com.momen.infrastructure.jpa.planner;
+
+import com.momen.domain.mentoring.Mentee;
+import com.momen.domain.planner.CreatorType;
+import com.momen.domain.planner.StudyTimeRollup;
+import com.momen.domain.planner.Todo;
+import com.momen.domain.planner.TodoDayBucket;
+import com.momen.domain.user.User;
+import com.momen.domain.user.UserRole;
+import com.momen.infrastructure.config.JpaAuditingConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * StudyTimeRollupRepository 통합 테스트 (test 프로필의 H2, MariaDB 모드)
+ */
+@DataJpaTest
+@Import(JpaAuditingConfig.class) // BaseTimeEntity의 CREATE_DT/UPDATE_DT 채움
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+class StudyTimeRollupRepositoryTest {
+
+    private static final Long MENTEE_ID = 1L;
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 10);
+
+    @Autowired
+    private StudyTimeRollupRepository rollupRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("upsert - 행이 없으면 만들고, 있으면 같은 키에 누적한다")
+    void upsert_createsThenIncrements() {
+        rollupRepository.upsert(MENTEE_ID, DATE, "MATH", 600, 0, 1);
+        rollupRepository.upsert(MENTEE_ID, DATE, "MATH", 300, 1, 0);
+        rollupRepository.upsert(MENTEE_ID, DATE, "KOREAN", 120, 0, 1);
+        entityManager.clear();
+
+        List<StudyTimeRollup> rollups = rollupRepository.findByMenteeIdAndRollupDateBetween(MENTEE_ID, DATE, DATE);
+
+        assertThat(rollups).hasSize(2);
+        StudyTimeRollup math = rollups.stream().filter(r -> r.getSubject().equals("MATH")).findFirst().orElseThrow();
+        assertThat(math.getStudySeconds()).isEqualTo(900);
+        assertThat(math.getCompletedCount()).isEqualTo(1);
+        assertThat(math.getTotalCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("upsert - 음수 증분으로 삭제/이동된 Todo를 되돌린다")
+    void upsert_appliesNegativeDelta() {
+        rollupRepository.upsert(MENTEE_ID, DATE, "MATH", 600, 1, 2);
+        rollupRepository.upsert(MENTEE_ID, DATE, "MATH", -600, -1, -1);
+        entityManager.clear();
+
+        StudyTimeRollup math = rollupRepository.findByMenteeIdAndRollupDateBetween(MENTEE_ID, DATE, DATE).get(0);
+
+        assertThat(math.getStudySeconds()).isZero();
+        assertThat(math.getCompletedCount()).isZero();
+        assertThat(math.getTotalCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("aggregateCarriedOver - 시작일 전에 시작해 시작일까지 이어지는 Todo만 원본에서 센다")
+    void aggregateCarriedOver_countsTodosCrossingRangeStart() {
+        User user = User.builder()
+                .loginId("rollupmentee")
+                .email("rollup@test.com")
+                .passwordHash("encoded")
+                .name("집계멘티")
+                .role(UserRole.MENTEE)
+                .build();
+        entityManager.persist(user);
+        Mentee mentee = new Mentee(user, null, "고2");
+        entityManager.persist(mentee);
+
+        Todo crossing = persistWithBuckets(mentee, DATE.minusDays(2), DATE.plusDays(1));
+        crossing.complete();
+        persistWithBuckets(mentee, DATE.minusDays(3), DATE.minusDays(1)); // 시작일 전에 끝남
+        persistWithBuckets(mentee, DATE, DATE.plusDays(2));               // 시작일에 시작 (집계 행에서 셈)
+        entityManager.flush();
+        entityManager.clear();
+
+        List<StudyTimeAggregate> carried = rollupRepository.aggregateCarriedOver(mentee.getId(), DATE);
+
+        assertThat(carried).hasSize(1);
+        assertThat(carried.get(0).date()).isEqualTo(DATE.minusDays(2));
+        assertThat(carried.get(0).subject()).isEqualTo("MATH");
+        assertThat(carried.get(0).totalCount()).isEqualTo(1L);
+        assertThat(carried.get(0).completedCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("insertFromTodos - 기간 안에 시작한 Todo를 시작일/과목별로 다시 집계한다")
+    void insertFromTodos_rebuildsRange() {
+        Mentee mentee = persistMentee();
+        Todo first = persistWithBuckets(mentee, DATE, DATE);
+        first.complete();
+        persistWithBuckets(mentee, DATE, DATE.plusDays(1));
+        persistWithBuckets(mentee, DATE.plusDays(5), DATE.plusDays(5)); // 기간 밖
+        rollupRepository.upsert(mentee.getId(), DATE, "MATH", 999, 0, 9); // 어긋난 집계
+
+        rollupRepository.deleteByMenteeIdAndRange(mentee.getId(), DATE, DATE.plusDays(1));
+        int inserted = rollupRepository.insertFromTodos(mentee.getId(), DATE, DATE.plusDays(1));
+        entityManager.clear();
+
+        List<StudyTimeRollup> rollups = rollupRepository.findByMenteeIdAndRollupDateBetween(
+                mentee.getId(), DATE, DATE.plusDays(5));
+        assertThat(inserted).isEqualTo(1);
+        assertThat(rollups).hasSize(1);
+        assertThat(rollups.get(0).getTotalCount()).isEqualTo(2);
+        assertThat(rollups.get(0).getCompletedCount()).isEqualTo(1);
+        assertThat(rollups.get(0).getStudySeconds()).isZero();
+    }
+
+    private Mentee persistMentee() {
+        User user = User.builder()
+                .loginId("rebuildmentee")
+                .email("rebuild@test.com")
+                .passwordHash("encoded")
+                .name("재집계멘티")
+                .role(UserRole.MENTEE)
+                .build();
+        entityManager.persist(user);
+        Mentee mentee = new Mentee(user, null, "고2");
+        entityManager.persist(mentee);
+        return mentee;
+    }
+
+    private Todo persistWithBuckets(Mentee mentee, LocalDate startDate, LocalDate endDate) {
+        Todo todo = new Todo(mentee, "t", "MATH", null, startDate, endDate, 1L, CreatorType.MENTEE);
+        entityManager.persist(todo);
+        for (LocalDate d = startDate; !d.isAfter(endDate); d = d.plusDays(1)) {
+            entityManager.persist(new TodoDayBucket(mentee.getId(), d, todo.getId()));
+        }
+        return todo;
+    }
+}
@@ -0,0 +1,221 @@
+package com.momen.infrastructure.jpa.planner;
+
+import com.momen.domain.mentoring.Mentee;
+import com.momen.domain.planner.CreatorType;
+import com.momen.domain.planner.Todo;
+import com.momen.domain.planner.TodoDayBucket;
+import com.momen.domain.user.User;
+import com.momen.domain.user.UserRole;
+import com.momen.infrastructure.config.JpaAuditingConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Todo 10,000건 생성 처리량 벤치마크 (Todo + 날짜 버킷, batch insert)
+ * 및 같은 10,000행에 대한 IDENTITY / SEQUENCE(pooled) id 발급 방식 비교
+ *
+ * INTEGRATION_TEST=true일 때만 동작하며, 결과는 표준 출력으로 확인한다.
+ * 기본 DB는 로컬 MariaDB이고, BENCHMARK_DB_URL/DRIVER/USERNAME/PASSWORD/DIALECT로 바꿀 수 있다.
+ */
+@DataJpaTest(showSql = false) // SQL 로그 출력 시간이 측정값에 섞이지 않도록
+@Import(JpaAuditingConfig.class) // BaseTimeEntity의 CREATE_DT/UPDATE_DT 채움
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=${BENCHMARK_DB_URL:jdbc:mariadb://localhost:3306/momen_test?useUnicode=true&characterEncoding=utf8mb4&serverTimezone=Asia/Seoul}",
+    "spring.datasource.driver-class-name=${BENCHMARK_DB_DRIVER:org.mariadb.jdbc.Driver}",
+    "spring.datasource.username=${BENCHMARK_DB_USERNAME:root}",
+    "spring.datasource.password=${BENCHMARK_DB_PASSWORD:1234}",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=${BENCHMARK_DB_DIALECT:org.hibernate.dialect.MariaDBDialect}",
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=WARN",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+    "spring.sql.init.mode=never"
+})
+@org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable(named = "INTEGRATION_TEST", matches = "true")
+class TodoBatchInsertBenchmarkTest {
+
+    private static final int TODO_COUNT = 10_000;
+    private static final int ALLOCATION_SIZE = 50; // hibernate.jdbc.batch_size, @SequenceGenerator allocationSize
+    private static final LocalDate START = LocalDate.of(2025, 3, 1);
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoDayBucketRepository bucketRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Mentee testMentee;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .loginId("batchmentee")
+                .email("batch@test.com")
+                .passwordHash("encoded")
+                .name("배치멘티")
+                .role(UserRole.MENTEE)
+                .build();
+        entityManager.persist(user);
+
+        testMentee = new Mentee(user, null, "고3");
+        entityManager.persist(testMentee);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Todo 10,000건 + 날짜 버킷 batch insert 처리량")
+    void insertTodos_throughput() {
+        List<Todo> todos = new ArrayList<>(TODO_COUNT);
+        for (int i = 0; i < TODO_COUNT; i++) {
+            LocalDate date = START.plusDays(i % 180);
+            todos.add(new Todo(testMentee, "할일 " + i, "MATH", null, date, date, user.getId(), CreatorType.MENTOR));
+        }
+
+        long start = System.nanoTime();
+        todoRepository.insertAll(todos);
+        List<TodoDayBucket> buckets = todos.stream()
+                .map(t -> new TodoDayBucket(testMentee.getId(), t.getStartDate(), t.getId()))
+                .toList();
+        bucketRepository.insertAll(buckets);
+        entityManager.flush();
+        long elapsedNanos = System.nanoTime() - start;
+
+        entityManager.clear();
+        assertThat(todoRepository.count()).isEqualTo(TODO_COUNT);
+
+        double elapsedMs = elapsedNanos / 1_000_000.0;
+        System.out.printf("[benchmark] %d todos (+%d buckets) inserted in %.1f ms (%.0f todos/s)%n",
+                TODO_COUNT, buckets.size(), elapsedMs, TODO_COUNT / (elapsedMs / 1000.0));
+    }
+
+    /**
+     * Hibernate가 각 전략에서 보내는 SQL을 그대로 재현한다.
+     * IDENTITY: 행마다 INSERT 후 생성 키 조회 (JDBC batch 불가)
+     * SEQUENCE(pooled): 50행마다 NEXT VALUE 1회 + 50행 JDBC batch INSERT
+     * DDL이 암묵적으로 커밋되므로 테스트 트랜잭션과 별도의 커넥션에서 실행한다.
+     */
+    @Test
+    @DisplayName("IDENTITY vs SEQUENCE(pooled) 10,000행 INSERT 처리량")
+    void identityVsSequence_throughput() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement ddl = connection.createStatement()) {
+                ddl.execute("CREATE TABLE IF NOT EXISTS bench_identity (id BIGINT NOT NULL AUTO_INCREMENT, " +
+                        "mentee_id BIGINT NOT NULL, title VARCHAR(200) NOT NULL, start_date DATE NOT NULL, PRIMARY KEY (id))");
+                ddl.execute("CREATE TABLE IF NOT EXISTS bench_sequence (id BIGINT NOT NULL, " +
+                        "mentee_id BIGINT NOT NULL, title VARCHAR(200) NOT NULL, start_date DATE NOT NULL, PRIMARY KEY (id))");
+                ddl.execute("CREATE SEQUENCE IF NOT EXISTS bench_sequence_seq START WITH 1 INCREMENT BY " + ALLOCATION_SIZE);
+            }
+            try {
+                double identityMs = timeMs(() -> insertIdentity(connection));
+                double sequenceMs = timeMs(() -> insertSequence(connection));
+                assertThat(count(connection, "bench_identity")).isEqualTo(TODO_COUNT);
+                assertThat(count(connection, "bench_sequence")).isEqualTo(TODO_COUNT);
+
+                System.out.printf("[benchmark] IDENTITY %d rows in %.1f ms (%.0f rows/s)%n",
+                        TODO_COUNT, identityMs, TODO_COUNT / (identityMs / 1000.0));
+                System.out.printf("[benchmark] SEQUENCE(pooled %d) %d rows in %.1f ms (%.0f rows/s)%n",
+                        ALLOCATION_SIZE, TODO_COUNT, sequenceMs, TODO_COUNT / (sequenceMs / 1000.0));
+            } finally {
+                try (Statement ddl = connection.createStatement()) {
+                    ddl.execute("DROP TABLE IF EXISTS bench_identity");
+                    ddl.execute("DROP TABLE IF EXISTS bench_sequence");
+                    ddl.execute("DROP SEQUENCE IF EXISTS bench_sequence_seq");
+                }
+            }
+        }
+    }
+
+    private void insertIdentity(Connection connection) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bench_identity (mentee_id, title, start_date) VALUES (?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < TODO_COUNT; i++) {
+                bind(insert, 1, i);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                }
+            }
+        }
+    }
+
+    private void insertSequence(Connection connection) throws SQLException {
+        try (PreparedStatement next = connection.prepareStatement("SELECT NEXT VALUE FOR bench_sequence_seq");
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO bench_sequence (id, mentee_id, title, start_date) VALUES (?, ?, ?, ?)")) {
+            long id = 0;
+            long hi = 0;
+            for (int i = 0; i < TODO_COUNT; i++) {
+                if (id == hi) {
+                    try (ResultSet rs = next.executeQuery()) {
+                        rs.next();
+                        hi = rs.getLong(1) + ALLOCATION_SIZE - 1;
+                        id = hi - ALLOCATION_SIZE;
+                    }
+                }
+                insert.setLong(1, ++id);
+                bind(insert, 2, i);
+                insert.addBatch();
+                if ((i + 1) % ALLOCATION_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private void bind(PreparedStatement insert, int from, int i) throws SQLException {
+        insert.setLong(from, 1L);
+        insert.setString(from + 1, "할일 " + i);
+        insert.setDate(from + 2, Date.valueOf(START.plusDays(i % 180)));
+    }
+
+    private long count(Connection connection, String table) throws SQLException {
+        try (Statement st = connection.createStatement(); ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private interface SqlWork {
+        void run() throws SQLException;
+    }
+
+    private double timeMs(SqlWork work) throws SQLException {
+        long start = System.nanoTime();
+        work.run();
+        return (System.nanoTime() - start) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,196 @@
+package com.momen.infrastructure.jpa.planner;
+
+import com.momen.application.planner.TodoViewAssembler;
+import com.momen.application.planner.dto.TodoSummaryResponse;
+import com.momen.domain.mentoring.Mentee;
+import com.momen.domain.planner.AssignmentMaterial;
+import com.momen.domain.planner.CreatorType;
+import com.momen.domain.planner.MaterialSet;
+import com.momen.domain.planner.Todo;
+import com.momen.domain.planner.TodoDayBucket;
+import com.momen.domain.planner.TodoFeedback;
+import com.momen.domain.user.User;
+import com.momen.domain.user.UserRole;
+import com.momen.infrastructure.config.JpaAuditingConfig;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 월별 캘린더 목록 조회 벤치마크 (Todo 1,000건)
+ *
+ * 기존 경로: Todo 엔티티 조회 + 학습자료 IN 조회 + 피드백 여부 IN 조회 + 엔티티 기반 DTO 변환
+ * 신규 경로: 프로젝션 1회 조회 + 행 묶음 DTO 변환
+ * INTEGRATION_TEST=true일 때만 동작하며, 결과(경로별 SQL 수, 평균 소요 시간)는 표준 출력으로 확인한다.
+ * 기본 DB는 로컬 MariaDB이고, BENCHMARK_DB_URL/DRIVER/USERNAME/PASSWORD/DIALECT로 바꿀 수 있다.
+ */
+@DataJpaTest(showSql = false) // SQL 로그 출력 시간이 측정값에 섞이지 않도록
+@Import(JpaAuditingConfig.class) // BaseTimeEntity의 CREATE_DT/UPDATE_DT 채움
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=${BENCHMARK_DB_URL:jdbc:mariadb://localhost:3306/momen_test?useUnicode=true&characterEncoding=utf8mb4&serverTimezone=Asia/Seoul}",
+    "spring.datasource.driver-class-name=${BENCHMARK_DB_DRIVER:org.mariadb.jdbc.Driver}",
+    "spring.datasource.username=${BENCHMARK_DB_USERNAME:root}",
+    "spring.datasource.password=${BENCHMARK_DB_PASSWORD:1234}",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=${BENCHMARK_DB_DIALECT:org.hibernate.dialect.MariaDBDialect}",
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=WARN",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.sql.init.mode=never"
+})
+@org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable(named = "INTEGRATION_TEST", matches = "true")
+class TodoCalendarRowBenchmarkTest {
+
+    private static final int TODO_COUNT = 1_000;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+    private static final LocalDate MONTH_START = LocalDate.of(2025, 3, 1);
+    private static final LocalDate MONTH_END = LocalDate.of(2025, 3, 31);
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private AssignmentMaterialRepository materialRepository;
+
+    @Autowired
+    private TodoFeedbackRepository feedbackRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Mentee testMentee;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder()
+                .loginId("benchmentee")
+                .email("bench@test.com")
+                .passwordHash("encoded")
+                .name("벤치멘티")
+                .role(UserRole.MENTEE)
+                .build();
+        entityManager.persist(user);
+
+        testMentee = new Mentee(user, null, "고2");
+        entityManager.persist(testMentee);
+
+        String[] subjects = {"KOREAN", "MATH", "ENGLISH"};
+        for (int i = 0; i < TODO_COUNT; i++) {
+            LocalDate date = MONTH_START.plusDays(i % 31);
+            MaterialSet materialSet = new MaterialSet();
+            entityManager.persist(materialSet);
+            entityManager.persist(new AssignmentMaterial(materialSet, "https://files/" + i + "-1.pdf", i + "-1.pdf"));
+            entityManager.persist(new AssignmentMaterial(materialSet, "https://files/" + i + "-2.pdf", i + "-2.pdf"));
+            Todo todo = new Todo(testMentee, "할일 " + i, subjects[i % subjects.length], "목표 " + i,
+                    date, date, user.getId(), CreatorType.MENTOR);
+            todo.changeMaterialSet(materialSet);
+            entityManager.persist(todo);
+            entityManager.persist(new TodoDayBucket(testMentee.getId(), date, todo.getId()));
+            if (i % 2 == 0) {
+                entityManager.persist(new TodoFeedback(todo));
+            }
+            if (i % 200 == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                testMentee = entityManager.find(Mentee.class, testMentee.getId());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("월별 목록 - 엔티티 경로 vs 프로젝션 경로")
+    void monthList_entityVsProjection() {
+        Long menteeId = testMentee.getId();
+
+        List<TodoSummaryResponse> before = entityPath(menteeId);
+        List<TodoSummaryResponse> after = projectionPath(menteeId);
+
+        assertThat(after).hasSize(TODO_COUNT);
+        assertThat(after).extracting(TodoSummaryResponse::getTodoId)
+                .containsExactlyInAnyOrderElementsOf(before.stream().map(TodoSummaryResponse::getTodoId).toList());
+        assertThat(after).allSatisfy(r -> assertThat(r.getMaterials()).hasSize(2));
+        assertThat(after.stream().filter(TodoSummaryResponse::isHasFeedback).count()).isEqualTo(TODO_COUNT / 2);
+
+        long beforeQueries = countQueries(() -> entityPath(menteeId));
+        long afterQueries = countQueries(() -> projectionPath(menteeId));
+        assertThat(afterQueries).isEqualTo(1);
+
+        double beforeMs = measure(() -> entityPath(menteeId));
+        double afterMs = measure(() -> projectionPath(menteeId));
+        System.out.printf("[benchmark] month list (%d todos) entity path: %d queries, %.2f ms / projection path: %d queries, %.2f ms%n",
+                TODO_COUNT, beforeQueries, beforeMs, afterQueries, afterMs);
+    }
+
+    // 한 번 실행할 때 DB로 보낸 SQL 수
+    private long countQueries(Supplier<List<TodoSummaryResponse>> path) {
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        path.get();
+        long count = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        return count;
+    }
+
+    // 기존 TodoService.toSummaryWithMaterials 경로
+    private List<TodoSummaryResponse> entityPath(Long menteeId) {
+        List<Todo> todos = todoRepository.findByMenteeIdAndMonth(menteeId, MONTH_START, MONTH_END);
+        List<Long> todoIds = todos.stream().map(Todo::getId).toList();
+        List<Long> materialSetIds = todos.stream().map(t -> t.getMaterialSet().getId()).toList();
+        Map<Long, List<AssignmentMaterial>> materialsMap = materialRepository.findByMaterialSetIdIn(materialSetIds).stream()
+                .collect(Collectors.groupingBy(m -> m.getMaterialSet().getId()));
+        Set<Long> feedbackTodoIds = new HashSet<>(feedbackRepository.findTodoIdsWithFeedback(todoIds));
+
+        return todos.stream()
+                .map(todo -> TodoSummaryResponse.from(TodoViewAssembler.from(
+                        todo,
+                        materialsMap.getOrDefault(todo.getMaterialSet().getId(), Collections.emptyList()),
+                        feedbackTodoIds.contains(todo.getId()))))
+                .toList();
+    }
+
+    private List<TodoSummaryResponse> projectionPath(Long menteeId) {
+        return TodoViewAssembler.fromRows(todoRepository.findCalendarRows(menteeId, MONTH_START, MONTH_END)).stream()
+                .map(TodoSummaryResponse::from)
+                .toList();
+    }
+
+    // 영속성 컨텍스트를 매번 비워서 1차 캐시 효과를 제외한 평균 소요 시간 (ms)
+    private double measure(Supplier<List<TodoSummaryResponse>> path) {
+        for (int i = 0; i < WARMUP; i++) {
+            path.get();
+            entityManager.clear();
+        }
+        long total = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            path.get();
+            total += System.nanoTime() - start;
+            entityManager.clear();
+        }
+        return total / (double) ITERATIONS / 1_000_000;
+    }
+}
@@ -0,0 +1,108 @@
+package com.momen.infrastructure.jpa.planner;
+
+import com.momen.domain.mentoring.Mentee;
+import com.momen.domain.mentoring.Mentor;
+import com.momen.domain.planner.CreatorType;
+import com.momen.domain.planner.Todo;
+import com.momen.domain.planner.TodoFeedback;
+import com.momen.domain.user.User;
+import com.momen.domain.user.UserRole;
+import com.momen.infrastructure.config.JpaAuditingConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TodoFeedbackRepository 통합 테스트 (test 프로필의 H2, MariaDB 모드)
+ */
+@DataJpaTest
+@Import(JpaAuditingConfig.class) // BaseTimeEntity의 CREATE_DT/UPDATE_DT 채움
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+class TodoFeedbackRepositoryTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 10);
+
+    @Autowired
+    private TodoFeedbackRepository todoFeedbackRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User mentorUser;
+    private User menteeUser;
+    private User otherMenteeUser;
+    private Todo ownTodo;
+    private Todo otherTodo;
+
+    @BeforeEach
+    void setUp() {
+        mentorUser = persistUser("feedbackmentor", UserRole.MENTOR);
+        Mentor mentor = new Mentor(mentorUser, null);
+        entityManager.persist(mentor);
+        menteeUser = persistUser("feedbackmentee", UserRole.MENTEE);
+        Mentee mentee = new Mentee(menteeUser, mentor, "고1");
+        entityManager.persist(mentee);
+        otherMenteeUser = persistUser("othermentee", UserRole.MENTEE);
+        Mentee otherMentee = new Mentee(otherMenteeUser, null, "고2");
+        entityManager.persist(otherMentee);
+
+        ownTodo = persistTodoWithFeedback(mentee, mentorUser);
+        otherTodo = persistTodoWithFeedback(otherMentee, otherMenteeUser);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("findAccessibleByTodoIdIn - 멘티는 본인 Todo의 피드백만 조회한다")
+    void findAccessibleByTodoIdIn_menteeOwnTodos() {
+        assertThat(findTodoIds(menteeUser)).containsExactly(ownTodo.getId());
+        assertThat(findTodoIds(otherMenteeUser)).containsExactly(otherTodo.getId());
+    }
+
+    @Test
+    @DisplayName("findAccessibleByTodoIdIn - 멘토는 담당 멘티 Todo의 피드백만 조회한다")
+    void findAccessibleByTodoIdIn_mentorRoster() {
+        assertThat(findTodoIds(mentorUser)).containsExactly(ownTodo.getId());
+    }
+
+    private List<Long> findTodoIds(User user) {
+        return todoFeedbackRepository.findAccessibleByTodoIdIn(user.getId(), List.of(ownTodo.getId(), otherTodo.getId()))
+                .stream()
+                .map(feedback -> feedback.getTodo().getId())
+                .toList();
+    }
+
+    private User persistUser(String loginId, UserRole role) {
+        User user = User.builder()
+                .loginId(loginId)
+                .email(loginId + "@test.com")
+                .passwordHash("encoded")
+                .name(loginId)
+                .role(role)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Todo persistTodoWithFeedback(Mentee mentee, User createdBy) {
+        Todo todo = new Todo(mentee, "할일", "MATH", null, DATE, DATE, createdBy.getId(), CreatorType.MENTOR);
+        entityManager.persist(todo);
+        TodoFeedback feedback = new TodoFeedback(todo);
+        feedback.updateByMentor("잘했어요", null);
+        entityManager.persist(feedback);
+        return todo;
+    }
+}
@@ -0,0 +1,111 @@
+package com.momen.infrastructure.jpa.planner;
+
+import com.momen.domain.mentoring.Mentee;
+import com.momen.domain.planner.CreatorType;
+import com.momen.domain.planner.Todo;
+import com.momen.domain.planner.TodoDayBucket;
+import com.momen.domain.planner.TodoFeedback;
+import com.momen.domain.user.User;
+import com.momen.domain.user.UserRole;
+import com.momen.infrastructure.config.JpaAuditingConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TodoRepository 프로젝션 쿼리 통합 테스트 (test 프로필의 H2, MariaDB 모드)
+ */
+@DataJpaTest
+@Import(JpaAuditingConfig.class) // BaseTimeEntity의 CREATE_DT/UPDATE_DT 채움
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+class TodoProjectionRepositoryTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 10);
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private Mentee mentee;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .loginId("projectionmentee")
+                .email("projection@test.com")
+                .passwordHash("encoded")
+                .name("프로젝션멘티")
+                .role(UserRole.MENTEE)
+                .build();
+        entityManager.persist(user);
+        mentee = new Mentee(user, null, "고1");
+        entityManager.persist(mentee);
+    }
+
+    @Test
+    @DisplayName("findDayStatuses - 코멘트가 없어도 피드백 행이 있으면 목록의 hasFeedback과 같이 피드백으로 센다")
+    void findDayStatuses_countsFeedbackRowsLikeCalendarRows() {
+        Todo commented = persistTodo("MATH", DATE, DATE);
+        TodoFeedback commentedFeedback = new TodoFeedback(commented);
+        commentedFeedback.updateByMentor("잘했어요", null);
+        entityManager.persist(commentedFeedback);
+        Todo questionOnly = persistTodo("KOREAN", DATE, DATE);
+        TodoFeedback question = new TodoFeedback(questionOnly);
+        question.updateQuestionByMentee("질문 있어요");
+        entityManager.persist(question);
+        persistTodo("ENGLISH", DATE, DATE);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<TodoDayStatusRow> statuses = todoRepository.findDayStatuses(mentee.getId(), DATE, DATE);
+        long withFeedback = todoRepository.findCalendarRows(mentee.getId(), DATE, DATE).stream()
+                .filter(row -> Boolean.TRUE.equals(row.hasFeedback()))
+                .count();
+
+        assertThat(statuses).hasSize(1);
+        assertThat(statuses.get(0).total()).isEqualTo(3L);
+        assertThat(statuses.get(0).withFeedback()).isEqualTo(2L).isEqualTo(withFeedback);
+    }
+
+    @Test
+    @DisplayName("findDayStatusesBySubjects - 선택한 과목 Todo만 기간에 걸친 날짜별로 센다")
+    void findDayStatusesBySubjects_countsEachCoveredDay() {
+        Todo math = persistTodo("MATH", DATE, DATE.plusDays(1));
+        math.complete();
+        persistTodo("KOREAN", DATE, DATE);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<TodoDayStatusRow> statuses = todoRepository.findDayStatusesBySubjects(
+                mentee.getId(), DATE, DATE.plusDays(1), List.of("MATH"));
+
+        assertThat(statuses).containsExactly(
+                new TodoDayStatusRow(DATE, 1L, 1L, 0L),
+                new TodoDayStatusRow(DATE.plusDays(1), 1L, 1L, 0L));
+    }
+
+    private Todo persistTodo(String subject, LocalDate startDate, LocalDate endDate) {
+        Todo todo = new Todo(mentee, subject + " 할일", subject, null, startDate, endDate, user.getId(), CreatorType.MENTOR);
+        entityManager.persist(todo);
+        for (LocalDate d = startDate; !d.isAfter(endDate); d = d.plusDays(1)) {
+            entityManager.persist(new TodoDayBucket(mentee.getId(), d, todo.getId()));
+        }
+        return todo;
+    }
+}
@@ -3,6 +3,7 @@ package com.momen.infrastructure.jpa.planner;
 import com.momen.domain.mentoring.Mentee;
 import com.momen.domain.planner.CreatorType;
 import com.momen.domain.planner.Todo;
+import com.momen.domain.planner.TodoDayBucket;
 import com.momen.domain.user.User;
 import com.momen.domain.user.UserRole;
 import jakarta.persistence.EntityManager;
@@ -73,6 +74,9 @@ class TodoRepositoryTest {
                 LocalDate.of(2025, 1, 12), LocalDate.of(2025, 1, 14), user.getId(), CreatorType.MENTOR);
         entityManager.persist(englishTodo);
 
+        persistDayBuckets(mathTodo);
+        persistDayBuckets(englishTodo);
+
         entityManager.flush();
         entityManager.clear();
     }
@@ -106,4 +110,10 @@ class TodoRepositoryTest {
 
         assertThat(result).isEmpty();
     }
+
+    private void persistDayBuckets(Todo todo) {
+        for (LocalDate d = todo.getStartDate(); !d.isAfter(todo.getEndDate()); d = d.plusDays(1)) {
+            entityManager.persist(new TodoDayBucket(testMentee.getId(), d, todo.getId()));
+        }
+    }
 }
@@ -0,0 +1,183 @@
+package com.momen.infrastructure.jpa.planner;
+
+import com.momen.domain.mentoring.Mentee;
+import com.momen.domain.planner.CreatorType;
+import com.momen.domain.planner.Todo;
+import com.momen.domain.planner.TodoDayBucket;
+import com.momen.domain.planner.TodoFeedback;
+import com.momen.domain.planner.TodoSeries;
+import com.momen.domain.user.User;
+import com.momen.domain.user.UserRole;
+import com.momen.infrastructure.config.JpaAuditingConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TodoSeriesRepository / 반복 할일 발생일 Todo 조회 통합 테스트 (test 프로필의 H2, MariaDB 모드)
+ */
+@DataJpaTest
+@Import(JpaAuditingConfig.class) // BaseTimeEntity의 CREATE_DT/UPDATE_DT 채움
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+class TodoSeriesRepositoryTest {
+
+    // 2025-03-03 (월) ~ 2025-03-30 (일), 월/수 반복
+    private static final LocalDate START = LocalDate.of(2025, 3, 3);
+    private static final LocalDate END = LocalDate.of(2025, 3, 30);
+
+    @Autowired
+    private TodoSeriesRepository seriesRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoFeedbackRepository feedbackRepository;
+
+    @Autowired
+    private TodoDayBucketRepository bucketRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private Mentee mentee;
+    private TodoSeries series;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .loginId("seriesmentee")
+                .email("series@test.com")
+                .passwordHash("encoded")
+                .name("반복멘티")
+                .role(UserRole.MENTEE)
+                .build();
+        entityManager.persist(user);
+        mentee = new Mentee(user, null, "고1");
+        entityManager.persist(mentee);
+
+        series = new TodoSeries(mentee, "단어 암기", "ENGLISH", null, START, END,
+                EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY), user.getId(), CreatorType.MENTEE);
+        series.exclude(LocalDate.of(2025, 3, 5));
+        entityManager.persist(series);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("findOverlapping - 조회 기간과 겹치는 반복 할일만 제외 날짜와 함께 조회")
+    void findOverlapping_fetchesExclusions() {
+        List<TodoSeries> overlapping = seriesRepository.findOverlapping(mentee.getId(), END, END.plusDays(7));
+        List<TodoSeries> after = seriesRepository.findOverlapping(mentee.getId(), END.plusDays(1), END.plusDays(7));
+        List<TodoSeries> otherSubject = seriesRepository.findOverlappingBySubjects(
+                mentee.getId(), START, END, List.of("MATH"));
+
+        assertThat(overlapping).extracting(TodoSeries::getId).containsExactly(series.getId());
+        assertThat(overlapping.get(0).occursOn(LocalDate.of(2025, 3, 5))).isFalse();
+        assertThat(overlapping.get(0).occursOn(LocalDate.of(2025, 3, 10))).isTrue();
+        assertThat(after).isEmpty();
+        assertThat(otherSubject).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findOccurrenceKeys - 기간 안에 Todo로 생성된 발생일만 반환")
+    void findOccurrenceKeys_returnsMaterializedDatesInRange() {
+        TodoSeries loaded = seriesRepository.findById(series.getId()).orElseThrow();
+        todoRepository.save(new Todo(loaded, LocalDate.of(2025, 3, 10)));
+        todoRepository.save(new Todo(loaded, LocalDate.of(2025, 3, 24)));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<SeriesOccurrenceKey> keys = todoRepository.findOccurrenceKeys(
+                List.of(series.getId()), START, LocalDate.of(2025, 3, 16));
+
+        assertThat(keys).containsExactly(new SeriesOccurrenceKey(series.getId(), LocalDate.of(2025, 3, 10)));
+        assertThat(todoRepository.findBySeriesIdAndOccurrenceDate(series.getId(), LocalDate.of(2025, 3, 24)))
+                .hasValueSatisfying(todo -> assertThat(todo.getTitle()).isEqualTo("단어 암기"));
+    }
+
+    @Test
+    @DisplayName("발생일 Todo - 같은 발생일을 두 번 생성하면 유니크 제약에 걸린다")
+    void materializedOccurrence_isUnique() {
+        TodoSeries loaded = seriesRepository.findById(series.getId()).orElseThrow();
+        todoRepository.saveAndFlush(new Todo(loaded, LocalDate.of(2025, 3, 10)));
+
+        assertThatThrownBy(() -> todoRepository.saveAndFlush(new Todo(loaded, LocalDate.of(2025, 3, 10))))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("일괄 수정 - from 이후 발생일 Todo만 분리된 시리즈로 옮기고 내용을 바꾼다")
+    void moveAndUpdateSeriesOccurrencesFrom() {
+        LocalDate from = LocalDate.of(2025, 3, 17);
+        TodoSeries loaded = seriesRepository.findById(series.getId()).orElseThrow();
+        Todo before = todoRepository.save(new Todo(loaded, LocalDate.of(2025, 3, 10)));
+        todoRepository.save(new Todo(loaded, from));
+        todoRepository.save(new Todo(loaded, LocalDate.of(2025, 3, 24)));
+        TodoSeries next = seriesRepository.save(loaded.splitFrom(from));
+        entityManager.flush();
+
+        int moved = todoRepository.moveSeriesOccurrencesFrom(series.getId(), from, next);
+        int updated = todoRepository.updateSeriesOccurrencesFrom(next.getId(), from, "단어 시험", "ENGLISH", null);
+        entityManager.clear();
+
+        assertThat(moved).isEqualTo(2);
+        assertThat(updated).isEqualTo(2);
+        assertThat(todoRepository.findOccurrenceKeys(List.of(next.getId()), START, END))
+                .containsExactlyInAnyOrder(new SeriesOccurrenceKey(next.getId(), from),
+                        new SeriesOccurrenceKey(next.getId(), LocalDate.of(2025, 3, 24)));
+        assertThat(todoRepository.findBySeriesIdAndOccurrenceDate(next.getId(), from))
+                .hasValueSatisfying(todo -> assertThat(todo.getTitle()).isEqualTo("단어 시험"));
+        assertThat(todoRepository.findById(before.getId()).orElseThrow().getTitle()).isEqualTo("단어 암기");
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 - from 이후 발생일 Todo와 피드백/날짜 버킷만 삭제한다")
+    void deleteBySeriesOccurrencesFrom() {
+        LocalDate from = LocalDate.of(2025, 3, 17);
+        TodoSeries loaded = seriesRepository.findById(series.getId()).orElseThrow();
+        Todo kept = persistOccurrence(loaded, LocalDate.of(2025, 3, 10));
+        persistOccurrence(loaded, from);
+        persistOccurrence(loaded, LocalDate.of(2025, 3, 24));
+        entityManager.flush();
+
+        int deletedFeedbacks = feedbackRepository.deleteBySeriesOccurrencesFrom(series.getId(), from);
+        int deletedBuckets = bucketRepository.deleteBySeriesOccurrencesFrom(series.getId(), from);
+        int deletedTodos = todoRepository.deleteBySeriesOccurrencesFrom(series.getId(), from);
+        entityManager.clear();
+
+        assertThat(deletedFeedbacks).isEqualTo(2);
+        assertThat(deletedBuckets).isEqualTo(2);
+        assertThat(deletedTodos).isEqualTo(2);
+        assertThat(todoRepository.findOccurrenceKeys(List.of(series.getId()), START, END))
+                .containsExactly(new SeriesOccurrenceKey(series.getId(), kept.getOccurrenceDate()));
+        assertThat(feedbackRepository.findByTodoId(kept.getId())).isPresent();
+    }
+
+    private Todo persistOccurrence(TodoSeries loaded, LocalDate date) {
+        Todo todo = todoRepository.save(new Todo(loaded, date));
+        entityManager.persist(new TodoDayBucket(mentee.getId(), date, todo.getId()));
+        TodoFeedback feedback = new TodoFeedback(todo);
+        feedback.updateQuestionByMentee("질문 있어요");
+        entityManager.persist(feedback);
+        return todo;
+    }
+}
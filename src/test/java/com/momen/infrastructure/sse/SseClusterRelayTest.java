@@ -0,0 +1,134 @@
+package com.momen.infrastructure.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.momen.infrastructure.redis.SsePresenceRedisService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class SseClusterRelayTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private SseEmitterManager sseEmitterManager;
+
+    @Mock
+    private SsePresenceRedisService presenceRedisService;
+
+    @Mock
+    private SseReplayBuffer replayBuffer;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SseNode sseNode = new SseNode("node-a");
+    private SseClusterRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new SseClusterRelay(sseEmitterManager, presenceRedisService, sseNode, replayBuffer,
+                redisTemplate, listenerContainer, objectMapper);
+    }
+
+    @Test
+    @DisplayName("연결을 가진 다른 노드 채널에만 발행한다")
+    void sendToUser_publishesOnlyToOtherNodes() throws Exception {
+        given(replayBuffer.append(USER_ID, "notification", "{\"message\":\"hi\"}")).willReturn(7L);
+        given(presenceRedisService.findNodes(USER_ID)).willReturn(Set.of("node-a", "node-b"));
+
+        relay.sendToUser(USER_ID, "notification", Map.of("message", "hi"));
+
+        verify(sseEmitterManager).sendToUser(USER_ID, 7L, "notification", Map.of("message", "hi"));
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq("sse:node:node-b"), payload.capture());
+        verify(redisTemplate, never()).convertAndSend(eq("sse:node:node-a"), anyString());
+
+        SseRelayMessage message = objectMapper.readValue(payload.getValue(), SseRelayMessage.class);
+        assertThat(message.userId()).isEqualTo(USER_ID);
+        assertThat(message.eventId()).isEqualTo(7L);
+        assertThat(message.eventName()).isEqualTo("notification");
+        assertThat(message.data()).isEqualTo("{\"message\":\"hi\"}");
+    }
+
+    @Test
+    @DisplayName("연결 위치 조회 실패 시 로컬 연결에만 전송하고 실패로 알리지 않는다 (재시도 시 로컬 중복 전송 방지)")
+    void sendToUser_fallsBackToLocalWhenRedisFails() {
+        given(replayBuffer.append(USER_ID, "notification", "\"data\"")).willReturn(null);
+        given(presenceRedisService.findNodes(USER_ID)).willThrow(new IllegalStateException("redis down"));
+
+        assertThatCode(() -> relay.sendToUser(USER_ID, "notification", "data")).doesNotThrowAnyException();
+
+        verify(sseEmitterManager).sendToUser(USER_ID, null, "notification", "data");
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("일부 노드 발행이 실패해도 나머지 노드에는 발행하고, 이벤트 ID와 실패한 노드를 알린다")
+    void sendToUser_reportsFailedNodes() {
+        given(replayBuffer.append(USER_ID, "notification", "\"data\"")).willReturn(8L);
+        given(presenceRedisService.findNodes(USER_ID)).willReturn(new LinkedHashSet<>(List.of("node-b", "node-c")));
+        given(redisTemplate.convertAndSend(eq("sse:node:node-b"), anyString()))
+                .willThrow(new IllegalStateException("redis down"));
+
+        assertThatThrownBy(() -> relay.sendToUser(USER_ID, "notification", "data"))
+                .isInstanceOfSatisfying(SseRelayException.class, e -> {
+                    assertThat(e.getEventId()).isEqualTo(8L);
+                    assertThat(e.getFailedNodes()).containsExactly("node-b");
+                });
+
+        verify(sseEmitterManager).sendToUser(USER_ID, 8L, "notification", "data");
+        verify(redisTemplate).convertAndSend(eq("sse:node:node-c"), anyString());
+    }
+
+    @Test
+    @DisplayName("재시도는 남은 노드에만 같은 이벤트 ID로 발행하고 로컬 연결에는 다시 보내지 않는다")
+    void resendToNodes_publishesOnlyToPendingNodes() throws Exception {
+        relay.resendToNodes(USER_ID, 8L, "notification", "data", Set.of("node-b"));
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq("sse:node:node-b"), payload.capture());
+        assertThat(objectMapper.readValue(payload.getValue(), SseRelayMessage.class).eventId()).isEqualTo(8L);
+        verifyNoInteractions(sseEmitterManager, replayBuffer, presenceRedisService);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 받은 메시지를 재전송 버퍼에 보관하고 로컬 연결로 전달한다")
+    void onMessage_deliversLocally() throws Exception {
+        String body = objectMapper.writeValueAsString(new SseRelayMessage(USER_ID, 3L, "notification", "{\"id\":3}"));
+
+        relay.onMessage(new DefaultMessage("sse:node:node-a".getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)), null);
+
+        verify(replayBuffer).remember(USER_ID, new SseReplayEvent(3L, "notification", "{\"id\":3}"));
+        verify(sseEmitterManager).sendToUser(USER_ID, 3L, "notification", "{\"id\":3}");
+    }
+}
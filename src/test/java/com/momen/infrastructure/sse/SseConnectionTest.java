@@ -0,0 +1,75 @@
+package com.momen.infrastructure.sse;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseConnectionTest {
+
+    private final List<Runnable> pending = new ArrayList<>();
+    private final Executor deferred = pending::add;
+    private final Timer timer = new SimpleMeterRegistry().timer("sse.send.latency");
+
+    private SseConnection connection(Executor executor) {
+        return new SseConnection("c1", 1L, new SseEmitter(), executor, timer, false, () -> {
+        });
+    }
+
+    private SseEmitter.SseEventBuilder event() {
+        return SseEmitter.event().name("notification").data("data");
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 더 넣지 않는다")
+    void enqueue_rejectsWhenFull() {
+        SseConnection connection = connection(deferred);
+
+        for (int i = 0; i < SseConnection.QUEUE_CAPACITY; i++) {
+            assertThat(connection.enqueue(event())).isTrue();
+        }
+
+        assertThat(connection.enqueue(event())).isFalse();
+        assertThat(connection.queueDepth()).isEqualTo(SseConnection.QUEUE_CAPACITY);
+        assertThat(pending).hasSize(1); // 연결당 전송 스레드는 하나
+    }
+
+    @Test
+    @DisplayName("대기 중인 이벤트나 heartbeat가 있으면 heartbeat를 생략한다")
+    void enqueueHeartbeat_coalesces() {
+        SseConnection connection = connection(deferred);
+
+        assertThat(connection.enqueueHeartbeat(event())).isTrue();
+        assertThat(connection.enqueueHeartbeat(event())).isFalse();
+        assertThat(connection.queueDepth()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전송이 진행되지 않는 연결은 다음 검사에서 정체로 판단한다")
+    void isStalled_whenNothingSentSinceLastCheck() {
+        SseConnection connection = connection(deferred);
+        connection.enqueue(event());
+
+        assertThat(connection.isStalled()).isTrue();
+    }
+
+    @Test
+    @DisplayName("큐를 모두 전송하면 정체가 아니다")
+    void drain_sendsQueuedEvents() {
+        SseConnection connection = connection(Runnable::run);
+
+        connection.enqueue(event());
+        connection.enqueue(event());
+
+        assertThat(connection.queueDepth()).isZero();
+        assertThat(connection.isStalled()).isFalse();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,110 @@
+package com.momen.infrastructure.sse;
+
+import com.momen.infrastructure.redis.SsePresenceRedisService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SseEmitterManagerTest {
+
+    @Mock
+    private SsePresenceRedisService presenceRedisService;
+
+    @Mock
+    private SseReplayBuffer replayBuffer;
+
+    @Mock
+    private ExecutorService sseSendExecutor;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SseEmitterManager manager;
+
+    @BeforeEach
+    void setUp() {
+        willAnswer(invocation -> null).given(sseSendExecutor).execute(any()); // 전송하지 않고 큐에 쌓아 둔다
+        manager = new SseEmitterManager(presenceRedisService, new SseNode("node-a"), replayBuffer, sseSendExecutor, meterRegistry);
+        ReflectionTestUtils.setField(manager, "maxConnections", 3);
+        manager.registerMetrics();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 여러 연결을 유지하고 모두에게 전송한다")
+    void sendToUser_fansOutToAllConnections() {
+        manager.createEmitter(1L, null);
+        manager.createEmitter(1L, null);
+
+        manager.sendToUser(1L, null, "notification", "data");
+
+        assertThat(gauge("sse.connections")).isEqualTo(2);
+        assertThat(gauge("sse.queue.depth")).isEqualTo(4); // connect + notification 각 2개
+    }
+
+    @Test
+    @DisplayName("사용자별 상한을 넘으면 그 사용자의 가장 오래된 연결을 끊는다")
+    void createEmitter_evictsOldestOfSameUser() {
+        ReflectionTestUtils.setField(manager, "maxConnections", 100);
+
+        for (int i = 0; i <= SseEmitterManager.MAX_CONNECTIONS_PER_USER; i++) {
+            manager.createEmitter(1L, null);
+        }
+
+        assertThat(gauge("sse.connections")).isEqualTo(SseEmitterManager.MAX_CONNECTIONS_PER_USER);
+        assertThat(counter("sse.disconnect.evicted")).isEqualTo(1);
+        verify(presenceRedisService, never()).unregister(1L, "node-a");
+    }
+
+    @Test
+    @DisplayName("전체 상한을 넘으면 가장 오래 사용하지 않은 연결을 끊는다")
+    void createEmitter_evictsLeastRecentlyUsed() {
+        manager.createEmitter(1L, null);
+        manager.createEmitter(2L, null);
+        manager.createEmitter(3L, null);
+        manager.sendToUser(1L, null, "notification", "data"); // 1번 사용자 연결을 최근 사용으로 갱신
+
+        manager.createEmitter(4L, null);
+
+        assertThat(gauge("sse.connections")).isEqualTo(3);
+        verify(presenceRedisService).unregister(2L, "node-a");
+        verify(presenceRedisService, never()).unregister(1L, "node-a");
+    }
+
+    @Test
+    @DisplayName("재연결 시 놓친 이벤트를 connect 다음에 보내고, 다 채우지 못하면 resync를 보낸다")
+    void createEmitter_replaysMissedEvents() {
+        given(replayBuffer.replay(1L, 5L, SseReplayBuffer.REPLAY_LIMIT)).willReturn(new SseReplayBuffer.Replay(
+                List.of(new SseReplayEvent(6L, "notification", "{}"), new SseReplayEvent(7L, "notification", "{}")),
+                true));
+        given(replayBuffer.replay(2L, 5L, SseReplayBuffer.REPLAY_LIMIT))
+                .willReturn(new SseReplayBuffer.Replay(List.of(), false));
+
+        manager.createEmitter(1L, 5L);
+        assertThat(gauge("sse.queue.depth")).isEqualTo(3); // connect + 6 + 7
+
+        manager.createEmitter(2L, 5L);
+        assertThat(gauge("sse.queue.depth")).isEqualTo(5); // connect + resync
+    }
+}
@@ -0,0 +1,101 @@
+package com.momen.infrastructure.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.momen.infrastructure.redis.SseReplayRedisService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SseReplayBufferTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private SseReplayRedisService replayRedisService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SseReplayBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new SseReplayBuffer(replayRedisService, objectMapper);
+    }
+
+    private SseReplayEvent event(long id) {
+        return new SseReplayEvent(id, "notification", "{\"id\":" + id + "}");
+    }
+
+    @Test
+    @DisplayName("메모리에 빠짐없이 있으면 Redis를 조회하지 않는다")
+    void replay_fromMemory() {
+        buffer.remember(USER_ID, event(6));
+        buffer.remember(USER_ID, event(7));
+        given(replayRedisService.latestId(USER_ID)).willReturn(7L);
+
+        SseReplayBuffer.Replay replay = buffer.replay(USER_ID, 5L, 32);
+
+        assertThat(replay.complete()).isTrue();
+        assertThat(replay.events()).extracting(SseReplayEvent::id).containsExactly(6L, 7L);
+        verify(replayRedisService, never()).findAfter(USER_ID, 5L);
+    }
+
+    @Test
+    @DisplayName("메모리에 빈 구간이 있으면 Redis에서 보충한다")
+    void replay_fromRedisWhenMemoryHasGap() throws Exception {
+        buffer.remember(USER_ID, event(7));
+        given(replayRedisService.latestId(USER_ID)).willReturn(7L);
+        given(replayRedisService.findAfter(USER_ID, 5L)).willReturn(new LinkedHashSet<>(List.of(
+                objectMapper.writeValueAsString(event(6)), objectMapper.writeValueAsString(event(7)))));
+
+        SseReplayBuffer.Replay replay = buffer.replay(USER_ID, 5L, 32);
+
+        assertThat(replay.complete()).isTrue();
+        assertThat(replay.events()).extracting(SseReplayEvent::id).containsExactly(6L, 7L);
+    }
+
+    @Test
+    @DisplayName("놓친 이벤트가 limit보다 많으면 재전송하지 않고 불완전으로 반환한다")
+    void replay_tooManyMissed() {
+        given(replayRedisService.latestId(USER_ID)).willReturn(100L);
+
+        SseReplayBuffer.Replay replay = buffer.replay(USER_ID, 5L, 32);
+
+        assertThat(replay.complete()).isFalse();
+        assertThat(replay.events()).isEmpty();
+        verify(replayRedisService, never()).findAfter(USER_ID, 5L);
+    }
+
+    @Test
+    @DisplayName("Redis에는 재전송 한도만큼만 보관한다")
+    void append_trimsRedisToReplayLimit() {
+        given(replayRedisService.nextId(USER_ID)).willReturn(8L);
+
+        assertThat(buffer.append(USER_ID, "notification", "{}")).isEqualTo(8L);
+        verify(replayRedisService).append(eq(USER_ID), eq(8L), anyString(), eq(SseReplayBuffer.REPLAY_LIMIT));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 ID 없이 전송하도록 null을 반환한다")
+    void append_returnsNullWhenRedisFails() {
+        given(replayRedisService.nextId(USER_ID)).willThrow(new IllegalStateException("redis down"));
+
+        assertThat(buffer.append(USER_ID, "notification", "{}")).isNull();
+        verify(replayRedisService, never()).append(eq(USER_ID), anyLong(), anyString(), anyInt());
+    }
+}
@@ -0,0 +1,77 @@
+package com.momen.presentation.planner;
+
+import com.momen.application.planner.PlannerVersionService;
+import com.momen.core.dto.response.ApiResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class PlannerConditionalGetTest {
+
+    private static final Long MENTEE_ID = 1L;
+    private static final String ETAG = "\"abc\"";
+
+    @Mock
+    private PlannerVersionService plannerVersionService;
+
+    @InjectMocks
+    private PlannerConditionalGet conditionalGet;
+
+    @Test
+    @DisplayName("조건부 GET - If-None-Match가 현재 ETag와 같으면 조회 없이 304")
+    void respond_matchingEtag_returnsNotModifiedWithoutLoading() {
+        given(plannerVersionService.etag(eq(MENTEE_ID), eq("/api/v1/study/todos?yearMonth=2025-03"))).willReturn(ETAG);
+        AtomicInteger loads = new AtomicInteger();
+
+        ResponseEntity<ApiResponse<List<String>>> first = conditionalGet.respond(MENTEE_ID, request(null), () -> {
+            loads.incrementAndGet();
+            return List.of("todo");
+        });
+        ResponseEntity<ApiResponse<List<String>>> second = conditionalGet.respond(MENTEE_ID, request(ETAG), () -> {
+            loads.incrementAndGet();
+            return List.of("todo");
+        });
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(first.getHeaders().getETag()).isEqualTo(ETAG);
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(second.getBody()).isNull();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("조건부 GET - ETag를 만들 수 없으면 항상 조회")
+    void respond_noEtag_alwaysLoads() {
+        given(plannerVersionService.etag(eq(MENTEE_ID), eq("/api/v1/study/todos?yearMonth=2025-03"))).willReturn(null);
+
+        ResponseEntity<ApiResponse<List<String>>> response = conditionalGet.respond(MENTEE_ID, request(ETAG), () -> List.of("todo"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNull();
+    }
+
+    private ServletWebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/study/todos");
+        request.setQueryString("yearMonth=2025-03");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}